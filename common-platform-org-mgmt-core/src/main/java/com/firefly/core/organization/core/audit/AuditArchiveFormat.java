@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Layout of the columnar audit archive files written by {@link AuditArchiveWriter} and read by
+ * {@link AuditArchiveReader}.
+ * <p>
+ * A file starts with a magic number, a version and the scope of its entries, followed by row groups.
+ * Each row group starts with its row count, the minimum and maximum timestamps of its rows and its length,
+ * so that readers skip groups outside a time range without decoding them. Its columns follow one after the
+ * other, each deflated separately:
+ * <ul>
+ *   <li>{@code id}: raw 16-byte UUIDs</li>
+ *   <li>{@code scope_id}, {@code action}, {@code entity}, {@code ip_address}, {@code user_id}: a dictionary
+ *   of the distinct values, then each row's index into it</li>
+ *   <li>{@code entity_id}, {@code metadata}: length-prefixed UTF-8 strings</li>
+ *   <li>{@code timestamp}: microseconds since the epoch, as zig-zag deltas from the previous row</li>
+ * </ul>
+ * Integers within columns are variable-length; nullable values are prefixed with their length plus one,
+ * zero standing for null.
+ */
+final class AuditArchiveFormat {
+
+    static final int MAGIC = 0x41434131; // "ACA1"
+    static final int VERSION = 1;
+
+    private AuditArchiveFormat() {
+    }
+
+    static long micros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+    }
+
+    static LocalDateTime timestamp(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer in audit archive");
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.firefly.core.organization.core.audit.AuditArchiveFormat.micros;
+
+/**
+ * Reads the archive files of one audit log month as a single sequence of entries in (timestamp, id)
+ * order. A month archived again after late entries arrived has several part files, each in that order
+ * on its own; their entries are merged here. IDs compare as unsigned bytes, as in PostgreSQL.
+ */
+public class AuditArchiveParts implements Closeable {
+
+    private final List<Cursor> cursors;
+
+    private AuditArchiveParts(List<Cursor> cursors) {
+        this.cursors = cursors;
+    }
+
+    /**
+     * Opens the part files of a month.
+     *
+     * @param parts the part files, possibly none
+     * @param from the start of the time range to read, inclusive
+     * @param to the end of the time range to read, exclusive
+     * @throws IOException if a part cannot be opened or is not an audit archive
+     */
+    public static AuditArchiveParts open(List<Path> parts, LocalDateTime from, LocalDateTime to) throws IOException {
+        List<Cursor> cursors = new ArrayList<>(parts.size());
+        try {
+            for (Path part : parts) {
+                cursors.add(new Cursor(new AuditArchiveReader(Files.newInputStream(part)), from, to));
+            }
+        } catch (IOException e) {
+            for (Cursor cursor : cursors) {
+                cursor.reader.close();
+            }
+            throw e;
+        }
+        return new AuditArchiveParts(cursors);
+    }
+
+    /**
+     * Reads the next entry across all parts.
+     *
+     * @return the entry, or null once every part is exhausted
+     * @throws IOException if a part is malformed
+     */
+    public AuditEntry next() throws IOException {
+        Cursor first = null;
+        for (Cursor cursor : cursors) {
+            AuditEntry head = cursor.head();
+            if (head != null && (first == null || compare(head, first.head()) < 0)) {
+                first = cursor;
+            }
+        }
+        return first == null ? null : first.advance();
+    }
+
+    /**
+     * Checks whether an entry is archived in one of the parts. Successive calls must pass entries in
+     * (timestamp, id) order, since the parts are only read forward.
+     *
+     * @param entry the entry
+     * @return whether an entry with the same timestamp and ID is archived
+     * @throws IOException if a part is malformed
+     */
+    public boolean contains(AuditEntry entry) throws IOException {
+        for (Cursor cursor : cursors) {
+            AuditEntry head = cursor.head();
+            while (head != null && compare(head, entry) < 0) {
+                cursor.advance();
+                head = cursor.head();
+            }
+            if (head != null && compare(head, entry) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (Cursor cursor : cursors) {
+            try {
+                cursor.reader.close();
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static int compare(AuditEntry a, AuditEntry b) {
+        int byTimestamp = Long.compare(micros(a.timestamp()), micros(b.timestamp()));
+        if (byTimestamp != 0) {
+            return byTimestamp;
+        }
+        int byHigh = Long.compareUnsigned(a.id().getMostSignificantBits(), b.id().getMostSignificantBits());
+        return byHigh != 0 ? byHigh
+                : Long.compareUnsigned(a.id().getLeastSignificantBits(), b.id().getLeastSignificantBits());
+    }
+
+    private static final class Cursor {
+
+        private final AuditArchiveReader reader;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private List<AuditEntry> group = List.of();
+        private int index;
+
+        private Cursor(AuditArchiveReader reader, LocalDateTime from, LocalDateTime to) {
+            this.reader = reader;
+            this.from = from;
+            this.to = to;
+        }
+
+        AuditEntry head() throws IOException {
+            while (group != null && index == group.size()) {
+                group = reader.next(from, to);
+                index = 0;
+            }
+            return group == null ? null : group.get(index);
+        }
+
+        AuditEntry advance() throws IOException {
+            AuditEntry head = head();
+            if (head != null) {
+                index++;
+            }
+            return head;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import io.r2dbc.postgresql.codec.Json;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.zip.InflaterInputStream;
+
+import static com.firefly.core.organization.core.audit.AuditArchiveFormat.micros;
+import static com.firefly.core.organization.core.audit.AuditArchiveFormat.readVarLong;
+import static com.firefly.core.organization.core.audit.AuditArchiveFormat.timestamp;
+import static com.firefly.core.organization.core.audit.AuditArchiveFormat.unZigZag;
+
+/**
+ * Reads the audit log entries of a columnar archive one row group at a time, skipping the row groups
+ * outside the requested time range without decompressing them. See {@link AuditArchiveFormat} for the layout.
+ */
+public class AuditArchiveReader implements Closeable {
+
+    private static final AuditScope[] SCOPES = AuditScope.values();
+    private static final AuditAction[] ACTIONS = AuditAction.values();
+
+    private final DataInputStream in;
+    private final AuditScope scope;
+
+    /**
+     * Opens an archive.
+     *
+     * @param in the stream to read from, closed with the reader
+     * @throws IOException if the stream is not an audit archive
+     */
+    public AuditArchiveReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        if (this.in.readInt() != AuditArchiveFormat.MAGIC || this.in.readUnsignedByte() != AuditArchiveFormat.VERSION) {
+            throw new IOException("Not an audit archive of version " + AuditArchiveFormat.VERSION);
+        }
+        int scope = this.in.readUnsignedByte();
+        if (scope >= SCOPES.length) {
+            throw new IOException("Unknown audit archive scope " + scope);
+        }
+        this.scope = SCOPES[scope];
+    }
+
+    /**
+     * Returns the scope of the entries in the archive.
+     */
+    public AuditScope scope() {
+        return scope;
+    }
+
+    /**
+     * Reads the entries of the next row group holding entries within a time range.
+     *
+     * @param from the start of the time range, inclusive
+     * @param to the end of the time range, exclusive
+     * @return the entries of the row group within the range, in archive order, or null at the end of the archive
+     * @throws IOException if the archive is malformed
+     */
+    public List<AuditEntry> next(LocalDateTime from, LocalDateTime to) throws IOException {
+        long fromMicros = micros(from);
+        long toMicros = micros(to);
+        while (true) {
+            int rows;
+            try {
+                rows = in.readInt();
+            } catch (EOFException e) {
+                return null;
+            }
+            long min = in.readLong();
+            long max = in.readLong();
+            int length = in.readInt();
+            if (max < fromMicros || min >= toMicros) {
+                in.skipNBytes(length);
+                continue;
+            }
+            List<AuditEntry> entries = decode(rows, in.readNBytes(length), fromMicros, toMicros);
+            if (!entries.isEmpty()) {
+                return entries;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private List<AuditEntry> decode(int rows, byte[] body, long fromMicros, long toMicros) throws IOException {
+        DataInputStream columns = new DataInputStream(new ByteArrayInputStream(body));
+        UUID[] ids = new UUID[rows];
+        try (DataInputStream data = column(columns)) {
+            for (int row = 0; row < rows; row++) {
+                ids[row] = new UUID(data.readLong(), data.readLong());
+            }
+        }
+        UUID[] scopeIds = dictionary(column(columns), rows, AuditArchiveReader::readUuid, UUID[]::new);
+        String[] actions = dictionary(column(columns), rows, AuditArchiveReader::readString, String[]::new);
+        String[] entities = dictionary(column(columns), rows, AuditArchiveReader::readString, String[]::new);
+        String[] entityIds = strings(column(columns), rows);
+        String[] metadata = strings(column(columns), rows);
+        String[] ipAddresses = dictionary(column(columns), rows, AuditArchiveReader::readString, String[]::new);
+        UUID[] userIds = dictionary(column(columns), rows, AuditArchiveReader::readUuid, UUID[]::new);
+        long[] timestamps = new long[rows];
+        try (DataInputStream data = column(columns)) {
+            long previous = 0;
+            for (int row = 0; row < rows; row++) {
+                previous += unZigZag(readVarLong(data));
+                timestamps[row] = previous;
+            }
+        }
+
+        List<AuditEntry> entries = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            if (timestamps[row] < fromMicros || timestamps[row] >= toMicros) {
+                continue;
+            }
+            entries.add(new AuditEntry(scope, ids[row], scopeIds[row], action(actions[row]), entities[row],
+                    entityIds[row], metadata[row] == null ? null : Json.of(metadata[row]), ipAddresses[row],
+                    userIds[row], timestamp(timestamps[row])));
+        }
+        return entries;
+    }
+
+    private static DataInputStream column(DataInputStream columns) throws IOException {
+        byte[] compressed = columns.readNBytes(columns.readInt());
+        return new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(compressed)));
+    }
+
+    private static <T> T[] dictionary(DataInputStream data, int rows, ValueReader<T> reader,
+                                      IntFunction<T[]> array) throws IOException {
+        try (data) {
+            T[] values = array.apply((int) readVarLong(data));
+            for (int i = 0; i < values.length; i++) {
+                values[i] = reader.read(data);
+            }
+            T[] column = array.apply(rows);
+            for (int row = 0; row < rows; row++) {
+                column[row] = values[(int) readVarLong(data)];
+            }
+            return column;
+        }
+    }
+
+    private static String[] strings(DataInputStream data, int rows) throws IOException {
+        try (data) {
+            String[] column = new String[rows];
+            for (int row = 0; row < rows; row++) {
+                column[row] = readString(data);
+            }
+            return column;
+        }
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        long length = readVarLong(data);
+        return length == 0 ? null : new String(data.readNBytes((int) length - 1), StandardCharsets.UTF_8);
+    }
+
+    private static UUID readUuid(DataInputStream data) throws IOException {
+        return data.readBoolean() ? new UUID(data.readLong(), data.readLong()) : null;
+    }
+
+    private static AuditAction action(String name) throws IOException {
+        for (AuditAction action : ACTIONS) {
+            if (action.name().equals(name)) {
+                return action;
+            }
+        }
+        throw new IOException("Unknown audit action in archive: " + name);
+    }
+
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T read(DataInputStream data) throws IOException;
+    }
+}
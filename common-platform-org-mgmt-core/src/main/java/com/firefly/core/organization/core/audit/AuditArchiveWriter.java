@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static com.firefly.core.organization.core.audit.AuditArchiveFormat.micros;
+import static com.firefly.core.organization.core.audit.AuditArchiveFormat.writeVarLong;
+import static com.firefly.core.organization.core.audit.AuditArchiveFormat.zigZag;
+
+/**
+ * Writes audit log entries to a columnar archive, buffering one row group at a time.
+ * See {@link AuditArchiveFormat} for the layout.
+ */
+public class AuditArchiveWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private final AuditScope scope;
+    private final int rowGroupSize;
+    private final List<AuditEntry> group;
+    private long rows;
+
+    /**
+     * Starts an archive of the entries of a scope.
+     *
+     * @param out the stream to write to, closed with the writer
+     * @param scope the scope of every entry to write
+     * @param rowGroupSize the number of rows per row group
+     * @throws IOException if the header cannot be written
+     */
+    public AuditArchiveWriter(OutputStream out, AuditScope scope, int rowGroupSize) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.scope = scope;
+        this.rowGroupSize = rowGroupSize;
+        this.group = new ArrayList<>(rowGroupSize);
+        this.out.writeInt(AuditArchiveFormat.MAGIC);
+        this.out.writeByte(AuditArchiveFormat.VERSION);
+        this.out.writeByte(scope.ordinal());
+    }
+
+    /**
+     * Adds an entry to the archive.
+     *
+     * @throws IllegalArgumentException if the entry belongs to another scope
+     * @throws IOException if a full row group cannot be written
+     */
+    public void write(AuditEntry entry) throws IOException {
+        if (entry.scope() != scope) {
+            throw new IllegalArgumentException("Expected a " + scope + " audit entry but got " + entry.scope());
+        }
+        group.add(entry);
+        rows++;
+        if (group.size() >= rowGroupSize) {
+            flushGroup();
+        }
+    }
+
+    /**
+     * Returns the number of entries written so far.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Writes the last row group and closes the underlying stream.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushGroup();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void flushGroup() throws IOException {
+        if (group.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        column(body, data -> {
+            for (AuditEntry entry : group) {
+                data.writeLong(entry.id().getMostSignificantBits());
+                data.writeLong(entry.id().getLeastSignificantBits());
+            }
+        });
+        column(body, data -> dictionary(data, AuditEntry::scopeId, AuditArchiveWriter::writeUuid));
+        column(body, data -> dictionary(data, entry -> entry.action().name(), AuditArchiveWriter::writeString));
+        column(body, data -> dictionary(data, AuditEntry::entity, AuditArchiveWriter::writeString));
+        column(body, data -> {
+            for (AuditEntry entry : group) {
+                writeString(data, entry.entityId());
+            }
+        });
+        column(body, data -> {
+            for (AuditEntry entry : group) {
+                writeString(data, entry.metadata() == null ? null : entry.metadata().asString());
+            }
+        });
+        column(body, data -> dictionary(data, AuditEntry::ipAddress, AuditArchiveWriter::writeString));
+        column(body, data -> dictionary(data, AuditEntry::userId, AuditArchiveWriter::writeUuid));
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (AuditEntry entry : group) {
+            long micros = micros(entry.timestamp());
+            min = Math.min(min, micros);
+            max = Math.max(max, micros);
+        }
+        column(body, data -> {
+            long previous = 0;
+            for (AuditEntry entry : group) {
+                long micros = micros(entry.timestamp());
+                writeVarLong(data, zigZag(micros - previous));
+                previous = micros;
+            }
+        });
+
+        out.writeInt(group.size());
+        out.writeLong(min);
+        out.writeLong(max);
+        out.writeInt(body.size());
+        body.writeTo(out);
+        group.clear();
+    }
+
+    private <T> void dictionary(DataOutputStream data, Function<AuditEntry, T> value, ValueWriter<T> writer)
+            throws IOException {
+        Map<T, Integer> indexes = new HashMap<>();
+        List<T> values = new ArrayList<>();
+        int[] rowIndexes = new int[group.size()];
+        for (int row = 0; row < group.size(); row++) {
+            T v = value.apply(group.get(row));
+            Integer index = indexes.get(v);
+            if (index == null) {
+                index = values.size();
+                indexes.put(v, index);
+                values.add(v);
+            }
+            rowIndexes[row] = index;
+        }
+        writeVarLong(data, values.size());
+        for (T v : values) {
+            writer.write(data, v);
+        }
+        for (int index : rowIndexes) {
+            writeVarLong(data, index);
+        }
+    }
+
+    private static void column(ByteArrayOutputStream body, ColumnWriter writer) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream data = new DataOutputStream(new DeflaterOutputStream(compressed, deflater))) {
+            writer.write(data);
+        } finally {
+            deflater.end();
+        }
+        DataOutputStream header = new DataOutputStream(body);
+        header.writeInt(compressed.size());
+        compressed.writeTo(body);
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(data, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(data, bytes.length + 1L);
+        data.write(bytes);
+    }
+
+    private static void writeUuid(DataOutputStream data, UUID value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            data.writeLong(value.getMostSignificantBits());
+            data.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(DataOutputStream data) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter<T> {
+        void write(DataOutputStream data, T value) throws IOException;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk-loads audit log entries through the PostgreSQL COPY protocol.
+ * <p>
+ * Each load streams the entries into a temporary staging table and merges them into the audit log in one
+ * transaction with {@code audit_log_merge_ingest}, which skips entries already present; the audit log's
+ * triggers keep the daily counts in step. A load therefore either lands completely or not at all, and can
+ * safely be repeated.
+ */
+@Component
+public class AuditCopyLoader {
+
+    private static final String STAGING_TABLE = "audit_ingest_staging";
+    private static final int ROWS_PER_CHUNK = 256;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Loads entries into the audit log of a scope.
+     *
+     * @param scope the audit log to load into
+     * @param entries the entries, all of that scope
+     * @return a Mono emitting the number of entries inserted, excluding those already present
+     */
+    public Mono<Integer> load(AuditScope scope, List<AuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return Mono.just(0);
+        }
+        return databaseClient.inConnection(connection -> load(postgres(connection), scope, entries));
+    }
+
+    private Mono<Integer> load(PostgresqlConnection connection, AuditScope scope, List<AuditEntry> entries) {
+        String copy = "COPY " + STAGING_TABLE + " (id, " + scope.scopeColumn()
+                + ", action, entity, entity_id, metadata, ip_address, user_id, timestamp) FROM STDIN";
+        return Mono.from(connection.beginTransaction())
+                .then(Mono.from(connection.createStatement("CREATE TEMP TABLE " + STAGING_TABLE + " (LIKE "
+                                + scope.table() + " INCLUDING DEFAULTS) ON COMMIT DROP").execute())
+                        .flatMap(result -> Mono.from(result.getRowsUpdated())))
+                .then(connection.copyIn(copy, chunks(entries)))
+                .then(Mono.from(connection.createStatement("SELECT audit_log_merge_ingest($1, $2, $3)")
+                                .bind("$1", scope.table())
+                                .bind("$2", scope.scopeColumn())
+                                .bind("$3", STAGING_TABLE)
+                                .execute())
+                        .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Integer.class)))))
+                .flatMap(inserted -> Mono.from(connection.commitTransaction()).thenReturn(inserted))
+                .onErrorResume(error -> Mono.from(connection.rollbackTransaction()).then(Mono.error(error)));
+    }
+
+    private static Flux<ByteBuf> chunks(List<AuditEntry> entries) {
+        return Flux.fromIterable(entries)
+                .buffer(ROWS_PER_CHUNK)
+                .map(rows -> {
+                    StringBuilder chunk = new StringBuilder();
+                    rows.forEach(entry -> chunk.append(encode(entry)));
+                    return Unpooled.wrappedBuffer(chunk.toString().getBytes(StandardCharsets.UTF_8));
+                });
+    }
+
+    /**
+     * Encodes an entry as one line of COPY text format, in the column order of the COPY statement.
+     */
+    static String encode(AuditEntry entry) {
+        return field(entry.id()) + '\t'
+                + field(entry.scopeId()) + '\t'
+                + field(entry.action()) + '\t'
+                + field(entry.entity()) + '\t'
+                + field(entry.entityId()) + '\t'
+                + field(entry.metadata() == null ? null : entry.metadata().asString()) + '\t'
+                + field(entry.ipAddress()) + '\t'
+                + field(entry.userId()) + '\t'
+                + field(entry.timestamp()) + '\n';
+    }
+
+    /**
+     * Decodes a line produced by {@link #encode(AuditEntry)}, with or without its line terminator.
+     *
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    static AuditEntry decode(AuditScope scope, String line) {
+        String[] fields = (line.endsWith("\n") ? line.substring(0, line.length() - 1) : line).split("\t", -1);
+        if (fields.length != 9) {
+            throw new IllegalArgumentException("Expected 9 fields but found " + fields.length);
+        }
+        String metadata = unescape(fields[5]);
+        String userId = unescape(fields[7]);
+        return new AuditEntry(scope,
+                UUID.fromString(unescape(fields[0])),
+                UUID.fromString(unescape(fields[1])),
+                AuditAction.valueOf(unescape(fields[2])),
+                unescape(fields[3]),
+                unescape(fields[4]),
+                metadata == null ? null : Json.of(metadata),
+                unescape(fields[6]),
+                userId == null ? null : UUID.fromString(userId),
+                LocalDateTime.parse(unescape(fields[8])));
+    }
+
+    private static String field(Object value) {
+        if (value == null) {
+            return "\\N";
+        }
+        String text = value.toString();
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String field) {
+        if (field.equals("\\N")) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c != '\\' || i + 1 == field.length()) {
+                text.append(c);
+                continue;
+            }
+            char next = field.charAt(++i);
+            switch (next) {
+                case 't' -> text.append('\t');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                default -> text.append(next);
+            }
+        }
+        return text.toString();
+    }
+
+    private static PostgresqlConnection postgres(Connection connection) {
+        Object current = connection;
+        while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+            current = wrapped.unwrap();
+        }
+        if (current instanceof PostgresqlConnection postgres) {
+            return postgres;
+        }
+        throw new IllegalStateException("Bulk audit loads require a PostgreSQL connection");
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Position of an audit log entry in (timestamp, id) order, the order audit searches return entries in.
+ * A search continuing from a cursor returns only the entries strictly after it.
+ *
+ * @param timestamp the timestamp of the last entry returned
+ * @param id the ID of the last entry returned
+ */
+public record AuditCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    /**
+     * Orders cursors as PostgreSQL orders (timestamp, id) rows. PostgreSQL compares UUIDs as unsigned bytes,
+     * whereas {@link UUID#compareTo} compares signed longs, so the IDs are compared unsigned here.
+     */
+    public static final Comparator<AuditCursor> ORDER = Comparator.comparing(AuditCursor::timestamp)
+            .thenComparing(AuditCursor::id, (a, b) -> {
+                int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+            });
+
+    /**
+     * Returns the cursor positioned just before every entry at or after the given time.
+     */
+    public static AuditCursor before(LocalDateTime timestamp) {
+        return new AuditCursor(timestamp, MIN_ID);
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe string.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((timestamp + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static AuditCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new AuditCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid audit log cursor: " + cursor);
+        }
+    }
+}
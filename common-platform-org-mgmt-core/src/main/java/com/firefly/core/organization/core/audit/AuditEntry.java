@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.BankAuditLog;
+import com.firefly.core.organization.models.entities.BranchAuditLog;
+import io.r2dbc.postgresql.codec.Json;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An audit log row on its way to {@code bank_audit_log} or {@code branch_audit_log}.
+ *
+ * @param scope the table the entry belongs to
+ * @param id the ID of the entry
+ * @param scopeId the bank or branch the entry is recorded under
+ * @param action the audited action
+ * @param entity the name of the audited entity
+ * @param entityId the ID of the audited entity
+ * @param metadata the JSON metadata, may be null
+ * @param ipAddress the IP address of the caller, may be null
+ * @param userId the ID of the acting user, may be null
+ * @param timestamp the time of the action
+ */
+public record AuditEntry(AuditScope scope, UUID id, UUID scopeId, AuditAction action, String entity, String entityId,
+                         Json metadata, String ipAddress, UUID userId, LocalDateTime timestamp) {
+
+    public static AuditEntry of(BankAuditLog log) {
+        return new AuditEntry(AuditScope.BANK, log.getId(), log.getBankId(), log.getAction(), log.getEntity(),
+                log.getEntityId(), log.getMetadata(), log.getIpAddress(), log.getUserId(), log.getTimestamp());
+    }
+
+    public static AuditEntry of(BranchAuditLog log) {
+        return new AuditEntry(AuditScope.BRANCH, log.getId(), log.getBranchId(), log.getAction(), log.getEntity(),
+                log.getEntityId(), log.getMetadata(), log.getIpAddress(), log.getUserId(), log.getTimestamp());
+    }
+}
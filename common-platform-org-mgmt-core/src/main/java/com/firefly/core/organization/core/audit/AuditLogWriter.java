@@ -0,0 +1,332 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.core.config.AuditWriterProperties;
+import com.firefly.core.organization.models.entities.BankAuditLog;
+import com.firefly.core.organization.models.entities.BranchAuditLog;
+import io.r2dbc.postgresql.codec.Json;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes audit log entries off the request path.
+ * <p>
+ * Entries are put on a bounded queue and written by a single background thread with multi-row inserts,
+ * as soon as a batch is full or the oldest queued entry has waited {@code max-delay}. When the queue is
+ * full the caller writes its own entry instead, so a slow database pushes back on the callers rather than
+ * losing entries. On shutdown the writer stops after the web server has drained and writes what is left.
+ * <p>
+ * With the {@link AuditSpool} enabled, a batch that still fails after its retries is spooled locally for
+ * replay rather than dropped, and callers finding the queue full spool their entry instead of writing it,
+ * so an unavailable database neither loses entries nor slows down the requests recording them.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final int COLUMNS = 9;
+    private static final int MAX_BATCH_SIZE = 65_535 / COLUMNS;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private AuditWriterProperties properties;
+
+    @Autowired
+    private AuditSpool spool;
+
+    private final AtomicLong overflows = new AtomicLong();
+    private volatile BlockingQueue<AuditEntry> queue;
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * Checks whether entries are currently queued rather than written by the caller.
+     *
+     * @return true if the writer is enabled and running
+     */
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Queues a bank audit log entry, assigning its ID and timestamp if missing.
+     *
+     * @param log the entry
+     * @return a Mono emitting the entry once queued, or once written if the queue is full
+     */
+    public Mono<BankAuditLog> submit(BankAuditLog log) {
+        return Mono.defer(() -> {
+            if (log.getId() == null) {
+                log.setId(UUID.randomUUID());
+            }
+            if (log.getTimestamp() == null) {
+                log.setTimestamp(LocalDateTime.now());
+            }
+            return submit(AuditEntry.of(log)).thenReturn(log);
+        });
+    }
+
+    /**
+     * Queues a branch audit log entry, assigning its ID and timestamp if missing.
+     *
+     * @param log the entry
+     * @return a Mono emitting the entry once queued, or once written if the queue is full
+     */
+    public Mono<BranchAuditLog> submit(BranchAuditLog log) {
+        return Mono.defer(() -> {
+            if (log.getId() == null) {
+                log.setId(UUID.randomUUID());
+            }
+            if (log.getTimestamp() == null) {
+                log.setTimestamp(LocalDateTime.now());
+            }
+            return submit(AuditEntry.of(log)).thenReturn(log);
+        });
+    }
+
+    /**
+     * Queues an entry. When the queue is full the entry is spooled, off the caller's thread, or written
+     * before the returned Mono completes if the spool is disabled. When the writer is not running the
+     * entry is written.
+     *
+     * @param entry the entry, with its ID and timestamp set
+     * @return a Mono completing once the entry is queued, spooled or written
+     */
+    public Mono<Void> submit(AuditEntry entry) {
+        return Mono.defer(() -> {
+            BlockingQueue<AuditEntry> current = queue;
+            if (running && current.offer(entry)) {
+                return Mono.empty();
+            }
+            if (running && spool.isEnabled()) {
+                if (overflows.incrementAndGet() % 1_000 == 1) {
+                    log.warn("Audit log queue is full, spooling entries ({} so far)", overflows.get());
+                }
+                return Mono.<Void>fromRunnable(() -> spool.append(List.of(entry)))
+                        .subscribeOn(Schedulers.boundedElastic());
+            }
+            if (running && overflows.incrementAndGet() % 1_000 == 1) {
+                log.warn("Audit log queue is full, writing entries synchronously ({} so far)", overflows.get());
+            }
+            return write(List.of(entry));
+        });
+    }
+
+    /**
+     * Writes entries immediately with one multi-row insert per table and batch.
+     *
+     * @param entries the entries, with their IDs and timestamps set
+     * @return a Mono completing once every entry is written
+     */
+    public Mono<Void> write(List<AuditEntry> entries) {
+        Map<AuditScope, List<AuditEntry>> byScope = new EnumMap<>(AuditScope.class);
+        for (AuditEntry entry : entries) {
+            byScope.computeIfAbsent(entry.scope(), scope -> new ArrayList<>()).add(entry);
+        }
+        int batchSize = Math.min(properties.getBatchSize(), MAX_BATCH_SIZE);
+        return Flux.fromIterable(byScope.entrySet())
+                .concatMap(group -> Flux.range(0, (group.getValue().size() + batchSize - 1) / batchSize)
+                        .concatMap(chunk -> insert(group.getKey(), group.getValue().subList(
+                                chunk * batchSize, Math.min(group.getValue().size(), (chunk + 1) * batchSize)))))
+                .then();
+    }
+
+    /**
+     * Returns the number of entries waiting to be written.
+     */
+    public int pending() {
+        BlockingQueue<AuditEntry> current = queue;
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * Returns the number of entries the callers had to spool or write themselves because the queue was full.
+     */
+    public long overflows() {
+        return overflows.get();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !properties.isEnabled()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        worker = new Thread(this::drain, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            worker.interrupt();
+            List<AuditEntry> rest = new ArrayList<>(queue.size());
+            queue.drainTo(rest);
+            if (!spool.isEnabled() || !spill(rest)) {
+                log.error("Audit log writer did not finish within {}, {} entries were not written",
+                        properties.getShutdownTimeout(), rest.size());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, which shuts down gracefully in an earlier phase, has finished serving
+     * the requests that may still produce audit entries.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        int batchSize = Math.min(properties.getBatchSize(), MAX_BATCH_SIZE);
+        long maxDelay = properties.getMaxDelay().toNanos();
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEntry first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelay;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long wait = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || wait <= 0 || !running) {
+                        break;
+                    }
+                    AuditEntry next = queue.poll(Math.min(wait, POLL_INTERVAL.toNanos()), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditEntry> batch) {
+        try {
+            write(batch)
+                    .retryWhen(Retry.backoff(3, Duration.ofMillis(100)))
+                    .block();
+        } catch (RuntimeException e) {
+            if (spool.isEnabled() && spill(batch)) {
+                log.warn("Failed to write {} audit log entries, spooled them for replay", batch.size(), e);
+            } else {
+                log.error("Failed to write {} audit log entries", batch.size(), e);
+            }
+        }
+    }
+
+    private boolean spill(List<AuditEntry> batch) {
+        try {
+            spool.append(batch);
+            spool.force();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to spool {} audit log entries", batch.size(), e);
+            return false;
+        }
+    }
+
+    private Mono<Void> insert(AuditScope scope, List<AuditEntry> rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(scope.table()).append(" (id, ")
+                .append(scope.scopeColumn())
+                .append(", action, entity, entity_id, metadata, ip_address, user_id, timestamp) VALUES ");
+        for (int row = 0; row < rows.size(); row++) {
+            int p = row * COLUMNS;
+            sql.append(row == 0 ? "" : ", ")
+                    .append("($").append(p + 1)
+                    .append(", $").append(p + 2)
+                    .append(", CAST($").append(p + 3).append(" AS audit_action_enum)")
+                    .append(", $").append(p + 4)
+                    .append(", $").append(p + 5)
+                    .append(", CAST($").append(p + 6).append(" AS JSONB)")
+                    .append(", $").append(p + 7)
+                    .append(", $").append(p + 8)
+                    .append(", $").append(p + 9).append(')');
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int row = 0; row < rows.size(); row++) {
+            AuditEntry entry = rows.get(row);
+            int p = row * COLUMNS;
+            spec = bind(spec, p, entry.id(), UUID.class);
+            spec = bind(spec, p + 1, entry.scopeId(), UUID.class);
+            spec = bind(spec, p + 2, entry.action() == null ? null : entry.action().name(), String.class);
+            spec = bind(spec, p + 3, entry.entity(), String.class);
+            spec = bind(spec, p + 4, entry.entityId(), String.class);
+            spec = bind(spec, p + 5, entry.metadata(), Json.class);
+            spec = bind(spec, p + 6, entry.ipAddress(), String.class);
+            spec = bind(spec, p + 7, entry.userId(), UUID.class);
+            spec = bind(spec, p + 8, entry.timestamp(), LocalDateTime.class);
+        }
+        return spec.then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, int index,
+                                                          Object value, Class<?> type) {
+        return value == null ? spec.bindNull(index, type) : spec.bind(index, value);
+    }
+}
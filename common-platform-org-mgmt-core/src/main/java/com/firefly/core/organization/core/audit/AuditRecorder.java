@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.core.transactions.AfterCommit;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.BankDivision;
+import com.firefly.core.organization.models.entities.BranchDepartment;
+import com.firefly.core.organization.models.entities.WorkingCalendar;
+import com.firefly.core.organization.models.repositories.BankDivisionRepository;
+import com.firefly.core.organization.models.repositories.BranchDepartmentRepository;
+import com.firefly.core.organization.models.repositories.WorkingCalendarRepository;
+import io.r2dbc.postgresql.codec.Json;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records entity changes made through the services in the bank or branch audit log.
+ * <p>
+ * Like the {@code ChangeOutbox}'s, the returned Mono has to be chained into the change's transaction.
+ * It resolves the bank or branch the entry belongs to while the change is visible, and hands the entry
+ * to the {@link AuditLogWriter} only once the change commits, so rolled-back changes are not audited.
+ * Recording never fails the change: errors are only logged.
+ */
+@Slf4j
+@Component
+public class AuditRecorder implements AuditTargetResolver {
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private BankDivisionRepository bankDivisionRepository;
+
+    @Autowired
+    private BranchDepartmentRepository branchDepartmentRepository;
+
+    @Autowired
+    private WorkingCalendarRepository workingCalendarRepository;
+
+    @Value("${organization.audit.capture.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Records the creation of an entity, with every non-null audited field as changed.
+     */
+    public <T> Mono<Void> created(EntityDiffer<T> differ, T entity) {
+        return record(differ, AuditAction.CREATED, entity, differ.diff(null, entity));
+    }
+
+    /**
+     * Records the update of an entity with the fields that changed. Flipping the active flag is recorded
+     * as an activation or deactivation, and an update that changes no audited field is not recorded.
+     */
+    public <T> Mono<Void> updated(EntityDiffer<T> differ, T before, T after) {
+        String metadata = differ.diff(before, after);
+        if (metadata == null) {
+            return Mono.empty();
+        }
+        return record(differ, action(differ.active(before), differ.active(after)), after, metadata);
+    }
+
+    /**
+     * Records the deletion of an entity, with every non-null audited field of the deleted version.
+     */
+    public <T> Mono<Void> deleted(EntityDiffer<T> differ, T entity) {
+        return record(differ, AuditAction.DELETED, entity, differ.diff(entity, null));
+    }
+
+    @Override
+    public Mono<AuditTarget> bankOfDivision(UUID divisionId) {
+        return divisionId == null ? Mono.empty() : bankDivisionRepository.findById(divisionId)
+                .mapNotNull(BankDivision::getBankId)
+                .map(AuditTarget::bank);
+    }
+
+    @Override
+    public Mono<AuditTarget> branchOfDepartment(UUID departmentId) {
+        return departmentId == null ? Mono.empty() : branchDepartmentRepository.findById(departmentId)
+                .mapNotNull(BranchDepartment::getBranchId)
+                .map(AuditTarget::branch);
+    }
+
+    @Override
+    public Mono<AuditTarget> bankOfCalendar(UUID calendarId) {
+        return calendarId == null ? Mono.empty() : workingCalendarRepository.findById(calendarId)
+                .mapNotNull(WorkingCalendar::getBankId)
+                .map(AuditTarget::bank);
+    }
+
+    /**
+     * Returns the action an update stands for: flipping the active flag is an activation or deactivation.
+     */
+    public static AuditAction action(Boolean wasActive, Boolean isActive) {
+        boolean before = Boolean.TRUE.equals(wasActive);
+        boolean after = Boolean.TRUE.equals(isActive);
+        if (before == after) {
+            return AuditAction.UPDATED;
+        }
+        return after ? AuditAction.ACTIVATED : AuditAction.DEACTIVATED;
+    }
+
+    private <T> Mono<Void> record(EntityDiffer<T> differ, AuditAction action, T entity, String metadata) {
+        if (!enabled || entity == null) {
+            return Mono.empty();
+        }
+        UUID entityId = differ.id(entity);
+        UUID userId = differ.actor(entity);
+        Json json = metadata == null ? null : Json.of(metadata);
+        return Mono.defer(() -> {
+            LocalDateTime timestamp = LocalDateTime.now();
+            return differ.target(this, entity)
+                    .map(target -> new AuditEntry(target.scope(), UUID.randomUUID(), target.scopeId(), action,
+                            differ.entity(), String.valueOf(entityId), json, null, userId, timestamp))
+                    .flatMap(entry -> AfterCommit.run(() -> auditLogWriter.submit(entry)
+                            .subscribe(null, error -> log.error("Failed to audit {} of {} {}",
+                                    action, differ.entity(), entityId, error))));
+        }).onErrorResume(error -> {
+            log.error("Failed to audit {} of {} {}", action, differ.entity(), entityId, error);
+            return Mono.empty();
+        });
+    }
+}
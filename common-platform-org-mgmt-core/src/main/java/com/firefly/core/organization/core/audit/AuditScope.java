@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+/**
+ * The audit log tables, one per scope an action can be recorded under.
+ */
+public enum AuditScope {
+    BANK("bank_audit_log", "bank_id"),
+    BRANCH("branch_audit_log", "branch_id");
+
+    private final String table;
+    private final String scopeColumn;
+
+    AuditScope(String table, String scopeColumn) {
+        this.table = table;
+        this.scopeColumn = scopeColumn;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public String scopeColumn() {
+        return scopeColumn;
+    }
+}
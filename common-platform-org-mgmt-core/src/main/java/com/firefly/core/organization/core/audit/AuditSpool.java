@@ -0,0 +1,470 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.core.config.AuditSpoolProperties;
+import io.r2dbc.spi.R2dbcException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Local write-ahead spool for audit log entries that cannot be written to the database right away.
+ * <p>
+ * Entries are appended to memory-mapped segment files of {@code segment-size}, each record made of its
+ * length, a CRC-32C checksum, its append time, its scope and the entry in COPY text format. Appended
+ * entries survive a crash of the process at once, and a crash of the machine once forced to disk. A
+ * replayer loads the segments into the audit logs in order through {@link AuditCopyLoader}, which skips
+ * entries already present, and deletes each segment once loaded. A record failing its checksum, such as
+ * one torn by a crash, ends its segment. A record the database rejects, or that cannot be decoded, is
+ * moved to the {@code dead-letter.spool} file in the same record format, so that it does not hold up the
+ * records after it.
+ */
+@Slf4j
+@Component
+public class AuditSpool {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String DEAD_LETTER_FILE = "dead-letter.spool";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final AuditScope[] SCOPES = AuditScope.values();
+
+    @Autowired
+    private AuditSpoolProperties properties;
+
+    @Autowired
+    private AuditCopyLoader auditCopyLoader;
+
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final Map<Path, Long> replayedRecords = new ConcurrentHashMap<>();
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    private volatile long oldestAppendedAt = -1;
+    private boolean opened;
+    private long nextSequence;
+    private Path activeFile;
+    private FileChannel activeChannel;
+    private MappedByteBuffer active;
+
+    /**
+     * Checks whether entries that cannot be written should be spooled.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Scans the segments left by a previous run, so that their entries count towards the spool depth.
+     * Called on first use otherwise.
+     *
+     * @throws UncheckedIOException if the spool directory cannot be read
+     */
+    public synchronized void recover() {
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the audit spool", e);
+        }
+    }
+
+    /**
+     * Appends entries to the spool.
+     *
+     * @param batch the entries, with their IDs and timestamps set
+     * @throws UncheckedIOException if the spool cannot be written
+     */
+    public synchronized void append(List<AuditEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            open();
+            long now = System.currentTimeMillis();
+            long appended = 0;
+            for (AuditEntry entry : batch) {
+                ByteBuffer record = encode(now, entry.scope(), AuditCopyLoader.encode(entry));
+                int size = record.remaining();
+                if (active == null || active.remaining() < size) {
+                    roll(size);
+                }
+                active.put(record);
+                appended += size;
+            }
+            if (entries.getAndAdd(batch.size()) == 0) {
+                oldestAppendedAt = now;
+            }
+            bytes.addAndGet(appended);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spool " + batch.size() + " audit log entries", e);
+        }
+    }
+
+    /**
+     * Forces the entries appended so far to disk.
+     */
+    public synchronized void force() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    /**
+     * Returns the number of spooled entries waiting to be replayed.
+     */
+    public long depth() {
+        return entries.get();
+    }
+
+    /**
+     * Returns the size in bytes of the spooled entries waiting to be replayed.
+     */
+    public long size() {
+        return bytes.get();
+    }
+
+    /**
+     * Returns the number of spooled entries moved to the dead-letter file since startup.
+     */
+    public long deadLettered() {
+        return deadLettered.get();
+    }
+
+    /**
+     * Returns how long the oldest entry waiting to be replayed has been spooled, or zero if none is.
+     */
+    public Duration lag() {
+        long oldest = oldestAppendedAt;
+        return oldest < 0 ? Duration.ZERO : Duration.ofMillis(Math.max(0, System.currentTimeMillis() - oldest));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        replayInBackground();
+    }
+
+    @Scheduled(cron = "${organization.audit.spool.replay-cron:*/10 * * * * *}")
+    public void replayInBackground() {
+        if (!isEnabled()) {
+            return;
+        }
+        replay().subscribe(
+                replayed -> {
+                    if (replayed > 0) {
+                        log.info("Replayed {} spooled audit log entries, {} left", replayed, depth());
+                    }
+                },
+                error -> log.warn("Failed to replay the audit spool, {} entries left", depth(), error));
+    }
+
+    /**
+     * Loads the spooled entries into the audit logs, oldest segment first. The segment being appended to
+     * is sealed first, so that new entries go to a fresh one. Entries the database rejects are moved to
+     * the dead-letter file; any other failure stops the replay, and the next one resumes the failed
+     * segment after the last batch loaded.
+     *
+     * @return a Mono emitting the number of entries replayed
+     */
+    public Mono<Long> replay() {
+        return Mono.defer(() -> {
+            if (!replaying.compareAndSet(false, true)) {
+                return Mono.just(0L);
+            }
+            List<Path> segments;
+            try {
+                segments = sealForReplay();
+            } catch (IOException e) {
+                replaying.set(false);
+                return Mono.error(new UncheckedIOException("Failed to open the audit spool", e));
+            }
+            return Flux.fromIterable(segments)
+                    .concatMap(this::replay)
+                    .reduce(0L, Long::sum)
+                    .doFinally(signal -> replaying.set(false));
+        });
+    }
+
+    private Mono<Long> replay(Path segment) {
+        return records(segment)
+                .skip(replayedRecords.getOrDefault(segment, 0L))
+                .buffer(properties.getReplayBatchSize())
+                .concatMap(batch -> replay(segment, batch))
+                .reduce(0L, Long::sum)
+                .flatMap(replayed -> Mono.fromCallable(() -> {
+                    Files.deleteIfExists(segment);
+                    replayedRecords.remove(segment);
+                    return replayed;
+                }))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Loads a batch of a segment into the audit logs. When the batch is rejected its records are loaded
+     * one at a time, so that only the ones rejected on their own go to the dead-letter file.
+     */
+    private Mono<Long> replay(Path segment, List<Record> batch) {
+        return Mono.defer(() -> load(batch))
+                .then(Mono.fromSupplier(() -> replayed(segment, batch)))
+                .onErrorResume(AuditSpool::rejected, error -> batch.size() == 1
+                        ? deadLetter(segment, batch.get(0), error)
+                                .then(Mono.fromSupplier(() -> replayed(segment, batch)))
+                        : Flux.fromIterable(batch)
+                                .concatMap(record -> replay(segment, List.of(record)))
+                                .reduce(0L, Long::sum));
+    }
+
+    private Mono<Void> load(List<Record> batch) {
+        Map<AuditScope, List<AuditEntry>> byScope = new EnumMap<>(AuditScope.class);
+        for (Record record : batch) {
+            byScope.computeIfAbsent(record.scope(), scope -> new ArrayList<>())
+                    .add(AuditCopyLoader.decode(record.scope(), record.line()));
+        }
+        return Flux.fromIterable(byScope.entrySet())
+                .concatMap(group -> auditCopyLoader.load(group.getKey(), group.getValue()))
+                .then();
+    }
+
+    private Mono<Void> deadLetter(Path segment, Record record, Throwable error) {
+        return Mono.<Void>fromRunnable(() -> {
+                    log.error("Moving a spooled audit log entry of {} rejected by the database to {}",
+                            segment, DEAD_LETTER_FILE, error);
+                    try {
+                        appendDeadLetter(record);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to write the audit spool dead-letter file", e);
+                    }
+                    deadLettered.incrementAndGet();
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private synchronized void appendDeadLetter(Record record) throws IOException {
+        try (FileChannel channel = FileChannel.open(properties.getDirectory().resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer encoded = encode(record.appendedAt(), record.scope(), record.line());
+            while (encoded.hasRemaining()) {
+                channel.write(encoded);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Checks whether a load failed because of the entries themselves rather than the database being
+     * unavailable: an entry that cannot be decoded, or one violating a data or integrity constraint.
+     */
+    private static boolean rejected(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException || cause instanceof DateTimeException
+                    || cause instanceof DataIntegrityViolationException) {
+                return true;
+            }
+            if (cause instanceof R2dbcException r2dbc && r2dbc.getSqlState() != null
+                    && (r2dbc.getSqlState().startsWith("22") || r2dbc.getSqlState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts loaded records out of the spool, once: a segment whose replay fails is resumed after the
+     * last records loaded.
+     */
+    private long replayed(Path segment, List<Record> batch) {
+        replayedRecords.merge(segment, (long) batch.size(), Long::sum);
+        bytes.addAndGet(-batch.stream().mapToLong(Record::size).sum());
+        oldestAppendedAt = entries.addAndGet(-batch.size()) <= 0 ? -1 : batch.get(batch.size() - 1).appendedAt();
+        return batch.size();
+    }
+
+    private Flux<Record> records(Path segment) {
+        return Flux.generate(() -> map(segment), (buffer, sink) -> {
+            Record record = next(buffer, segment);
+            if (record == null) {
+                sink.complete();
+            } else {
+                sink.next(record);
+            }
+            return buffer;
+        });
+    }
+
+    private synchronized List<Path> sealForReplay() throws IOException {
+        open();
+        if (active != null && active.position() > 0) {
+            seal();
+        }
+        try (Stream<Path> files = segments()) {
+            return files.filter(file -> !file.equals(activeFile)).toList();
+        }
+    }
+
+    private void open() throws IOException {
+        if (opened) {
+            return;
+        }
+        Files.createDirectories(properties.getDirectory());
+        List<Path> existing;
+        try (Stream<Path> files = segments()) {
+            existing = files.toList();
+        }
+        long count = 0;
+        long size = 0;
+        long oldest = -1;
+        for (Path segment : existing) {
+            MappedByteBuffer buffer = map(segment);
+            for (Record record = next(buffer, segment); record != null; record = next(buffer, segment)) {
+                count++;
+                size += record.size();
+                oldest = oldest < 0 ? record.appendedAt() : oldest;
+            }
+        }
+        if (!existing.isEmpty()) {
+            nextSequence = sequence(existing.get(existing.size() - 1)) + 1;
+        }
+        entries.set(count);
+        bytes.set(size);
+        oldestAppendedAt = oldest;
+        opened = true;
+        if (count > 0) {
+            log.warn("Found {} spooled audit log entries in {} to replay", count, properties.getDirectory());
+        }
+    }
+
+    private void roll(int minimumSize) throws IOException {
+        seal();
+        activeFile = properties.getDirectory().resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence++, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(activeFile, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(properties.getSegmentSize().toBytes(), minimumSize));
+    }
+
+    private void seal() throws IOException {
+        if (active == null) {
+            return;
+        }
+        active.force();
+        activeChannel.close();
+        active = null;
+        activeChannel = null;
+        activeFile = null;
+    }
+
+    private Stream<Path> segments() throws IOException {
+        return Files.list(properties.getDirectory())
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                })
+                .sorted();
+    }
+
+    /**
+     * Encodes a record: its length, its checksum, then its body of append time, scope and line.
+     */
+    private static ByteBuffer encode(long appendedAt, AuditScope scope, String line) {
+        byte[] text = line.getBytes(StandardCharsets.UTF_8);
+        int length = Long.BYTES + Byte.BYTES + text.length;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + length)
+                .putInt(length)
+                .putInt(0)
+                .putLong(appendedAt)
+                .put((byte) scope.ordinal())
+                .put(text);
+        CRC32C checksum = new CRC32C();
+        checksum.update(record.array(), HEADER_BYTES, length);
+        return record.putInt(Integer.BYTES, (int) checksum.getValue()).flip();
+    }
+
+    private static long sequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static MappedByteBuffer map(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Reads the record at the position of a buffer and moves past it.
+     *
+     * @return the record, or null at the end of the segment's valid records
+     */
+    private static Record next(ByteBuffer buffer, Path segment) {
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int length = buffer.getInt(buffer.position());
+        if (length == 0) {
+            return null;
+        }
+        int expected = buffer.getInt(buffer.position() + Integer.BYTES);
+        if (length < Long.BYTES + Byte.BYTES || length > buffer.remaining() - HEADER_BYTES) {
+            log.warn("Ignoring a torn record at offset {} of {} and everything after it", buffer.position(), segment);
+            return null;
+        }
+        ByteBuffer body = buffer.slice(buffer.position() + HEADER_BYTES, length);
+        CRC32C checksum = new CRC32C();
+        checksum.update(body.duplicate());
+        int scope = body.get(Long.BYTES);
+        if ((int) checksum.getValue() != expected || scope < 0 || scope >= SCOPES.length) {
+            log.warn("Ignoring a corrupt record at offset {} of {} and everything after it", buffer.position(), segment);
+            return null;
+        }
+        byte[] line = new byte[length - Long.BYTES - Byte.BYTES];
+        body.get(Long.BYTES + Byte.BYTES, line);
+        buffer.position(buffer.position() + HEADER_BYTES + length);
+        return new Record(body.getLong(0), SCOPES[scope], new String(line, StandardCharsets.UTF_8), HEADER_BYTES + length);
+    }
+
+    private record Record(long appendedAt, AuditScope scope, String line, int size) {
+    }
+}
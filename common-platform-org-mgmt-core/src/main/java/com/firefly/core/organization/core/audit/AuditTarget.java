@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import java.util.UUID;
+
+/**
+ * The audit log an entity's changes are recorded in.
+ *
+ * @param scope the audit table
+ * @param scopeId the bank or branch the changes are recorded under
+ */
+public record AuditTarget(AuditScope scope, UUID scopeId) {
+
+    public static AuditTarget bank(UUID bankId) {
+        return new AuditTarget(AuditScope.BANK, bankId);
+    }
+
+    public static AuditTarget branch(UUID branchId) {
+        return new AuditTarget(AuditScope.BRANCH, branchId);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Looks up the bank or branch of entities that only reference an intermediate parent.
+ */
+public interface AuditTargetResolver {
+
+    /**
+     * Resolves the audit log of the bank owning a division.
+     */
+    Mono<AuditTarget> bankOfDivision(UUID divisionId);
+
+    /**
+     * Resolves the audit log of the branch owning a department.
+     */
+    Mono<AuditTarget> branchOfDepartment(UUID departmentId);
+
+    /**
+     * Resolves the audit log of the bank owning a working calendar.
+     */
+    Mono<AuditTarget> bankOfCalendar(UUID calendarId);
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.models.entities.Bank;
+import com.firefly.core.organization.models.entities.BankDivision;
+import com.firefly.core.organization.models.entities.BankHoliday;
+import com.firefly.core.organization.models.entities.BankRegion;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchDepartment;
+import com.firefly.core.organization.models.entities.BranchHours;
+import com.firefly.core.organization.models.entities.BranchPosition;
+import com.firefly.core.organization.models.entities.CalendarAssignment;
+import com.firefly.core.organization.models.entities.WorkingCalendar;
+import reactor.core.publisher.Mono;
+
+/**
+ * The field tables of every audited entity.
+ * <p>
+ * A field added to an entity is only audited once it is listed here.
+ */
+public final class AuditedEntities {
+
+    public static final EntityDiffer<Bank> BANK = EntityDiffer.<Bank>builder("Bank", Bank::getId)
+            .bank(Bank::getId)
+            .actor(Bank::getUpdatedBy, Bank::getCreatedBy)
+            .field("code", Bank::getCode)
+            .field("name", Bank::getName)
+            .field("description", Bank::getDescription)
+            .field("logoUrl", Bank::getLogoUrl)
+            .field("primaryColor", Bank::getPrimaryColor)
+            .field("secondaryColor", Bank::getSecondaryColor)
+            .field("contactEmail", Bank::getContactEmail)
+            .field("contactPhone", Bank::getContactPhone)
+            .field("websiteUrl", Bank::getWebsiteUrl)
+            .field("addressLine", Bank::getAddressLine)
+            .field("postalCode", Bank::getPostalCode)
+            .field("city", Bank::getCity)
+            .field("state", Bank::getState)
+            .field("countryId", Bank::getCountryId)
+            .field("timeZoneId", Bank::getTimeZoneId)
+            .field("establishedAt", Bank::getEstablishedAt)
+            .active(Bank::getIsActive)
+            .build();
+
+    public static final EntityDiffer<BankDivision> BANK_DIVISION = EntityDiffer.<BankDivision>builder("BankDivision", BankDivision::getId)
+            .bank(BankDivision::getBankId)
+            .actor(BankDivision::getUpdatedBy, BankDivision::getCreatedBy)
+            .field("bankId", BankDivision::getBankId)
+            .field("code", BankDivision::getCode)
+            .field("name", BankDivision::getName)
+            .field("description", BankDivision::getDescription)
+            .active(BankDivision::getIsActive)
+            .build();
+
+    public static final EntityDiffer<BankRegion> BANK_REGION = EntityDiffer.<BankRegion>builder("BankRegion", BankRegion::getId)
+            .target((resolver, region) -> resolver.bankOfDivision(region.getDivisionId()))
+            .actor(BankRegion::getUpdatedBy, BankRegion::getCreatedBy)
+            .field("divisionId", BankRegion::getDivisionId)
+            .field("code", BankRegion::getCode)
+            .field("name", BankRegion::getName)
+            .field("description", BankRegion::getDescription)
+            .active(BankRegion::getIsActive)
+            .build();
+
+    public static final EntityDiffer<Branch> BRANCH = EntityDiffer.<Branch>builder("Branch", Branch::getId)
+            .branch(Branch::getId)
+            .actor(Branch::getUpdatedBy, Branch::getCreatedBy)
+            .field("bankId", Branch::getBankId)
+            .field("regionId", Branch::getRegionId)
+            .field("code", Branch::getCode)
+            .field("name", Branch::getName)
+            .field("description", Branch::getDescription)
+            .field("phoneNumber", Branch::getPhoneNumber)
+            .field("email", Branch::getEmail)
+            .field("addressLine", Branch::getAddressLine)
+            .field("postalCode", Branch::getPostalCode)
+            .field("city", Branch::getCity)
+            .field("state", Branch::getState)
+            .field("countryId", Branch::getCountryId)
+            .field("timeZoneId", Branch::getTimeZoneId)
+            .field("latitude", Branch::getLatitude)
+            .field("longitude", Branch::getLongitude)
+            .field("openedAt", Branch::getOpenedAt)
+            .field("closedAt", Branch::getClosedAt)
+            .active(Branch::getIsActive)
+            .build();
+
+    public static final EntityDiffer<BranchDepartment> BRANCH_DEPARTMENT = EntityDiffer.<BranchDepartment>builder("BranchDepartment", BranchDepartment::getId)
+            .branch(BranchDepartment::getBranchId)
+            .actor(BranchDepartment::getUpdatedBy, BranchDepartment::getCreatedBy)
+            .field("branchId", BranchDepartment::getBranchId)
+            .field("name", BranchDepartment::getName)
+            .field("description", BranchDepartment::getDescription)
+            .active(BranchDepartment::getIsActive)
+            .build();
+
+    public static final EntityDiffer<BranchPosition> BRANCH_POSITION = EntityDiffer.<BranchPosition>builder("BranchPosition", BranchPosition::getId)
+            .target((resolver, position) -> resolver.branchOfDepartment(position.getDepartmentId()))
+            .actor(BranchPosition::getUpdatedBy, BranchPosition::getCreatedBy)
+            .field("departmentId", BranchPosition::getDepartmentId)
+            .field("title", BranchPosition::getTitle)
+            .field("description", BranchPosition::getDescription)
+            .active(BranchPosition::getIsActive)
+            .build();
+
+    public static final EntityDiffer<BranchHours> BRANCH_HOURS = EntityDiffer.<BranchHours>builder("BranchHours", BranchHours::getId)
+            .branch(BranchHours::getBranchId)
+            .actor(BranchHours::getUpdatedBy, BranchHours::getCreatedBy)
+            .field("branchId", BranchHours::getBranchId)
+            .field("dayOfWeek", BranchHours::getDayOfWeek)
+            .field("openTime", BranchHours::getOpenTime)
+            .field("closeTime", BranchHours::getCloseTime)
+            .field("isClosed", BranchHours::getIsClosed)
+            .build();
+
+    public static final EntityDiffer<BankHoliday> BANK_HOLIDAY = EntityDiffer.<BankHoliday>builder("BankHoliday", BankHoliday::getId)
+            .target((resolver, holiday) -> Mono.justOrEmpty(holiday.getBranchId() != null
+                    ? AuditTarget.branch(holiday.getBranchId())
+                    : holiday.getBankId() != null ? AuditTarget.bank(holiday.getBankId()) : null))
+            .actor(BankHoliday::getUpdatedBy, BankHoliday::getCreatedBy)
+            .field("bankId", BankHoliday::getBankId)
+            .field("branchId", BankHoliday::getBranchId)
+            .field("countryId", BankHoliday::getCountryId)
+            .field("name", BankHoliday::getName)
+            .field("date", BankHoliday::getDate)
+            .field("isRecurring", BankHoliday::getIsRecurring)
+            .field("description", BankHoliday::getDescription)
+            .build();
+
+    public static final EntityDiffer<WorkingCalendar> WORKING_CALENDAR = EntityDiffer.<WorkingCalendar>builder("WorkingCalendar", WorkingCalendar::getId)
+            .bank(WorkingCalendar::getBankId)
+            .actor(WorkingCalendar::getUpdatedBy, WorkingCalendar::getCreatedBy)
+            .field("bankId", WorkingCalendar::getBankId)
+            .field("name", WorkingCalendar::getName)
+            .field("description", WorkingCalendar::getDescription)
+            .field("isDefault", WorkingCalendar::getIsDefault)
+            .field("timeZoneId", WorkingCalendar::getTimeZoneId)
+            .build();
+
+    public static final EntityDiffer<CalendarAssignment> CALENDAR_ASSIGNMENT = EntityDiffer.<CalendarAssignment>builder("CalendarAssignment", CalendarAssignment::getId)
+            .target((resolver, assignment) -> assignment.getBranchId() != null
+                    ? Mono.just(AuditTarget.branch(assignment.getBranchId()))
+                    : assignment.getDepartmentId() != null
+                    ? resolver.branchOfDepartment(assignment.getDepartmentId())
+                    : resolver.bankOfCalendar(assignment.getCalendarId()))
+            .actor(CalendarAssignment::getUpdatedBy, CalendarAssignment::getCreatedBy)
+            .field("calendarId", CalendarAssignment::getCalendarId)
+            .field("branchId", CalendarAssignment::getBranchId)
+            .field("departmentId", CalendarAssignment::getDepartmentId)
+            .field("positionId", CalendarAssignment::getPositionId)
+            .field("effectiveFrom", CalendarAssignment::getEffectiveFrom)
+            .field("effectiveTo", CalendarAssignment::getEffectiveTo)
+            .active(CalendarAssignment::getIsActive)
+            .build();
+
+    private AuditedEntities() {
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Describes how changes to one entity type are audited: the entity name, where its entries go and the
+ * fields compared between two versions.
+ * <p>
+ * The fields are declared once as getter references (see {@link AuditedEntities}), so computing a diff
+ * is a walk over a fixed array with no reflection. Bookkeeping columns such as {@code createdAt} or
+ * {@code updatedBy} are left out of the field table; they change on every write and say nothing about
+ * what changed.
+ *
+ * @param <T> the entity type
+ */
+public final class EntityDiffer<T> {
+
+    private final String entity;
+    private final Function<T, UUID> id;
+    private final BiFunction<AuditTargetResolver, T, Mono<AuditTarget>> target;
+    private final Function<T, UUID> actor;
+    private final Function<T, Boolean> active;
+    private final String[] names;
+    private final List<Function<T, ?>> getters;
+
+    private EntityDiffer(Builder<T> builder) {
+        this.entity = builder.entity;
+        this.id = builder.id;
+        this.target = builder.target;
+        this.actor = builder.actor;
+        this.active = builder.active;
+        this.names = builder.names.toArray(String[]::new);
+        this.getters = List.copyOf(builder.getters);
+    }
+
+    public static <T> Builder<T> builder(String entity, Function<T, UUID> id) {
+        return new Builder<>(entity, id);
+    }
+
+    public String entity() {
+        return entity;
+    }
+
+    public UUID id(T value) {
+        return id.apply(value);
+    }
+
+    /**
+     * Resolves the audit log the entity's changes go to.
+     *
+     * @param resolver looks up parents of entities not directly tied to a bank or branch
+     * @param value the entity
+     * @return a Mono emitting the target, or empty if the entity has no bank or branch
+     */
+    public Mono<AuditTarget> target(AuditTargetResolver resolver, T value) {
+        return target.apply(resolver, value);
+    }
+
+    /**
+     * Returns the user who made the change, as recorded on the entity, or null if not known.
+     */
+    public UUID actor(T value) {
+        return actor == null || value == null ? null : actor.apply(value);
+    }
+
+    /**
+     * Returns the active flag of the entity, or null if the entity has none.
+     */
+    public Boolean active(T value) {
+        return active == null || value == null ? null : active.apply(value);
+    }
+
+    /**
+     * Computes the fields that differ between two versions of an entity as a JSON object of the form
+     * {@code {"name": {"old": "A", "new": "B"}}}. A null version stands for a missing entity, so a
+     * creation lists every non-null field of the new version and a deletion every non-null field of
+     * the old one.
+     *
+     * @param before the old version, may be null
+     * @param after the new version, may be null
+     * @return the JSON object, or null if no field differs
+     */
+    public String diff(T before, T after) {
+        StringBuilder json = null;
+        for (int i = 0; i < names.length; i++) {
+            Function<T, ?> getter = getters.get(i);
+            Object oldValue = before == null ? null : getter.apply(before);
+            Object newValue = after == null ? null : getter.apply(after);
+            if (Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+            json = json == null ? new StringBuilder("{") : json.append(',');
+            appendString(json, names[i]);
+            json.append(":{\"old\":");
+            appendValue(json, oldValue);
+            json.append(",\"new\":");
+            appendValue(json, newValue);
+            json.append('}');
+        }
+        return json == null ? null : json.append('}').toString();
+    }
+
+    private static void appendValue(StringBuilder json, Object value) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Boolean
+                || value instanceof Integer || value instanceof Long
+                || (value instanceof Float f && Float.isFinite(f))
+                || (value instanceof Double d && Double.isFinite(d))) {
+            json.append(value);
+        } else {
+            appendString(json, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    public static final class Builder<T> {
+
+        private final String entity;
+        private final Function<T, UUID> id;
+        private BiFunction<AuditTargetResolver, T, Mono<AuditTarget>> target;
+        private Function<T, UUID> actor;
+        private Function<T, Boolean> active;
+        private final List<String> names = new ArrayList<>();
+        private final List<Function<T, ?>> getters = new ArrayList<>();
+
+        private Builder(String entity, Function<T, UUID> id) {
+            this.entity = entity;
+            this.id = id;
+        }
+
+        /**
+         * Records changes in the audit log of the bank returned by the getter.
+         */
+        public Builder<T> bank(Function<T, UUID> bankId) {
+            return target((resolver, value) -> Mono.justOrEmpty(bankId.apply(value)).map(AuditTarget::bank));
+        }
+
+        /**
+         * Records changes in the audit log of the branch returned by the getter.
+         */
+        public Builder<T> branch(Function<T, UUID> branchId) {
+            return target((resolver, value) -> Mono.justOrEmpty(branchId.apply(value)).map(AuditTarget::branch));
+        }
+
+        public Builder<T> target(BiFunction<AuditTargetResolver, T, Mono<AuditTarget>> target) {
+            this.target = target;
+            return this;
+        }
+
+        /**
+         * Takes the acting user from the entity's last modifier, or its creator if it was never modified.
+         */
+        public Builder<T> actor(Function<T, UUID> updatedBy, Function<T, UUID> createdBy) {
+            this.actor = value -> {
+                UUID user = updatedBy.apply(value);
+                return user != null ? user : createdBy.apply(value);
+            };
+            return this;
+        }
+
+        /**
+         * Declares the active flag, so that flipping it is audited as an activation or deactivation.
+         */
+        public Builder<T> active(Function<T, Boolean> active) {
+            this.active = active;
+            return field("isActive", active);
+        }
+
+        public Builder<T> field(String name, Function<T, ?> getter) {
+            names.add(name);
+            getters.add(getter);
+            return this;
+        }
+
+        public EntityDiffer<T> build() {
+            Objects.requireNonNull(target, "No audit target declared for " + entity);
+            return new EntityDiffer<>(this);
+        }
+    }
+}
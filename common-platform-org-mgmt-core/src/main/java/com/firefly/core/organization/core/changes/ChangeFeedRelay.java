@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.changes;
+
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.mappers.ChangeEventMapper;
+import com.firefly.core.organization.interfaces.dtos.ChangeEventDTO;
+import com.firefly.core.organization.models.repositories.ChangeOutboxRepository;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Publishes the change outbox to the change feed and fans the feed out to the readers of this instance.
+ * <p>
+ * Two loops run in the background. The publish loop assigns feed positions to committed outbox rows; it is
+ * woken by a notification sent when outbox rows are committed, so changes reach the feed within
+ * milliseconds. The tail loop reads the newly published changes once per instance and emits them to
+ * {@link #published()}; it is woken by a notification sent on publishing, whichever instance published.
+ * Both loops also run every {@code poll-interval}, covering lost notifications and a lost listening
+ * connection.
+ * <p>
+ * The same connection listens for the notifications naming the organization tables each transaction wrote,
+ * and outdates the filter results of those tables, so that the filter result cache of every instance sees
+ * the writes of all others. The cache only serves results while that connection is listening.
+ */
+@Slf4j
+@Component
+public class ChangeFeedRelay implements SmartLifecycle {
+
+    static final String OUTBOX_CHANNEL = "org_change_outbox";
+    static final String FEED_CHANNEL = "org_change_feed";
+    static final String TABLE_CHANNEL = "org_table_change";
+
+    @Autowired
+    private ChangeOutboxRepository repository;
+
+    @Autowired
+    private ChangeEventMapper mapper;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Value("${organization.changes.enabled:true}")
+    private boolean enabled;
+
+    @Value("${organization.changes.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${organization.changes.relay.poll-interval:5s}")
+    private Duration pollInterval;
+
+    private final Sinks.Many<List<ChangeEventDTO>> published = Sinks.many().multicast().directBestEffort();
+    private volatile long tail = -1;
+    private volatile Disposable loops;
+
+    /**
+     * Returns the changes published from now on, in feed order, one batch per read. Batches are dropped for
+     * subscribers not keeping up, so subscribers must check that each batch follows the last one they saw
+     * and read any gap from the outbox.
+     *
+     * @return a Flux emitting non-empty batches of consecutive changes
+     */
+    public Flux<List<ChangeEventDTO>> published() {
+        return published.asFlux();
+    }
+
+    /**
+     * Publishes every committed, unpublished change in the outbox.
+     *
+     * @return a Mono emitting the number of changes published
+     */
+    public Mono<Integer> publishPending() {
+        return repository.publish(batchSize)
+                .expand(count -> count >= batchSize ? repository.publish(batchSize) : Mono.empty())
+                .reduce(0, Integer::sum);
+    }
+
+    /**
+     * Reads the changes published since the last read and emits them to the subscribers of {@link #published()}.
+     * The first read only records the current head of the feed.
+     *
+     * @return a Mono emitting the number of changes read
+     */
+    Mono<Integer> readTail() {
+        if (tail < 0) {
+            return repository.findHead()
+                    .doOnNext(head -> tail = head)
+                    .thenReturn(0);
+        }
+        return Mono.defer(this::readBatch)
+                .expand(batch -> batch.size() >= batchSize ? Mono.defer(this::readBatch) : Mono.empty())
+                .filter(batch -> !batch.isEmpty())
+                .doOnNext(batch -> {
+                    tail = batch.get(batch.size() - 1).getPosition();
+                    published.tryEmitNext(batch);
+                })
+                .reduce(0, (count, batch) -> count + batch.size());
+    }
+
+    private Mono<List<ChangeEventDTO>> readBatch() {
+        return repository.findPublishedAfter(tail, batchSize)
+                .map(mapper::toDTO)
+                .collectList();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Flux<Notification> notifications = notifications().share();
+        Flux<Long> ticks = Flux.interval(Duration.ZERO, pollInterval);
+
+        Disposable tableChanges = notifications
+                .filter(notification -> TABLE_CHANNEL.equals(notification.getName()))
+                .subscribe(notification -> filterResultCache.invalidateTable(notification.getParameter()));
+        Disposable publishLoop = Flux.merge(channel(notifications, OUTBOX_CHANNEL), ticks)
+                .onBackpressureLatest()
+                .concatMap(trigger -> publishPending()
+                        .onErrorResume(error -> {
+                            log.error("Failed to publish the change outbox", error);
+                            return Mono.just(0);
+                        }), 1)
+                .subscribe();
+        Disposable tailLoop = Flux.merge(channel(notifications, FEED_CHANNEL), ticks)
+                .onBackpressureLatest()
+                .concatMap(trigger -> readTail()
+                        .onErrorResume(error -> {
+                            log.error("Failed to read the change feed", error);
+                            return Mono.just(0);
+                        }), 1)
+                .subscribe();
+        loops = Disposables.composite(tableChanges, publishLoop, tailLoop);
+        log.info("Change feed relay started");
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = loops;
+        loops = null;
+        if (current != null) {
+            current.dispose();
+        }
+        filterResultCache.following(false);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return loops != null;
+    }
+
+    private Flux<Notification> notifications() {
+        return Flux.usingWhen(
+                        Mono.from(connectionFactory.create()),
+                        connection -> {
+                            PostgresqlConnection postgres = postgres(connection);
+                            return listen(postgres, OUTBOX_CHANNEL)
+                                    .then(listen(postgres, FEED_CHANNEL))
+                                    .then(listen(postgres, TABLE_CHANNEL))
+                                    .thenMany(Flux.merge(postgres.getNotifications(),
+                                            Mono.fromRunnable(() -> filterResultCache.following(true))));
+                        },
+                        Connection::close)
+                .doOnError(error -> {
+                    filterResultCache.following(false);
+                    log.warn("Lost the change feed notification connection, polling until reconnected", error);
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(pollInterval));
+    }
+
+    private static Flux<String> channel(Flux<Notification> notifications, String channel) {
+        return notifications
+                .map(Notification::getName)
+                .filter(channel::equals);
+    }
+
+    private static Mono<Void> listen(PostgresqlConnection connection, String channel) {
+        return connection.createStatement("LISTEN " + channel)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .then();
+    }
+
+    private static PostgresqlConnection postgres(Connection connection) {
+        Object current = connection;
+        while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+            current = wrapped.unwrap();
+        }
+        if (current instanceof PostgresqlConnection postgres) {
+            return postgres;
+        }
+        throw new IllegalStateException("The change feed requires a PostgreSQL connection");
+    }
+}
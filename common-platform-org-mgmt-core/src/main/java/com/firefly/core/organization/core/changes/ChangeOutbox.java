@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.changes;
+
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditScope;
+import com.firefly.core.organization.core.audit.AuditTarget;
+import com.firefly.core.organization.core.audit.AuditTargetResolver;
+import com.firefly.core.organization.core.audit.EntityDiffer;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.ChangeOutboxEntry;
+import com.firefly.core.organization.models.repositories.ChangeOutboxRepository;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Writes the changes made through the services to the change outbox, for the {@link ChangeFeedRelay}
+ * to publish.
+ * <p>
+ * Unlike the {@link AuditRecorder}'s entries, which are queued once the change commits, the outbox row
+ * is written as part of the change: the returned Mono has to be chained into the change's transaction,
+ * so that a change is in the feed if and only if it is committed. Changes are described the same way as in the audit log, by an {@link EntityDiffer}.
+ */
+@Component
+public class ChangeOutbox {
+
+    @Autowired
+    private ChangeOutboxRepository repository;
+
+    @Autowired
+    private AuditTargetResolver targetResolver;
+
+    @Value("${organization.changes.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Writes the creation of an entity, with every non-null audited field as changed.
+     */
+    public <T> Mono<Void> created(EntityDiffer<T> differ, T entity) {
+        return write(differ, AuditAction.CREATED, entity, differ.diff(null, entity));
+    }
+
+    /**
+     * Writes the update of an entity with the fields that changed. An update that changes no audited
+     * field is not written.
+     */
+    public <T> Mono<Void> updated(EntityDiffer<T> differ, T before, T after) {
+        String changes = differ.diff(before, after);
+        if (changes == null) {
+            return Mono.empty();
+        }
+        return write(differ, AuditRecorder.action(differ.active(before), differ.active(after)), after, changes);
+    }
+
+    /**
+     * Writes the deletion of an entity, with every non-null audited field of the deleted version.
+     */
+    public <T> Mono<Void> deleted(EntityDiffer<T> differ, T entity) {
+        return write(differ, AuditAction.DELETED, entity, differ.diff(entity, null));
+    }
+
+    private <T> Mono<Void> write(EntityDiffer<T> differ, AuditAction action, T entity, String changes) {
+        if (!enabled || entity == null) {
+            return Mono.empty();
+        }
+        LocalDateTime occurredAt = LocalDateTime.now();
+        return differ.target(targetResolver, entity)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(target -> repository.save(ChangeOutboxEntry.builder()
+                        .entity(differ.entity())
+                        .entityId(differ.id(entity))
+                        .action(action)
+                        .bankId(target.filter(t -> t.scope() == AuditScope.BANK).map(AuditTarget::scopeId).orElse(null))
+                        .branchId(target.filter(t -> t.scope() == AuditScope.BRANCH).map(AuditTarget::scopeId).orElse(null))
+                        .changes(changes == null ? null : Json.of(changes))
+                        .userId(differ.actor(entity))
+                        .occurredAt(occurredAt)
+                        .build()))
+                .then();
+    }
+}
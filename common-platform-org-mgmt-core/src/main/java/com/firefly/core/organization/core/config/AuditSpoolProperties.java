@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of the local audit spool, under {@code organization.audit.spool}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "organization.audit.spool")
+public class AuditSpoolProperties {
+
+    /**
+     * Whether audit entries that cannot be written are spooled to local files instead of being lost
+     * or holding up the caller.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory holding the spool segment files. Must survive restarts for spooled entries to survive them.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "audit-spool");
+
+    /**
+     * Size of each memory-mapped segment file.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Maximum number of spooled entries loaded into the audit logs at once when replaying.
+     */
+    private int replayBatchSize = 5_000;
+
+    /**
+     * Schedule of the attempts to replay the spool.
+     */
+    private String replayCron = "*/10 * * * * *";
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the asynchronous audit log writer, under {@code organization.audit.writer}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "organization.audit.writer")
+public class AuditWriterProperties {
+
+    /**
+     * Whether audit entries are queued and written in batches instead of one insert per call.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of entries waiting to be written. When full, callers write their entry themselves.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of entries written by one insert statement.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time an entry waits in the queue for its batch to fill up.
+     */
+    private Duration maxDelay = Duration.ofMillis(200);
+
+    /**
+     * Maximum time given to write the queued entries when the application shuts down.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings of the filter result cache, under {@code organization.filters.result-cache}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "organization.filters.result-cache")
+public class FilterCacheProperties {
+
+    /**
+     * Whether filter results are cached until their table changes. Results are only cached while the change
+     * feed relay follows the table change notifications, so this needs {@code organization.changes.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Estimated memory the cached results may take, measured as their size in JSON.
+     */
+    private DataSize maxWeight = DataSize.ofMegabytes(64);
+}
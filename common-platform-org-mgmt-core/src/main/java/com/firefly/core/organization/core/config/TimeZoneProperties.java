@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.config;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maps the time zone references stored on banks, branches and calendars to Java time zones.
+ * <p>
+ * Time zones are master data owned by another service, so only their IDs are stored here. Each ID is
+ * configured under {@code organization.time-zones.zones} (e.g. {@code "[<uuid>]": Europe/Madrid});
+ * unknown or missing IDs resolve to {@code organization.time-zones.default-zone}.
+ */
+@Data
+@Slf4j
+@Component
+@ConfigurationProperties(prefix = "organization.time-zones")
+public class TimeZoneProperties {
+
+    private String defaultZone = "UTC";
+
+    private Map<UUID, String> zones = new HashMap<>();
+
+    /**
+     * Resolves a time zone reference.
+     *
+     * @param timeZoneId the time zone ID, may be null
+     * @return the configured zone, or the default zone if the ID is null, unknown or invalid
+     */
+    public ZoneId resolve(UUID timeZoneId) {
+        String zone = timeZoneId == null ? null : zones.get(timeZoneId);
+        if (zone != null) {
+            try {
+                return ZoneId.of(zone);
+            } catch (DateTimeException e) {
+                log.warn("Invalid time zone '{}' configured for {}, using {}", zone, timeZoneId, defaultZone);
+            }
+        }
+        return ZoneId.of(defaultZone);
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.filters;
+
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.filters.FilterUtils;
+import com.firefly.common.core.queries.PaginationRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.utils.annotations.FilterableId;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Filters one entity with {@link FilterRequest}s, compiling each filter shape to SQL once.
+ * <p>
+ * The filterable fields of the DTO are found when the filter is created, at startup: the simple-valued
+ * fields the entity also has, except id fields (UUIDs or names ending in {@code Id}) not marked
+ * {@link FilterableId}. A request has the shape of its non-null filter fields and its sort; the SELECT and
+ * COUNT statements of a shape are built on its first request and kept, so later requests of that shape only
+ * bind their values. String fields match case-insensitively anywhere in the column, other fields match
+ * exactly, and rows are ordered by the sort field, then by id. Requests with range filters are passed to
+ * {@link FilterUtils}.
+ * <p>
+ * Services hold one instance per entity. The template and mapper are suppliers, as they are injected fields
+ * that are not set yet when the service is constructed.
+ *
+ * @param <E> the entity type
+ * @param <D> the DTO type
+ */
+public class CachedFilter<E, D> {
+
+    /**
+     * Most shapes kept per entity; shapes beyond are compiled for each request.
+     */
+    static final int MAX_SHAPES = 1024;
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final Class<E> entityClass;
+
+    private final Supplier<R2dbcEntityTemplate> template;
+
+    private final Function<E, D> mapper;
+
+    private final List<FilterField> fields;
+
+    private final Map<Shape, Statement> statements = new ConcurrentHashMap<>();
+
+    private volatile Function<FilterRequest<D>, Mono<PaginationResponse<D>>> rangeFilter;
+
+    public CachedFilter(Class<E> entityClass, Class<D> dtoClass, Supplier<R2dbcEntityTemplate> template,
+                        Function<E, D> mapper) {
+        this.entityClass = entityClass;
+        this.template = template;
+        this.mapper = mapper;
+        this.fields = filterFields(entityClass, dtoClass);
+    }
+
+    /**
+     * Filters the entities with the given request.
+     *
+     * @param filterRequest the filter criteria and pagination
+     * @return a Mono emitting the matching page of DTOs
+     */
+    public Mono<PaginationResponse<D>> filter(FilterRequest<D> filterRequest) {
+        if (filterRequest.getRangeFilters() != null) {
+            return rangeFilter().apply(filterRequest);
+        }
+        return Mono.defer(() -> {
+            Query query = query(filterRequest);
+            R2dbcEntityTemplate operations = template.get();
+            DatabaseClient client = operations.getDatabaseClient();
+            Mono<Long> total = bind(client.sql(query.statement().count()), query.values())
+                    .map(row -> row.get(0, Long.class))
+                    .one();
+            Mono<List<D>> content = bind(client.sql(query.statement().select()), query.values())
+                    .bind(query.values().size(), query.pageSize())
+                    .bind(query.values().size() + 1, (long) query.pageNumber() * query.pageSize())
+                    .map((row, metadata) -> operations.getConverter().read(entityClass, row, metadata))
+                    .all()
+                    .map(mapper)
+                    .collectList();
+            return Mono.zip(total, content).map(page -> {
+                PaginationResponse<D> response = new PaginationResponse<>();
+                response.setContent(page.getT2());
+                response.setTotalElements(page.getT1());
+                response.setTotalPages((int) ((page.getT1() + query.pageSize() - 1) / query.pageSize()));
+                response.setCurrentPage(query.pageNumber());
+                return response;
+            });
+        });
+    }
+
+    /**
+     * Resolves a request to the statement of its shape and the values to bind to it.
+     */
+    Query query(FilterRequest<D> filterRequest) {
+        D filters = filterRequest.getFilters();
+        long set = 0;
+        List<Object> values = new ArrayList<>();
+        if (filters != null) {
+            for (int i = 0; i < fields.size(); i++) {
+                Object value = fields.get(i).read(filters);
+                if (value != null) {
+                    set |= 1L << i;
+                    values.add(fields.get(i).bindValue(value));
+                }
+            }
+        }
+        PaginationRequest pagination = filterRequest.getPagination();
+        int pageNumber = 0;
+        int pageSize = DEFAULT_PAGE_SIZE;
+        String sortBy = null;
+        boolean descending = false;
+        if (pagination != null) {
+            pageNumber = Math.max(orDefault(pagination.getPageNumber(), 0), 0);
+            pageSize = Math.max(orDefault(pagination.getPageSize(), DEFAULT_PAGE_SIZE), 1);
+            sortBy = pagination.getSortBy() == null || pagination.getSortBy().isBlank() ? null : pagination.getSortBy();
+            descending = sortBy != null && "DESC".equalsIgnoreCase(pagination.getSortDirection());
+        }
+        return new Query(statement(new Shape(set, sortBy, descending)), values, pageNumber, pageSize);
+    }
+
+    int shapes() {
+        return statements.size();
+    }
+
+    private Statement statement(Shape shape) {
+        Statement statement = statements.get(shape);
+        if (statement == null) {
+            statement = compile(shape);
+            if (statements.size() < MAX_SHAPES) {
+                statements.putIfAbsent(shape, statement);
+            }
+        }
+        return statement;
+    }
+
+    private Statement compile(Shape shape) {
+        R2dbcEntityTemplate operations = template.get();
+        ReactiveDataAccessStrategy strategy = operations.getDataAccessStrategy();
+        RelationalPersistentEntity<?> entity = operations.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(entityClass);
+
+        StringBuilder where = new StringBuilder();
+        int marker = 1;
+        for (int i = 0; i < fields.size(); i++) {
+            if ((shape.fields() & 1L << i) == 0) {
+                continue;
+            }
+            FilterField field = fields.get(i);
+            String column = strategy.toSql(entity.getRequiredPersistentProperty(field.name()).getColumnName());
+            where.append(where.isEmpty() ? " WHERE " : " AND ")
+                    .append(column)
+                    .append(field.contains() ? " ILIKE $" : " = $")
+                    .append(marker++);
+        }
+
+        List<String> order = new ArrayList<>();
+        if (shape.sortBy() != null) {
+            RelationalPersistentProperty sorted = entity.getPersistentProperty(shape.sortBy());
+            if (sorted == null) {
+                throw new IllegalArgumentException("Cannot sort " + entityClass.getSimpleName() + " by " + shape.sortBy());
+            }
+            order.add(strategy.toSql(sorted.getColumnName()) + (shape.descending() ? " DESC" : " ASC"));
+        }
+        if (entity.hasIdProperty()) {
+            order.add(strategy.toSql(entity.getRequiredIdProperty().getColumnName()));
+        }
+
+        String table = strategy.toSql(entity.getTableName());
+        String select = "SELECT * FROM " + table + where
+                + (order.isEmpty() ? "" : " ORDER BY " + String.join(", ", order))
+                + " LIMIT $" + marker + " OFFSET $" + (marker + 1);
+        String count = "SELECT COUNT(*) FROM " + table + where;
+        return new Statement(select, count);
+    }
+
+    private Function<FilterRequest<D>, Mono<PaginationResponse<D>>> rangeFilter() {
+        Function<FilterRequest<D>, Mono<PaginationResponse<D>>> created = rangeFilter;
+        if (created == null) {
+            // Racing first calls may each create one; any of them is equivalent.
+            created = FilterUtils.createFilter(entityClass, mapper)::filter;
+            rangeFilter = created;
+        }
+        return created;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, List<Object> values) {
+        for (int i = 0; i < values.size(); i++) {
+            spec = spec.bind(i, values.get(i));
+        }
+        return spec;
+    }
+
+    private static int orDefault(Number value, int defaultValue) {
+        return value != null ? value.intValue() : defaultValue;
+    }
+
+    private static List<FilterField> filterFields(Class<?> entityClass, Class<?> dtoClass) {
+        List<FilterField> fields = new ArrayList<>();
+        for (Class<?> type = dtoClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                boolean id = field.getType() == UUID.class || field.getName().endsWith("Id");
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+                        || (id && !field.isAnnotationPresent(FilterableId.class))
+                        || !BeanUtils.isSimpleValueType(field.getType())
+                        || !declares(entityClass, field.getName())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fields.add(new FilterField(field.getName(), field, field.getType() == String.class));
+            }
+        }
+        if (fields.size() > Long.SIZE) {
+            throw new IllegalStateException(dtoClass.getSimpleName() + " has more than " + Long.SIZE + " filterable fields");
+        }
+        return List.copyOf(fields);
+    }
+
+    private static boolean declares(Class<?> entityClass, String name) {
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A filterable DTO field, matched anywhere in the column if it is a string.
+     */
+    private record FilterField(String name, Field field, boolean contains) {
+
+        Object read(Object filters) {
+            try {
+                return field.get(filters);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read filter field " + name, e);
+            }
+        }
+
+        Object bindValue(Object value) {
+            if (contains) {
+                String escaped = value.toString().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+                return "%" + escaped + "%";
+            }
+            return value instanceof Enum<?> constant ? constant.name() : value;
+        }
+    }
+
+    /**
+     * The fields a request filters on, as a bit per filterable field, and its sort.
+     */
+    private record Shape(long fields, String sortBy, boolean descending) {
+    }
+
+    /**
+     * The compiled statements of a shape, with the filter values bound from {@code $1} in field order, then
+     * the page size and offset.
+     */
+    record Statement(String select, String count) {
+    }
+
+    /**
+     * A request resolved to its statement and values.
+     */
+    record Query(Statement statement, List<Object> values, int pageNumber, int pageSize) {
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.filters;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.config.FilterCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches the pages returned by filter requests until the table they were read from changes.
+ * <p>
+ * Results are keyed by entity and by the filter request serialized with sorted properties and without
+ * nulls, so requests that differ only in field order or omitted fields share an entry. Each table has a
+ * generation, bumped once a write to it commits; an entry is only served while the tables it was read from
+ * are at the generations it was read at, and a result is not cached if one of its tables changed while it
+ * was read. The services bump the generations of their own writes after commit. Every other write, from
+ * another instance, a trigger or plain SQL, is seen through the table change notifications the database
+ * sends on commit, relayed by {@link com.firefly.core.organization.core.changes.ChangeFeedRelay}. Results
+ * are only cached while those notifications are followed; the cache is cleared whenever following starts
+ * or stops, since changes may have gone unseen meanwhile.
+ * <p>
+ * The cache is bounded by the estimated weight of its entries, their size in JSON. Once over the limit,
+ * outdated entries are dropped first, then the least recently used ones.
+ */
+@Slf4j
+@Component
+public class FilterResultCache {
+
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .findAndAddModules()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    /**
+     * Share of the maximum weight kept after an eviction, so that evictions do not run on every put.
+     */
+    private static final double EVICT_TO = 0.9;
+
+    @Autowired
+    private FilterCacheProperties properties;
+
+    private final Map<Class<?>, Source> tables = new ConcurrentHashMap<>();
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong weight = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicLong ticks = new AtomicLong();
+
+    private volatile boolean following;
+
+    /**
+     * Returns the cached page for a filter request, or runs the request and caches its page.
+     *
+     * @param entityClass the entity the request filters, whose table versions the result
+     * @param filterRequest the filter request
+     * @param filter runs the request when it is not cached
+     * @return a Mono emitting the page
+     */
+    public <D> Mono<PaginationResponse<D>> get(Class<?> entityClass, FilterRequest<D> filterRequest,
+                                               Function<FilterRequest<D>, Mono<PaginationResponse<D>>> filter) {
+        return get(entityClass, List.of(entityClass), filterRequest, filter);
+    }
+
+    /**
+     * Returns the cached page for a filter request read from several tables, such as a view joining
+     * them, or runs the request and caches its page. A write to any of the tables outdates the page.
+     *
+     * @param entityClass the entity the request filters
+     * @param tables the entities of the tables the result is read from
+     * @param filterRequest the filter request
+     * @param filter runs the request when it is not cached
+     * @return a Mono emitting the page
+     */
+    @SuppressWarnings("unchecked")
+    public <D> Mono<PaginationResponse<D>> get(Class<?> entityClass, List<Class<?>> tables,
+                                               FilterRequest<D> filterRequest,
+                                               Function<FilterRequest<D>, Mono<PaginationResponse<D>>> filter) {
+        if (!properties.isEnabled()) {
+            return filter.apply(filterRequest);
+        }
+        return Mono.defer(() -> {
+            if (!following) {
+                return filter.apply(filterRequest);
+            }
+            String normalized = normalize(filterRequest);
+            if (normalized == null) {
+                return filter.apply(filterRequest);
+            }
+            Key key = new Key(entityClass, normalized);
+            List<Source> sources = tables.stream().map(this::table).toList();
+            long generation = generation(sources);
+            Entry entry = entries.get(key);
+            if (entry != null && entry.generation == generation) {
+                entry.lastUsed = ticks.incrementAndGet();
+                hits.incrementAndGet();
+                return Mono.just((PaginationResponse<D>) entry.page);
+            }
+            misses.incrementAndGet();
+            return filter.apply(filterRequest)
+                    .doOnNext(page -> put(key, sources, generation, page));
+        });
+    }
+
+    /**
+     * Marks every cached result of a table as outdated. Called by the services once a write to it commits.
+     *
+     * @param entityClass the entity of the table
+     */
+    public void invalidate(Class<?> entityClass) {
+        table(entityClass).generation.incrementAndGet();
+    }
+
+    /**
+     * Marks every cached result of a table as outdated, given its name in the database. Called for the
+     * table change notifications, which name the table written to.
+     *
+     * @param tableName the table name
+     */
+    public void invalidateTable(String tableName) {
+        tables.values().forEach(table -> {
+            if (table.name.equals(tableName)) {
+                table.generation.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Starts or stops caching results as the table change notifications start or stop being followed,
+     * dropping every cached result on each transition.
+     *
+     * @param following whether the notifications are followed
+     */
+    public void following(boolean following) {
+        if (this.following != following) {
+            this.following = following;
+            clear();
+        }
+    }
+
+    /**
+     * Drops every cached result.
+     */
+    public synchronized void clear() {
+        tables.values().forEach(table -> table.generation.incrementAndGet());
+        entries.forEach((key, entry) -> {
+            if (entries.remove(key, entry)) {
+                weight.addAndGet(-entry.weight);
+            }
+        });
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Returns the estimated weight of the cached results, in bytes.
+     */
+    public long weight() {
+        return weight.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(Key key, List<Source> sources, long generation, PaginationResponse<?> page) {
+        if (generation(sources) != generation) {
+            return;
+        }
+        long entryWeight;
+        try {
+            entryWeight = 2L * key.request().length() + JSON.writeValueAsBytes(page).length;
+        } catch (JsonProcessingException e) {
+            log.debug("Not caching filter result of {}: {}", key.entityClass().getSimpleName(), e.getMessage());
+            return;
+        }
+        long maxWeight = properties.getMaxWeight().toBytes();
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(sources, generation, page, entryWeight, ticks.incrementAndGet()));
+        long total = weight.addAndGet(entryWeight - (previous != null ? previous.weight : 0));
+        if (total > maxWeight) {
+            evict((long) (maxWeight * EVICT_TO));
+        }
+    }
+
+    private synchronized void evict(long target) {
+        entries.forEach((key, entry) -> {
+            if (entry.generation != generation(entry.sources)) {
+                remove(key, entry);
+            }
+        });
+        if (weight.get() <= target) {
+            return;
+        }
+        List<Map.Entry<Key, Entry>> byUse = new ArrayList<>(entries.entrySet());
+        byUse.sort(Comparator.comparingLong(e -> e.getValue().lastUsed));
+        for (Map.Entry<Key, Entry> candidate : byUse) {
+            if (weight.get() <= target) {
+                break;
+            }
+            remove(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            weight.addAndGet(-entry.weight);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private Source table(Class<?> entityClass) {
+        return tables.computeIfAbsent(entityClass, key -> {
+            Table table = key.getAnnotation(Table.class);
+            return new Source(table != null && !table.value().isEmpty() ? table.value() : key.getSimpleName());
+        });
+    }
+
+    /**
+     * Sums the generations of the tables a result is read from. Generations only grow, so the sum
+     * changes whenever one of them does.
+     */
+    private static long generation(List<Source> sources) {
+        long generation = 0;
+        for (Source table : sources) {
+            generation += table.generation.get();
+        }
+        return generation;
+    }
+
+    private static String normalize(FilterRequest<?> filterRequest) {
+        try {
+            return JSON.writeValueAsString(filterRequest);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A table results are read from, by its name in the database.
+     */
+    private static final class Source {
+
+        private final String name;
+
+        private final AtomicLong generation = new AtomicLong();
+
+        private Source(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class Entry {
+
+        private final List<Source> sources;
+
+        private final long generation;
+
+        private final PaginationResponse<?> page;
+
+        private final long weight;
+
+        private volatile long lastUsed;
+
+        private Entry(List<Source> sources, long generation, PaginationResponse<?> page, long weight, long lastUsed) {
+            this.sources = sources;
+            this.generation = generation;
+            this.page = page;
+            this.weight = weight;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    private record Key(Class<?> entityClass, String request) {
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.models.entities.Branch;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory spatial index of branch locations.
+ * <p>
+ * Branches are bucketed into a uniform latitude/longitude grid of {@link #CELL_DEGREES} degree cells.
+ * Nearest-neighbour searches visit rings of cells around the query point and stop as soon as no
+ * unvisited cell can hold a closer branch; radius and bounding-box searches only visit the cells they
+ * overlap, or scan every branch when that is cheaper. Distances are great-circle distances.
+ */
+@Component
+public class BranchGeoIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    public static final double CELL_DEGREES = 0.25;
+
+    private static final int ROWS = (int) Math.ceil(180 / CELL_DEGREES);
+    private static final int COLUMNS = (int) Math.ceil(360 / CELL_DEGREES);
+    private static final int MAX_RINGS = 40;
+    private static final double CELL_KM = Math.toRadians(CELL_DEGREES) * EARTH_RADIUS_KM;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Map<UUID, Entry>> cells = new ConcurrentHashMap<>();
+    private final LoadJournal journal = new LoadJournal();
+
+    /**
+     * Starts recording the writes applied while the index is loaded, so that
+     * {@link #reset(Collection)} replays them over the snapshot it is given, which may predate them.
+     */
+    public synchronized void beginLoad() {
+        journal.begin();
+    }
+
+    /**
+     * Stops recording writes after a failed load.
+     */
+    public synchronized void abortLoad() {
+        journal.abort();
+    }
+
+    /**
+     * Replaces the whole content of the index, then replays the writes applied since {@link #beginLoad()}.
+     *
+     * @param allBranches every branch known to the system
+     */
+    public synchronized void reset(Collection<Branch> allBranches) {
+        List<Runnable> later = journal.end();
+        entries.clear();
+        cells.clear();
+        allBranches.forEach(this::putBranch);
+        later.forEach(Runnable::run);
+    }
+
+    /**
+     * Adds, moves or refreshes a branch. Branches without coordinates are removed from the index.
+     *
+     * @param branch the branch as persisted
+     */
+    public synchronized void putBranch(Branch branch) {
+        if (branch.getId() == null) {
+            return;
+        }
+        journal.record(() -> putBranch(branch));
+        detach(branch.getId());
+        if (branch.getLatitude() == null || branch.getLongitude() == null
+                || Math.abs(branch.getLatitude()) > 90 || Math.abs(branch.getLongitude()) > 180) {
+            return;
+        }
+        double latitude = branch.getLatitude();
+        double longitude = branch.getLongitude();
+        Entry entry = new Entry(branch, latitude, longitude, cellOf(rowOf(latitude), columnOf(longitude)));
+        entries.put(branch.getId(), entry);
+        cells.computeIfAbsent(entry.cell(), key -> new ConcurrentHashMap<>()).put(branch.getId(), entry);
+    }
+
+    /**
+     * Removes a branch from the index.
+     *
+     * @param branchId the branch ID
+     */
+    public synchronized void removeBranch(UUID branchId) {
+        journal.record(() -> removeBranch(branchId));
+        detach(branchId);
+    }
+
+    private void detach(UUID branchId) {
+        Entry previous = entries.remove(branchId);
+        if (previous != null) {
+            Map<UUID, Entry> cell = cells.get(previous.cell());
+            if (cell != null) {
+                cell.remove(branchId);
+                if (cell.isEmpty()) {
+                    cells.remove(previous.cell());
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the branches closest to a point.
+     *
+     * @param latitude the latitude of the point
+     * @param longitude the longitude of the point
+     * @param limit the maximum number of branches to return
+     * @param bankId optional bank to restrict the search to
+     * @param isActive optional status to restrict the search to
+     * @return the closest branches, nearest first
+     */
+    public List<Hit> nearest(double latitude, double longitude, int limit, UUID bankId, Boolean isActive) {
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceKm).reversed());
+        int row = rowOf(latitude);
+        int column = columnOf(longitude);
+        double pointCos = Math.cos(Math.toRadians(latitude));
+
+        for (int ring = 0; ring <= MAX_RINGS; ring++) {
+            for (int r = row - ring; r <= row + ring; r++) {
+                if (r < 0 || r >= ROWS) {
+                    continue;
+                }
+                boolean edgeRow = r == row - ring || r == row + ring;
+                for (int c = column - ring; c <= column + ring; c += edgeRow ? 1 : 2 * Math.max(ring, 1)) {
+                    Map<UUID, Entry> cell = cells.get(cellOf(r, Math.floorMod(c, COLUMNS)));
+                    if (cell != null) {
+                        for (Entry entry : cell.values()) {
+                            offer(best, limit, entry, latitude, longitude, bankId, isActive);
+                        }
+                    }
+                }
+            }
+            if (best.size() == limit && best.peek().distanceKm() <= unvisitedBound(ring, latitude, pointCos)) {
+                return sorted(best);
+            }
+        }
+
+        best.clear();
+        for (Entry entry : entries.values()) {
+            offer(best, limit, entry, latitude, longitude, bankId, isActive);
+        }
+        return sorted(best);
+    }
+
+    /**
+     * Finds the branches within a distance of a point.
+     *
+     * @param latitude the latitude of the point
+     * @param longitude the longitude of the point
+     * @param radiusKm the search radius in kilometres
+     * @param bankId optional bank to restrict the search to
+     * @param isActive optional status to restrict the search to
+     * @return the matching branches, nearest first
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm, UUID bankId, Boolean isActive) {
+        double latitudeDelta = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+        double longitudeDelta = 180;
+        if (minLatitude > -90 && maxLatitude < 90) {
+            double ratio = Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude));
+            longitudeDelta = ratio >= 1 ? 180 : Math.toDegrees(Math.asin(ratio));
+        }
+
+        List<Hit> result = new ArrayList<>();
+        for (Entry entry : candidates(minLatitude, maxLatitude, longitude - longitudeDelta, longitude + longitudeDelta)) {
+            if (entry.matches(bankId, isActive)) {
+                double distance = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+                if (distance <= radiusKm) {
+                    result.add(new Hit(entry.branch(), distance));
+                }
+            }
+        }
+        result.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return result;
+    }
+
+    /**
+     * Finds the branches inside a bounding box. A box whose minimum longitude is greater than its
+     * maximum longitude crosses the antimeridian.
+     *
+     * @param minLatitude the southern edge of the box
+     * @param minLongitude the western edge of the box
+     * @param maxLatitude the northern edge of the box
+     * @param maxLongitude the eastern edge of the box
+     * @param bankId optional bank to restrict the search to
+     * @param isActive optional status to restrict the search to
+     * @return the matching branches, with their distance to the centre of the box
+     */
+    public List<Hit> withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                               UUID bankId, Boolean isActive) {
+        double east = maxLongitude < minLongitude ? maxLongitude + 360 : maxLongitude;
+        double centreLatitude = (minLatitude + maxLatitude) / 2;
+        double centreLongitude = normalizeLongitude((minLongitude + east) / 2);
+
+        List<Hit> result = new ArrayList<>();
+        for (Entry entry : candidates(minLatitude, maxLatitude, minLongitude, east)) {
+            double longitude = entry.longitude() < minLongitude ? entry.longitude() + 360 : entry.longitude();
+            if (entry.latitude() >= minLatitude && entry.latitude() <= maxLatitude && longitude <= east
+                    && entry.matches(bankId, isActive)) {
+                result.add(new Hit(entry.branch(),
+                        distanceKm(centreLatitude, centreLongitude, entry.latitude(), entry.longitude())));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return result;
+    }
+
+    /**
+     * Computes the great-circle distance between two points with the haversine formula.
+     *
+     * @return the distance in kilometres
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double phi1 = Math.toRadians(latitude1);
+        double phi2 = Math.toRadians(latitude2);
+        double sinLatitude = Math.sin((phi2 - phi1) / 2);
+        double sinLongitude = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+        double h = sinLatitude * sinLatitude + Math.cos(phi1) * Math.cos(phi2) * sinLongitude * sinLongitude;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+
+    /**
+     * Lower bound of the distance from the query point to any branch outside the rings visited so far.
+     * Such a branch is at least {@code ring} cells away in latitude, or in longitude within the band of
+     * visited rows, where the haversine term {@code cos(phi1) cos(phi2) hav(dLambda)} bounds the distance.
+     */
+    private static double unvisitedBound(int ring, double latitude, double pointCos) {
+        double latitudeBound = ring * CELL_KM;
+        double bandLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * CELL_DEGREES);
+        double longitudeDelta = Math.min(Math.PI, Math.toRadians(ring * CELL_DEGREES));
+        double h = Math.sqrt(Math.max(0, pointCos * Math.cos(Math.toRadians(bandLatitude)))) * Math.sin(longitudeDelta / 2);
+        double longitudeBound = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, h));
+        return Math.min(latitudeBound, longitudeBound);
+    }
+
+    private Collection<Entry> candidates(double minLatitude, double maxLatitude, double west, double east) {
+        int firstRow = rowOf(Math.max(-90, minLatitude));
+        int lastRow = rowOf(Math.min(90, maxLatitude));
+        long columns = east - west >= 360 ? COLUMNS : (long) Math.floor((east + 180) / CELL_DEGREES) - (long) Math.floor((west + 180) / CELL_DEGREES) + 1;
+        if ((lastRow - firstRow + 1) * Math.min(columns, COLUMNS) > entries.size()) {
+            return entries.values();
+        }
+        int firstColumn = columns >= COLUMNS ? 0 : (int) Math.floor((west + 180) / CELL_DEGREES);
+        List<Entry> result = new ArrayList<>();
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c < firstColumn + Math.min(columns, COLUMNS); c++) {
+                Map<UUID, Entry> cell = cells.get(cellOf(r, Math.floorMod(c, COLUMNS)));
+                if (cell != null) {
+                    result.addAll(cell.values());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void offer(PriorityQueue<Hit> best, int limit, Entry entry, double latitude, double longitude,
+                              UUID bankId, Boolean isActive) {
+        if (!entry.matches(bankId, isActive)) {
+            return;
+        }
+        double distance = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+        if (best.size() < limit) {
+            best.add(new Hit(entry.branch(), distance));
+        } else if (distance < best.peek().distanceKm()) {
+            best.poll();
+            best.add(new Hit(entry.branch(), distance));
+        }
+    }
+
+    private static List<Hit> sorted(PriorityQueue<Hit> best) {
+        List<Hit> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return result;
+    }
+
+    private static int rowOf(double latitude) {
+        return Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int columnOf(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+    }
+
+    private static long cellOf(int row, int column) {
+        return (long) row * COLUMNS + column;
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        return longitude > 180 ? longitude - 360 : longitude;
+    }
+
+    /**
+     * A branch matched by a search together with its distance to the query point.
+     */
+    public record Hit(Branch branch, double distanceKm) {
+    }
+
+    private record Entry(Branch branch, double latitude, double longitude, long cell) {
+
+        boolean matches(UUID bankId, Boolean isActive) {
+            return (bankId == null || bankId.equals(branch.getBankId()))
+                    && (isActive == null || isActive.equals(branch.getIsActive()));
+        }
+    }
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.core.config.TimeZoneProperties;
+import com.firefly.core.organization.interfaces.enums.DayOfWeek;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchHours;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory index of the weekly opening schedule of every branch.
+ * <p>
+ * Each branch week is encoded as a 672-bit mask: 7 days of 96 quarter-hour slots, Monday 00:00 first, in
+ * the branch's local time. A slot is set only when the branch is open for the whole quarter hour, so
+ * opening times that are not on a quarter-hour boundary are rounded inwards. Opening hours whose close
+ * time is before the open time continue past midnight into the next day.
+ * <p>
+ * Entries are immutable and published through a copy-on-write array, so scans never lock and never
+ * observe a half-updated week.
+ */
+@Component
+public class BranchScheduleIndex {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+    private static final int WORDS = (SLOTS_PER_WEEK + Long.SIZE - 1) / Long.SIZE;
+
+    private final TimeZoneProperties timeZones;
+
+    private final Map<UUID, Integer> positions = new HashMap<>();
+    private final Map<UUID, BranchHours> hours = new HashMap<>();
+    private final Map<UUID, Set<UUID>> hoursIdsByBranch = new HashMap<>();
+    private final LoadJournal journal = new LoadJournal();
+    private volatile Entry[] entries = new Entry[0];
+
+    public BranchScheduleIndex(TimeZoneProperties timeZones) {
+        this.timeZones = timeZones;
+    }
+
+    /**
+     * Starts recording the writes applied while the index is loaded, so that
+     * {@link #reset(Collection, Collection)} replays them over the snapshot it is given, which may predate them.
+     */
+    public synchronized void beginLoad() {
+        journal.begin();
+    }
+
+    /**
+     * Stops recording writes after a failed load.
+     */
+    public synchronized void abortLoad() {
+        journal.abort();
+    }
+
+    /**
+     * Replaces the whole content of the index, then replays the writes applied since {@link #beginLoad()}.
+     *
+     * @param allBranches every branch known to the system
+     * @param allHours every branch hours row known to the system
+     */
+    public synchronized void reset(Collection<Branch> allBranches, Collection<BranchHours> allHours) {
+        List<Runnable> later = journal.end();
+        positions.clear();
+        hours.clear();
+        hoursIdsByBranch.clear();
+        for (BranchHours row : allHours) {
+            if (row.getId() != null && row.getBranchId() != null) {
+                hours.put(row.getId(), row);
+                hoursIdsByBranch.computeIfAbsent(row.getBranchId(), id -> new HashSet<>()).add(row.getId());
+            }
+        }
+        List<Entry> loaded = new ArrayList<>(allBranches.size());
+        for (Branch branch : allBranches) {
+            if (branch.getId() != null) {
+                positions.put(branch.getId(), loaded.size());
+                loaded.add(entryFor(branch));
+            }
+        }
+        entries = loaded.toArray(new Entry[0]);
+        later.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers or refreshes the bank, region, time zone and status of a branch.
+     *
+     * @param branch the branch as persisted
+     */
+    public synchronized void putBranch(Branch branch) {
+        if (branch.getId() != null) {
+            journal.record(() -> putBranch(branch));
+            store(entryFor(branch));
+        }
+    }
+
+    /**
+     * Removes a branch and its schedule from the index.
+     *
+     * @param branchId the branch ID
+     */
+    public synchronized void removeBranch(UUID branchId) {
+        journal.record(() -> removeBranch(branchId));
+        Integer position = positions.remove(branchId);
+        Set<UUID> ids = hoursIdsByBranch.remove(branchId);
+        if (ids != null) {
+            ids.forEach(hours::remove);
+        }
+        if (position == null) {
+            return;
+        }
+        Entry[] current = entries;
+        Entry[] next = Arrays.copyOf(current, current.length - 1);
+        int last = current.length - 1;
+        if (position != last) {
+            next[position] = current[last];
+            positions.put(current[last].branchId(), position);
+        }
+        entries = next;
+    }
+
+    /**
+     * Adds or replaces the opening hours of a branch for one day of the week.
+     *
+     * @param branchHours the branch hours as persisted
+     */
+    public synchronized void putHours(BranchHours branchHours) {
+        if (branchHours.getId() == null || branchHours.getBranchId() == null) {
+            return;
+        }
+        journal.record(() -> putHours(branchHours));
+        BranchHours previous = hours.put(branchHours.getId(), branchHours);
+        if (previous != null && !previous.getBranchId().equals(branchHours.getBranchId())) {
+            detachHours(previous);
+        }
+        hoursIdsByBranch.computeIfAbsent(branchHours.getBranchId(), id -> new HashSet<>()).add(branchHours.getId());
+        refreshWeek(branchHours.getBranchId());
+    }
+
+    /**
+     * Removes a branch hours row from the index.
+     *
+     * @param branchHoursId the branch hours ID
+     */
+    public synchronized void removeHours(UUID branchHoursId) {
+        journal.record(() -> removeHours(branchHoursId));
+        BranchHours previous = hours.remove(branchHoursId);
+        if (previous != null) {
+            detachHours(previous);
+        }
+    }
+
+    /**
+     * Finds the branches open for the whole of a local time window on a given day of the week.
+     *
+     * @param dayOfWeek the day of the week, in branch local time
+     * @param from the start of the window, in branch local time
+     * @param to the end of the window, in branch local time; at or before {@code from}, the window
+     *           ends on the next day, and on Monday for a Sunday window
+     * @param bankId optional bank to restrict the search to
+     * @param regionId optional region to restrict the search to
+     * @return the IDs of the active branches open for the whole window
+     */
+    public List<UUID> findOpen(DayOfWeek dayOfWeek, LocalTime from, LocalTime to, UUID bankId, UUID regionId) {
+        int firstSlot = dayOfWeek.ordinal() * SLOTS_PER_DAY + from.toSecondOfDay() / (SLOT_MINUTES * 60);
+        int endSlot = dayOfWeek.ordinal() * SLOTS_PER_DAY
+                + (to.toSecondOfDay() + SLOT_MINUTES * 60 - 1) / (SLOT_MINUTES * 60);
+        if (!to.isAfter(from)) {
+            endSlot += SLOTS_PER_DAY;
+        }
+        long[] mask = new long[WORDS];
+        int firstWord;
+        int lastWord;
+        if (endSlot <= SLOTS_PER_WEEK) {
+            setRange(mask, firstSlot, endSlot);
+            firstWord = firstSlot / Long.SIZE;
+            lastWord = (endSlot - 1) / Long.SIZE;
+        } else {
+            // From Sunday night into Monday morning
+            setRange(mask, firstSlot, SLOTS_PER_WEEK);
+            setRange(mask, 0, endSlot - SLOTS_PER_WEEK);
+            firstWord = 0;
+            lastWord = WORDS - 1;
+        }
+
+        List<UUID> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.matches(bankId, regionId) && entry.covers(mask, firstWord, lastWord)) {
+                result.add(entry.branchId());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the branches open at an instant, evaluating each branch in its own time zone.
+     *
+     * @param instant the instant to check
+     * @param bankId optional bank to restrict the search to
+     * @param regionId optional region to restrict the search to
+     * @return the IDs of the active branches open at the instant
+     */
+    public List<UUID> findOpenAt(Instant instant, UUID bankId, UUID regionId) {
+        Map<ZoneId, Integer> slotByZone = new HashMap<>();
+        List<UUID> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (!entry.matches(bankId, regionId)) {
+                continue;
+            }
+            int slot = slotByZone.computeIfAbsent(entry.zone(), zone -> slotOf(instant.atZone(zone)));
+            if (entry.isOpen(slot)) {
+                result.add(entry.branchId());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a branch is open according to its weekly schedule at an instant.
+     *
+     * @param branchId the branch ID
+     * @param instant the instant to check
+     * @return true if the branch is known, active and open at the instant
+     */
+    public boolean isOpenAt(UUID branchId, Instant instant) {
+        Entry entry = entryOf(branchId);
+        return entry != null && entry.active() && entry.isOpen(slotOf(instant.atZone(entry.zone())));
+    }
+
+    /**
+     * Returns the weekly schedule of a branch.
+     *
+     * @param branchId the branch ID
+     * @return the branch week, or null if the branch is unknown
+     */
+    public BranchWeek weekOf(UUID branchId) {
+        Entry entry = entryOf(branchId);
+        return entry == null ? null : new BranchWeek(entry.branchId(), entry.bankId(), entry.zone(), entry.active(), entry.week());
+    }
+
+    /**
+     * Lists the branches known to the index.
+     *
+     * @param bankId optional bank to restrict the listing to
+     * @return the IDs of the branches, active or not
+     */
+    public List<UUID> branchIds(UUID bankId) {
+        List<UUID> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (bankId == null || bankId.equals(entry.bankId())) {
+                result.add(entry.branchId());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the weekly slot an instant falls into in a given time zone.
+     *
+     * @param dateTime the zoned date-time
+     * @return the slot index, Monday 00:00 being slot 0
+     */
+    public static int slotOf(ZonedDateTime dateTime) {
+        return slotOf(dateTime.toLocalDateTime());
+    }
+
+    /**
+     * Computes the weekly slot of a local date-time.
+     *
+     * @param dateTime the local date-time
+     * @return the slot index, Monday 00:00 being slot 0
+     */
+    public static int slotOf(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * SLOTS_PER_DAY
+                + dateTime.toLocalTime().toSecondOfDay() / (SLOT_MINUTES * 60);
+    }
+
+    /**
+     * Checks a slot in a weekly mask.
+     *
+     * @param week the weekly mask
+     * @param slot the slot index
+     * @return true if the slot is set
+     */
+    public static boolean isSet(long[] week, int slot) {
+        return (week[slot / Long.SIZE] & (1L << (slot % Long.SIZE))) != 0;
+    }
+
+    private Entry entryOf(UUID branchId) {
+        Entry[] current = entries;
+        Integer position;
+        synchronized (this) {
+            position = positions.get(branchId);
+        }
+        if (position == null || position >= current.length) {
+            return null;
+        }
+        Entry entry = current[position];
+        return entry.branchId().equals(branchId) ? entry : null;
+    }
+
+    private void detachHours(BranchHours previous) {
+        Set<UUID> ids = hoursIdsByBranch.get(previous.getBranchId());
+        if (ids != null) {
+            ids.remove(previous.getId());
+        }
+        refreshWeek(previous.getBranchId());
+    }
+
+    private void refreshWeek(UUID branchId) {
+        Integer position = positions.get(branchId);
+        if (position != null) {
+            Entry entry = entries[position];
+            store(new Entry(entry.branchId(), entry.bankId(), entry.regionId(), entry.zone(), entry.active(),
+                    buildWeek(branchId)));
+        }
+    }
+
+    private void store(Entry entry) {
+        Integer position = positions.get(entry.branchId());
+        Entry[] current = entries;
+        Entry[] next;
+        if (position == null) {
+            next = Arrays.copyOf(current, current.length + 1);
+            position = current.length;
+            positions.put(entry.branchId(), position);
+        } else {
+            next = current.clone();
+        }
+        next[position] = entry;
+        entries = next;
+    }
+
+    private Entry entryFor(Branch branch) {
+        return new Entry(
+                branch.getId(),
+                branch.getBankId(),
+                branch.getRegionId(),
+                timeZones.resolve(branch.getTimeZoneId()),
+                !Boolean.FALSE.equals(branch.getIsActive()),
+                buildWeek(branch.getId()));
+    }
+
+    private long[] buildWeek(UUID branchId) {
+        long[] week = new long[WORDS];
+        for (UUID id : hoursIdsByBranch.getOrDefault(branchId, Set.of())) {
+            BranchHours row = hours.get(id);
+            if (row.getDayOfWeek() == null || Boolean.TRUE.equals(row.getIsClosed())
+                    || row.getOpenTime() == null || row.getCloseTime() == null) {
+                continue;
+            }
+            int dayStart = row.getDayOfWeek().ordinal() * SLOTS_PER_DAY;
+            int open = (row.getOpenTime().toSecondOfDay() + SLOT_MINUTES * 60 - 1) / (SLOT_MINUTES * 60);
+            int close = row.getCloseTime().toSecondOfDay() / (SLOT_MINUTES * 60);
+            if (close > open) {
+                setRange(week, dayStart + open, dayStart + close);
+            } else {
+                // Open past midnight (or around the clock when open and close coincide)
+                setRange(week, dayStart + open, dayStart + SLOTS_PER_DAY);
+                int nextDayStart = (dayStart + SLOTS_PER_DAY) % SLOTS_PER_WEEK;
+                setRange(week, nextDayStart, nextDayStart + close);
+            }
+        }
+        return week;
+    }
+
+    private static void setRange(long[] words, int fromSlot, int toSlot) {
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            words[slot / Long.SIZE] |= 1L << (slot % Long.SIZE);
+        }
+    }
+
+    /**
+     * Read-only view of the weekly schedule of a branch. The mask must not be modified.
+     */
+    public record BranchWeek(UUID branchId, UUID bankId, ZoneId zone, boolean active, long[] week) {
+
+        /**
+         * Checks whether the branch is scheduled to be open in a slot.
+         *
+         * @param slot the slot index, Monday 00:00 being slot 0
+         * @return true if the branch is active and open in the slot
+         */
+        public boolean isOpen(int slot) {
+            return active && isSet(week, slot);
+        }
+    }
+
+    private record Entry(UUID branchId, UUID bankId, UUID regionId, ZoneId zone, boolean active, long[] week) {
+
+        boolean matches(UUID bank, UUID region) {
+            return active
+                    && (bank == null || Objects.equals(bank, bankId))
+                    && (region == null || Objects.equals(region, regionId));
+        }
+
+        boolean covers(long[] mask, int firstWord, int lastWord) {
+            for (int word = firstWord; word <= lastWord; word++) {
+                if ((week[word] & mask[word]) != mask[word]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isOpen(int slot) {
+            return isSet(week, slot);
+        }
+    }
+}
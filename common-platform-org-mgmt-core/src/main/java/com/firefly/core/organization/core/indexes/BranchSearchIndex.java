@@ -0,0 +1,366 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.models.entities.Branch;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory typeahead index over the code, postal code, name and city of branches, partitioned by bank.
+ * <p>
+ * Field values are folded to lower-case ASCII words and indexed as trigrams in the style of pg_trgm: each
+ * word is padded with two leading blanks and one trailing blank, so one- and two-letter queries match word
+ * prefixes and longer queries match anywhere inside a word. Trigram postings only produce candidates;
+ * every candidate is then checked and ranked on the actual field values.
+ * <p>
+ * One- and two-character queries match a large share of a bank and there are few of them, so their
+ * results are cached per bank until the next write to that bank.
+ */
+@Component
+public class BranchSearchIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private static final int CODE = 0;
+    private static final int POSTAL_CODE = 1;
+    private static final int NAME = 2;
+    private static final int CITY = 3;
+    private static final double[] FIELD_WEIGHTS = {1.5, 1.2, 1.0, 0.8};
+    private static final int CACHED_QUERY_LENGTH = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final Map<UUID, Map<String, Set<Document>>> postingsByBank = new HashMap<>();
+    private final Map<UUID, Map<String, List<Branch>>> shortQueries = new ConcurrentHashMap<>();
+    private final LoadJournal journal = new LoadJournal();
+    private volatile boolean loaded;
+
+    /**
+     * Starts recording the writes applied while the index is loaded, so that
+     * {@link #reset(Collection)} replays them over the snapshot it is given, which may predate them.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            journal.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stops recording writes after a failed load.
+     */
+    public void abortLoad() {
+        lock.writeLock().lock();
+        try {
+            journal.abort();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole content of the index, then replays the writes applied since {@link #beginLoad()}.
+     *
+     * @param allBranches every branch known to the system
+     */
+    public void reset(Collection<Branch> allBranches) {
+        lock.writeLock().lock();
+        try {
+            List<Runnable> later = journal.end();
+            documents.clear();
+            postingsByBank.clear();
+            shortQueries.clear();
+            allBranches.forEach(this::add);
+            later.forEach(Runnable::run);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether the index has been populated.
+     *
+     * @return true once {@link #reset(Collection)} has been called
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Adds or refreshes a branch.
+     *
+     * @param branch the branch as persisted
+     */
+    public void putBranch(Branch branch) {
+        if (branch.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            journal.record(() -> putBranch(branch));
+            remove(branch.getId());
+            add(branch);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a branch from the index.
+     *
+     * @param branchId the branch ID
+     */
+    public void removeBranch(UUID branchId) {
+        lock.writeLock().lock();
+        try {
+            journal.record(() -> removeBranch(branchId));
+            remove(branchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the branches of a bank. Every word of the query must match the code, postal code, name or
+     * city of a branch; exact and prefix matches rank above matches inside a word, and codes rank above
+     * names and cities.
+     *
+     * @param bankId the bank to search in
+     * @param query the text typed so far
+     * @param limit the maximum number of branches to return
+     * @return the matching branches, best match first
+     */
+    public List<Branch> search(UUID bankId, String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (normalized.length() > CACHED_QUERY_LENGTH) {
+                return find(bankId, normalized, limit);
+            }
+            return shortQueries.computeIfAbsent(bankId, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(normalized + '/' + limit, key -> find(bankId, normalized, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Folds a text for searching: accents removed, lower case, and every run of characters that are
+     * neither letters nor digits replaced by a single blank.
+     *
+     * @param text the text, may be null
+     * @return the normalized text, empty if there is nothing to search for
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private List<Branch> find(UUID bankId, String normalized, int limit) {
+        Map<String, Set<Document>> postings = postingsByBank.get(bankId);
+        if (postings == null) {
+            return List.of();
+        }
+        String[] terms = normalized.split(" ");
+        List<Set<Document>> lists = new ArrayList<>();
+        for (String term : terms) {
+            for (String gram : queryGrams(term)) {
+                Set<Document> list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        PriorityQueue<Match> best = new PriorityQueue<>(Match.ORDER.reversed());
+        candidates:
+        for (Document document : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(document)) {
+                    continue candidates;
+                }
+            }
+            double score = document.score(normalized, terms);
+            if (score > 0 && (best.size() < limit || isBetter(score, document, best.peek()))) {
+                best.add(new Match(document, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Match.ORDER);
+        List<Branch> result = new ArrayList<>(matches.size());
+        matches.forEach(match -> result.add(match.document().branch()));
+        return List.copyOf(result);
+    }
+
+    private void add(Branch branch) {
+        if (branch.getId() == null || branch.getBankId() == null) {
+            return;
+        }
+        String[] fields = new String[4];
+        fields[CODE] = normalize(branch.getCode());
+        fields[POSTAL_CODE] = normalize(branch.getPostalCode());
+        fields[NAME] = normalize(branch.getName());
+        fields[CITY] = normalize(branch.getCity());
+
+        String[][] words = new String[fields.length][];
+        Set<String> grams = new HashSet<>();
+        for (int field = 0; field < fields.length; field++) {
+            words[field] = fields[field].isEmpty() ? new String[0] : fields[field].split(" ");
+            for (String word : words[field]) {
+                addGrams(grams, "  " + word + " ");
+            }
+        }
+        Document document = new Document(branch, fields, words, grams);
+        shortQueries.remove(branch.getBankId());
+        documents.put(branch.getId(), document);
+        Map<String, Set<Document>> postings = postingsByBank.computeIfAbsent(branch.getBankId(), key -> new HashMap<>());
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(document);
+        }
+    }
+
+    private void remove(UUID branchId) {
+        Document previous = documents.remove(branchId);
+        if (previous == null) {
+            return;
+        }
+        shortQueries.remove(previous.branch().getBankId());
+        Map<String, Set<Document>> postings = postingsByBank.get(previous.branch().getBankId());
+        for (String gram : previous.grams()) {
+            Set<Document> list = postings.get(gram);
+            list.remove(previous);
+            if (list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        if (postings.isEmpty()) {
+            postingsByBank.remove(previous.branch().getBankId());
+        }
+    }
+
+    private static boolean isBetter(double score, Document document, Match worst) {
+        if (score != worst.score()) {
+            return score > worst.score();
+        }
+        return Match.ORDER.compare(new Match(document, score), worst) < 0;
+    }
+
+    private static Set<String> queryGrams(String term) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, term.length() < 3 ? "  " + term : term);
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String padded) {
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+    }
+
+    /**
+     * Indexed form of a branch. Equality is identity, which keeps posting set lookups cheap.
+     */
+    private record Document(Branch branch, String[] fields, String[][] words, Set<String> grams) {
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        double score(String query, String[] terms) {
+            double total = 0;
+            for (int field = 0; field < fields.length; field++) {
+                if (fields[field].equals(query)) {
+                    total += 100 * FIELD_WEIGHTS[field];
+                }
+            }
+            for (String term : terms) {
+                double termScore = 0;
+                for (int field = 0; field < fields.length; field++) {
+                    termScore = Math.max(termScore, termScore(fields[field], words[field], term) * FIELD_WEIGHTS[field]);
+                }
+                if (termScore == 0) {
+                    return 0;
+                }
+                total += termScore;
+            }
+            return total;
+        }
+
+        private static double termScore(String field, String[] words, String term) {
+            if (!field.contains(term)) {
+                return 0;
+            }
+            double score = 10;
+            for (String word : words) {
+                if (word.equals(term)) {
+                    return 50;
+                }
+                if (word.startsWith(term)) {
+                    score = 30;
+                }
+            }
+            return score;
+        }
+    }
+
+    private record Match(Document document, double score) {
+
+        static final Comparator<Match> ORDER = Comparator.comparingDouble(Match::score).reversed()
+                .thenComparing(match -> match.document().fields()[NAME])
+                .thenComparing(match -> match.document().branch().getId());
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.interfaces.enums.CalendarTarget;
+import com.firefly.core.organization.models.entities.BankHoliday;
+import com.firefly.core.organization.models.entities.CalendarAssignment;
+import com.firefly.core.organization.models.entities.WorkingCalendar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory cache of calendar resolutions: the working calendar and business days that apply to a
+ * branch, department or position in a month.
+ * <p>
+ * Every entry records what it was resolved from (the position, department, branch, bank and country it
+ * hangs off, the assignment and calendar chosen, and the month), so that a change to an assignment,
+ * calendar or holiday evicts only the entries it can affect and the rest stay warm.
+ * <p>
+ * Writes are serialized; reads are lock-free. An entry resolved while an invalidation ran is dropped
+ * rather than stored, since it may have been read from the data as it was before the change. Callers
+ * invalidate once the change has committed and the in-memory indexes reflect it, so that no resolution
+ * computed from the old data can start after the invalidation.
+ */
+@Component
+public class CalendarResolutionCache {
+
+    @Value("${organization.calendars.resolution-cache.max-entries:200000}")
+    private int maxEntries = 200_000;
+
+    private final Map<Key, Resolution> entries = new ConcurrentHashMap<>();
+    private long generation;
+
+    /**
+     * Returns the current generation, to be passed to {@link #put} once a resolution has been computed.
+     *
+     * @return the generation, bumped by every invalidation
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Looks up a cached resolution.
+     *
+     * @param target the kind of entity
+     * @param targetId the entity ID
+     * @param month the month
+     * @return the resolution, or null if it is not cached
+     */
+    public Resolution get(CalendarTarget target, UUID targetId, YearMonth month) {
+        return entries.get(new Key(target, targetId, month));
+    }
+
+    /**
+     * Caches a resolution, unless an invalidation ran since it started being computed or the cache is full.
+     *
+     * @param target the kind of entity
+     * @param targetId the entity ID
+     * @param resolution the resolution
+     * @param startedAt the generation read before the resolution was computed
+     */
+    public synchronized void put(CalendarTarget target, UUID targetId, Resolution resolution, long startedAt) {
+        if (startedAt != generation || entries.size() >= maxEntries) {
+            return;
+        }
+        entries.put(new Key(target, targetId, resolution.month()), resolution);
+    }
+
+    /**
+     * Evicts the entries an assignment applies or applied to: those of its position, its department or
+     * its branch, whichever is the most specific it names, in the months it is effective.
+     *
+     * @param assignment the assignment as persisted before or after the change
+     */
+    public void invalidateAssignment(CalendarAssignment assignment) {
+        Predicate<Resolution> scope;
+        if (assignment.getPositionId() != null) {
+            scope = entry -> assignment.getPositionId().equals(entry.positionId());
+        } else if (assignment.getDepartmentId() != null) {
+            scope = entry -> assignment.getDepartmentId().equals(entry.departmentId());
+        } else if (assignment.getBranchId() != null) {
+            scope = entry -> assignment.getBranchId().equals(entry.branchId());
+        } else {
+            return;
+        }
+        invalidate(scope.and(entry -> overlaps(entry.month(), assignment.getEffectiveFrom(), assignment.getEffectiveTo())));
+    }
+
+    /**
+     * Evicts the entries resolved to a calendar and, because the calendar may be or have been its bank's
+     * default, the entries of its bank resolved to the default calendar.
+     *
+     * @param calendar the calendar as persisted before or after the change
+     */
+    public void invalidateCalendar(WorkingCalendar calendar) {
+        invalidate(entry -> Objects.equals(calendar.getId(), entry.calendarId())
+                || (entry.assignmentId() == null && Objects.equals(calendar.getBankId(), entry.bankId())));
+    }
+
+    /**
+     * Evicts the entries whose business days a holiday falls in: those of its branch, country or bank in
+     * the month of its date, or in that month of every year if it recurs.
+     *
+     * @param holiday the holiday as persisted before or after the change
+     */
+    public void invalidateHoliday(BankHoliday holiday) {
+        if (holiday.getDate() == null) {
+            return;
+        }
+        Predicate<Resolution> scope;
+        if (holiday.getBranchId() != null) {
+            scope = entry -> holiday.getBranchId().equals(entry.branchId());
+        } else if (holiday.getCountryId() != null) {
+            scope = entry -> holiday.getCountryId().equals(entry.countryId()) && Objects.equals(holiday.getBankId(), entry.bankId());
+        } else {
+            scope = entry -> Objects.equals(holiday.getBankId(), entry.bankId());
+        }
+        YearMonth month = YearMonth.from(holiday.getDate());
+        Predicate<Resolution> when = Boolean.TRUE.equals(holiday.getIsRecurring())
+                ? entry -> entry.month().getMonth() == month.getMonth()
+                : entry -> entry.month().equals(month);
+        invalidate(scope.and(when));
+    }
+
+    /**
+     * Evicts the entries resolved through a position, after it moved department or was deleted.
+     *
+     * @param positionId the position ID
+     */
+    public void invalidatePosition(UUID positionId) {
+        invalidate(entry -> positionId.equals(entry.positionId()));
+    }
+
+    /**
+     * Evicts the entries resolved through a department, after it moved branch or was deleted.
+     *
+     * @param departmentId the department ID
+     */
+    public void invalidateDepartment(UUID departmentId) {
+        invalidate(entry -> departmentId.equals(entry.departmentId()));
+    }
+
+    /**
+     * Evicts the entries resolved through a branch, after it changed bank, country or opening hours or was
+     * deleted.
+     *
+     * @param branchId the branch ID
+     */
+    public void invalidateBranch(UUID branchId) {
+        invalidate(entry -> branchId.equals(entry.branchId()));
+    }
+
+    /**
+     * Evicts every entry.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized void invalidate(Predicate<Resolution> affected) {
+        generation++;
+        entries.values().removeIf(affected);
+    }
+
+    private static boolean overlaps(YearMonth month, LocalDateTime from, LocalDateTime to) {
+        return (from == null || !from.isAfter(month.atEndOfMonth().atTime(23, 59, 59, 999_999_999)))
+                && (to == null || !to.isBefore(month.atDay(1).atStartOfDay()));
+    }
+
+    private record Key(CalendarTarget target, UUID targetId, YearMonth month) {
+    }
+
+    /**
+     * A calendar resolution and the entities it was resolved through.
+     *
+     * @param month the month
+     * @param positionId the position resolved through, or null
+     * @param departmentId the department resolved through, or null
+     * @param branchId the branch
+     * @param bankId the bank of the branch
+     * @param countryId the country of the branch, or null
+     * @param assignmentId the assignment chosen, or null if the bank's default calendar applies
+     * @param calendarId the calendar, or null if none applies
+     * @param businessDays the business days of the month; bit {@code n} stands for day {@code n + 1}
+     */
+    public record Resolution(YearMonth month, UUID positionId, UUID departmentId, UUID branchId, UUID bankId,
+                             UUID countryId, UUID assignmentId, UUID calendarId, int businessDays) {
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.models.entities.BankHoliday;
+import com.firefly.core.organization.models.entities.Branch;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of bank holidays.
+ * <p>
+ * Holidays are grouped by scope (bank-wide, country within a bank, or branch override) and every
+ * scope is expanded into day-of-year bitmaps: one bitmap per year for one-off holidays and a pair of
+ * bitmaps (leap and common years) for recurring holidays. Lookups never touch the database.
+ * <p>
+ * Writes are serialized and rebuild only the scope touched by the change; reads are lock-free and
+ * always observe a fully built scope calendar. Writes applied during a load are replayed over the
+ * loaded snapshot.
+ */
+@Component
+public class HolidayIndex {
+
+    private static final int DAYS_IN_YEAR = 366;
+    private static final int SAMPLE_LEAP_YEAR = 2000;
+    private static final int SAMPLE_COMMON_YEAR = 2001;
+
+    private final Map<UUID, BankHoliday> holidays = new HashMap<>();
+    private final Map<ScopeKey, Set<UUID>> holidayIdsByScope = new HashMap<>();
+    private final Map<ScopeKey, ScopeCalendar> calendars = new ConcurrentHashMap<>();
+    private final Map<UUID, BranchScope> branches = new ConcurrentHashMap<>();
+    private final LoadJournal journal = new LoadJournal();
+
+    /**
+     * Starts recording the writes applied while the index is loaded, so that
+     * {@link #reset(Collection, Collection)} replays them over the snapshot it is given, which may predate them.
+     */
+    public synchronized void beginLoad() {
+        journal.begin();
+    }
+
+    /**
+     * Stops recording writes after a failed load.
+     */
+    public synchronized void abortLoad() {
+        journal.abort();
+    }
+
+    /**
+     * Replaces the whole content of the index, then replays the writes applied since {@link #beginLoad()}.
+     *
+     * @param allHolidays every holiday known to the system
+     * @param allBranches every branch known to the system
+     */
+    public synchronized void reset(Collection<BankHoliday> allHolidays, Collection<Branch> allBranches) {
+        List<Runnable> later = journal.end();
+        holidays.clear();
+        holidayIdsByScope.clear();
+        calendars.clear();
+        branches.clear();
+        allBranches.forEach(this::putBranch);
+        for (BankHoliday holiday : allHolidays) {
+            if (holiday.getId() == null || holiday.getDate() == null) {
+                continue;
+            }
+            holidays.put(holiday.getId(), holiday);
+            holidayIdsByScope.computeIfAbsent(ScopeKey.of(holiday), key -> new HashSet<>()).add(holiday.getId());
+        }
+        holidayIdsByScope.keySet().forEach(this::rebuild);
+        later.forEach(Runnable::run);
+    }
+
+    /**
+     * Adds or replaces a holiday, rebuilding the scopes it leaves and enters.
+     *
+     * @param holiday the holiday as persisted
+     */
+    public synchronized void putHoliday(BankHoliday holiday) {
+        if (holiday.getId() == null) {
+            return;
+        }
+        journal.record(() -> putHoliday(holiday));
+        detachHoliday(holiday.getId());
+        if (holiday.getDate() == null) {
+            return;
+        }
+        ScopeKey key = ScopeKey.of(holiday);
+        holidays.put(holiday.getId(), holiday);
+        holidayIdsByScope.computeIfAbsent(key, k -> new HashSet<>()).add(holiday.getId());
+        rebuild(key);
+    }
+
+    /**
+     * Removes a holiday from the index.
+     *
+     * @param holidayId the holiday ID
+     */
+    public synchronized void removeHoliday(UUID holidayId) {
+        journal.record(() -> removeHoliday(holidayId));
+        detachHoliday(holidayId);
+    }
+
+    /**
+     * Registers or refreshes the bank and country a branch belongs to.
+     *
+     * @param branch the branch as persisted
+     */
+    public synchronized void putBranch(Branch branch) {
+        if (branch.getId() != null) {
+            journal.record(() -> putBranch(branch));
+            branches.put(branch.getId(), new BranchScope(branch.getBankId(), branch.getCountryId()));
+        }
+    }
+
+    /**
+     * Forgets a branch.
+     *
+     * @param branchId the branch ID
+     */
+    public synchronized void removeBranch(UUID branchId) {
+        journal.record(() -> removeBranch(branchId));
+        branches.remove(branchId);
+    }
+
+    private void detachHoliday(UUID holidayId) {
+        BankHoliday previous = holidays.remove(holidayId);
+        if (previous == null) {
+            return;
+        }
+        ScopeKey key = ScopeKey.of(previous);
+        Set<UUID> ids = holidayIdsByScope.get(key);
+        if (ids != null) {
+            ids.remove(holidayId);
+            if (ids.isEmpty()) {
+                holidayIdsByScope.remove(key);
+            }
+        }
+        rebuild(key);
+    }
+
+    /**
+     * Checks whether the index knows the given branch.
+     *
+     * @param branchId the branch ID
+     * @return true if the branch is registered
+     */
+    public boolean containsBranch(UUID branchId) {
+        return branches.containsKey(branchId);
+    }
+
+    /**
+     * Checks whether a date is a holiday for a branch, combining bank-wide, country and branch holidays.
+     *
+     * @param branchId the branch ID
+     * @param date the date to check
+     * @return true if the date is a holiday for the branch
+     */
+    public boolean isBranchHoliday(UUID branchId, LocalDate date) {
+        for (ScopeCalendar calendar : branchCalendars(branchId)) {
+            if (calendar.contains(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a date is a holiday for a bank, optionally narrowed to one country.
+     *
+     * @param bankId the bank ID
+     * @param countryId the country ID, or null for bank-wide holidays only
+     * @param date the date to check
+     * @return true if the date is a holiday
+     */
+    public boolean isBankHoliday(UUID bankId, UUID countryId, LocalDate date) {
+        for (ScopeCalendar calendar : bankCalendars(bankId, countryId)) {
+            if (calendar.contains(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists the holidays of a branch between two dates, both inclusive.
+     *
+     * @param branchId the branch ID
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return the holiday dates in ascending order
+     */
+    public List<LocalDate> branchHolidays(UUID branchId, LocalDate from, LocalDate to) {
+        return collect(branchCalendars(branchId), from, to);
+    }
+
+    /**
+     * Lists the holidays of a bank between two dates, both inclusive.
+     *
+     * @param bankId the bank ID
+     * @param countryId the country ID, or null for bank-wide holidays only
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return the holiday dates in ascending order
+     */
+    public List<LocalDate> bankHolidays(UUID bankId, UUID countryId, LocalDate from, LocalDate to) {
+        return collect(bankCalendars(bankId, countryId), from, to);
+    }
+
+    private List<ScopeCalendar> branchCalendars(UUID branchId) {
+        List<ScopeCalendar> result = new ArrayList<>(3);
+        addIfPresent(result, new ScopeKey(Scope.BRANCH, null, branchId));
+        BranchScope branch = branches.get(branchId);
+        if (branch != null) {
+            result.addAll(bankCalendars(branch.bankId(), branch.countryId()));
+        }
+        return result;
+    }
+
+    private List<ScopeCalendar> bankCalendars(UUID bankId, UUID countryId) {
+        List<ScopeCalendar> result = new ArrayList<>(2);
+        addIfPresent(result, new ScopeKey(Scope.BANK, bankId, null));
+        if (countryId != null) {
+            addIfPresent(result, new ScopeKey(Scope.COUNTRY, bankId, countryId));
+        }
+        return result;
+    }
+
+    private void addIfPresent(List<ScopeCalendar> target, ScopeKey key) {
+        ScopeCalendar calendar = calendars.get(key);
+        if (calendar != null) {
+            target.add(calendar);
+        }
+    }
+
+    private static List<LocalDate> collect(List<ScopeCalendar> scopes, LocalDate from, LocalDate to) {
+        List<LocalDate> result = new ArrayList<>();
+        if (scopes.isEmpty() || from.isAfter(to)) {
+            return result;
+        }
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            BitSet merged = new BitSet(DAYS_IN_YEAR);
+            for (ScopeCalendar scope : scopes) {
+                scope.mergeInto(year, merged);
+            }
+            int first = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int last = year == to.getYear() ? to.getDayOfYear() - 1 : Year.of(year).length() - 1;
+            for (int day = merged.nextSetBit(first); day >= 0 && day <= last; day = merged.nextSetBit(day + 1)) {
+                result.add(LocalDate.ofYearDay(year, day + 1));
+            }
+        }
+        return result;
+    }
+
+    private void rebuild(ScopeKey key) {
+        Set<UUID> ids = holidayIdsByScope.get(key);
+        if (ids == null || ids.isEmpty()) {
+            calendars.remove(key);
+            return;
+        }
+        BitSet recurringLeap = new BitSet(DAYS_IN_YEAR);
+        BitSet recurringCommon = new BitSet(DAYS_IN_YEAR);
+        Map<Integer, BitSet> oneOff = new HashMap<>();
+        for (UUID id : ids) {
+            BankHoliday holiday = holidays.get(id);
+            LocalDate date = holiday.getDate();
+            if (Boolean.TRUE.equals(holiday.getIsRecurring())) {
+                recurringLeap.set(LocalDate.of(SAMPLE_LEAP_YEAR, date.getMonth(), date.getDayOfMonth()).getDayOfYear() - 1);
+                if (date.getMonth() != Month.FEBRUARY || date.getDayOfMonth() != 29) {
+                    recurringCommon.set(LocalDate.of(SAMPLE_COMMON_YEAR, date.getMonth(), date.getDayOfMonth()).getDayOfYear() - 1);
+                }
+            } else {
+                oneOff.computeIfAbsent(date.getYear(), year -> new BitSet(DAYS_IN_YEAR)).set(date.getDayOfYear() - 1);
+            }
+        }
+        calendars.put(key, new ScopeCalendar(recurringLeap, recurringCommon, Map.copyOf(oneOff)));
+    }
+
+    private enum Scope {
+        BANK,
+        COUNTRY,
+        BRANCH
+    }
+
+    private record ScopeKey(Scope scope, UUID bankId, UUID scopeId) {
+
+        static ScopeKey of(BankHoliday holiday) {
+            if (holiday.getBranchId() != null) {
+                return new ScopeKey(Scope.BRANCH, null, holiday.getBranchId());
+            }
+            if (holiday.getCountryId() != null) {
+                return new ScopeKey(Scope.COUNTRY, holiday.getBankId(), holiday.getCountryId());
+            }
+            return new ScopeKey(Scope.BANK, holiday.getBankId(), null);
+        }
+    }
+
+    private record BranchScope(UUID bankId, UUID countryId) {
+    }
+
+    /**
+     * Immutable bitmaps of a single scope. Bit {@code n} stands for day-of-year {@code n + 1}.
+     */
+    private record ScopeCalendar(BitSet recurringLeap, BitSet recurringCommon, Map<Integer, BitSet> oneOff) {
+
+        boolean contains(LocalDate date) {
+            int day = date.getDayOfYear() - 1;
+            BitSet recurring = date.isLeapYear() ? recurringLeap : recurringCommon;
+            if (recurring.get(day)) {
+                return true;
+            }
+            BitSet year = oneOff.get(date.getYear());
+            return year != null && year.get(day);
+        }
+
+        void mergeInto(int year, BitSet target) {
+            target.or(Year.isLeap(year) ? recurringLeap : recurringCommon);
+            BitSet days = oneOff.get(year);
+            if (days != null) {
+                target.or(days);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Helper for populating in-memory indexes from the database exactly once.
+ */
+public final class IndexLoader {
+
+    private static final Duration FOREVER = Duration.ofMillis(Long.MAX_VALUE);
+
+    private IndexLoader() {
+    }
+
+    /**
+     * Wraps an index load so that it runs on first subscription and is shared by every later subscriber.
+     * A failed load is not cached, so the next subscriber retries it.
+     *
+     * @param load supplier of the load operation
+     * @return a Mono completing once the index has been populated
+     */
+    public static Mono<Void> once(Supplier<Mono<Void>> load) {
+        return Mono.defer(load)
+                .cache(value -> FOREVER, error -> Duration.ZERO, () -> FOREVER);
+    }
+}
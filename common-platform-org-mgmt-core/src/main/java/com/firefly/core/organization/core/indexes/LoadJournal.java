@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the writes applied to an index while it is being loaded from the database.
+ * <p>
+ * The load reads a snapshot that may predate those writes, so {@code reset} replays them over the
+ * snapshot instead of losing them. Not thread-safe: every call is made under the lock of the index.
+ */
+final class LoadJournal {
+
+    private List<Runnable> writes;
+
+    /**
+     * Starts recording, before the load reads the database.
+     */
+    void begin() {
+        writes = new ArrayList<>();
+    }
+
+    /**
+     * Records a write if a load is in progress.
+     *
+     * @param write re-applies the write
+     */
+    void record(Runnable write) {
+        if (writes != null) {
+            writes.add(write);
+        }
+    }
+
+    /**
+     * Stops recording without replaying, when the load failed.
+     */
+    void abort() {
+        writes = null;
+    }
+
+    /**
+     * Stops recording.
+     *
+     * @return the writes to replay over the loaded snapshot, in the order they were applied
+     */
+    List<Runnable> end() {
+        List<Runnable> recorded = writes == null ? List.of() : writes;
+        writes = null;
+        return recorded;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.mappers;
+
+import com.firefly.core.organization.interfaces.dtos.AuditDailyCountDTO;
+import com.firefly.core.organization.models.entities.BankAuditDailyCount;
+import com.firefly.core.organization.models.entities.BranchAuditDailyCount;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper for converting the daily audit counts of banks and branches to AuditDailyCountDTO.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AuditDailyCountMapper {
+
+    /**
+     * Converts a BankAuditDailyCount entity to an AuditDailyCountDTO.
+     *
+     * @param entity the BankAuditDailyCount entity to convert
+     * @return the corresponding AuditDailyCountDTO
+     */
+    AuditDailyCountDTO toDTO(BankAuditDailyCount entity);
+
+    /**
+     * Converts a BranchAuditDailyCount entity to an AuditDailyCountDTO.
+     *
+     * @param entity the BranchAuditDailyCount entity to convert
+     * @return the corresponding AuditDailyCountDTO
+     */
+    AuditDailyCountDTO toDTO(BranchAuditDailyCount entity);
+}
@@ -17,8 +17,10 @@
 
 package com.firefly.core.organization.core.mappers;
 
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
 import com.firefly.core.organization.interfaces.dtos.BankAuditLogDTO;
 import com.firefly.core.organization.models.entities.BankAuditLog;
+import io.r2dbc.postgresql.codec.Json;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -43,4 +45,32 @@ public interface BankAuditLogMapper {
      * @return the corresponding BankAuditLog entity
      */
     BankAuditLog toEntity(BankAuditLogDTO dto);
-}
\ No newline at end of file
+
+    /**
+     * Converts a BankAuditLog entity to an entry of a merged activity feed.
+     *
+     * @param entity the BankAuditLog entity to convert
+     * @return the corresponding AuditActivityDTO
+     */
+    AuditActivityDTO toActivityDTO(BankAuditLog entity);
+
+    /**
+     * Wraps JSON text for the JSONB codec.
+     *
+     * @param value the JSON text
+     * @return the JSON value, or null if the text is null
+     */
+    default Json toJson(String value) {
+        return value == null ? null : Json.of(value);
+    }
+
+    /**
+     * Returns the text of a JSON value.
+     *
+     * @param value the JSON value
+     * @return the JSON text, or null if the value is null
+     */
+    default String fromJson(Json value) {
+        return value == null ? null : value.asString();
+    }
+}
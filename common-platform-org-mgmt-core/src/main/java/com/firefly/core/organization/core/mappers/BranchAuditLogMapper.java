@@ -17,8 +17,10 @@
 
 package com.firefly.core.organization.core.mappers;
 
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
 import com.firefly.core.organization.interfaces.dtos.BranchAuditLogDTO;
 import com.firefly.core.organization.models.entities.BranchAuditLog;
+import io.r2dbc.postgresql.codec.Json;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -43,4 +45,32 @@ public interface BranchAuditLogMapper {
      * @return the corresponding BranchAuditLog entity
      */
     BranchAuditLog toEntity(BranchAuditLogDTO dto);
-}
\ No newline at end of file
+
+    /**
+     * Converts a BranchAuditLog entity to an entry of a merged activity feed.
+     *
+     * @param entity the BranchAuditLog entity to convert
+     * @return the corresponding AuditActivityDTO
+     */
+    AuditActivityDTO toActivityDTO(BranchAuditLog entity);
+
+    /**
+     * Wraps JSON text for the JSONB codec.
+     *
+     * @param value the JSON text
+     * @return the JSON value, or null if the text is null
+     */
+    default Json toJson(String value) {
+        return value == null ? null : Json.of(value);
+    }
+
+    /**
+     * Returns the text of a JSON value.
+     *
+     * @param value the JSON value
+     * @return the JSON text, or null if the value is null
+     */
+    default String fromJson(Json value) {
+        return value == null ? null : value.asString();
+    }
+}
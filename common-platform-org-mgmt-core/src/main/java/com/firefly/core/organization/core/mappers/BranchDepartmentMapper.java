@@ -19,6 +19,7 @@ package com.firefly.core.organization.core.mappers;
 
 import com.firefly.core.organization.interfaces.dtos.BranchDepartmentDTO;
 import com.firefly.core.organization.models.entities.BranchDepartment;
+import com.firefly.core.organization.models.entities.BranchDepartmentHierarchy;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -36,6 +37,14 @@ public interface BranchDepartmentMapper {
      */
     BranchDepartmentDTO toDTO(BranchDepartment entity);
 
+    /**
+     * Converts a BranchDepartmentHierarchy view row to a BranchDepartmentDTO, including the bank, region and division above the department.
+     *
+     * @param entity the BranchDepartmentHierarchy row to convert
+     * @return the corresponding BranchDepartmentDTO
+     */
+    BranchDepartmentDTO toDTO(BranchDepartmentHierarchy entity);
+
     /**
      * Converts a BranchDepartmentDTO to a BranchDepartment entity.
      *
@@ -19,6 +19,7 @@ package com.firefly.core.organization.core.mappers;
 
 import com.firefly.core.organization.interfaces.dtos.BranchDTO;
 import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchHierarchy;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -36,6 +37,14 @@ public interface BranchMapper {
      */
     BranchDTO toDTO(Branch entity);
 
+    /**
+     * Converts a BranchHierarchy view row to a BranchDTO, including the division above the branch.
+     *
+     * @param entity the BranchHierarchy row to convert
+     * @return the corresponding BranchDTO
+     */
+    BranchDTO toDTO(BranchHierarchy entity);
+
     /**
      * Converts a BranchDTO to a Branch entity.
      *
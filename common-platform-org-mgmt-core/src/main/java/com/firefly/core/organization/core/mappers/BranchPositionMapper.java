@@ -19,6 +19,7 @@ package com.firefly.core.organization.core.mappers;
 
 import com.firefly.core.organization.interfaces.dtos.BranchPositionDTO;
 import com.firefly.core.organization.models.entities.BranchPosition;
+import com.firefly.core.organization.models.entities.BranchPositionHierarchy;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -36,6 +37,14 @@ public interface BranchPositionMapper {
      */
     BranchPositionDTO toDTO(BranchPosition entity);
 
+    /**
+     * Converts a BranchPositionHierarchy view row to a BranchPositionDTO, including the branch, bank, region and division above the position.
+     *
+     * @param entity the BranchPositionHierarchy row to convert
+     * @return the corresponding BranchPositionDTO
+     */
+    BranchPositionDTO toDTO(BranchPositionHierarchy entity);
+
     /**
      * Converts a BranchPositionDTO to a BranchPosition entity.
      *
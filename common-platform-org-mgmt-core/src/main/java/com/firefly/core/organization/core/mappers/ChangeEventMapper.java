@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.mappers;
+
+import com.firefly.core.organization.interfaces.dtos.ChangeEventDTO;
+import com.firefly.core.organization.models.entities.ChangeOutboxEntry;
+import io.r2dbc.postgresql.codec.Json;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper for converting ChangeOutboxEntry entities to ChangeEventDTO.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ChangeEventMapper {
+
+    /**
+     * Converts a ChangeOutboxEntry entity to a ChangeEventDTO.
+     *
+     * @param entity the ChangeOutboxEntry entity to convert
+     * @return the corresponding ChangeEventDTO
+     */
+    ChangeEventDTO toDTO(ChangeOutboxEntry entity);
+
+    /**
+     * Returns the text of a JSON value.
+     *
+     * @param value the JSON value
+     * @return the JSON text, or null if the value is null
+     */
+    default String fromJson(Json value) {
+        return value == null ? null : value.asString();
+    }
+}
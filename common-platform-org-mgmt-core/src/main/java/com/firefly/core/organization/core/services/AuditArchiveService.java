@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for archiving expiring audit log months to compressed columnar files on local disk,
+ * and for reading them back.
+ */
+public interface AuditArchiveService {
+    /**
+     * Archives every month of the bank and branch audit logs holding only entries older than a date,
+     * one file per audit log and month. Entries reaching a month after it was archived are written to a
+     * further part file of that month; a month with no new entries gets no file.
+     *
+     * @param cutoff the first date to keep in the audit logs
+     * @return a Mono emitting the number of archive files written, or 0 if archiving is disabled
+     */
+    Mono<Integer> archiveBefore(LocalDate cutoff);
+
+    /**
+     * Reads the archived audit log entries of a bank within a time range. Only the archive files and
+     * row groups overlapping the range are decoded.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param from the start of the time range, inclusive
+     * @param to the end of the time range, exclusive
+     * @return a Flux emitting the entries in (timestamp, id) order
+     */
+    Flux<AuditActivityDTO> readBankArchive(UUID bankId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Reads the archived audit log entries of a branch within a time range. Only the archive files and
+     * row groups overlapping the range are decoded.
+     *
+     * @param branchId the unique identifier of the branch
+     * @param from the start of the time range, inclusive
+     * @param to the end of the time range, exclusive
+     * @return a Flux emitting the entries in (timestamp, id) order
+     */
+    Flux<AuditActivityDTO> readBranchArchive(UUID branchId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.audit.AuditArchiveParts;
+import com.firefly.core.organization.core.audit.AuditArchiveWriter;
+import com.firefly.core.organization.core.audit.AuditEntry;
+import com.firefly.core.organization.core.audit.AuditScope;
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.models.repositories.BankAuditLogRepository;
+import com.firefly.core.organization.models.repositories.BranchAuditLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class AuditArchiveServiceImpl implements AuditArchiveService {
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String FILE_SUFFIX = ".aca";
+
+    @Autowired
+    private BankAuditLogRepository bankAuditLogRepository;
+
+    @Autowired
+    private BranchAuditLogRepository branchAuditLogRepository;
+
+    @Value("${organization.audit.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${organization.audit.archive.directory:/var/lib/org-mgmt/audit-archive}")
+    private Path directory;
+
+    @Value("${organization.audit.archive.row-group-size:10000}")
+    private int rowGroupSize;
+
+    @Override
+    public Mono<Integer> archiveBefore(LocalDate cutoff) {
+        if (!enabled) {
+            return Mono.just(0);
+        }
+        Mono<Integer> banks = bankAuditLogRepository.findPartitionMonthsBefore(cutoff)
+                .concatMap(month -> archive(AuditScope.BANK, month, range ->
+                        bankAuditLogRepository.findByTimestampRange(range.atDay(1).atStartOfDay(),
+                                        range.plusMonths(1).atDay(1).atStartOfDay())
+                                .map(AuditEntry::of)))
+                .reduce(0, Integer::sum);
+        Mono<Integer> branches = branchAuditLogRepository.findPartitionMonthsBefore(cutoff)
+                .concatMap(month -> archive(AuditScope.BRANCH, month, range ->
+                        branchAuditLogRepository.findByTimestampRange(range.atDay(1).atStartOfDay(),
+                                        range.plusMonths(1).atDay(1).atStartOfDay())
+                                .map(AuditEntry::of)))
+                .reduce(0, Integer::sum);
+        return banks.zipWith(branches, Integer::sum);
+    }
+
+    @Override
+    public Flux<AuditActivityDTO> readBankArchive(UUID bankId, LocalDateTime from, LocalDateTime to) {
+        return read(AuditScope.BANK, bankId, from, to);
+    }
+
+    @Override
+    public Flux<AuditActivityDTO> readBranchArchive(UUID branchId, LocalDateTime from, LocalDateTime to) {
+        return read(AuditScope.BRANCH, branchId, from, to);
+    }
+
+    /**
+     * Archives the entries of a month. A month archived before may have since received late entries,
+     * backfills or spool replays landing in the default partition, so its entries are read again and
+     * those not in its existing parts are written to a new part, {@code yyyy-MM.N.aca}.
+     */
+    private Mono<Integer> archive(AuditScope scope, LocalDate month, Function<YearMonth, Flux<AuditEntry>> entries) {
+        YearMonth yearMonth = YearMonth.from(month);
+        Path scopeDirectory = directory.resolve(scope.table());
+        return Mono.usingWhen(
+                        Mono.fromCallable(() -> PendingArchive.open(scopeDirectory, yearMonth, scope, rowGroupSize))
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        pending -> entries.apply(yearMonth)
+                                .buffer(rowGroupSize)
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnNext(pending::write)
+                                .then(Mono.fromCallable(pending::rows)),
+                        pending -> Mono.fromRunnable(pending::commit).subscribeOn(Schedulers.boundedElastic()),
+                        (pending, error) -> Mono.fromRunnable(pending::abort).subscribeOn(Schedulers.boundedElastic()),
+                        pending -> Mono.fromRunnable(pending::abort).subscribeOn(Schedulers.boundedElastic()))
+                .doOnNext(rows -> {
+                    if (rows > 0) {
+                        log.info("Archived {} {} entries of {} to {}", rows, scope.table(), yearMonth, scopeDirectory);
+                    }
+                })
+                .map(rows -> rows > 0 ? 1 : 0);
+    }
+
+    private Flux<AuditActivityDTO> read(AuditScope scope, UUID scopeId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return Flux.error(new IllegalArgumentException("from must be before to"));
+        }
+        return Flux.defer(() -> Flux.fromIterable(files(scope, YearMonth.from(from), YearMonth.from(to)).entrySet()))
+                .concatMap(month -> Flux.using(
+                        () -> AuditArchiveParts.open(month.getValue(), from, to),
+                        parts -> Flux.<AuditEntry>generate(sink -> {
+                            try {
+                                AuditEntry entry = parts.next();
+                                if (entry == null) {
+                                    sink.complete();
+                                } else {
+                                    sink.next(entry);
+                                }
+                            } catch (IOException e) {
+                                sink.error(new UncheckedIOException(
+                                        "Failed to read audit archive of " + month.getKey(), e));
+                            }
+                        }),
+                        AuditArchiveServiceImpl::closeQuietly))
+                .filter(entry -> scopeId.equals(entry.scopeId()))
+                .map(AuditArchiveServiceImpl::activity)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Lists the part files of each archived month within a range, by month.
+     */
+    private Map<YearMonth, List<Path>> files(AuditScope scope, YearMonth first, YearMonth last) throws IOException {
+        Map<YearMonth, List<Path>> files = new TreeMap<>();
+        for (Path file : parts(directory.resolve(scope.table()))) {
+            YearMonth month = month(file);
+            if (!month.isBefore(first) && !month.isAfter(last)) {
+                files.computeIfAbsent(month, key -> new ArrayList<>()).add(file);
+            }
+        }
+        return files;
+    }
+
+    private static List<Path> parts(Path scopeDirectory) throws IOException {
+        if (!Files.isDirectory(scopeDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(scopeDirectory)) {
+            return files.filter(file -> month(file) != null).sorted().toList();
+        }
+    }
+
+    /**
+     * Returns the month of an archive part, named {@code yyyy-MM.aca} or {@code yyyy-MM.N.aca}, or null
+     * if the file is not one.
+     */
+    private static YearMonth month(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(FILE_SUFFIX) || name.length() < 7 + FILE_SUFFIX.length()) {
+            return null;
+        }
+        String part = name.substring(7, name.length() - FILE_SUFFIX.length());
+        if (!part.isEmpty() && !part.matches("\\.[1-9][0-9]*")) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(name.substring(0, 7), MONTH);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static int partNumber(Path file) {
+        String name = file.getFileName().toString();
+        String part = name.substring(7, name.length() - FILE_SUFFIX.length());
+        return part.isEmpty() ? 0 : Integer.parseInt(part.substring(1));
+    }
+
+    private static AuditActivityDTO activity(AuditEntry entry) {
+        boolean bank = entry.scope() == AuditScope.BANK;
+        return AuditActivityDTO.builder()
+                .id(entry.id())
+                .bankId(bank ? entry.scopeId() : null)
+                .branchId(bank ? null : entry.scopeId())
+                .action(entry.action())
+                .entity(entry.entity())
+                .entityId(entry.entityId())
+                .metadata(entry.metadata() != null ? entry.metadata().asString() : null)
+                .ipAddress(entry.ipAddress())
+                .userId(entry.userId())
+                .timestamp(entry.timestamp())
+                .build();
+    }
+
+    private static void closeQuietly(AuditArchiveParts parts) {
+        try {
+            parts.close();
+        } catch (IOException e) {
+            log.warn("Failed to close audit archive", e);
+        }
+    }
+
+    /**
+     * An archive part being written to a temporary file next to its final location, moved into place once
+     * complete so that readers never see a partial archive. Entries already in an earlier part of the month
+     * are left out, so a part is only kept when the month received entries since it was last archived.
+     */
+    private static final class PendingArchive {
+
+        private final Path file;
+        private final Path temporary;
+        private final AuditArchiveWriter writer;
+        private final AuditArchiveParts archived;
+
+        private PendingArchive(Path file, Path temporary, AuditArchiveWriter writer, AuditArchiveParts archived) {
+            this.file = file;
+            this.temporary = temporary;
+            this.writer = writer;
+            this.archived = archived;
+        }
+
+        static PendingArchive open(Path scopeDirectory, YearMonth month, AuditScope scope, int rowGroupSize)
+                throws IOException {
+            Files.createDirectories(scopeDirectory);
+            List<Path> parts = parts(scopeDirectory).stream()
+                    .filter(part -> month.equals(month(part)))
+                    .toList();
+            int number = parts.stream().mapToInt(AuditArchiveServiceImpl::partNumber).max().orElse(-1) + 1;
+            Path file = scopeDirectory.resolve(MONTH.format(month) + (number == 0 ? "" : "." + number) + FILE_SUFFIX);
+            AuditArchiveParts archived = AuditArchiveParts.open(parts,
+                    month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+            Path temporary = null;
+            try {
+                temporary = Files.createTempFile(scopeDirectory, file.getFileName().toString(), ".tmp");
+                return new PendingArchive(file, temporary,
+                        new AuditArchiveWriter(Files.newOutputStream(temporary), scope, rowGroupSize), archived);
+            } catch (IOException e) {
+                archived.close();
+                if (temporary != null) {
+                    Files.deleteIfExists(temporary);
+                }
+                throw e;
+            }
+        }
+
+        void write(List<AuditEntry> entries) {
+            try {
+                for (AuditEntry entry : entries) {
+                    if (!archived.contains(entry)) {
+                        writer.write(entry);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write audit archive " + file, e);
+            }
+        }
+
+        long rows() {
+            return writer.rows();
+        }
+
+        void commit() {
+            try {
+                archived.close();
+                writer.close();
+                if (writer.rows() == 0) {
+                    Files.deleteIfExists(temporary);
+                } else {
+                    Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException e) {
+                abort();
+                throw new UncheckedIOException("Failed to complete audit archive " + file, e);
+            }
+        }
+
+        void abort() {
+            try {
+                archived.close();
+            } catch (IOException e) {
+                log.debug("Failed to close the archived parts of {}", file, e);
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.debug("Failed to close aborted audit archive {}", file, e);
+            }
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException e) {
+                log.warn("Failed to delete aborted audit archive {}", temporary, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditIngestResultDTO;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for bulk-loading audit events produced by other systems into the bank and branch audit logs.
+ */
+public interface AuditIngestService {
+    /**
+     * Validates and loads a stream of audit events in batches. Each event goes to the bank audit log if it
+     * has a bank ID, or to the branch audit log if it has a branch ID. Events without an ID are given a new
+     * one, and events without a timestamp are recorded at the current time. Events whose ID and timestamp
+     * are already present are skipped, so a stream can be sent again after a failure.
+     *
+     * @param events the events to load
+     * @return a Flux emitting the outcome of each batch as soon as it is loaded
+     */
+    Flux<AuditIngestResultDTO> ingest(Flux<AuditActivityDTO> events);
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.firefly.core.organization.core.audit.AuditCopyLoader;
+import com.firefly.core.organization.core.audit.AuditEntry;
+import com.firefly.core.organization.core.audit.AuditScope;
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditIngestErrorDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditIngestResultDTO;
+import io.r2dbc.postgresql.codec.Json;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class AuditIngestServiceImpl implements AuditIngestService {
+
+    private static final ObjectReader JSON = new ObjectMapper().reader()
+            .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    private static final int MAX_ENTITY_LENGTH = 100;
+    private static final int MAX_ENTITY_ID_LENGTH = 50;
+    private static final int MAX_IP_ADDRESS_LENGTH = 45;
+
+    @Autowired
+    private AuditCopyLoader auditCopyLoader;
+
+    @Value("${organization.audit.ingest.batch-size:5000}")
+    private int batchSize;
+
+    @Override
+    public Flux<AuditIngestResultDTO> ingest(Flux<AuditActivityDTO> events) {
+        return events.index()
+                .buffer(batchSize)
+                .index()
+                .concatMap(batch -> load(batch.getT1() + 1, batch.getT2()));
+    }
+
+    private Mono<AuditIngestResultDTO> load(long batch, List<Tuple2<Long, AuditActivityDTO>> events) {
+        List<AuditIngestErrorDTO> errors = new ArrayList<>();
+        Map<AuditScope, List<AuditEntry>> entries = new EnumMap<>(AuditScope.class);
+        for (Tuple2<Long, AuditActivityDTO> event : events) {
+            String error = validate(event.getT2());
+            if (error != null) {
+                errors.add(AuditIngestErrorDTO.builder().line(event.getT1() + 1).message(error).build());
+            } else {
+                AuditEntry entry = entry(event.getT2());
+                entries.computeIfAbsent(entry.scope(), scope -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        int valid = events.size() - errors.size();
+        AtomicInteger inserted = new AtomicInteger();
+        AuditIngestResultDTO.AuditIngestResultDTOBuilder result = AuditIngestResultDTO.builder()
+                .batch(batch)
+                .received(events.size())
+                .rejected(errors.size())
+                .errors(errors);
+        return Flux.fromIterable(entries.entrySet())
+                .concatMap(scope -> auditCopyLoader.load(scope.getKey(), scope.getValue()))
+                .doOnNext(inserted::addAndGet)
+                .then(Mono.fromSupplier(() -> result
+                        .inserted(inserted.get())
+                        .duplicates(valid - inserted.get())
+                        .build()))
+                .onErrorResume(e -> {
+                    log.warn("Failed to load audit ingest batch {}", batch, e);
+                    return Mono.just(result
+                            .inserted(inserted.get())
+                            .failure(e.getMessage())
+                            .build());
+                });
+    }
+
+    /**
+     * Checks an event against the constraints of the audit log tables.
+     *
+     * @return the reason the event is invalid, or null if it is valid
+     */
+    static String validate(AuditActivityDTO event) {
+        if ((event.getBankId() == null) == (event.getBranchId() == null)) {
+            return "Exactly one of bankId and branchId is required";
+        }
+        if (event.getAction() == null) {
+            return "Action is required";
+        }
+        if (event.getEntity() == null || event.getEntity().isBlank() || event.getEntity().length() > MAX_ENTITY_LENGTH) {
+            return "Entity is required and must not exceed " + MAX_ENTITY_LENGTH + " characters";
+        }
+        if (event.getEntityId() == null || event.getEntityId().isBlank() || event.getEntityId().length() > MAX_ENTITY_ID_LENGTH) {
+            return "Entity ID is required and must not exceed " + MAX_ENTITY_ID_LENGTH + " characters";
+        }
+        if (event.getIpAddress() != null && event.getIpAddress().length() > MAX_IP_ADDRESS_LENGTH) {
+            return "IP address must not exceed " + MAX_IP_ADDRESS_LENGTH + " characters";
+        }
+        if (event.getMetadata() != null) {
+            try {
+                JsonNode metadata = JSON.readTree(event.getMetadata());
+                if (metadata == null || metadata.isMissingNode()) {
+                    return "Metadata must be valid JSON";
+                }
+            } catch (JsonProcessingException e) {
+                return "Metadata must be valid JSON";
+            }
+        }
+        return null;
+    }
+
+    private static AuditEntry entry(AuditActivityDTO event) {
+        boolean bank = event.getBankId() != null;
+        return new AuditEntry(
+                bank ? AuditScope.BANK : AuditScope.BRANCH,
+                event.getId() != null ? event.getId() : UUID.randomUUID(),
+                bank ? event.getBankId() : event.getBranchId(),
+                event.getAction(),
+                event.getEntity(),
+                event.getEntityId(),
+                event.getMetadata() != null ? Json.of(event.getMetadata()) : null,
+                event.getIpAddress(),
+                event.getUserId(),
+                event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.now());
+    }
+}
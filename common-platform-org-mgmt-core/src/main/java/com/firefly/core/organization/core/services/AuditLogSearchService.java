@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditLogPageDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditLogQueryDTO;
+import com.firefly.core.organization.interfaces.dtos.BankAuditLogDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchAuditLogDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service interface for searching the audit logs of a bank or branch in chronological order, and the
+ * activity feeds merging both logs.
+ */
+public interface AuditLogSearchService {
+    /**
+     * Retrieves one page of the audit log of a bank.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param query the search criteria
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of entries in the page
+     * @return a Mono emitting the page and the cursor of the next one
+     */
+    Mono<AuditLogPageDTO<BankAuditLogDTO>> searchBankAuditLogs(UUID bankId, AuditLogQueryDTO query, String cursor, int limit);
+
+    /**
+     * Streams every entry of the audit log of a bank matching the criteria.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param query the search criteria
+     * @return a Flux emitting the entries in chronological order
+     */
+    Flux<BankAuditLogDTO> streamBankAuditLogs(UUID bankId, AuditLogQueryDTO query);
+
+    /**
+     * Retrieves one page of the audit log of a branch.
+     *
+     * @param branchId the unique identifier of the branch
+     * @param query the search criteria
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of entries in the page
+     * @return a Mono emitting the page and the cursor of the next one
+     */
+    Mono<AuditLogPageDTO<BranchAuditLogDTO>> searchBranchAuditLogs(UUID branchId, AuditLogQueryDTO query, String cursor, int limit);
+
+    /**
+     * Streams every entry of the audit log of a branch matching the criteria.
+     *
+     * @param branchId the unique identifier of the branch
+     * @param query the search criteria
+     * @return a Flux emitting the entries in chronological order
+     */
+    Flux<BranchAuditLogDTO> streamBranchAuditLogs(UUID branchId, AuditLogQueryDTO query);
+
+    /**
+     * Retrieves one page of the activity of a user across the bank and branch audit logs.
+     *
+     * @param userId the unique identifier of the user
+     * @param query the search criteria; its user is ignored
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of entries in the page
+     * @return a Mono emitting the page and the cursor of the next one
+     */
+    Mono<AuditLogPageDTO<AuditActivityDTO>> searchUserActivity(UUID userId, AuditLogQueryDTO query, String cursor, int limit);
+
+    /**
+     * Streams the activity of a user across the bank and branch audit logs.
+     *
+     * @param userId the unique identifier of the user
+     * @param query the search criteria; its user is ignored
+     * @return a Flux emitting the entries of both logs in chronological order
+     */
+    Flux<AuditActivityDTO> streamUserActivity(UUID userId, AuditLogQueryDTO query);
+
+    /**
+     * Retrieves one page of the activity under a bank: its own audit log merged with those of its branches.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param query the search criteria
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of entries in the page
+     * @return a Mono emitting the page and the cursor of the next one
+     */
+    Mono<AuditLogPageDTO<AuditActivityDTO>> searchBankActivity(UUID bankId, AuditLogQueryDTO query, String cursor, int limit);
+
+    /**
+     * Streams the activity under a bank: its own audit log merged with those of its branches.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param query the search criteria
+     * @return a Flux emitting the entries of both logs in chronological order
+     */
+    Flux<AuditActivityDTO> streamBankActivity(UUID bankId, AuditLogQueryDTO query);
+}
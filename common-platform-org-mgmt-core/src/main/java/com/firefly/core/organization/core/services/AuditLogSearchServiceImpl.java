@@ -0,0 +1,295 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.firefly.core.organization.core.audit.AuditCursor;
+import com.firefly.core.organization.core.mappers.BankAuditLogMapper;
+import com.firefly.core.organization.core.mappers.BranchAuditLogMapper;
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditLogPageDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditLogQueryDTO;
+import com.firefly.core.organization.interfaces.dtos.BankAuditLogDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchAuditLogDTO;
+import com.firefly.core.organization.models.entities.BankAuditLog;
+import com.firefly.core.organization.models.entities.BranchAuditLog;
+import com.firefly.core.organization.models.repositories.BankAuditLogRepository;
+import com.firefly.core.organization.models.repositories.BranchAuditLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class AuditLogSearchServiceImpl implements AuditLogSearchService {
+
+    private static final int MAX_LIMIT = 1_000;
+    private static final int STREAM_PAGE_SIZE = 1_000;
+    private static final LocalDateTime MIN_TIMESTAMP = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Comparator<AuditActivityDTO> ACTIVITY_ORDER =
+            Comparator.comparing(AuditLogSearchServiceImpl::position, AuditCursor.ORDER);
+
+    @Autowired
+    private BankAuditLogRepository bankAuditLogRepository;
+
+    @Autowired
+    private BranchAuditLogRepository branchAuditLogRepository;
+
+    @Autowired
+    private BankAuditLogMapper bankAuditLogMapper;
+
+    @Autowired
+    private BranchAuditLogMapper branchAuditLogMapper;
+
+    @Override
+    public Mono<AuditLogPageDTO<BankAuditLogDTO>> searchBankAuditLogs(UUID bankId, AuditLogQueryDTO query, String cursor, int limit) {
+        return page(query, cursor, limit, bankPages(bankId, query),
+                log -> new AuditCursor(log.getTimestamp(), log.getId()), bankAuditLogMapper::toDTO);
+    }
+
+    @Override
+    public Flux<BankAuditLogDTO> streamBankAuditLogs(UUID bankId, AuditLogQueryDTO query) {
+        return stream(query, bankPages(bankId, query), log -> new AuditCursor(log.getTimestamp(), log.getId()))
+                .map(bankAuditLogMapper::toDTO);
+    }
+
+    @Override
+    public Mono<AuditLogPageDTO<BranchAuditLogDTO>> searchBranchAuditLogs(UUID branchId, AuditLogQueryDTO query, String cursor, int limit) {
+        return page(query, cursor, limit, branchPages(branchId, query),
+                log -> new AuditCursor(log.getTimestamp(), log.getId()), branchAuditLogMapper::toDTO);
+    }
+
+    @Override
+    public Flux<BranchAuditLogDTO> streamBranchAuditLogs(UUID branchId, AuditLogQueryDTO query) {
+        return stream(query, branchPages(branchId, query), log -> new AuditCursor(log.getTimestamp(), log.getId()))
+                .map(branchAuditLogMapper::toDTO);
+    }
+
+    @Override
+    public Mono<AuditLogPageDTO<AuditActivityDTO>> searchUserActivity(UUID userId, AuditLogQueryDTO query, String cursor, int limit) {
+        return page(query, cursor, limit, merged(userBankActivity(userId, query), userBranchActivity(userId, query)),
+                AuditLogSearchServiceImpl::position, Function.identity());
+    }
+
+    @Override
+    public Flux<AuditActivityDTO> streamUserActivity(UUID userId, AuditLogQueryDTO query) {
+        return mergedStream(query, userBankActivity(userId, query), userBranchActivity(userId, query));
+    }
+
+    @Override
+    public Mono<AuditLogPageDTO<AuditActivityDTO>> searchBankActivity(UUID bankId, AuditLogQueryDTO query, String cursor, int limit) {
+        return page(query, cursor, limit, merged(bankActivity(bankId, query), bankBranchActivity(bankId, query)),
+                AuditLogSearchServiceImpl::position, Function.identity());
+    }
+
+    @Override
+    public Flux<AuditActivityDTO> streamBankActivity(UUID bankId, AuditLogQueryDTO query) {
+        return mergedStream(query, bankActivity(bankId, query), bankBranchActivity(bankId, query));
+    }
+
+    private PageQuery<BankAuditLog> bankPages(UUID bankId, AuditLogQueryDTO query) {
+        return (after, size) -> bankAuditLogRepository.findPage(bankId, after.timestamp(), after.id(),
+                from(query), to(query), query.getEntity(), query.getEntityId(), action(query), query.getUserId(),
+                metadataFilter(query), metadataKey(query), size);
+    }
+
+    private PageQuery<BranchAuditLog> branchPages(UUID branchId, AuditLogQueryDTO query) {
+        return (after, size) -> branchAuditLogRepository.findPage(branchId, after.timestamp(), after.id(),
+                from(query), to(query), query.getEntity(), query.getEntityId(), action(query), query.getUserId(),
+                metadataFilter(query), metadataKey(query), size);
+    }
+
+    private PageQuery<AuditActivityDTO> userBankActivity(UUID userId, AuditLogQueryDTO query) {
+        return (after, size) -> bankAuditLogRepository.findUserPage(userId, after.timestamp(), after.id(),
+                        from(query), to(query), query.getEntity(), query.getEntityId(), action(query),
+                        metadataFilter(query), metadataKey(query), size)
+                .map(bankAuditLogMapper::toActivityDTO);
+    }
+
+    private PageQuery<AuditActivityDTO> userBranchActivity(UUID userId, AuditLogQueryDTO query) {
+        return (after, size) -> branchAuditLogRepository.findUserPage(userId, after.timestamp(), after.id(),
+                        from(query), to(query), query.getEntity(), query.getEntityId(), action(query),
+                        metadataFilter(query), metadataKey(query), size)
+                .map(branchAuditLogMapper::toActivityDTO);
+    }
+
+    private PageQuery<AuditActivityDTO> bankActivity(UUID bankId, AuditLogQueryDTO query) {
+        PageQuery<BankAuditLog> pages = bankPages(bankId, query);
+        return (after, size) -> pages.fetch(after, size).map(bankAuditLogMapper::toActivityDTO);
+    }
+
+    private PageQuery<AuditActivityDTO> bankBranchActivity(UUID bankId, AuditLogQueryDTO query) {
+        return (after, size) -> branchAuditLogRepository.findBankPage(bankId, after.timestamp(), after.id(),
+                        from(query), to(query), query.getEntity(), query.getEntityId(), action(query), query.getUserId(),
+                        metadataFilter(query), metadataKey(query), size)
+                .map(branchAuditLogMapper::toActivityDTO);
+    }
+
+    /**
+     * Merges the pages of two logs. Both are read in (timestamp, id) order, so the first entries of their
+     * union are among the first as many entries of each, and a page of the union needs one page of each.
+     */
+    private static PageQuery<AuditActivityDTO> merged(PageQuery<AuditActivityDTO> first, PageQuery<AuditActivityDTO> second) {
+        return (after, size) -> Flux.mergeComparing(ACTIVITY_ORDER, first.fetch(after, size), second.fetch(after, size))
+                .take(size);
+    }
+
+    /**
+     * Streams two logs page by page each and merges them as they arrive, so that a feed of any size holds
+     * no more than a page of each log in memory.
+     */
+    private Flux<AuditActivityDTO> mergedStream(AuditLogQueryDTO query, PageQuery<AuditActivityDTO> first,
+                                                PageQuery<AuditActivityDTO> second) {
+        return Flux.defer(() -> {
+            validate(query);
+            AuditCursor start = AuditCursor.before(from(query));
+            return Flux.mergeComparing(ACTIVITY_ORDER,
+                    streamFrom(start, first, AuditLogSearchServiceImpl::position),
+                    streamFrom(start, second, AuditLogSearchServiceImpl::position));
+        });
+    }
+
+    private static AuditCursor position(AuditActivityDTO entry) {
+        return new AuditCursor(entry.getTimestamp(), entry.getId());
+    }
+
+    private <E, D> Mono<AuditLogPageDTO<D>> page(AuditLogQueryDTO query, String cursor, int limit, PageQuery<E> pages,
+                                                 Function<E, AuditCursor> position, Function<E, D> toDTO) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return Mono.error(new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit));
+        }
+        return Mono.defer(() -> {
+                    validate(query);
+                    AuditCursor after = cursor == null || cursor.isBlank()
+                            ? AuditCursor.before(from(query))
+                            : AuditCursor.decode(cursor);
+                    // One extra row tells whether another page follows
+                    return pages.fetch(after, limit + 1).collectList();
+                })
+                .map(rows -> {
+                    boolean more = rows.size() > limit;
+                    List<E> items = more ? rows.subList(0, limit) : rows;
+                    return AuditLogPageDTO.<D>builder()
+                            .items(items.stream().map(toDTO).toList())
+                            .nextCursor(more ? position.apply(items.get(limit - 1)).encode() : null)
+                            .build();
+                });
+    }
+
+    private <E> Flux<E> stream(AuditLogQueryDTO query, PageQuery<E> pages, Function<E, AuditCursor> position) {
+        return Flux.defer(() -> {
+            validate(query);
+            return streamFrom(AuditCursor.before(from(query)), pages, position);
+        });
+    }
+
+    /**
+     * Reads the entries page by page, each page a short keyset query, so that an export of any size neither
+     * holds a cursor open for its whole duration nor buffers more than one page.
+     */
+    private <E> Flux<E> streamFrom(AuditCursor after, PageQuery<E> pages, Function<E, AuditCursor> position) {
+        return pages.fetch(after, STREAM_PAGE_SIZE).collectList()
+                .flatMapMany(rows -> rows.size() < STREAM_PAGE_SIZE
+                        ? Flux.fromIterable(rows)
+                        : Flux.fromIterable(rows).concatWith(Flux.defer(() ->
+                                streamFrom(position.apply(rows.get(rows.size() - 1)), pages, position))));
+    }
+
+    private static void validate(AuditLogQueryDTO query) {
+        if (query.getFrom() != null && query.getTo() != null && query.getFrom().isAfter(query.getTo())) {
+            throw new IllegalArgumentException("Start of the time window must not be after its end");
+        }
+        if (query.getChangedTo() != null && query.getChangedField() == null) {
+            throw new IllegalArgumentException("A changed value requires the changed field");
+        }
+        metadataFilter(query);
+    }
+
+    /**
+     * Builds the JSON document the metadata must contain: the given one, plus the new value of the changed
+     * field in the {@code {"field": {"old": ..., "new": ...}}} form the services record changes in.
+     */
+    static String metadataFilter(AuditLogQueryDTO query) {
+        ObjectNode filter = null;
+        if (query.getMetadataContains() != null) {
+            JsonNode contains = parse(query.getMetadataContains());
+            if (!(contains instanceof ObjectNode object)) {
+                throw new IllegalArgumentException("Metadata filter must be a JSON object: " + query.getMetadataContains());
+            }
+            filter = object;
+        }
+        if (query.getChangedField() != null && query.getChangedTo() != null) {
+            filter = filter != null ? filter : JSON.createObjectNode();
+            ObjectNode change = filter.get(query.getChangedField()) instanceof ObjectNode existing
+                    ? existing
+                    : filter.putObject(query.getChangedField());
+            change.set("new", literal(query.getChangedTo()));
+        }
+        return filter != null ? filter.toString() : null;
+    }
+
+    private static String metadataKey(AuditLogQueryDTO query) {
+        return query.getChangedTo() == null ? query.getChangedField() : null;
+    }
+
+    private static JsonNode parse(String json) {
+        try {
+            return JSON.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid metadata filter: " + json);
+        }
+    }
+
+    private static JsonNode literal(String value) {
+        try {
+            JsonNode node = JSON.readTree(value);
+            return node != null && node.isValueNode() ? node : TextNode.valueOf(value);
+        } catch (JsonProcessingException e) {
+            return TextNode.valueOf(value);
+        }
+    }
+
+    private static LocalDateTime from(AuditLogQueryDTO query) {
+        return query.getFrom() != null ? query.getFrom() : MIN_TIMESTAMP;
+    }
+
+    private static LocalDateTime to(AuditLogQueryDTO query) {
+        return query.getTo() != null ? query.getTo() : MAX_TIMESTAMP;
+    }
+
+    private static String action(AuditLogQueryDTO query) {
+        return query.getAction() != null ? query.getAction().name() : null;
+    }
+
+    @FunctionalInterface
+    private interface PageQuery<E> {
+        Flux<E> fetch(AuditCursor after, int size);
+    }
+}
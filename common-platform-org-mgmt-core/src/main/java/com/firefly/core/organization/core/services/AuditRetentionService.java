@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for maintaining the monthly partitions of the bank and branch audit logs.
+ */
+public interface AuditRetentionService {
+    /**
+     * Creates the partitions of the current month and the configured number of months ahead, where missing.
+     *
+     * @return a Mono emitting the number of partitions created across both audit logs
+     */
+    Mono<Integer> createPartitions();
+
+    /**
+     * Drops, or detaches, the partitions holding only entries older than the retention period.
+     * Whole partitions are removed at once, so expired entries are never deleted row by row. When archiving
+     * is enabled the expiring months are archived first, and nothing is removed if archiving fails.
+     *
+     * @return a Mono emitting the number of partitions removed across both audit logs
+     */
+    Mono<Integer> applyRetention();
+}
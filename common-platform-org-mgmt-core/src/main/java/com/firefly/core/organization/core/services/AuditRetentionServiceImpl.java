@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.models.repositories.BankAuditLogRepository;
+import com.firefly.core.organization.models.repositories.BranchAuditLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+public class AuditRetentionServiceImpl implements AuditRetentionService {
+
+    @Autowired
+    private BankAuditLogRepository bankAuditLogRepository;
+
+    @Autowired
+    private BranchAuditLogRepository branchAuditLogRepository;
+
+    @Autowired
+    private AuditArchiveService auditArchiveService;
+
+    @Value("${organization.audit.retention.months:24}")
+    private int retentionMonths;
+
+    @Value("${organization.audit.retention.detach-only:false}")
+    private boolean detachOnly;
+
+    @Value("${organization.audit.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintainInBackground();
+    }
+
+    @Scheduled(cron = "${organization.audit.retention.cron:0 45 2 * * *}")
+    public void maintainInBackground() {
+        createPartitions()
+                .zipWith(applyRetention())
+                .subscribe(
+                        counts -> log.info("Created {} and removed {} audit log partitions", counts.getT1(), counts.getT2()),
+                        error -> log.error("Failed to maintain audit log partitions", error));
+    }
+
+    @Override
+    public Mono<Integer> createPartitions() {
+        LocalDate from = LocalDate.now().withDayOfMonth(1);
+        LocalDate to = from.plusMonths(monthsAhead);
+        return bankAuditLogRepository.createPartitions(from, to)
+                .zipWith(branchAuditLogRepository.createPartitions(from, to), Integer::sum);
+    }
+
+    @Override
+    public Mono<Integer> applyRetention() {
+        if (retentionMonths <= 0) {
+            return Mono.just(0);
+        }
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+        return auditArchiveService.archiveBefore(cutoff)
+                .then(Mono.defer(() -> bankAuditLogRepository.dropPartitionsBefore(cutoff, detachOnly)
+                        .zipWith(branchAuditLogRepository.dropPartitionsBefore(cutoff, detachOnly), Integer::sum)));
+    }
+}
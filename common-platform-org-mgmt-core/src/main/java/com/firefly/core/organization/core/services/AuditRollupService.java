@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.AuditDailyCountDTO;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Service interface for maintaining and querying the daily counts of the bank and branch audit logs.
+ */
+public interface AuditRollupService {
+    /**
+     * Adds the audit log entries recorded since the last roll-up to the daily counts. Entries younger
+     * than the configured lag are left for the next roll-up, so that entries still queued for writing
+     * are not skipped. Entries written later at or before the last roll-up, and updates and deletions
+     * of entries already counted, are applied to the counts by the audit log's triggers as they are
+     * written.
+     *
+     * @return a Mono emitting the number of daily counts inserted or updated across both audit logs
+     */
+    Mono<Integer> rollUp();
+
+    /**
+     * Retrieves the daily audit counts of a bank.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param from the first day, inclusive
+     * @param to the last day, inclusive
+     * @param entity the entity name, or null for any
+     * @param action the audit action, or null for any
+     * @return a Flux emitting the counts ordered by day, entity and action
+     */
+    Flux<AuditDailyCountDTO> getBankDailyCounts(UUID bankId, LocalDate from, LocalDate to, String entity, AuditAction action);
+
+    /**
+     * Retrieves the daily audit counts of a branch.
+     *
+     * @param branchId the unique identifier of the branch
+     * @param from the first day, inclusive
+     * @param to the last day, inclusive
+     * @param entity the entity name, or null for any
+     * @param action the audit action, or null for any
+     * @return a Flux emitting the counts ordered by day, entity and action
+     */
+    Flux<AuditDailyCountDTO> getBranchDailyCounts(UUID branchId, LocalDate from, LocalDate to, String entity, AuditAction action);
+}
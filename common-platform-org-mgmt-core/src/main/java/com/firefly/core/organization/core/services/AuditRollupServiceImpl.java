@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.mappers.AuditDailyCountMapper;
+import com.firefly.core.organization.interfaces.dtos.AuditDailyCountDTO;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.repositories.BankAuditDailyCountRepository;
+import com.firefly.core.organization.models.repositories.BranchAuditDailyCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class AuditRollupServiceImpl implements AuditRollupService {
+
+    @Autowired
+    private BankAuditDailyCountRepository bankAuditDailyCountRepository;
+
+    @Autowired
+    private BranchAuditDailyCountRepository branchAuditDailyCountRepository;
+
+    @Autowired
+    private AuditDailyCountMapper mapper;
+
+    @Value("${organization.audit.rollups.lag:5m}")
+    private Duration lag;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rollUpOnStartup() {
+        rollUpInBackground();
+    }
+
+    @Scheduled(cron = "${organization.audit.rollups.cron:0 * * * * *}")
+    public void rollUpInBackground() {
+        rollUp().subscribe(
+                updated -> log.debug("Updated {} daily audit counts", updated),
+                error -> log.error("Failed to roll up the audit logs", error));
+    }
+
+    @Override
+    public Mono<Integer> rollUp() {
+        LocalDateTime upTo = LocalDateTime.now().minus(lag);
+        return bankAuditDailyCountRepository.rollUp(upTo)
+                .zipWith(branchAuditDailyCountRepository.rollUp(upTo), Integer::sum);
+    }
+
+    @Override
+    public Flux<AuditDailyCountDTO> getBankDailyCounts(UUID bankId, LocalDate from, LocalDate to, String entity, AuditAction action) {
+        return validate(from, to)
+                .thenMany(bankAuditDailyCountRepository.findCounts(bankId, from, to, entity, name(action)))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<AuditDailyCountDTO> getBranchDailyCounts(UUID branchId, LocalDate from, LocalDate to, String entity, AuditAction action) {
+        return validate(from, to)
+                .thenMany(branchAuditDailyCountRepository.findCounts(branchId, from, to, entity, name(action)))
+                .map(mapper::toDTO);
+    }
+
+    private static Mono<Void> validate(LocalDate from, LocalDate to) {
+        return from.isAfter(to)
+                ? Mono.error(new IllegalArgumentException("Start of the date range must not be after its end"))
+                : Mono.empty();
+    }
+
+    private static String name(AuditAction action) {
+        return action != null ? action.name() : null;
+    }
+}
@@ -18,13 +18,15 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditLogWriter;
+import com.firefly.core.organization.core.filters.CachedFilter;
 import com.firefly.core.organization.core.mappers.BankAuditLogMapper;
 import com.firefly.core.organization.interfaces.dtos.BankAuditLogDTO;
 import com.firefly.core.organization.models.entities.BankAuditLog;
 import com.firefly.core.organization.models.repositories.BankAuditLogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -40,18 +42,27 @@ public class BankAuditLogServiceImpl implements BankAuditLogService {
     @Autowired
     private BankAuditLogMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<BankAuditLog, BankAuditLogDTO> filter = new CachedFilter<>(BankAuditLog.class, BankAuditLogDTO.class, () -> entityTemplate, bankAuditLog -> mapper.toDTO(bankAuditLog));
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
     @Override
     public Mono<PaginationResponse<BankAuditLogDTO>> filterBankAuditLogs(FilterRequest<BankAuditLogDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        BankAuditLog.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filter.filter(filterRequest);
     }
 
     @Override
     public Mono<BankAuditLogDTO> createBankAuditLog(BankAuditLogDTO bankAuditLogDTO) {
+        if (auditLogWriter.isEnabled()) {
+            return Mono.just(bankAuditLogDTO)
+                    .map(mapper::toEntity)
+                    .flatMap(auditLogWriter::submit)
+                    .map(mapper::toDTO);
+        }
         return Mono.just(bankAuditLogDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
@@ -18,13 +18,19 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
 import com.firefly.core.organization.core.mappers.BankDivisionMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.BankDivisionDTO;
 import com.firefly.core.organization.models.entities.BankDivision;
 import com.firefly.core.organization.models.repositories.BankDivisionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -40,17 +46,26 @@ public class BankDivisionServiceImpl implements BankDivisionService {
     @Autowired
     private BankDivisionMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<BankDivision, BankDivisionDTO> filter = new CachedFilter<>(BankDivision.class, BankDivisionDTO.class, () -> entityTemplate, bankDivision -> mapper.toDTO(bankDivision));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
     @Autowired
     private BankService bankService;
 
     @Override
     public Mono<PaginationResponse<BankDivisionDTO>> filterBankDivisions(FilterRequest<BankDivisionDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        BankDivision.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filterResultCache.get(BankDivision.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -58,6 +73,9 @@ public class BankDivisionServiceImpl implements BankDivisionService {
         return Mono.just(bankDivisionDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(bankDivision -> changeOutbox.created(AuditedEntities.BANK_DIVISION, bankDivision).thenReturn(bankDivision))
+                .flatMap(bankDivision -> AfterCommit.run(() -> filterResultCache.invalidate(BankDivision.class)).thenReturn(bankDivision))
+                .flatMap(bankDivision -> auditRecorder.created(AuditedEntities.BANK_DIVISION, bankDivision).thenReturn(bankDivision))
                 .map(mapper::toDTO);
     }
 
@@ -68,7 +86,10 @@ public class BankDivisionServiceImpl implements BankDivisionService {
                 .flatMap(existingBankDivision -> {
                     BankDivision updatedBankDivision = mapper.toEntity(bankDivisionDTO);
                     updatedBankDivision.setId(bankDivisionId);
-                    return repository.save(updatedBankDivision);
+                    return repository.save(updatedBankDivision)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.BANK_DIVISION, existingBankDivision, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(BankDivision.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.BANK_DIVISION, existingBankDivision, saved).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -77,7 +98,10 @@ public class BankDivisionServiceImpl implements BankDivisionService {
     public Mono<Void> deleteBankDivision(UUID bankDivisionId) {
         return repository.findById(bankDivisionId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Bank division not found with ID: " + bankDivisionId)))
-                .flatMap(bankDivision -> repository.deleteById(bankDivisionId));
+                .flatMap(bankDivision -> repository.deleteById(bankDivisionId)
+                        .then(changeOutbox.deleted(AuditedEntities.BANK_DIVISION, bankDivision))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(BankDivision.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.BANK_DIVISION, bankDivision)));
     }
 
     @Override
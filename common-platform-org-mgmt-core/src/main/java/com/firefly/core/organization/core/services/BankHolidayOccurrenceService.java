@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.BankHolidayOccurrenceDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Service interface for maintaining and querying the materialized bank holiday occurrences.
+ */
+public interface BankHolidayOccurrenceService {
+    /**
+     * Re-expands the occurrences of a single holiday within the rolling window.
+     *
+     * @param holidayId the unique identifier of the holiday whose occurrences should be refreshed
+     * @return a Mono that completes when the occurrences have been rewritten
+     */
+    Mono<Void> refreshOccurrences(UUID holidayId);
+
+    /**
+     * Rolls the occurrence window forward: drops occurrences outside the window and expands every holiday into it.
+     *
+     * @return a Mono emitting the number of occurrences inserted
+     */
+    Mono<Integer> expandAll();
+
+    /**
+     * Retrieves the holiday occurrences of a bank within a date range, ordered by date.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return a Flux emitting the occurrences within the range
+     */
+    Flux<BankHolidayOccurrenceDTO> getBankOccurrences(UUID bankId, LocalDate from, LocalDate to);
+
+    /**
+     * Retrieves the holiday overrides of a branch within a date range, ordered by date.
+     *
+     * @param branchId the unique identifier of the branch
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return a Flux emitting the occurrences within the range
+     */
+    Flux<BankHolidayOccurrenceDTO> getBranchOccurrences(UUID branchId, LocalDate from, LocalDate to);
+}
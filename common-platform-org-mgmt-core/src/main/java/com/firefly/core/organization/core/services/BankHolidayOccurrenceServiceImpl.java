@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.mappers.BankHolidayOccurrenceMapper;
+import com.firefly.core.organization.interfaces.dtos.BankHolidayOccurrenceDTO;
+import com.firefly.core.organization.models.repositories.BankHolidayOccurrenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@Transactional
+public class BankHolidayOccurrenceServiceImpl implements BankHolidayOccurrenceService {
+
+    @Autowired
+    private BankHolidayOccurrenceRepository repository;
+
+    @Autowired
+    private BankHolidayOccurrenceMapper mapper;
+
+    @Value("${organization.holidays.occurrences.years-back:1}")
+    private int yearsBack;
+
+    @Value("${organization.holidays.occurrences.years-ahead:5}")
+    private int yearsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void expandOnStartup() {
+        expandInBackground();
+    }
+
+    @Scheduled(cron = "${organization.holidays.occurrences.cron:0 15 2 * * *}")
+    public void expandInBackground() {
+        expandAll().subscribe(
+                inserted -> log.info("Expanded {} bank holiday occurrences", inserted),
+                error -> log.error("Failed to expand bank holiday occurrences", error));
+    }
+
+    @Override
+    public Mono<Void> refreshOccurrences(UUID holidayId) {
+        return repository.deleteByHolidayId(holidayId)
+                .then(repository.expandHoliday(holidayId, firstYear(), lastYear()))
+                .then();
+    }
+
+    @Override
+    public Mono<Integer> expandAll() {
+        return repository.deleteOutsideWindow(LocalDate.of(firstYear(), 1, 1), LocalDate.of(lastYear(), 12, 31))
+                .then(repository.expandAll(firstYear(), lastYear()));
+    }
+
+    @Override
+    public Flux<BankHolidayOccurrenceDTO> getBankOccurrences(UUID bankId, LocalDate from, LocalDate to) {
+        return repository.findByBankIdAndDateBetweenOrderByDate(bankId, from, to)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<BankHolidayOccurrenceDTO> getBranchOccurrences(UUID branchId, LocalDate from, LocalDate to) {
+        return repository.findByBranchIdAndDateBetweenOrderByDate(branchId, from, to)
+                .map(mapper::toDTO);
+    }
+
+    private int firstYear() {
+        return Year.now().getValue() - yearsBack;
+    }
+
+    private int lastYear() {
+        return Year.now().getValue() + yearsAhead;
+    }
+}
@@ -18,16 +18,25 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
+import com.firefly.core.organization.core.indexes.HolidayIndex;
 import com.firefly.core.organization.core.mappers.BankHolidayMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.BankHolidayDTO;
 import com.firefly.core.organization.models.entities.BankHoliday;
 import com.firefly.core.organization.models.repositories.BankHolidayRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -40,14 +49,35 @@ public class BankHolidayServiceImpl implements BankHolidayService {
     @Autowired
     private BankHolidayMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<BankHoliday, BankHolidayDTO> filter = new CachedFilter<>(BankHoliday.class, BankHolidayDTO.class, () -> entityTemplate, bankHoliday -> mapper.toDTO(bankHoliday));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private CalendarResolutionCache resolutionCache;
+
+    @Autowired
+    private HolidayIndex holidayIndex;
+
+    @Autowired
+    private BankHolidayOccurrenceService occurrenceService;
+
+    @Autowired
+    private BranchStatusService statusService;
+
     @Override
     public Mono<PaginationResponse<BankHolidayDTO>> filterBankHolidays(FilterRequest<BankHolidayDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        BankHoliday.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filterResultCache.get(BankHoliday.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -55,6 +85,15 @@ public class BankHolidayServiceImpl implements BankHolidayService {
         return Mono.just(bankHolidayDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(bankHoliday -> changeOutbox.created(AuditedEntities.BANK_HOLIDAY, bankHoliday).thenReturn(bankHoliday))
+                .flatMap(bankHoliday -> AfterCommit.run(() -> filterResultCache.invalidate(BankHoliday.class)).thenReturn(bankHoliday))
+                .flatMap(bankHoliday -> auditRecorder.created(AuditedEntities.BANK_HOLIDAY, bankHoliday).thenReturn(bankHoliday))
+                .flatMap(bankHoliday -> occurrenceService.refreshOccurrences(bankHoliday.getId()).thenReturn(bankHoliday))
+                .flatMap(bankHoliday -> AfterCommit.run(() -> {
+                    holidayIndex.putHoliday(bankHoliday);
+                    resolutionCache.invalidateHoliday(bankHoliday);
+                    statusService.refreshBank(bankHoliday.getBankId());
+                }).thenReturn(bankHoliday))
                 .map(mapper::toDTO);
     }
 
@@ -65,7 +104,20 @@ public class BankHolidayServiceImpl implements BankHolidayService {
                 .flatMap(existingBankHoliday -> {
                     BankHoliday updatedBankHoliday = mapper.toEntity(bankHolidayDTO);
                     updatedBankHoliday.setId(bankHolidayId);
-                    return repository.save(updatedBankHoliday);
+                    return repository.save(updatedBankHoliday)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.BANK_HOLIDAY, existingBankHoliday, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(BankHoliday.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.BANK_HOLIDAY, existingBankHoliday, saved).thenReturn(saved))
+                            .flatMap(saved -> occurrenceService.refreshOccurrences(saved.getId()).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> {
+                                holidayIndex.putHoliday(saved);
+                                resolutionCache.invalidateHoliday(existingBankHoliday);
+                                resolutionCache.invalidateHoliday(saved);
+                                statusService.refreshBank(saved.getBankId());
+                                if (!Objects.equals(existingBankHoliday.getBankId(), saved.getBankId())) {
+                                    statusService.refreshBank(existingBankHoliday.getBankId());
+                                }
+                            }).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -74,7 +126,15 @@ public class BankHolidayServiceImpl implements BankHolidayService {
     public Mono<Void> deleteBankHoliday(UUID bankHolidayId) {
         return repository.findById(bankHolidayId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Bank holiday not found with ID: " + bankHolidayId)))
-                .flatMap(bankHoliday -> repository.deleteById(bankHolidayId));
+                .flatMap(bankHoliday -> repository.deleteById(bankHolidayId)
+                        .then(changeOutbox.deleted(AuditedEntities.BANK_HOLIDAY, bankHoliday))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(BankHoliday.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.BANK_HOLIDAY, bankHoliday))
+                        .then(AfterCommit.run(() -> {
+                            holidayIndex.removeHoliday(bankHolidayId);
+                            resolutionCache.invalidateHoliday(bankHoliday);
+                            statusService.refreshBank(bankHoliday.getBankId());
+                        })));
     }
 
     @Override
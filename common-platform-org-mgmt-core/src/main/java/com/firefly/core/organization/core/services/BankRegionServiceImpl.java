@@ -18,13 +18,19 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
 import com.firefly.core.organization.core.mappers.BankRegionMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.BankRegionDTO;
 import com.firefly.core.organization.models.entities.BankRegion;
 import com.firefly.core.organization.models.repositories.BankRegionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -40,17 +46,26 @@ public class BankRegionServiceImpl implements BankRegionService {
     @Autowired
     private BankRegionMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<BankRegion, BankRegionDTO> filter = new CachedFilter<>(BankRegion.class, BankRegionDTO.class, () -> entityTemplate, bankRegion -> mapper.toDTO(bankRegion));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
     @Autowired
     private BankDivisionService bankDivisionService;
 
     @Override
     public Mono<PaginationResponse<BankRegionDTO>> filterBankRegions(FilterRequest<BankRegionDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        BankRegion.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filterResultCache.get(BankRegion.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -66,6 +81,9 @@ public class BankRegionServiceImpl implements BankRegionService {
         return Mono.just(bankRegionDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(bankRegion -> changeOutbox.created(AuditedEntities.BANK_REGION, bankRegion).thenReturn(bankRegion))
+                .flatMap(bankRegion -> AfterCommit.run(() -> filterResultCache.invalidate(BankRegion.class)).thenReturn(bankRegion))
+                .flatMap(bankRegion -> auditRecorder.created(AuditedEntities.BANK_REGION, bankRegion).thenReturn(bankRegion))
                 .map(mapper::toDTO);
     }
 
@@ -87,7 +105,10 @@ public class BankRegionServiceImpl implements BankRegionService {
                 .flatMap(existingBankRegion -> {
                     BankRegion updatedBankRegion = mapper.toEntity(bankRegionDTO);
                     updatedBankRegion.setId(bankRegionId);
-                    return repository.save(updatedBankRegion);
+                    return repository.save(updatedBankRegion)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.BANK_REGION, existingBankRegion, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(BankRegion.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.BANK_REGION, existingBankRegion, saved).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -110,7 +131,10 @@ public class BankRegionServiceImpl implements BankRegionService {
     public Mono<Void> deleteBankRegion(UUID bankRegionId) {
         return repository.findById(bankRegionId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Bank region not found with ID: " + bankRegionId)))
-                .flatMap(bankRegion -> repository.deleteById(bankRegionId));
+                .flatMap(bankRegion -> repository.deleteById(bankRegionId)
+                        .then(changeOutbox.deleted(AuditedEntities.BANK_REGION, bankRegion))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(BankRegion.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.BANK_REGION, bankRegion)));
     }
 
     @Override
@@ -18,13 +18,19 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
 import com.firefly.core.organization.core.mappers.BankMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.BankDTO;
 import com.firefly.core.organization.models.entities.Bank;
 import com.firefly.core.organization.models.repositories.BankRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -40,14 +46,23 @@ public class BankServiceImpl implements BankService {
     @Autowired
     private BankMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<Bank, BankDTO> filter = new CachedFilter<>(Bank.class, BankDTO.class, () -> entityTemplate, bank -> mapper.toDTO(bank));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
     @Override
     public Mono<PaginationResponse<BankDTO>> filterBanks(FilterRequest<BankDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        Bank.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filterResultCache.get(Bank.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -55,6 +70,9 @@ public class BankServiceImpl implements BankService {
         return Mono.just(bankDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(bank -> changeOutbox.created(AuditedEntities.BANK, bank).thenReturn(bank))
+                .flatMap(bank -> AfterCommit.run(() -> filterResultCache.invalidate(Bank.class)).thenReturn(bank))
+                .flatMap(bank -> auditRecorder.created(AuditedEntities.BANK, bank).thenReturn(bank))
                 .map(mapper::toDTO);
     }
 
@@ -65,7 +83,10 @@ public class BankServiceImpl implements BankService {
                 .flatMap(existingBank -> {
                     Bank updatedBank = mapper.toEntity(bankDTO);
                     updatedBank.setId(bankId);
-                    return repository.save(updatedBank);
+                    return repository.save(updatedBank)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.BANK, existingBank, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(Bank.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.BANK, existingBank, saved).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -74,7 +95,10 @@ public class BankServiceImpl implements BankService {
     public Mono<Void> deleteBank(UUID bankId) {
         return repository.findById(bankId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Bank not found with ID: " + bankId)))
-                .flatMap(bank -> repository.deleteById(bankId));
+                .flatMap(bank -> repository.deleteById(bankId)
+                        .then(changeOutbox.deleted(AuditedEntities.BANK, bank))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(Bank.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.BANK, bank)));
     }
 
     @Override
@@ -18,13 +18,15 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditLogWriter;
+import com.firefly.core.organization.core.filters.CachedFilter;
 import com.firefly.core.organization.core.mappers.BranchAuditLogMapper;
 import com.firefly.core.organization.interfaces.dtos.BranchAuditLogDTO;
 import com.firefly.core.organization.models.entities.BranchAuditLog;
 import com.firefly.core.organization.models.repositories.BranchAuditLogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -40,18 +42,27 @@ public class BranchAuditLogServiceImpl implements BranchAuditLogService {
     @Autowired
     private BranchAuditLogMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<BranchAuditLog, BranchAuditLogDTO> filter = new CachedFilter<>(BranchAuditLog.class, BranchAuditLogDTO.class, () -> entityTemplate, branchAuditLog -> mapper.toDTO(branchAuditLog));
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
     @Override
     public Mono<PaginationResponse<BranchAuditLogDTO>> filterBranchAuditLogs(FilterRequest<BranchAuditLogDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        BranchAuditLog.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filter.filter(filterRequest);
     }
 
     @Override
     public Mono<BranchAuditLogDTO> createBranchAuditLog(BranchAuditLogDTO branchAuditLogDTO) {
+        if (auditLogWriter.isEnabled()) {
+            return Mono.just(branchAuditLogDTO)
+                    .map(mapper::toEntity)
+                    .flatMap(auditLogWriter::submit)
+                    .map(mapper::toDTO);
+        }
         return Mono.just(branchAuditLogDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
@@ -18,39 +18,69 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
 import com.firefly.core.organization.core.mappers.BranchDepartmentMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.BranchDepartmentDTO;
+import com.firefly.core.organization.models.entities.BankRegion;
+import com.firefly.core.organization.models.entities.Branch;
 import com.firefly.core.organization.models.entities.BranchDepartment;
+import com.firefly.core.organization.models.entities.BranchDepartmentHierarchy;
 import com.firefly.core.organization.models.repositories.BranchDepartmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class BranchDepartmentServiceImpl implements BranchDepartmentService {
 
+    private static final List<Class<?>> HIERARCHY_TABLES = List.of(BranchDepartment.class, Branch.class, BankRegion.class);
+
     @Autowired
     private BranchDepartmentRepository repository;
 
     @Autowired
     private BranchDepartmentMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<BranchDepartment, BranchDepartmentDTO> filter = new CachedFilter<>(BranchDepartment.class, BranchDepartmentDTO.class, () -> entityTemplate, branchDepartment -> mapper.toDTO(branchDepartment));
+
+    private final CachedFilter<BranchDepartmentHierarchy, BranchDepartmentDTO> hierarchyFilter = new CachedFilter<>(BranchDepartmentHierarchy.class, BranchDepartmentDTO.class, () -> entityTemplate, branchDepartment -> mapper.toDTO(branchDepartment));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private CalendarResolutionCache resolutionCache;
+
     @Autowired
     private BranchService branchService;
 
     @Override
     public Mono<PaginationResponse<BranchDepartmentDTO>> filterBranchDepartments(FilterRequest<BranchDepartmentDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        BranchDepartment.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        if (byAncestor(filterRequest.getFilters())) {
+            return filterResultCache.get(BranchDepartmentHierarchy.class, HIERARCHY_TABLES, filterRequest, hierarchyFilter::filter);
+        }
+        return filterResultCache.get(BranchDepartment.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -65,6 +95,9 @@ public class BranchDepartmentServiceImpl implements BranchDepartmentService {
         return Mono.just(branchDepartmentDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(branchDepartment -> changeOutbox.created(AuditedEntities.BRANCH_DEPARTMENT, branchDepartment).thenReturn(branchDepartment))
+                .flatMap(branchDepartment -> AfterCommit.run(() -> filterResultCache.invalidate(BranchDepartment.class)).thenReturn(branchDepartment))
+                .flatMap(branchDepartment -> auditRecorder.created(AuditedEntities.BRANCH_DEPARTMENT, branchDepartment).thenReturn(branchDepartment))
                 .map(mapper::toDTO);
     }
 
@@ -85,7 +118,11 @@ public class BranchDepartmentServiceImpl implements BranchDepartmentService {
                 .flatMap(existingBranchDepartment -> {
                     BranchDepartment updatedBranchDepartment = mapper.toEntity(branchDepartmentDTO);
                     updatedBranchDepartment.setId(branchDepartmentId);
-                    return repository.save(updatedBranchDepartment);
+                    return repository.save(updatedBranchDepartment)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.BRANCH_DEPARTMENT, existingBranchDepartment, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(BranchDepartment.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.BRANCH_DEPARTMENT, existingBranchDepartment, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> resolutionCache.invalidateDepartment(saved.getId())).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -107,7 +144,11 @@ public class BranchDepartmentServiceImpl implements BranchDepartmentService {
     public Mono<Void> deleteBranchDepartment(UUID branchDepartmentId) {
         return repository.findById(branchDepartmentId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Branch department not found with ID: " + branchDepartmentId)))
-                .flatMap(branchDepartment -> repository.deleteById(branchDepartmentId));
+                .flatMap(branchDepartment -> repository.deleteById(branchDepartmentId)
+                        .then(changeOutbox.deleted(AuditedEntities.BRANCH_DEPARTMENT, branchDepartment))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(BranchDepartment.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.BRANCH_DEPARTMENT, branchDepartment))
+                        .then(AfterCommit.run(() -> resolutionCache.invalidateDepartment(branchDepartmentId))));
     }
 
     @Override
@@ -135,4 +176,14 @@ public class BranchDepartmentServiceImpl implements BranchDepartmentService {
                 .filter(department -> department.getBranchId().equals(branchId))
                 .switchIfEmpty(Mono.error(new RuntimeException("Department not found for branch with ID: " + branchId)));
     }
+
+    /**
+     * Returns whether a filter selects by an ancestor of the department: its bank, region or division.
+     * These are not columns of branch_department, so such filters run on its hierarchy view.
+     */
+    private static boolean byAncestor(BranchDepartmentDTO filters) {
+        return filters != null && (filters.getBankId() != null
+                || filters.getRegionId() != null
+                || filters.getDivisionId() != null);
+    }
 }
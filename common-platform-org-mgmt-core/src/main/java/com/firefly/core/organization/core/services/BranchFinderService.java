@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.NearbyBranchDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Service interface for finding branches by location from the in-memory spatial index.
+ */
+public interface BranchFinderService {
+    /**
+     * Finds the branches closest to a point.
+     *
+     * @param latitude the latitude of the point
+     * @param longitude the longitude of the point
+     * @param limit the maximum number of branches to return
+     * @param bankId optional bank to restrict the search to
+     * @param isActive optional status to restrict the search to
+     * @return a Flux emitting the closest branches, nearest first
+     */
+    Flux<NearbyBranchDTO> findNearest(double latitude, double longitude, int limit, UUID bankId, Boolean isActive);
+
+    /**
+     * Finds the branches within a distance of a point.
+     *
+     * @param latitude the latitude of the point
+     * @param longitude the longitude of the point
+     * @param radiusKm the search radius in kilometres
+     * @param bankId optional bank to restrict the search to
+     * @param isActive optional status to restrict the search to
+     * @return a Flux emitting the matching branches, nearest first
+     */
+    Flux<NearbyBranchDTO> findWithinRadius(double latitude, double longitude, double radiusKm, UUID bankId, Boolean isActive);
+
+    /**
+     * Finds the branches inside a bounding box. A box whose minimum longitude is greater than its maximum
+     * longitude crosses the antimeridian.
+     *
+     * @param minLatitude the southern edge of the box
+     * @param minLongitude the western edge of the box
+     * @param maxLatitude the northern edge of the box
+     * @param maxLongitude the eastern edge of the box
+     * @param bankId optional bank to restrict the search to
+     * @param isActive optional status to restrict the search to
+     * @return a Flux emitting the matching branches, closest to the centre of the box first
+     */
+    Flux<NearbyBranchDTO> findWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                        UUID bankId, Boolean isActive);
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.BranchGeoIndex;
+import com.firefly.core.organization.core.indexes.IndexLoader;
+import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.interfaces.dtos.NearbyBranchDTO;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Service
+public class BranchFinderServiceImpl implements BranchFinderService {
+
+    private static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private BranchGeoIndex geoIndex;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private BranchMapper mapper;
+
+    private final Mono<Void> indexLoaded = IndexLoader.once(this::loadIndex);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        indexLoaded.subscribe();
+    }
+
+    @Override
+    public Flux<NearbyBranchDTO> findNearest(double latitude, double longitude, int limit, UUID bankId, Boolean isActive) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return Flux.error(new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit));
+        }
+        return search(() -> geoIndex.nearest(latitude, longitude, limit, bankId, isActive), latitude, longitude);
+    }
+
+    @Override
+    public Flux<NearbyBranchDTO> findWithinRadius(double latitude, double longitude, double radiusKm, UUID bankId, Boolean isActive) {
+        if (!(radiusKm > 0)) {
+            return Flux.error(new IllegalArgumentException("Radius must be positive: " + radiusKm));
+        }
+        return search(() -> geoIndex.withinRadius(latitude, longitude, radiusKm, bankId, isActive), latitude, longitude);
+    }
+
+    @Override
+    public Flux<NearbyBranchDTO> findWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                               UUID bankId, Boolean isActive) {
+        if (minLatitude > maxLatitude) {
+            return Flux.error(new IllegalArgumentException("Minimum latitude must not be greater than maximum latitude: "
+                    + minLatitude + " > " + maxLatitude));
+        }
+        return search(() -> geoIndex.withinBox(minLatitude, minLongitude, maxLatitude, maxLongitude, bankId, isActive),
+                minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    private Flux<NearbyBranchDTO> search(Supplier<List<BranchGeoIndex.Hit>> query, double... coordinates) {
+        for (int i = 0; i < coordinates.length; i += 2) {
+            if (!(Math.abs(coordinates[i]) <= 90) || !(Math.abs(coordinates[i + 1]) <= 180)) {
+                return Flux.error(new IllegalArgumentException("Invalid coordinates: " + coordinates[i] + ", " + coordinates[i + 1]));
+            }
+        }
+        return indexLoaded
+                .thenMany(Flux.defer(() -> Flux.fromIterable(query.get())))
+                .map(hit -> NearbyBranchDTO.builder()
+                        .branch(mapper.toDTO(hit.branch()))
+                        .distanceKm(hit.distanceKm())
+                        .build());
+    }
+
+    private Mono<Void> loadIndex() {
+        geoIndex.beginLoad();
+        return branchRepository.findAll().collectList()
+                .doOnNext(geoIndex::reset)
+                .doOnError(error -> geoIndex.abortLoad())
+                .then();
+    }
+}
@@ -18,13 +18,21 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
 import com.firefly.core.organization.core.mappers.BranchHoursMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.BranchHoursDTO;
 import com.firefly.core.organization.models.entities.BranchHours;
 import com.firefly.core.organization.models.repositories.BranchHoursRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -40,17 +48,35 @@ public class BranchHoursServiceImpl implements BranchHoursService {
     @Autowired
     private BranchHoursMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<BranchHours, BranchHoursDTO> filter = new CachedFilter<>(BranchHours.class, BranchHoursDTO.class, () -> entityTemplate, branchHours -> mapper.toDTO(branchHours));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
     @Autowired
     private BranchService branchService;
 
+    @Autowired
+    private BranchScheduleIndex scheduleIndex;
+
+    @Autowired
+    private BranchStatusService statusService;
+
+    @Autowired
+    private CalendarResolutionCache resolutionCache;
+
     @Override
     public Mono<PaginationResponse<BranchHoursDTO>> filterBranchHours(FilterRequest<BranchHoursDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        BranchHours.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filterResultCache.get(BranchHours.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -65,6 +91,10 @@ public class BranchHoursServiceImpl implements BranchHoursService {
         return Mono.just(branchHoursDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(branchHours -> changeOutbox.created(AuditedEntities.BRANCH_HOURS, branchHours).thenReturn(branchHours))
+                .flatMap(branchHours -> AfterCommit.run(() -> filterResultCache.invalidate(BranchHours.class)).thenReturn(branchHours))
+                .flatMap(branchHours -> auditRecorder.created(AuditedEntities.BRANCH_HOURS, branchHours).thenReturn(branchHours))
+                .flatMap(branchHours -> AfterCommit.run(() -> putInIndex(branchHours)).thenReturn(branchHours))
                 .map(mapper::toDTO);
     }
 
@@ -85,8 +115,13 @@ public class BranchHoursServiceImpl implements BranchHoursService {
                 .flatMap(existingBranchHours -> {
                     BranchHours updatedBranchHours = mapper.toEntity(branchHoursDTO);
                     updatedBranchHours.setId(branchHoursId);
-                    return repository.save(updatedBranchHours);
+                    return repository.save(updatedBranchHours)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.BRANCH_HOURS, existingBranchHours, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(BranchHours.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.BRANCH_HOURS, existingBranchHours, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> resolutionCache.invalidateBranch(existingBranchHours.getBranchId())).thenReturn(saved));
                 })
+                .flatMap(branchHours -> AfterCommit.run(() -> putInIndex(branchHours)).thenReturn(branchHours))
                 .map(mapper::toDTO);
     }
 
@@ -107,7 +142,15 @@ public class BranchHoursServiceImpl implements BranchHoursService {
     public Mono<Void> deleteBranchHours(UUID branchHoursId) {
         return repository.findById(branchHoursId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Branch hours not found with ID: " + branchHoursId)))
-                .flatMap(branchHours -> repository.deleteById(branchHoursId));
+                .flatMap(branchHours -> repository.deleteById(branchHoursId)
+                        .then(changeOutbox.deleted(AuditedEntities.BRANCH_HOURS, branchHours))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(BranchHours.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.BRANCH_HOURS, branchHours))
+                        .then(AfterCommit.run(() -> {
+                            scheduleIndex.removeHours(branchHoursId);
+                            statusService.refreshBranch(branchHours.getBranchId());
+                            resolutionCache.invalidateBranch(branchHours.getBranchId());
+                        })));
     }
 
     @Override
@@ -135,4 +178,10 @@ public class BranchHoursServiceImpl implements BranchHoursService {
                 .filter(hours -> hours.getBranchId().equals(branchId))
                 .switchIfEmpty(Mono.error(new RuntimeException("Hours not found for branch with ID: " + branchId)));
     }
+
+    private void putInIndex(BranchHours branchHours) {
+        scheduleIndex.putHours(branchHours);
+        statusService.refreshBranch(branchHours.getBranchId());
+        resolutionCache.invalidateBranch(branchHours.getBranchId());
+    }
 }
@@ -18,28 +18,61 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
 import com.firefly.core.organization.core.mappers.BranchPositionMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.BranchPositionDTO;
+import com.firefly.core.organization.models.entities.BankRegion;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchDepartment;
 import com.firefly.core.organization.models.entities.BranchPosition;
+import com.firefly.core.organization.models.entities.BranchPositionHierarchy;
 import com.firefly.core.organization.models.repositories.BranchPositionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class BranchPositionServiceImpl implements BranchPositionService {
 
+    private static final List<Class<?>> HIERARCHY_TABLES = List.of(BranchPosition.class, BranchDepartment.class, Branch.class, BankRegion.class);
+
     @Autowired
     private BranchPositionRepository repository;
 
     @Autowired
     private BranchPositionMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<BranchPosition, BranchPositionDTO> filter = new CachedFilter<>(BranchPosition.class, BranchPositionDTO.class, () -> entityTemplate, branchPosition -> mapper.toDTO(branchPosition));
+
+    private final CachedFilter<BranchPositionHierarchy, BranchPositionDTO> hierarchyFilter = new CachedFilter<>(BranchPositionHierarchy.class, BranchPositionDTO.class, () -> entityTemplate, branchPosition -> mapper.toDTO(branchPosition));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private CalendarResolutionCache resolutionCache;
+
     @Autowired
     private BranchService branchService;
 
@@ -48,12 +81,10 @@ public class BranchPositionServiceImpl implements BranchPositionService {
 
     @Override
     public Mono<PaginationResponse<BranchPositionDTO>> filterBranchPositions(FilterRequest<BranchPositionDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        BranchPosition.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        if (byAncestor(filterRequest.getFilters())) {
+            return filterResultCache.get(BranchPositionHierarchy.class, HIERARCHY_TABLES, filterRequest, hierarchyFilter::filter);
+        }
+        return filterResultCache.get(BranchPosition.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -71,6 +102,9 @@ public class BranchPositionServiceImpl implements BranchPositionService {
         return Mono.just(branchPositionDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(branchPosition -> changeOutbox.created(AuditedEntities.BRANCH_POSITION, branchPosition).thenReturn(branchPosition))
+                .flatMap(branchPosition -> AfterCommit.run(() -> filterResultCache.invalidate(BranchPosition.class)).thenReturn(branchPosition))
+                .flatMap(branchPosition -> auditRecorder.created(AuditedEntities.BRANCH_POSITION, branchPosition).thenReturn(branchPosition))
                 .map(mapper::toDTO);
     }
 
@@ -94,7 +128,11 @@ public class BranchPositionServiceImpl implements BranchPositionService {
                 .flatMap(existingBranchPosition -> {
                     BranchPosition updatedBranchPosition = mapper.toEntity(branchPositionDTO);
                     updatedBranchPosition.setId(branchPositionId);
-                    return repository.save(updatedBranchPosition);
+                    return repository.save(updatedBranchPosition)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.BRANCH_POSITION, existingBranchPosition, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(BranchPosition.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.BRANCH_POSITION, existingBranchPosition, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> resolutionCache.invalidatePosition(saved.getId())).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -119,7 +157,11 @@ public class BranchPositionServiceImpl implements BranchPositionService {
     public Mono<Void> deleteBranchPosition(UUID branchPositionId) {
         return repository.findById(branchPositionId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Branch position not found with ID: " + branchPositionId)))
-                .flatMap(branchPosition -> repository.deleteById(branchPositionId));
+                .flatMap(branchPosition -> repository.deleteById(branchPositionId)
+                        .then(changeOutbox.deleted(AuditedEntities.BRANCH_POSITION, branchPosition))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(BranchPosition.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.BRANCH_POSITION, branchPosition))
+                        .then(AfterCommit.run(() -> resolutionCache.invalidatePosition(branchPositionId))));
     }
 
     @Override
@@ -153,4 +195,15 @@ public class BranchPositionServiceImpl implements BranchPositionService {
                 .filter(position -> position.getDepartmentId().equals(departmentId))
                 .switchIfEmpty(Mono.error(new RuntimeException("Position not found for department with ID: " + departmentId)));
     }
+
+    /**
+     * Returns whether a filter selects by an ancestor of the position: its branch, bank, region or
+     * division. These are not columns of branch_position, so such filters run on its hierarchy view.
+     */
+    private static boolean byAncestor(BranchPositionDTO filters) {
+        return filters != null && (filters.getBranchId() != null
+                || filters.getBankId() != null
+                || filters.getRegionId() != null
+                || filters.getDivisionId() != null);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.enums.DayOfWeek;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Service interface for answering opening-hours questions across branches from the in-memory schedule index.
+ */
+public interface BranchScheduleService {
+    /**
+     * Finds the active branches that are open for the whole of a time window on a day of the week.
+     * The day and times are interpreted in each branch's local time.
+     *
+     * @param dayOfWeek the day of the week
+     * @param from the start of the window
+     * @param to the end of the window; at or before {@code from}, the window ends on the next day
+     * @param bankId optional bank to restrict the search to
+     * @param regionId optional region to restrict the search to
+     * @return a Flux emitting the IDs of the matching branches
+     */
+    Flux<UUID> findBranchesOpen(DayOfWeek dayOfWeek, LocalTime from, LocalTime to, UUID bankId, UUID regionId);
+
+    /**
+     * Finds the active branches that are open at an instant, applying each branch's time zone.
+     *
+     * @param instant the instant to check
+     * @param bankId optional bank to restrict the search to
+     * @param regionId optional region to restrict the search to
+     * @return a Flux emitting the IDs of the matching branches
+     */
+    Flux<UUID> findBranchesOpenAt(Instant instant, UUID bankId, UUID regionId);
+
+    /**
+     * Waits for the in-memory index to be loaded, loading it if needed.
+     *
+     * @return a Mono that completes once the index is populated
+     */
+    Mono<Void> ready();
+}
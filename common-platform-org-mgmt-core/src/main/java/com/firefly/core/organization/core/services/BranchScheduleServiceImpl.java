@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex;
+import com.firefly.core.organization.core.indexes.IndexLoader;
+import com.firefly.core.organization.interfaces.enums.DayOfWeek;
+import com.firefly.core.organization.models.repositories.BranchHoursRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Service
+public class BranchScheduleServiceImpl implements BranchScheduleService {
+
+    @Autowired
+    private BranchScheduleIndex scheduleIndex;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private BranchHoursRepository branchHoursRepository;
+
+    private final Mono<Void> indexLoaded = IndexLoader.once(this::loadIndex);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        indexLoaded.subscribe();
+    }
+
+    @Override
+    public Flux<UUID> findBranchesOpen(DayOfWeek dayOfWeek, LocalTime from, LocalTime to, UUID bankId, UUID regionId) {
+        return indexLoaded
+                .thenMany(Flux.defer(() -> Flux.fromIterable(scheduleIndex.findOpen(dayOfWeek, from, to, bankId, regionId))));
+    }
+
+    @Override
+    public Flux<UUID> findBranchesOpenAt(Instant instant, UUID bankId, UUID regionId) {
+        return indexLoaded
+                .thenMany(Flux.defer(() -> Flux.fromIterable(scheduleIndex.findOpenAt(instant, bankId, regionId))));
+    }
+
+    @Override
+    public Mono<Void> ready() {
+        return indexLoaded;
+    }
+
+    private Mono<Void> loadIndex() {
+        scheduleIndex.beginLoad();
+        return Mono.zip(branchRepository.findAll().collectList(), branchHoursRepository.findAll().collectList())
+                .doOnNext(tuple -> scheduleIndex.reset(tuple.getT1(), tuple.getT2()))
+                .doOnError(error -> scheduleIndex.abortLoad())
+                .then();
+    }
+}
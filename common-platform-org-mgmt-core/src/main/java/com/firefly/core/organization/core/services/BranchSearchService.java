@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Service interface for typeahead search over branches.
+ */
+public interface BranchSearchService {
+    /**
+     * Searches the branches of a bank by partial code, postal code, name or city.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param query the text typed so far
+     * @param limit the maximum number of branches to return
+     * @return a Flux emitting the matching branches, best match first
+     */
+    Flux<BranchDTO> searchBranches(UUID bankId, String query, int limit);
+}
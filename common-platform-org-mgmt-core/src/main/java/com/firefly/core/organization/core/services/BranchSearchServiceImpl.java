@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.BranchSearchIndex;
+import com.firefly.core.organization.core.indexes.IndexLoader;
+import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+public class BranchSearchServiceImpl implements BranchSearchService {
+
+    private static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private BranchSearchIndex searchIndex;
+
+    @Autowired
+    private BranchRepository repository;
+
+    @Autowired
+    private BranchMapper mapper;
+
+    @Value("${organization.branches.search.in-memory:true}")
+    private boolean inMemory;
+
+    private final Mono<Void> indexLoaded = IndexLoader.once(this::loadIndex);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (inMemory) {
+            indexLoaded.subscribe();
+        }
+    }
+
+    @Override
+    public Flux<BranchDTO> searchBranches(UUID bankId, String query, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return Flux.error(new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit));
+        }
+        String text = query == null ? "" : query.trim();
+        if (text.isEmpty()) {
+            return Flux.empty();
+        }
+        if (inMemory && searchIndex.isLoaded()) {
+            return Flux.defer(() -> Flux.fromIterable(searchIndex.search(bankId, text, limit)))
+                    .map(mapper::toDTO);
+        }
+        // Index disabled or still warming up: let the trigram indexes in the database answer
+        return repository.searchByText(bankId, text, "%" + escapeLike(text) + "%", limit)
+                .map(mapper::toDTO);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Mono<Void> loadIndex() {
+        searchIndex.beginLoad();
+        return repository.findAll().collectList()
+                .doOnNext(searchIndex::reset)
+                .doOnError(error -> searchIndex.abortLoad())
+                .then();
+    }
+}
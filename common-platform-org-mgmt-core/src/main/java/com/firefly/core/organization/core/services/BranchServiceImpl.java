@@ -18,39 +18,87 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.BranchGeoIndex;
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex;
+import com.firefly.core.organization.core.indexes.BranchSearchIndex;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
+import com.firefly.core.organization.core.indexes.HolidayIndex;
 import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.models.entities.BankRegion;
 import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchHierarchy;
 import com.firefly.core.organization.models.repositories.BranchRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class BranchServiceImpl implements BranchService {
 
+    private static final List<Class<?>> HIERARCHY_TABLES = List.of(Branch.class, BankRegion.class);
+
     @Autowired
     private BranchRepository repository;
 
     @Autowired
     private BranchMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<Branch, BranchDTO> filter = new CachedFilter<>(Branch.class, BranchDTO.class, () -> entityTemplate, branch -> mapper.toDTO(branch));
+
+    private final CachedFilter<BranchHierarchy, BranchDTO> hierarchyFilter = new CachedFilter<>(BranchHierarchy.class, BranchDTO.class, () -> entityTemplate, branch -> mapper.toDTO(branch));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private CalendarResolutionCache resolutionCache;
+
     @Autowired
     private BankService bankService;
 
+    @Autowired
+    private HolidayIndex holidayIndex;
+
+    @Autowired
+    private BranchScheduleIndex scheduleIndex;
+
+    @Autowired
+    private BranchGeoIndex geoIndex;
+
+    @Autowired
+    private BranchSearchIndex searchIndex;
+
+    @Autowired
+    private BranchStatusService statusService;
+
     @Override
     public Mono<PaginationResponse<BranchDTO>> filterBranches(FilterRequest<BranchDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        Branch.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        if (byAncestor(filterRequest.getFilters())) {
+            return filterResultCache.get(BranchHierarchy.class, HIERARCHY_TABLES, filterRequest, hierarchyFilter::filter);
+        }
+        return filterResultCache.get(Branch.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -65,6 +113,10 @@ public class BranchServiceImpl implements BranchService {
         return Mono.just(branchDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(branch -> changeOutbox.created(AuditedEntities.BRANCH, branch).thenReturn(branch))
+                .flatMap(branch -> AfterCommit.run(() -> filterResultCache.invalidate(Branch.class)).thenReturn(branch))
+                .flatMap(branch -> auditRecorder.created(AuditedEntities.BRANCH, branch).thenReturn(branch))
+                .flatMap(branch -> AfterCommit.run(() -> putInIndexes(branch)).thenReturn(branch))
                 .map(mapper::toDTO);
     }
 
@@ -85,8 +137,15 @@ public class BranchServiceImpl implements BranchService {
                 .flatMap(existingBranch -> {
                     Branch updatedBranch = mapper.toEntity(branchDTO);
                     updatedBranch.setId(branchId);
-                    return repository.save(updatedBranch);
+                    return repository.save(updatedBranch)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.BRANCH, existingBranch, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(Branch.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.BRANCH, existingBranch, saved).thenReturn(saved));
                 })
+                .flatMap(branch -> AfterCommit.run(() -> {
+                    putInIndexes(branch);
+                    resolutionCache.invalidateBranch(branch.getId());
+                }).thenReturn(branch))
                 .map(mapper::toDTO);
     }
 
@@ -107,7 +166,14 @@ public class BranchServiceImpl implements BranchService {
     public Mono<Void> deleteBranch(UUID branchId) {
         return repository.findById(branchId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Branch not found with ID: " + branchId)))
-                .flatMap(branch -> repository.deleteById(branchId));
+                .flatMap(branch -> repository.deleteById(branchId)
+                        .then(changeOutbox.deleted(AuditedEntities.BRANCH, branch))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(Branch.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.BRANCH, branch))
+                        .then(AfterCommit.run(() -> {
+                            removeFromIndexes(branchId);
+                            resolutionCache.invalidateBranch(branchId);
+                        })));
     }
 
     @Override
@@ -135,4 +201,28 @@ public class BranchServiceImpl implements BranchService {
                 .filter(branch -> branch.getBankId().equals(bankId))
                 .switchIfEmpty(Mono.error(new RuntimeException("Branch not found for bank with ID: " + bankId)));
     }
+
+    private void putInIndexes(Branch branch) {
+        holidayIndex.putBranch(branch);
+        scheduleIndex.putBranch(branch);
+        geoIndex.putBranch(branch);
+        searchIndex.putBranch(branch);
+        statusService.refreshBranch(branch.getId());
+    }
+
+    private void removeFromIndexes(UUID branchId) {
+        holidayIndex.removeBranch(branchId);
+        scheduleIndex.removeBranch(branchId);
+        geoIndex.removeBranch(branchId);
+        searchIndex.removeBranch(branchId);
+        statusService.refreshBranch(branchId);
+    }
+
+    /**
+     * Returns whether a filter selects by the division of the branch's region. It is not a column of
+     * branch, so such filters run on the branch_hierarchy view.
+     */
+    private static boolean byAncestor(BranchDTO filters) {
+        return filters != null && filters.getDivisionId() != null;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.BranchStatusDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Service interface for the live open/closed status board of branches.
+ */
+public interface BranchStatusService {
+    /**
+     * Returns the current status of every branch of a bank.
+     *
+     * @param bankId the unique identifier of the bank
+     * @return a Flux emitting the status of each branch
+     */
+    Flux<BranchStatusDTO> getBankStatuses(UUID bankId);
+
+    /**
+     * Streams the status of the branches of a bank: the current status of every branch first,
+     * then each change as it happens.
+     *
+     * @param bankId the unique identifier of the bank
+     * @return an infinite Flux of branch statuses
+     */
+    Flux<BranchStatusDTO> streamBankStatuses(UUID bankId);
+
+    /**
+     * Recomputes the status of a branch after its data, opening hours or holidays changed.
+     * Branches no longer known to the schedule index are dropped from the board.
+     *
+     * @param branchId the unique identifier of the branch
+     */
+    void refreshBranch(UUID branchId);
+
+    /**
+     * Recomputes the status of every branch of a bank after a bank-level change such as a holiday.
+     *
+     * @param bankId the unique identifier of the bank
+     */
+    void refreshBank(UUID bankId);
+}
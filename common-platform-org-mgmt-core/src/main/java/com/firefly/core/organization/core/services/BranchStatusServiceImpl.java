@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex;
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex.BranchWeek;
+import com.firefly.core.organization.core.indexes.HolidayIndex;
+import com.firefly.core.organization.core.indexes.IndexLoader;
+import com.firefly.core.organization.interfaces.dtos.BranchStatusDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Keeps the open/closed status of every branch up to date without polling.
+ * <p>
+ * For each branch the next instant its status changes is computed once from the weekly schedule, the
+ * holiday calendar and the branch time zone. Those instants are kept in a priority queue and a single
+ * timer is armed for the earliest one, so work is only done when some branch actually opens or closes,
+ * or when the underlying data changes.
+ */
+@Slf4j
+@Service
+public class BranchStatusServiceImpl implements BranchStatusService {
+
+    private static final int HORIZON_DAYS = 8;
+    private static final Duration RECHECK_AFTER = Duration.ofDays(HORIZON_DAYS - 1);
+
+    @Autowired
+    private BranchScheduleIndex scheduleIndex;
+
+    @Autowired
+    private HolidayIndex holidayIndex;
+
+    @Autowired
+    private BranchScheduleService branchScheduleService;
+
+    @Autowired
+    private HolidayCalendarService holidayCalendarService;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private Clock clock = Clock.systemUTC();
+
+    private final Map<UUID, BranchStatusDTO> statuses = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> wakeUps = new HashMap<>();
+    private final PriorityQueue<WakeUp> queue = new PriorityQueue<>(Comparator.comparing(WakeUp::at));
+    private final Sinks.Many<BranchStatusDTO> changes = Sinks.many().multicast().directBestEffort();
+    private final Mono<Void> boardLoaded = IndexLoader.once(this::loadBoard);
+
+    private ScheduledFuture<?> timer;
+    private Instant timerAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        boardLoaded.subscribe();
+    }
+
+    @Override
+    public Flux<BranchStatusDTO> getBankStatuses(UUID bankId) {
+        return boardLoaded.thenMany(Flux.defer(() -> Flux.fromIterable(snapshot(bankId))));
+    }
+
+    /**
+     * Streams the snapshot of a bank, then its changes. Changes are emitted while holding the board
+     * lock, so subscribing and taking the snapshot under it neither misses nor repeats a transition.
+     * Changes are buffered until the client requests them.
+     */
+    @Override
+    public Flux<BranchStatusDTO> streamBankStatuses(UUID bankId) {
+        return boardLoaded.thenMany(Flux.create(sink -> {
+            Disposable subscription;
+            synchronized (this) {
+                subscription = changes.asFlux()
+                        .filter(status -> bankId.equals(status.getBankId()))
+                        .subscribe(sink::next, sink::error, sink::complete);
+                snapshot(bankId).forEach(sink::next);
+            }
+            sink.onDispose(subscription);
+        }));
+    }
+
+    @Override
+    public synchronized void refreshBranch(UUID branchId) {
+        refresh(branchId, clock.instant());
+        arm();
+    }
+
+    @Override
+    public synchronized void refreshBank(UUID bankId) {
+        Instant now = clock.instant();
+        for (UUID branchId : scheduleIndex.branchIds(bankId)) {
+            refresh(branchId, now);
+        }
+        arm();
+    }
+
+    private Mono<Void> loadBoard() {
+        return Mono.when(branchScheduleService.ready(), holidayCalendarService.ready())
+                .then(Mono.fromRunnable(this::rebuild));
+    }
+
+    private synchronized void rebuild() {
+        Instant now = clock.instant();
+        statuses.keySet().retainAll(scheduleIndex.branchIds(null));
+        for (UUID branchId : scheduleIndex.branchIds(null)) {
+            refresh(branchId, now);
+        }
+        arm();
+        log.info("Branch status board loaded with {} branches", statuses.size());
+    }
+
+    private synchronized void onTimer() {
+        timer = null;
+        Instant now = clock.instant();
+        WakeUp head;
+        while ((head = queue.peek()) != null && !head.at().isAfter(now)) {
+            queue.poll();
+            if (head.at().equals(wakeUps.get(head.branchId()))) {
+                refresh(head.branchId(), now);
+            }
+        }
+        arm();
+    }
+
+    private void refresh(UUID branchId, Instant now) {
+        BranchWeek week = scheduleIndex.weekOf(branchId);
+        if (week == null) {
+            statuses.remove(branchId);
+            wakeUps.remove(branchId);
+            return;
+        }
+        LocalDateTime local = LocalDateTime.ofInstant(now, week.zone());
+        boolean open = isOpen(week, local, holidayIndex.isBranchHoliday(branchId, local.toLocalDate()));
+        Instant nextChange = nextChange(week, local, open, now);
+
+        BranchStatusDTO status = BranchStatusDTO.builder()
+                .branchId(branchId)
+                .bankId(week.bankId())
+                .isOpen(open)
+                .nextChangeAt(nextChange)
+                .build();
+        BranchStatusDTO previous = statuses.put(branchId, status);
+        if (!status.equals(previous)) {
+            changes.tryEmitNext(status);
+        }
+
+        Instant wakeUp = nextChange != null ? nextChange : now.plus(RECHECK_AFTER);
+        wakeUps.put(branchId, wakeUp);
+        queue.add(new WakeUp(branchId, wakeUp));
+    }
+
+    private Instant nextChange(BranchWeek week, LocalDateTime local, boolean open, Instant now) {
+        LocalDateTime slotStart = local.truncatedTo(ChronoUnit.MINUTES)
+                .withMinute(local.getMinute() / BranchScheduleIndex.SLOT_MINUTES * BranchScheduleIndex.SLOT_MINUTES);
+        LocalDate day = local.toLocalDate();
+        boolean holiday = holidayIndex.isBranchHoliday(week.branchId(), day);
+        for (int i = 1; i <= HORIZON_DAYS * BranchScheduleIndex.SLOTS_PER_DAY; i++) {
+            LocalDateTime boundary = slotStart.plusMinutes((long) i * BranchScheduleIndex.SLOT_MINUTES);
+            if (!boundary.toLocalDate().equals(day)) {
+                day = boundary.toLocalDate();
+                holiday = holidayIndex.isBranchHoliday(week.branchId(), day);
+            }
+            if (isOpen(week, boundary, holiday) != open) {
+                Instant at = boundary.atZone(week.zone()).toInstant();
+                if (at.isAfter(now)) {
+                    return at;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isOpen(BranchWeek week, LocalDateTime local, boolean holiday) {
+        return !holiday && week.isOpen(BranchScheduleIndex.slotOf(local));
+    }
+
+    private void arm() {
+        if (queue.size() > 2 * wakeUps.size() + 64) {
+            queue.removeIf(wakeUp -> !wakeUp.at().equals(wakeUps.get(wakeUp.branchId())));
+        }
+        WakeUp head = queue.peek();
+        if (head == null || (timer != null && !head.at().isBefore(timerAt))) {
+            return;
+        }
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        timerAt = head.at();
+        timer = taskScheduler.schedule(this::onTimer, timerAt);
+    }
+
+    private List<BranchStatusDTO> snapshot(UUID bankId) {
+        List<BranchStatusDTO> result = new ArrayList<>();
+        for (BranchStatusDTO status : statuses.values()) {
+            if (bankId.equals(status.getBankId())) {
+                result.add(status);
+            }
+        }
+        return result;
+    }
+
+    private record WakeUp(UUID branchId, Instant at) {
+    }
+}
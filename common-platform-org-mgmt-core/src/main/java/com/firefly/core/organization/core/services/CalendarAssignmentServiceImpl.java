@@ -18,13 +18,20 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
 import com.firefly.core.organization.core.mappers.CalendarAssignmentMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.CalendarAssignmentDTO;
 import com.firefly.core.organization.models.entities.CalendarAssignment;
 import com.firefly.core.organization.models.repositories.CalendarAssignmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -40,6 +47,23 @@ public class CalendarAssignmentServiceImpl implements CalendarAssignmentService
     @Autowired
     private CalendarAssignmentMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<CalendarAssignment, CalendarAssignmentDTO> filter = new CachedFilter<>(CalendarAssignment.class, CalendarAssignmentDTO.class, () -> entityTemplate, calendarAssignment -> mapper.toDTO(calendarAssignment));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private CalendarResolutionCache resolutionCache;
+
     @Autowired
     private BankService bankService;
 
@@ -48,12 +72,7 @@ public class CalendarAssignmentServiceImpl implements CalendarAssignmentService
 
     @Override
     public Mono<PaginationResponse<CalendarAssignmentDTO>> filterCalendarAssignments(FilterRequest<CalendarAssignmentDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        CalendarAssignment.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filterResultCache.get(CalendarAssignment.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -71,6 +90,10 @@ public class CalendarAssignmentServiceImpl implements CalendarAssignmentService
         return Mono.just(calendarAssignmentDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(calendarAssignment -> changeOutbox.created(AuditedEntities.CALENDAR_ASSIGNMENT, calendarAssignment).thenReturn(calendarAssignment))
+                .flatMap(calendarAssignment -> AfterCommit.run(() -> filterResultCache.invalidate(CalendarAssignment.class)).thenReturn(calendarAssignment))
+                .flatMap(calendarAssignment -> auditRecorder.created(AuditedEntities.CALENDAR_ASSIGNMENT, calendarAssignment).thenReturn(calendarAssignment))
+                .flatMap(calendarAssignment -> AfterCommit.run(() -> resolutionCache.invalidateAssignment(calendarAssignment)).thenReturn(calendarAssignment))
                 .map(mapper::toDTO);
     }
 
@@ -94,7 +117,14 @@ public class CalendarAssignmentServiceImpl implements CalendarAssignmentService
                 .flatMap(existingCalendarAssignment -> {
                     CalendarAssignment updatedCalendarAssignment = mapper.toEntity(calendarAssignmentDTO);
                     updatedCalendarAssignment.setId(calendarAssignmentId);
-                    return repository.save(updatedCalendarAssignment);
+                    return repository.save(updatedCalendarAssignment)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.CALENDAR_ASSIGNMENT, existingCalendarAssignment, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(CalendarAssignment.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.CALENDAR_ASSIGNMENT, existingCalendarAssignment, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> {
+                                resolutionCache.invalidateAssignment(existingCalendarAssignment);
+                                resolutionCache.invalidateAssignment(saved);
+                            }).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -119,7 +149,11 @@ public class CalendarAssignmentServiceImpl implements CalendarAssignmentService
     public Mono<Void> deleteCalendarAssignment(UUID calendarAssignmentId) {
         return repository.findById(calendarAssignmentId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Calendar assignment not found with ID: " + calendarAssignmentId)))
-                .flatMap(calendarAssignment -> repository.deleteById(calendarAssignmentId));
+                .flatMap(calendarAssignment -> repository.deleteById(calendarAssignmentId)
+                        .then(changeOutbox.deleted(AuditedEntities.CALENDAR_ASSIGNMENT, calendarAssignment))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(CalendarAssignment.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.CALENDAR_ASSIGNMENT, calendarAssignment))
+                        .then(AfterCommit.run(() -> resolutionCache.invalidateAssignment(calendarAssignment))));
     }
 
     @Override
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.BusinessDayMatrixRowDTO;
+import com.firefly.core.organization.interfaces.dtos.CalendarResolutionDTO;
+import com.firefly.core.organization.interfaces.enums.CalendarTarget;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Service interface for resolving which working calendar and business days apply to a branch,
+ * department or position in a month.
+ */
+public interface CalendarResolutionService {
+    /**
+     * Resolves the calendar of a branch, department or position for a month. The most specific active
+     * assignment effective during the month applies: the position's, then its department's, then its
+     * branch's, the latest to take effect winning within a level. Without one, the bank's default
+     * calendar applies. Business days are the days of the month that are neither weekend days nor
+     * holidays of the branch.
+     *
+     * @param target the kind of entity
+     * @param targetId the ID of the branch, department or position
+     * @param month the month
+     * @return a Mono emitting the resolution, or an error if the entity does not exist
+     */
+    Mono<CalendarResolutionDTO> resolve(CalendarTarget target, UUID targetId, YearMonth month);
+
+    /**
+     * Builds the business-day matrix of a bank for a month: one row per position with the calendar
+     * resolved as in {@link #resolve} and each day marked as working, holiday or closed, closed days
+     * following the weekly hours of the position's branch. The bank's branches, hours, departments and
+     * assignments are loaded once, so rows stream without further queries.
+     *
+     * @param bankId the bank ID
+     * @param month the month
+     * @return a Flux emitting one row per position of the bank, or an error if the bank does not exist
+     */
+    Flux<BusinessDayMatrixRowDTO> getBankMatrix(UUID bankId, YearMonth month);
+}
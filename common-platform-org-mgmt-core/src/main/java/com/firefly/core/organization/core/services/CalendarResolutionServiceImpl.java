@@ -0,0 +1,360 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache.Resolution;
+import com.firefly.core.organization.interfaces.dtos.BusinessDayMatrixRowDTO;
+import com.firefly.core.organization.interfaces.dtos.CalendarResolutionDTO;
+import com.firefly.core.organization.interfaces.enums.CalendarTarget;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchDepartment;
+import com.firefly.core.organization.models.entities.BranchHours;
+import com.firefly.core.organization.models.entities.BranchPosition;
+import com.firefly.core.organization.models.entities.CalendarAssignment;
+import com.firefly.core.organization.models.repositories.BranchDepartmentRepository;
+import com.firefly.core.organization.models.repositories.BranchHoursRepository;
+import com.firefly.core.organization.models.repositories.BranchPositionRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import com.firefly.core.organization.models.repositories.CalendarAssignmentRepository;
+import com.firefly.core.organization.models.repositories.WorkingCalendarRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class CalendarResolutionServiceImpl implements CalendarResolutionService {
+
+    private static final Comparator<CalendarAssignment> LATEST_EFFECTIVE = Comparator.comparing(
+            CalendarAssignment::getEffectiveFrom, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    @Autowired
+    private CalendarResolutionCache cache;
+
+    @Autowired
+    private BranchPositionRepository branchPositionRepository;
+
+    @Autowired
+    private BranchDepartmentRepository branchDepartmentRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private BranchHoursRepository branchHoursRepository;
+
+    @Autowired
+    private CalendarAssignmentRepository calendarAssignmentRepository;
+
+    @Autowired
+    private WorkingCalendarRepository workingCalendarRepository;
+
+    @Autowired
+    private HolidayCalendarService holidayCalendarService;
+
+    @Autowired
+    private BankService bankService;
+
+    @Value("${organization.calendars.weekend-days:SATURDAY,SUNDAY}")
+    private Set<DayOfWeek> weekendDays;
+
+    @Override
+    public Mono<CalendarResolutionDTO> resolve(CalendarTarget target, UUID targetId, YearMonth month) {
+        return Mono.defer(() -> {
+            Resolution cached = cache.get(target, targetId, month);
+            if (cached != null) {
+                return Mono.just(toDTO(target, targetId, cached));
+            }
+            long startedAt = cache.generation();
+            return load(target, targetId, month)
+                    .doOnNext(resolution -> cache.put(target, targetId, resolution, startedAt))
+                    .map(resolution -> toDTO(target, targetId, resolution));
+        });
+    }
+
+    @Override
+    public Flux<BusinessDayMatrixRowDTO> getBankMatrix(UUID bankId, YearMonth month) {
+        return bankService.getBankById(bankId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Bank not found with ID: " + bankId)))
+                .flatMapMany(bank -> bankMatrix(bankId, month));
+    }
+
+    private Flux<BusinessDayMatrixRowDTO> bankMatrix(UUID bankId, YearMonth month) {
+        Mono<Map<UUID, DayStates>> branchDays = branchHoursRepository.findByBankId(bankId)
+                .collectMultimap(BranchHours::getBranchId)
+                .flatMap(hours -> branchRepository.findByBankId(bankId)
+                        .flatMap(branch -> dayStates(branch.getId(), closedDays(hours.get(branch.getId())), month)
+                                .map(states -> Map.entry(branch.getId(), states)))
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue))
+                .map(CalendarResolutionServiceImpl::share);
+        Mono<Map<UUID, UUID>> departmentBranches = branchDepartmentRepository.findByBankId(bankId)
+                .collectMap(BranchDepartment::getId, BranchDepartment::getBranchId);
+        Mono<Assignments> assignments = calendarAssignmentRepository.findByBankId(bankId)
+                .collectList()
+                .map(list -> Assignments.of(list, month));
+        Mono<Optional<UUID>> defaultCalendar = workingCalendarRepository.findByBankIdAndIsDefaultTrue(bankId)
+                .map(calendar -> Optional.ofNullable(calendar.getId()))
+                .defaultIfEmpty(Optional.empty());
+        return Mono.zip(branchDays, departmentBranches, assignments, defaultCalendar)
+                .flatMapMany(tuple -> branchPositionRepository.findByBankId(bankId)
+                        .mapNotNull(position -> matrixRow(position, tuple.getT1(), tuple.getT2(), tuple.getT3(),
+                                tuple.getT4().orElse(null))));
+    }
+
+    private static BusinessDayMatrixRowDTO matrixRow(BranchPosition position, Map<UUID, DayStates> branchDays,
+                                                     Map<UUID, UUID> departmentBranches, Assignments assignments,
+                                                     UUID defaultCalendarId) {
+        UUID branchId = departmentBranches.get(position.getDepartmentId());
+        DayStates states = branchId == null ? null : branchDays.get(branchId);
+        if (states == null) {
+            return null;
+        }
+        CalendarAssignment assignment = assignments.pick(new Path(position.getId(), position.getDepartmentId(), branchId));
+        return BusinessDayMatrixRowDTO.builder()
+                .positionId(position.getId())
+                .departmentId(position.getDepartmentId())
+                .branchId(branchId)
+                .calendarId(assignment != null ? assignment.getCalendarId() : defaultCalendarId)
+                .assignmentId(assignment != null ? assignment.getId() : null)
+                .workingDays(states.working())
+                .holidays(states.holidays())
+                .closedDays(states.closed())
+                .days(states.days())
+                .build();
+    }
+
+    /**
+     * Makes branches with the same days share one instance, so rows of a large bank mostly point at a
+     * handful of day states.
+     */
+    private static Map<UUID, DayStates> share(Map<UUID, DayStates> branchDays) {
+        Map<DayStates, DayStates> shared = new HashMap<>();
+        branchDays.replaceAll((branchId, states) -> shared.computeIfAbsent(states, key -> key));
+        return branchDays;
+    }
+
+    private Mono<Resolution> load(CalendarTarget target, UUID targetId, YearMonth month) {
+        return path(target, targetId).flatMap(path -> branchRepository.findById(path.branchId())
+                .switchIfEmpty(Mono.error(new RuntimeException("Branch not found with ID: " + path.branchId())))
+                .flatMap(branch -> Mono.zip(
+                        resolveAssignment(path, month)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty()),
+                        businessDays(branch.getId(), month))
+                        .flatMap(tuple -> {
+                            Optional<CalendarAssignment> assignment = tuple.getT1();
+                            Mono<Optional<UUID>> calendarId = assignment.isPresent()
+                                    ? Mono.just(Optional.ofNullable(assignment.get().getCalendarId()))
+                                    : workingCalendarRepository.findByBankIdAndIsDefaultTrue(branch.getBankId())
+                                            .map(calendar -> Optional.ofNullable(calendar.getId()))
+                                            .defaultIfEmpty(Optional.empty());
+                            return calendarId.map(calendar -> resolution(month, path, branch,
+                                    assignment.map(CalendarAssignment::getId).orElse(null), calendar.orElse(null), tuple.getT2()));
+                        })));
+    }
+
+    private Mono<Path> path(CalendarTarget target, UUID targetId) {
+        return switch (target) {
+            case POSITION -> branchPositionRepository.findById(targetId)
+                    .switchIfEmpty(Mono.error(new RuntimeException("Branch position not found with ID: " + targetId)))
+                    .flatMap(position -> path(CalendarTarget.DEPARTMENT, position.getDepartmentId())
+                            .map(department -> new Path(targetId, department.departmentId(), department.branchId())));
+            case DEPARTMENT -> branchDepartmentRepository.findById(targetId)
+                    .switchIfEmpty(Mono.error(new RuntimeException("Branch department not found with ID: " + targetId)))
+                    .map(department -> new Path(null, targetId, department.getBranchId()));
+            case BRANCH -> Mono.just(new Path(null, null, targetId));
+        };
+    }
+
+    private Mono<CalendarAssignment> resolveAssignment(Path path, YearMonth month) {
+        Flux<CalendarAssignment> position = path.positionId() == null
+                ? Flux.empty()
+                : calendarAssignmentRepository.findByPositionId(path.positionId());
+        Flux<CalendarAssignment> department = path.departmentId() == null
+                ? Flux.empty()
+                : calendarAssignmentRepository.findByDepartmentId(path.departmentId())
+                        .filter(assignment -> assignment.getPositionId() == null);
+        Flux<CalendarAssignment> branch = calendarAssignmentRepository.findByBranchIdAndIsActiveTrue(path.branchId())
+                .filter(assignment -> assignment.getDepartmentId() == null && assignment.getPositionId() == null);
+        return latestEffective(position, month)
+                .switchIfEmpty(latestEffective(department, month))
+                .switchIfEmpty(latestEffective(branch, month));
+    }
+
+    private static Mono<CalendarAssignment> latestEffective(Flux<CalendarAssignment> assignments, YearMonth month) {
+        return assignments.collectList().flatMap(list -> Mono.justOrEmpty(latestEffective(list, month)));
+    }
+
+    private static CalendarAssignment latestEffective(Collection<CalendarAssignment> assignments, YearMonth month) {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        CalendarAssignment latest = null;
+        for (CalendarAssignment assignment : assignments) {
+            if (Boolean.TRUE.equals(assignment.getIsActive())
+                    && (assignment.getEffectiveFrom() == null || assignment.getEffectiveFrom().isBefore(end))
+                    && (assignment.getEffectiveTo() == null || !assignment.getEffectiveTo().isBefore(start))
+                    && (latest == null || LATEST_EFFECTIVE.compare(assignment, latest) > 0)) {
+                latest = assignment;
+            }
+        }
+        return latest;
+    }
+
+    private Mono<Integer> businessDays(UUID branchId, YearMonth month) {
+        return branchHoursRepository.findByBranchId(branchId)
+                .collectList()
+                .flatMap(hours -> dayStates(branchId, closedDays(hours), month))
+                .map(DayStates::working);
+    }
+
+    /**
+     * Returns the days of the week a branch is closed: the days its weekly hours do not open it, or the
+     * configured weekend days if it has no hours at all.
+     */
+    private Set<DayOfWeek> closedDays(Collection<BranchHours> hours) {
+        if (hours == null || hours.isEmpty()) {
+            return weekendDays;
+        }
+        Set<DayOfWeek> closed = EnumSet.allOf(DayOfWeek.class);
+        for (BranchHours row : hours) {
+            if (row.getDayOfWeek() != null && !Boolean.TRUE.equals(row.getIsClosed())
+                    && row.getOpenTime() != null && row.getCloseTime() != null) {
+                closed.remove(DayOfWeek.valueOf(row.getDayOfWeek().name()));
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * Classifies each day of a month for a branch: holidays of the branch, days of the week it is closed
+     * that are not holidays (closed), and every other day (working).
+     */
+    private Mono<DayStates> dayStates(UUID branchId, Set<DayOfWeek> closedDays, YearMonth month) {
+        return holidayCalendarService.getBranchHolidays(branchId, month.atDay(1), month.atEndOfMonth())
+                .collect(HashSet<LocalDate>::new, Set::add)
+                .map(holidays -> {
+                    int working = 0;
+                    int holiday = 0;
+                    int closed = 0;
+                    char[] days = new char[month.lengthOfMonth()];
+                    for (int day = 1; day <= days.length; day++) {
+                        LocalDate date = month.atDay(day);
+                        int bit = 1 << (day - 1);
+                        if (holidays.contains(date)) {
+                            holiday |= bit;
+                            days[day - 1] = 'H';
+                        } else if (closedDays.contains(date.getDayOfWeek())) {
+                            closed |= bit;
+                            days[day - 1] = 'C';
+                        } else {
+                            working |= bit;
+                            days[day - 1] = 'W';
+                        }
+                    }
+                    return new DayStates(working, holiday, closed, new String(days));
+                });
+    }
+
+    private static Resolution resolution(YearMonth month, Path path, Branch branch, UUID assignmentId, UUID calendarId, int businessDays) {
+        return new Resolution(month, path.positionId(), path.departmentId(), branch.getId(), branch.getBankId(),
+                branch.getCountryId(), assignmentId, calendarId, businessDays);
+    }
+
+    private static CalendarResolutionDTO toDTO(CalendarTarget target, UUID targetId, Resolution resolution) {
+        List<LocalDate> days = new ArrayList<>(Integer.bitCount(resolution.businessDays()));
+        for (int bits = resolution.businessDays(); bits != 0; bits &= bits - 1) {
+            days.add(resolution.month().atDay(Integer.numberOfTrailingZeros(bits) + 1));
+        }
+        return CalendarResolutionDTO.builder()
+                .target(target)
+                .targetId(targetId)
+                .month(resolution.month())
+                .calendarId(resolution.calendarId())
+                .assignmentId(resolution.assignmentId())
+                .branchId(resolution.branchId())
+                .businessDayMask(resolution.businessDays())
+                .businessDays(days)
+                .build();
+    }
+
+    private record Path(UUID positionId, UUID departmentId, UUID branchId) {
+    }
+
+    private record DayStates(int working, int holidays, int closed, String days) {
+    }
+
+    /**
+     * The assignment picked for a month at each level, keyed by position, department and branch.
+     */
+    private record Assignments(Map<UUID, CalendarAssignment> positions, Map<UUID, CalendarAssignment> departments,
+                               Map<UUID, CalendarAssignment> branches) {
+
+        static Assignments of(List<CalendarAssignment> assignments, YearMonth month) {
+            Map<UUID, List<CalendarAssignment>> positions = new HashMap<>();
+            Map<UUID, List<CalendarAssignment>> departments = new HashMap<>();
+            Map<UUID, List<CalendarAssignment>> branches = new HashMap<>();
+            for (CalendarAssignment assignment : assignments) {
+                if (assignment.getPositionId() != null) {
+                    positions.computeIfAbsent(assignment.getPositionId(), key -> new ArrayList<>()).add(assignment);
+                } else if (assignment.getDepartmentId() != null) {
+                    departments.computeIfAbsent(assignment.getDepartmentId(), key -> new ArrayList<>()).add(assignment);
+                } else if (assignment.getBranchId() != null) {
+                    branches.computeIfAbsent(assignment.getBranchId(), key -> new ArrayList<>()).add(assignment);
+                }
+            }
+            return new Assignments(pick(positions, month), pick(departments, month), pick(branches, month));
+        }
+
+        private static Map<UUID, CalendarAssignment> pick(Map<UUID, List<CalendarAssignment>> grouped, YearMonth month) {
+            Map<UUID, CalendarAssignment> picked = new HashMap<>();
+            grouped.forEach((id, candidates) -> {
+                CalendarAssignment latest = latestEffective(candidates, month);
+                if (latest != null) {
+                    picked.put(id, latest);
+                }
+            });
+            return picked;
+        }
+
+        CalendarAssignment pick(Path path) {
+            CalendarAssignment assignment = positions.get(path.positionId());
+            if (assignment == null) {
+                assignment = departments.get(path.departmentId());
+            }
+            return assignment != null ? assignment : branches.get(path.branchId());
+        }
+    }
+}
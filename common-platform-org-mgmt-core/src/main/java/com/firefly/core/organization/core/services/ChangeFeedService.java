@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.ChangeEventDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for reading the feed of changes made to banks, branches and their related entities.
+ */
+public interface ChangeFeedService {
+    /**
+     * Retrieves one page of the change feed.
+     *
+     * @param after the position to start after, 0 for the start of the retained feed
+     * @param limit the maximum number of changes to return
+     * @return a Flux emitting the changes in feed order
+     */
+    Flux<ChangeEventDTO> getChanges(long after, int limit);
+
+    /**
+     * Streams the change feed from a position: the changes already published first, then every change
+     * as it is published. The stream does not complete.
+     *
+     * @param after the position to start after, 0 for the start of the retained feed
+     * @return a Flux emitting the changes in feed order
+     */
+    Flux<ChangeEventDTO> streamChanges(long after);
+
+    /**
+     * Deletes the published changes older than the configured retention.
+     *
+     * @return a Mono emitting the number of changes deleted
+     */
+    Mono<Integer> purgePublished();
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.changes.ChangeFeedRelay;
+import com.firefly.core.organization.core.mappers.ChangeEventMapper;
+import com.firefly.core.organization.interfaces.dtos.ChangeEventDTO;
+import com.firefly.core.organization.models.repositories.ChangeOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private ChangeOutboxRepository repository;
+
+    @Autowired
+    private ChangeEventMapper mapper;
+
+    @Autowired
+    private ChangeFeedRelay relay;
+
+    @Value("${organization.changes.retention:7d}")
+    private Duration retention;
+
+    @Scheduled(cron = "${organization.changes.purge-cron:0 30 3 * * *}")
+    public void purgeInBackground() {
+        purgePublished().subscribe(
+                deleted -> log.info("Purged {} published changes", deleted),
+                error -> log.error("Failed to purge published changes", error));
+    }
+
+    @Override
+    public Flux<ChangeEventDTO> getChanges(long after, int limit) {
+        if (after < 0) {
+            return Flux.error(new IllegalArgumentException("after must not be negative"));
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Flux.error(new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        return repository.findPublishedAfter(after, limit)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<ChangeEventDTO> streamChanges(long after) {
+        if (after < 0) {
+            return Flux.error(new IllegalArgumentException("after must not be negative"));
+        }
+        return Flux.defer(() -> {
+            AtomicLong last = new AtomicLong(after);
+            // The empty batch triggers the initial catch-up. Live batches arriving meanwhile are queued by
+            // concatMap, and any batch that does not follow on from the last change seen, because it was
+            // dropped or arrived before the catch-up, is replaced by a read of the outbox.
+            return relay.published()
+                    .startWith(List.<ChangeEventDTO>of())
+                    .concatMap(batch -> {
+                        long seen = last.get();
+                        if (!batch.isEmpty() && batch.get(batch.size() - 1).getPosition() <= seen) {
+                            return Flux.empty();
+                        }
+                        if (!batch.isEmpty() && batch.get(0).getPosition() <= seen + 1) {
+                            List<ChangeEventDTO> unseen = batch.stream()
+                                    .filter(event -> event.getPosition() > seen)
+                                    .toList();
+                            last.set(unseen.get(unseen.size() - 1).getPosition());
+                            return Flux.fromIterable(unseen);
+                        }
+                        return catchUp(last);
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Integer> purgePublished() {
+        return repository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private Flux<ChangeEventDTO> catchUp(AtomicLong last) {
+        return Mono.defer(() -> readPage(last))
+                .expand(page -> page.size() >= MAX_PAGE_SIZE ? readPage(last) : Mono.empty())
+                .flatMapIterable(page -> page);
+    }
+
+    private Mono<List<ChangeEventDTO>> readPage(AtomicLong last) {
+        return repository.findPublishedAfter(last.get(), MAX_PAGE_SIZE)
+                .map(mapper::toDTO)
+                .collectList()
+                .doOnNext(page -> {
+                    if (!page.isEmpty()) {
+                        last.set(page.get(page.size() - 1).getPosition());
+                    }
+                });
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Service interface for answering holiday questions from the in-memory holiday index.
+ */
+public interface HolidayCalendarService {
+    /**
+     * Checks whether a date is a holiday for a branch, including bank-wide, country and branch holidays.
+     *
+     * @param branchId the unique identifier of the branch
+     * @param date the date to check
+     * @return a Mono emitting true if the date is a holiday for the branch
+     */
+    Mono<Boolean> isBranchHoliday(UUID branchId, LocalDate date);
+
+    /**
+     * Lists the holidays of a branch within a date range, both ends inclusive.
+     *
+     * @param branchId the unique identifier of the branch
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return a Flux emitting the holiday dates in ascending order
+     */
+    Flux<LocalDate> getBranchHolidays(UUID branchId, LocalDate from, LocalDate to);
+
+    /**
+     * Lists the holidays of a bank within a date range, both ends inclusive.
+     *
+     * @param bankId the unique identifier of the bank
+     * @param countryId optional country to include country-level holidays for
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return a Flux emitting the holiday dates in ascending order
+     */
+    Flux<LocalDate> getBankHolidays(UUID bankId, UUID countryId, LocalDate from, LocalDate to);
+
+    /**
+     * Waits for the in-memory index to be loaded, loading it if needed.
+     *
+     * @return a Mono that completes once the index is populated
+     */
+    Mono<Void> ready();
+}
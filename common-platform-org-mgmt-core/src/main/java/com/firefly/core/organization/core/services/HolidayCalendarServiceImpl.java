@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.HolidayIndex;
+import com.firefly.core.organization.core.indexes.IndexLoader;
+import com.firefly.core.organization.models.repositories.BankHolidayRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Service
+public class HolidayCalendarServiceImpl implements HolidayCalendarService {
+
+    @Autowired
+    private HolidayIndex holidayIndex;
+
+    @Autowired
+    private BankHolidayRepository bankHolidayRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    private final Mono<Void> indexLoaded = IndexLoader.once(this::loadIndex);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        indexLoaded.subscribe();
+    }
+
+    @Override
+    public Mono<Boolean> isBranchHoliday(UUID branchId, LocalDate date) {
+        return indexLoaded
+                .then(Mono.fromCallable(() -> holidayIndex.containsBranch(branchId)))
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(new RuntimeException("Branch not found with ID: " + branchId)))
+                .map(known -> holidayIndex.isBranchHoliday(branchId, date));
+    }
+
+    @Override
+    public Flux<LocalDate> getBranchHolidays(UUID branchId, LocalDate from, LocalDate to) {
+        return indexLoaded
+                .then(Mono.fromCallable(() -> holidayIndex.containsBranch(branchId)))
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(new RuntimeException("Branch not found with ID: " + branchId)))
+                .flatMapIterable(known -> holidayIndex.branchHolidays(branchId, from, to));
+    }
+
+    @Override
+    public Flux<LocalDate> getBankHolidays(UUID bankId, UUID countryId, LocalDate from, LocalDate to) {
+        return indexLoaded
+                .thenMany(Flux.defer(() -> Flux.fromIterable(holidayIndex.bankHolidays(bankId, countryId, from, to))));
+    }
+
+    @Override
+    public Mono<Void> ready() {
+        return indexLoaded;
+    }
+
+    private Mono<Void> loadIndex() {
+        holidayIndex.beginLoad();
+        return Mono.zip(bankHolidayRepository.findAll().collectList(), branchRepository.findAll().collectList())
+                .doOnNext(tuple -> holidayIndex.reset(tuple.getT1(), tuple.getT2()))
+                .doOnError(error -> holidayIndex.abortLoad())
+                .then();
+    }
+}
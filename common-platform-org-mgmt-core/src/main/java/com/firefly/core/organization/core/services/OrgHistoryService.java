@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.interfaces.dtos.BankDivisionDTO;
+import com.firefly.core.organization.interfaces.dtos.BankRegionDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchHoursDTO;
+import com.firefly.core.organization.interfaces.dtos.OrgTreeDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for reading the organization structure as it was at a past instant.
+ */
+public interface OrgHistoryService {
+    /**
+     * Retrieves a bank as it was at an instant.
+     *
+     * @param bankId the ID of the bank
+     * @param asOf the instant
+     * @return a Mono emitting the bank, or an error if it did not exist at the instant
+     */
+    Mono<BankDTO> getBankAsOf(UUID bankId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves a division of a bank as it was at an instant.
+     *
+     * @param bankId the ID of the bank
+     * @param divisionId the ID of the division
+     * @param asOf the instant
+     * @return a Mono emitting the division, or an error if it did not belong to the bank at the instant
+     */
+    Mono<BankDivisionDTO> getDivisionAsOf(UUID bankId, UUID divisionId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves the divisions of a bank as they were at an instant.
+     *
+     * @param bankId the ID of the bank
+     * @param asOf the instant
+     * @return a Flux emitting the divisions ordered by name
+     */
+    Flux<BankDivisionDTO> getDivisionsAsOf(UUID bankId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves a region of a division as it was at an instant.
+     *
+     * @param bankId the ID of the bank
+     * @param divisionId the ID of the division
+     * @param regionId the ID of the region
+     * @param asOf the instant
+     * @return a Mono emitting the region, or an error if it did not belong to the division at the instant
+     */
+    Mono<BankRegionDTO> getRegionAsOf(UUID bankId, UUID divisionId, UUID regionId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves the regions of a division as they were at an instant.
+     *
+     * @param bankId the ID of the bank
+     * @param divisionId the ID of the division
+     * @param asOf the instant
+     * @return a Flux emitting the regions ordered by name
+     */
+    Flux<BankRegionDTO> getRegionsAsOf(UUID bankId, UUID divisionId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves a branch as it was at an instant.
+     *
+     * @param branchId the ID of the branch
+     * @param asOf the instant
+     * @return a Mono emitting the branch, or an error if it did not exist at the instant
+     */
+    Mono<BranchDTO> getBranchAsOf(UUID branchId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves a branch of a bank as it was at an instant.
+     *
+     * @param bankId the ID of the bank
+     * @param branchId the ID of the branch
+     * @param asOf the instant
+     * @return a Mono emitting the branch, or an error if it did not belong to the bank at the instant
+     */
+    Mono<BranchDTO> getBranchForBankAsOf(UUID bankId, UUID branchId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves the branches of a bank as they were at an instant.
+     *
+     * @param bankId the ID of the bank
+     * @param regionId the ID of the region the branches were assigned to, or null for every region
+     * @param asOf the instant
+     * @return a Flux emitting the branches ordered by name
+     */
+    Flux<BranchDTO> getBranchesAsOf(UUID bankId, UUID regionId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves operating hours of a branch as they were at an instant.
+     *
+     * @param branchId the ID of the branch
+     * @param hoursId the ID of the hours
+     * @param asOf the instant
+     * @return a Mono emitting the hours, or an error if they did not belong to the branch at the instant
+     */
+    Mono<BranchHoursDTO> getBranchHoursAsOf(UUID branchId, UUID hoursId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves the operating hours of a branch as they were at an instant.
+     *
+     * @param branchId the ID of the branch
+     * @param asOf the instant
+     * @return a Flux emitting the hours
+     */
+    Flux<BranchHoursDTO> getBranchHoursListAsOf(UUID branchId, OffsetDateTime asOf);
+
+    /**
+     * Retrieves the organization structure of a bank as it was at an instant.
+     *
+     * @param bankId the ID of the bank
+     * @param asOf the instant
+     * @return a Mono emitting the structure, or an error if the bank did not exist at the instant
+     */
+    Mono<OrgTreeDTO> getTreeAsOf(UUID bankId, OffsetDateTime asOf);
+}
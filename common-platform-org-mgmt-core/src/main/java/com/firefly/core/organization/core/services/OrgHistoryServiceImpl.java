@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.mappers.BankDivisionMapper;
+import com.firefly.core.organization.core.mappers.BankMapper;
+import com.firefly.core.organization.core.mappers.BankRegionMapper;
+import com.firefly.core.organization.core.mappers.BranchHoursMapper;
+import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.interfaces.dtos.BankDivisionDTO;
+import com.firefly.core.organization.interfaces.dtos.BankRegionDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchHoursDTO;
+import com.firefly.core.organization.interfaces.dtos.OrgTreeDTO;
+import com.firefly.core.organization.models.repositories.BankDivisionRepository;
+import com.firefly.core.organization.models.repositories.BankRegionRepository;
+import com.firefly.core.organization.models.repositories.BankRepository;
+import com.firefly.core.organization.models.repositories.BranchHoursRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Service
+public class OrgHistoryServiceImpl implements OrgHistoryService {
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private BankDivisionRepository bankDivisionRepository;
+
+    @Autowired
+    private BankRegionRepository bankRegionRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private BranchHoursRepository branchHoursRepository;
+
+    @Autowired
+    private BankMapper bankMapper;
+
+    @Autowired
+    private BankDivisionMapper bankDivisionMapper;
+
+    @Autowired
+    private BankRegionMapper bankRegionMapper;
+
+    @Autowired
+    private BranchMapper branchMapper;
+
+    @Autowired
+    private BranchHoursMapper branchHoursMapper;
+
+    @Override
+    public Mono<BankDTO> getBankAsOf(UUID bankId, OffsetDateTime asOf) {
+        return bankRepository.findAsOf(bankId, asOf)
+                .switchIfEmpty(Mono.error(new RuntimeException("Bank not found with ID: " + bankId + " as of " + asOf)))
+                .map(bankMapper::toDTO);
+    }
+
+    @Override
+    public Mono<BankDivisionDTO> getDivisionAsOf(UUID bankId, UUID divisionId, OffsetDateTime asOf) {
+        return bankDivisionRepository.findAsOf(divisionId, asOf)
+                .filter(division -> bankId.equals(division.getBankId()))
+                .switchIfEmpty(Mono.error(new RuntimeException("Division not found for bank with ID: " + bankId + " as of " + asOf)))
+                .map(bankDivisionMapper::toDTO);
+    }
+
+    @Override
+    public Flux<BankDivisionDTO> getDivisionsAsOf(UUID bankId, OffsetDateTime asOf) {
+        return bankDivisionRepository.findByBankIdAsOf(bankId, asOf)
+                .map(bankDivisionMapper::toDTO);
+    }
+
+    @Override
+    public Mono<BankRegionDTO> getRegionAsOf(UUID bankId, UUID divisionId, UUID regionId, OffsetDateTime asOf) {
+        return getDivisionAsOf(bankId, divisionId, asOf)
+                .flatMap(division -> bankRegionRepository.findAsOf(regionId, asOf))
+                .filter(region -> divisionId.equals(region.getDivisionId()))
+                .switchIfEmpty(Mono.error(new RuntimeException("Region not found for division with ID: " + divisionId + " as of " + asOf)))
+                .map(bankRegionMapper::toDTO);
+    }
+
+    @Override
+    public Flux<BankRegionDTO> getRegionsAsOf(UUID bankId, UUID divisionId, OffsetDateTime asOf) {
+        return getDivisionAsOf(bankId, divisionId, asOf)
+                .flatMapMany(division -> bankRegionRepository.findByDivisionIdAsOf(divisionId, asOf))
+                .map(bankRegionMapper::toDTO);
+    }
+
+    @Override
+    public Mono<BranchDTO> getBranchAsOf(UUID branchId, OffsetDateTime asOf) {
+        return branchRepository.findAsOf(branchId, asOf)
+                .switchIfEmpty(Mono.error(new RuntimeException("Branch not found with ID: " + branchId + " as of " + asOf)))
+                .map(branchMapper::toDTO);
+    }
+
+    @Override
+    public Mono<BranchDTO> getBranchForBankAsOf(UUID bankId, UUID branchId, OffsetDateTime asOf) {
+        return branchRepository.findAsOf(branchId, asOf)
+                .filter(branch -> bankId.equals(branch.getBankId()))
+                .switchIfEmpty(Mono.error(new RuntimeException("Branch not found for bank with ID: " + bankId + " as of " + asOf)))
+                .map(branchMapper::toDTO);
+    }
+
+    @Override
+    public Flux<BranchDTO> getBranchesAsOf(UUID bankId, UUID regionId, OffsetDateTime asOf) {
+        return branchRepository.findByBankIdAsOf(bankId, regionId, asOf)
+                .map(branchMapper::toDTO);
+    }
+
+    @Override
+    public Mono<BranchHoursDTO> getBranchHoursAsOf(UUID branchId, UUID hoursId, OffsetDateTime asOf) {
+        return branchHoursRepository.findAsOf(hoursId, asOf)
+                .filter(hours -> branchId.equals(hours.getBranchId()))
+                .switchIfEmpty(Mono.error(new RuntimeException("Hours not found for branch with ID: " + branchId + " as of " + asOf)))
+                .map(branchHoursMapper::toDTO);
+    }
+
+    @Override
+    public Flux<BranchHoursDTO> getBranchHoursListAsOf(UUID branchId, OffsetDateTime asOf) {
+        return branchHoursRepository.findByBranchIdAsOf(branchId, asOf)
+                .map(branchHoursMapper::toDTO);
+    }
+
+    @Override
+    public Mono<OrgTreeDTO> getTreeAsOf(UUID bankId, OffsetDateTime asOf) {
+        return getBankAsOf(bankId, asOf)
+                .flatMap(bank -> Mono.zip(
+                        getDivisionsAsOf(bankId, asOf).collectList(),
+                        bankRegionRepository.findByBankIdAsOf(bankId, asOf).map(bankRegionMapper::toDTO).collectList(),
+                        getBranchesAsOf(bankId, null, asOf).collectList(),
+                        branchHoursRepository.findByBankIdAsOf(bankId, asOf).map(branchHoursMapper::toDTO).collectList())
+                        .map(levels -> OrgTreeDTO.builder()
+                                .asOf(asOf)
+                                .bank(bank)
+                                .divisions(levels.getT1())
+                                .regions(levels.getT2())
+                                .branches(levels.getT3())
+                                .hours(levels.getT4())
+                                .build()));
+    }
+}
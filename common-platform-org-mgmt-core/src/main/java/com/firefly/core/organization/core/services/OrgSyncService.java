@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.OrgSyncDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service interface for synchronising copies of a bank's organisation structure by delta.
+ */
+public interface OrgSyncService {
+    /**
+     * Retrieves the entities of a bank created, updated or deleted since a sync token. An entity moved to
+     * another bank, with everything under it, is reported as deleted from the old bank and as updated in
+     * the new one.
+     *
+     * @param bankId the ID of the bank
+     * @param token the token returned by the previous sync, or null for every entity of the bank
+     * @return a Mono emitting the changes and the token to pass on the next sync
+     */
+    Mono<OrgSyncDTO> sync(UUID bankId, String token);
+
+    /**
+     * Deletes the tombstones older than the configured retention. Tokens older than the retention get a
+     * full reset on their next sync.
+     *
+     * @return a Mono emitting the number of tombstones deleted
+     */
+    Mono<Integer> purgeTombstones();
+}
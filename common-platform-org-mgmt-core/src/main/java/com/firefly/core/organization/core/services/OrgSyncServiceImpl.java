@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.mappers.BankDivisionMapper;
+import com.firefly.core.organization.core.mappers.BankHolidayMapper;
+import com.firefly.core.organization.core.mappers.BankMapper;
+import com.firefly.core.organization.core.mappers.BankRegionMapper;
+import com.firefly.core.organization.core.mappers.BranchDepartmentMapper;
+import com.firefly.core.organization.core.mappers.BranchHoursMapper;
+import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.core.mappers.BranchPositionMapper;
+import com.firefly.core.organization.core.mappers.CalendarAssignmentMapper;
+import com.firefly.core.organization.core.mappers.OrgTombstoneMapper;
+import com.firefly.core.organization.core.mappers.WorkingCalendarMapper;
+import com.firefly.core.organization.interfaces.dtos.OrgSyncDTO;
+import com.firefly.core.organization.models.repositories.BankDivisionRepository;
+import com.firefly.core.organization.models.repositories.BankHolidayRepository;
+import com.firefly.core.organization.models.repositories.BankRegionRepository;
+import com.firefly.core.organization.models.repositories.BankRepository;
+import com.firefly.core.organization.models.repositories.BranchDepartmentRepository;
+import com.firefly.core.organization.models.repositories.BranchHoursRepository;
+import com.firefly.core.organization.models.repositories.BranchPositionRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import com.firefly.core.organization.models.repositories.CalendarAssignmentRepository;
+import com.firefly.core.organization.models.repositories.OrgTombstoneRepository;
+import com.firefly.core.organization.models.repositories.WorkingCalendarRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class OrgSyncServiceImpl implements OrgSyncService {
+
+    private static final String TOKEN_VERSION = "1";
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private BankDivisionRepository bankDivisionRepository;
+
+    @Autowired
+    private BankRegionRepository bankRegionRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private BranchDepartmentRepository branchDepartmentRepository;
+
+    @Autowired
+    private BranchPositionRepository branchPositionRepository;
+
+    @Autowired
+    private BranchHoursRepository branchHoursRepository;
+
+    @Autowired
+    private BankHolidayRepository bankHolidayRepository;
+
+    @Autowired
+    private WorkingCalendarRepository workingCalendarRepository;
+
+    @Autowired
+    private CalendarAssignmentRepository calendarAssignmentRepository;
+
+    @Autowired
+    private OrgTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private BankMapper bankMapper;
+
+    @Autowired
+    private BankDivisionMapper bankDivisionMapper;
+
+    @Autowired
+    private BankRegionMapper bankRegionMapper;
+
+    @Autowired
+    private BranchMapper branchMapper;
+
+    @Autowired
+    private BranchDepartmentMapper branchDepartmentMapper;
+
+    @Autowired
+    private BranchPositionMapper branchPositionMapper;
+
+    @Autowired
+    private BranchHoursMapper branchHoursMapper;
+
+    @Autowired
+    private BankHolidayMapper bankHolidayMapper;
+
+    @Autowired
+    private WorkingCalendarMapper workingCalendarMapper;
+
+    @Autowired
+    private CalendarAssignmentMapper calendarAssignmentMapper;
+
+    @Autowired
+    private OrgTombstoneMapper tombstoneMapper;
+
+    @Value("${organization.sync.settle-lag:30s}")
+    private Duration settleLag;
+
+    @Value("${organization.sync.tombstone-retention:90d}")
+    private Duration tombstoneRetention;
+
+    @Scheduled(cron = "${organization.sync.purge-cron:0 0 4 * * *}")
+    public void purgeInBackground() {
+        purgeTombstones().subscribe(
+                deleted -> log.info("Purged {} sync tombstones", deleted),
+                error -> log.error("Failed to purge sync tombstones", error));
+    }
+
+    @Override
+    public Mono<OrgSyncDTO> sync(UUID bankId, String token) {
+        LocalDateTime requested;
+        try {
+            requested = decodeToken(token);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        return tombstoneRepository.now().flatMap(now -> {
+            // A token older than the retention may have missed tombstones that have since been purged.
+            boolean reset = requested != null && requested.isBefore(now.minus(tombstoneRetention));
+            LocalDateTime since = reset ? null : requested;
+            // Rows are stamped when written but only become visible on commit, so the next sync starts a
+            // little before now to pick up transactions still in flight. Entities changed in that window
+            // are sent twice, which clients absorb because applying an entity is idempotent.
+            LocalDateTime watermark = now.minus(settleLag);
+            if (since != null && since.isAfter(watermark)) {
+                watermark = since;
+            }
+            OrgSyncDTO.OrgSyncDTOBuilder result = OrgSyncDTO.builder()
+                    .token(encodeToken(watermark))
+                    .reset(reset);
+            return Mono.when(
+                            collect(bankRepository.findChangedSince(bankId, since).map(bankMapper::toDTO), result::banks),
+                            collect(bankDivisionRepository.findChangedSince(bankId, since).map(bankDivisionMapper::toDTO), result::divisions),
+                            collect(bankRegionRepository.findChangedSince(bankId, since).map(bankRegionMapper::toDTO), result::regions),
+                            collect(branchRepository.findChangedSince(bankId, since).map(branchMapper::toDTO), result::branches),
+                            collect(branchDepartmentRepository.findChangedSince(bankId, since).map(branchDepartmentMapper::toDTO), result::departments),
+                            collect(branchPositionRepository.findChangedSince(bankId, since).map(branchPositionMapper::toDTO), result::positions),
+                            collect(branchHoursRepository.findChangedSince(bankId, since).map(branchHoursMapper::toDTO), result::hours),
+                            collect(bankHolidayRepository.findChangedSince(bankId, since).map(bankHolidayMapper::toDTO), result::holidays),
+                            collect(workingCalendarRepository.findChangedSince(bankId, since).map(workingCalendarMapper::toDTO), result::calendars),
+                            collect(calendarAssignmentRepository.findChangedSince(bankId, since).map(calendarAssignmentMapper::toDTO), result::calendarAssignments),
+                            collect(since == null
+                                    ? Flux.empty()
+                                    : tombstoneRepository.findDeletedSince(bankId, since).map(tombstoneMapper::toDTO), result::deleted))
+                    .then(Mono.fromSupplier(result::build));
+        });
+    }
+
+    @Override
+    public Mono<Integer> purgeTombstones() {
+        return tombstoneRepository.now()
+                .flatMap(now -> tombstoneRepository.deleteRecordedBefore(now.minus(tombstoneRetention)));
+    }
+
+    private static <T> Mono<List<T>> collect(Flux<T> changes, Consumer<List<T>> target) {
+        return changes.collectList().doOnNext(target);
+    }
+
+    static String encodeToken(LocalDateTime watermark) {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, watermark.toInstant(ZoneOffset.UTC));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_VERSION + ":" + micros).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static LocalDateTime decodeToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(':');
+            if (separator < 0 || !TOKEN_VERSION.equals(value.substring(0, separator))) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            long micros = Long.parseLong(value.substring(separator + 1));
+            return LocalDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid sync token", e);
+        }
+    }
+}
@@ -18,13 +18,20 @@
 package com.firefly.core.organization.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
-import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.CachedFilter;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
 import com.firefly.core.organization.core.mappers.WorkingCalendarMapper;
+import com.firefly.core.organization.core.transactions.AfterCommit;
 import com.firefly.core.organization.interfaces.dtos.WorkingCalendarDTO;
 import com.firefly.core.organization.models.entities.WorkingCalendar;
 import com.firefly.core.organization.models.repositories.WorkingCalendarRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -40,17 +47,29 @@ public class WorkingCalendarServiceImpl implements WorkingCalendarService {
     @Autowired
     private WorkingCalendarMapper mapper;
 
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    private final CachedFilter<WorkingCalendar, WorkingCalendarDTO> filter = new CachedFilter<>(WorkingCalendar.class, WorkingCalendarDTO.class, () -> entityTemplate, workingCalendar -> mapper.toDTO(workingCalendar));
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private CalendarResolutionCache resolutionCache;
+
     @Autowired
     private BankService bankService;
 
     @Override
     public Mono<PaginationResponse<WorkingCalendarDTO>> filterWorkingCalendars(FilterRequest<WorkingCalendarDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        WorkingCalendar.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filterResultCache.get(WorkingCalendar.class, filterRequest, filter::filter);
     }
 
     @Override
@@ -65,6 +84,10 @@ public class WorkingCalendarServiceImpl implements WorkingCalendarService {
         return Mono.just(workingCalendarDTO)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(workingCalendar -> changeOutbox.created(AuditedEntities.WORKING_CALENDAR, workingCalendar).thenReturn(workingCalendar))
+                .flatMap(workingCalendar -> AfterCommit.run(() -> filterResultCache.invalidate(WorkingCalendar.class)).thenReturn(workingCalendar))
+                .flatMap(workingCalendar -> auditRecorder.created(AuditedEntities.WORKING_CALENDAR, workingCalendar).thenReturn(workingCalendar))
+                .flatMap(workingCalendar -> AfterCommit.run(() -> resolutionCache.invalidateCalendar(workingCalendar)).thenReturn(workingCalendar))
                 .map(mapper::toDTO);
     }
 
@@ -85,7 +108,14 @@ public class WorkingCalendarServiceImpl implements WorkingCalendarService {
                 .flatMap(existingWorkingCalendar -> {
                     WorkingCalendar updatedWorkingCalendar = mapper.toEntity(workingCalendarDTO);
                     updatedWorkingCalendar.setId(workingCalendarId);
-                    return repository.save(updatedWorkingCalendar);
+                    return repository.save(updatedWorkingCalendar)
+                            .flatMap(saved -> changeOutbox.updated(AuditedEntities.WORKING_CALENDAR, existingWorkingCalendar, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> filterResultCache.invalidate(WorkingCalendar.class)).thenReturn(saved))
+                            .flatMap(saved -> auditRecorder.updated(AuditedEntities.WORKING_CALENDAR, existingWorkingCalendar, saved).thenReturn(saved))
+                            .flatMap(saved -> AfterCommit.run(() -> {
+                                resolutionCache.invalidateCalendar(existingWorkingCalendar);
+                                resolutionCache.invalidateCalendar(saved);
+                            }).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
@@ -107,7 +137,11 @@ public class WorkingCalendarServiceImpl implements WorkingCalendarService {
     public Mono<Void> deleteWorkingCalendar(UUID workingCalendarId) {
         return repository.findById(workingCalendarId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Working calendar not found with ID: " + workingCalendarId)))
-                .flatMap(workingCalendar -> repository.deleteById(workingCalendarId));
+                .flatMap(workingCalendar -> repository.deleteById(workingCalendarId)
+                        .then(changeOutbox.deleted(AuditedEntities.WORKING_CALENDAR, workingCalendar))
+                        .then(AfterCommit.run(() -> filterResultCache.invalidate(WorkingCalendar.class)))
+                        .then(auditRecorder.deleted(AuditedEntities.WORKING_CALENDAR, workingCalendar))
+                        .then(AfterCommit.run(() -> resolutionCache.invalidateCalendar(workingCalendar))));
     }
 
     @Override
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.transactions;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Helper for applying the in-memory side effects of a change once the change is committed.
+ * <p>
+ * Indexes and caches are not transactional. Updated from inside the change, they would show data that
+ * may still be rolled back, and reads made before the commit could fill them with the old data again.
+ * Actions are registered with the current reactive transaction, run in registration order after it
+ * commits and dropped if it rolls back. Outside a transaction they run at once.
+ */
+@Slf4j
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs an action after the current transaction commits.
+     *
+     * @param action the side effect; failures are logged, as the change is already committed
+     * @return a Mono completing once the action is registered, or run if there is no transaction
+     */
+    public static Mono<Void> run(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .map(synchronizations -> {
+                    synchronizations.registerSynchronization(new Synchronization(action));
+                    return true;
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.just(false))
+                .defaultIfEmpty(false)
+                .flatMap(registered -> registered ? Mono.<Void>empty() : Mono.fromRunnable(action));
+    }
+
+    private record Synchronization(Runnable action) implements TransactionSynchronization {
+
+        @Override
+        public Mono<Void> afterCommit() {
+            return Mono.<Void>fromRunnable(action)
+                    .onErrorResume(error -> {
+                        log.error("Failed to apply a committed change in memory", error);
+                        return Mono.empty();
+                    });
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import io.r2dbc.postgresql.codec.Json;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AuditArchiveReaderTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2023, 3, 1, 0, 0, 0, 123_456_000);
+
+    private final UUID branchId = UUID.randomUUID();
+
+    @Test
+    void next_ShouldReadBackEveryColumn() throws IOException {
+        // Arrange
+        List<AuditEntry> entries = entries(7);
+
+        // Act
+        byte[] archive = write(entries, 3);
+
+        // Assert
+        try (AuditArchiveReader reader = new AuditArchiveReader(new ByteArrayInputStream(archive))) {
+            assertEquals(AuditScope.BRANCH, reader.scope());
+            List<AuditEntry> read = readAll(reader, START.minusDays(1), START.plusDays(1));
+            assertEquals(entries.size(), read.size());
+            for (int i = 0; i < entries.size(); i++) {
+                assertEntry(entries.get(i), read.get(i));
+            }
+        }
+    }
+
+    @Test
+    void next_ShouldOnlyReturnEntriesWithinTimeRange() throws IOException {
+        // Arrange
+        List<AuditEntry> entries = entries(10);
+        byte[] archive = write(entries, 4);
+
+        // Act
+        List<AuditEntry> read;
+        try (AuditArchiveReader reader = new AuditArchiveReader(new ByteArrayInputStream(archive))) {
+            read = readAll(reader, START.plusMinutes(5), START.plusMinutes(7));
+        }
+
+        // Assert
+        assertEquals(List.of(entries.get(5).id(), entries.get(6).id()), read.stream().map(AuditEntry::id).toList());
+    }
+
+    @Test
+    void next_WhenNoEntries_ShouldReturnNull() throws IOException {
+        // Arrange
+        byte[] archive = write(List.of(), 4);
+
+        // Act & Assert
+        try (AuditArchiveReader reader = new AuditArchiveReader(new ByteArrayInputStream(archive))) {
+            assertNull(reader.next(START.minusDays(1), START.plusDays(1)));
+        }
+    }
+
+    @Test
+    void open_WhenNotAnArchive_ShouldFail() {
+        // Act & Assert
+        assertThrows(IOException.class, () -> new AuditArchiveReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6})));
+    }
+
+    @Test
+    void write_WhenEntryOfOtherScope_ShouldFail() throws IOException {
+        // Arrange
+        AuditArchiveWriter writer = new AuditArchiveWriter(new ByteArrayOutputStream(), AuditScope.BANK, 4);
+        AuditEntry entry = entries(1).get(0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> writer.write(entry));
+    }
+
+    private byte[] write(List<AuditEntry> entries, int rowGroupSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AuditArchiveWriter writer = new AuditArchiveWriter(out, AuditScope.BRANCH, rowGroupSize)) {
+            for (AuditEntry entry : entries) {
+                writer.write(entry);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<AuditEntry> readAll(AuditArchiveReader reader, LocalDateTime from, LocalDateTime to)
+            throws IOException {
+        List<AuditEntry> read = new ArrayList<>();
+        for (List<AuditEntry> group = reader.next(from, to); group != null; group = reader.next(from, to)) {
+            read.addAll(group);
+        }
+        return read;
+    }
+
+    private List<AuditEntry> entries(int count) {
+        UUID userId = UUID.randomUUID();
+        return IntStream.range(0, count)
+                .mapToObj(i -> new AuditEntry(AuditScope.BRANCH, UUID.randomUUID(),
+                        i % 3 == 0 ? UUID.randomUUID() : branchId,
+                        i % 2 == 0 ? AuditAction.UPDATED : AuditAction.CREATED,
+                        i % 2 == 0 ? "Branch" : "BranchHours",
+                        "entity-" + i,
+                        i % 4 == 0 ? null : Json.of("{\"field\":\"name\",\"value\":\"ñ" + i + "\"}"),
+                        i % 5 == 0 ? null : "10.0.0." + i,
+                        i % 3 == 1 ? null : userId,
+                        START.plusMinutes(i)))
+                .toList();
+    }
+
+    private static void assertEntry(AuditEntry expected, AuditEntry actual) {
+        assertEquals(expected.scope(), actual.scope());
+        assertEquals(expected.id(), actual.id());
+        assertEquals(expected.scopeId(), actual.scopeId());
+        assertEquals(expected.action(), actual.action());
+        assertEquals(expected.entity(), actual.entity());
+        assertEquals(expected.entityId(), actual.entityId());
+        assertEquals(expected.metadata() == null ? null : expected.metadata().asString(),
+                actual.metadata() == null ? null : actual.metadata().asString());
+        assertEquals(expected.ipAddress(), actual.ipAddress());
+        assertEquals(expected.userId(), actual.userId());
+        assertEquals(expected.timestamp(), actual.timestamp());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import io.r2dbc.postgresql.codec.Json;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AuditCopyLoaderTest {
+
+    @Test
+    void encode_ShouldEscapeTextFormatAndMarkNulls() {
+        // Arrange
+        UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID bankId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        AuditEntry entry = new AuditEntry(AuditScope.BANK, id, bankId, AuditAction.CREATED, "Bank", "a\tb",
+                Json.of("{\"path\":\"C:\\\\temp\",\"note\":\"line\\nbreak\"}"), null, null,
+                LocalDateTime.of(2024, 3, 1, 9, 30, 15));
+
+        // Act
+        String line = AuditCopyLoader.encode(entry);
+
+        // Assert
+        assertEquals("00000000-0000-0000-0000-000000000001\t123e4567-e89b-12d3-a456-426614174000\tCREATED\tBank\ta\\tb\t"
+                + "{\"path\":\"C:\\\\\\\\temp\",\"note\":\"line\\\\nbreak\"}\t\\N\t\\N\t2024-03-01T09:30:15\n", line);
+    }
+}
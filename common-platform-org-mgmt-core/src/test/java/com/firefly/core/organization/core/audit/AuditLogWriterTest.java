@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.core.config.AuditWriterProperties;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.BankAuditLog;
+import com.firefly.core.organization.models.entities.BranchAuditLog;
+import io.r2dbc.postgresql.codec.Json;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditLogWriterTest {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+
+    @Mock
+    private AuditSpool spool;
+
+    @Spy
+    private AuditWriterProperties properties = new AuditWriterProperties();
+
+    @InjectMocks
+    private AuditLogWriter auditLogWriter;
+
+    private UUID bankId;
+    private UUID branchId;
+
+    @BeforeEach
+    void setUp() {
+        bankId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        branchId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+
+        lenient().when(databaseClient.sql(any(String.class))).thenReturn(executeSpec);
+        lenient().when(executeSpec.bind(anyInt(), any())).thenReturn(executeSpec);
+        lenient().when(executeSpec.bindNull(anyInt(), any())).thenReturn(executeSpec);
+        lenient().when(executeSpec.then()).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void submit_WhenNotStarted_ShouldWriteImmediately() {
+        // Arrange
+        BankAuditLog log = bankLog();
+
+        // Act & Assert
+        StepVerifier.create(auditLogWriter.submit(log))
+                .expectNext(log)
+                .verifyComplete();
+
+        assertNotNull(log.getId());
+        assertNotNull(log.getTimestamp());
+        assertFalse(auditLogWriter.isEnabled());
+        verify(databaseClient).sql(any(String.class));
+        verify(executeSpec).bind(0, log.getId());
+        verify(executeSpec).bind(2, "CREATED");
+    }
+
+    @Test
+    void write_ShouldInsertOneStatementPerTable() {
+        // Arrange
+        List<AuditEntry> entries = List.of(
+                AuditEntry.of(withIds(bankLog())),
+                AuditEntry.of(withIds(branchLog())),
+                AuditEntry.of(withIds(bankLog())));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act & Assert
+        StepVerifier.create(auditLogWriter.write(entries))
+                .verifyComplete();
+
+        verify(databaseClient, times(2)).sql(sql.capture());
+        assertTrue(sql.getAllValues().get(0).startsWith("INSERT INTO bank_audit_log (id, bank_id,"));
+        assertTrue(sql.getAllValues().get(0).contains("($10, $11, CAST($12 AS audit_action_enum)"));
+        assertTrue(sql.getAllValues().get(1).startsWith("INSERT INTO branch_audit_log (id, branch_id,"));
+        assertFalse(sql.getAllValues().get(1).contains("$10"));
+    }
+
+    @Test
+    void write_ShouldSplitLargeBatches() {
+        // Arrange
+        properties.setBatchSize(2);
+        List<AuditEntry> entries = List.of(
+                AuditEntry.of(withIds(bankLog())),
+                AuditEntry.of(withIds(bankLog())),
+                AuditEntry.of(withIds(bankLog())));
+
+        // Act & Assert
+        StepVerifier.create(auditLogWriter.write(entries))
+                .verifyComplete();
+
+        verify(databaseClient, times(2)).sql(any(String.class));
+    }
+
+    @Test
+    void stop_ShouldFlushQueuedEntries() {
+        // Arrange
+        properties.setMaxDelay(Duration.ofSeconds(10));
+        auditLogWriter.start();
+        assertTrue(auditLogWriter.isEnabled());
+
+        // Act
+        StepVerifier.create(auditLogWriter.submit(bankLog()).then(auditLogWriter.submit(branchLog())))
+                .expectNextCount(1)
+                .verifyComplete();
+        auditLogWriter.stop();
+
+        // Assert
+        assertFalse(auditLogWriter.isRunning());
+        assertEquals(0, auditLogWriter.pending());
+        verify(databaseClient, times(2)).sql(any(String.class));
+    }
+
+    @Test
+    void flush_WhenWriteKeepsFailing_ShouldSpoolTheBatch() {
+        // Arrange
+        properties.setMaxDelay(Duration.ofMillis(10));
+        when(spool.isEnabled()).thenReturn(true);
+        when(executeSpec.then()).thenReturn(Mono.error(new IllegalStateException("database unavailable")));
+        auditLogWriter.start();
+
+        // Act
+        StepVerifier.create(auditLogWriter.submit(bankLog()))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Assert
+        verify(spool, timeout(5_000)).append(anyList());
+        verify(spool, timeout(5_000)).force();
+        auditLogWriter.stop();
+    }
+
+    private BankAuditLog bankLog() {
+        return BankAuditLog.builder()
+                .bankId(bankId)
+                .action(AuditAction.CREATED)
+                .entity("Bank")
+                .entityId(bankId.toString())
+                .metadata(Json.of("{\"name\":\"Test Bank\"}"))
+                .build();
+    }
+
+    private BranchAuditLog branchLog() {
+        return BranchAuditLog.builder()
+                .branchId(branchId)
+                .action(AuditAction.UPDATED)
+                .entity("Branch")
+                .entityId(branchId.toString())
+                .build();
+    }
+
+    private static BankAuditLog withIds(BankAuditLog log) {
+        log.setId(UUID.randomUUID());
+        log.setTimestamp(LocalDateTime.now());
+        return log;
+    }
+
+    private static BranchAuditLog withIds(BranchAuditLog log) {
+        log.setId(UUID.randomUUID());
+        log.setTimestamp(LocalDateTime.now());
+        return log;
+    }
+}
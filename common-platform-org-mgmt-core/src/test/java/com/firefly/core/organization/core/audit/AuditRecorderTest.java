@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.core.transactions.NoOpTransactionManager;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.Bank;
+import com.firefly.core.organization.models.entities.BankDivision;
+import com.firefly.core.organization.models.entities.BankRegion;
+import com.firefly.core.organization.models.repositories.BankDivisionRepository;
+import com.firefly.core.organization.models.repositories.BranchDepartmentRepository;
+import com.firefly.core.organization.models.repositories.WorkingCalendarRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditRecorderTest {
+
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    @Mock
+    private BankDivisionRepository bankDivisionRepository;
+
+    @Mock
+    private BranchDepartmentRepository branchDepartmentRepository;
+
+    @Mock
+    private WorkingCalendarRepository workingCalendarRepository;
+
+    @InjectMocks
+    private AuditRecorder auditRecorder;
+
+    private UUID bankId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        bankId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        userId = UUID.fromString("323e4567-e89b-12d3-a456-426614174000");
+        ReflectionTestUtils.setField(auditRecorder, "enabled", true);
+    }
+
+    @Test
+    void created_ShouldSubmitEntryToBankLog() {
+        // Arrange
+        when(auditLogWriter.submit(any(AuditEntry.class))).thenReturn(Mono.empty());
+        ArgumentCaptor<AuditEntry> entry = ArgumentCaptor.forClass(AuditEntry.class);
+
+        // Act
+        StepVerifier.create(auditRecorder.created(AuditedEntities.BANK, bank(true)))
+                .verifyComplete();
+
+        // Assert
+        verify(auditLogWriter).submit(entry.capture());
+        assertEquals(AuditScope.BANK, entry.getValue().scope());
+        assertEquals(bankId, entry.getValue().scopeId());
+        assertEquals(AuditAction.CREATED, entry.getValue().action());
+        assertEquals("Bank", entry.getValue().entity());
+        assertEquals(bankId.toString(), entry.getValue().entityId());
+        assertEquals(userId, entry.getValue().userId());
+    }
+
+    @Test
+    void updated_WhenActiveFlagFlips_ShouldRecordDeactivation() {
+        // Arrange
+        when(auditLogWriter.submit(any(AuditEntry.class))).thenReturn(Mono.empty());
+        ArgumentCaptor<AuditEntry> entry = ArgumentCaptor.forClass(AuditEntry.class);
+
+        // Act
+        StepVerifier.create(auditRecorder.updated(AuditedEntities.BANK, bank(true), bank(false)))
+                .verifyComplete();
+
+        // Assert
+        verify(auditLogWriter).submit(entry.capture());
+        assertEquals(AuditAction.DEACTIVATED, entry.getValue().action());
+        assertEquals("{\"isActive\":{\"old\":true,\"new\":false}}", entry.getValue().metadata().asString());
+    }
+
+    @Test
+    void updated_WhenNothingChanged_ShouldNotRecord() {
+        // Act
+        StepVerifier.create(auditRecorder.updated(AuditedEntities.BANK, bank(true), bank(true)))
+                .verifyComplete();
+
+        // Assert
+        verify(auditLogWriter, never()).submit(any(AuditEntry.class));
+    }
+
+    @Test
+    void deleted_ShouldResolveBankOfRegion() {
+        // Arrange
+        UUID divisionId = UUID.randomUUID();
+        BankRegion region = BankRegion.builder().id(UUID.randomUUID()).divisionId(divisionId).name("North").build();
+        when(bankDivisionRepository.findById(divisionId))
+                .thenReturn(Mono.just(BankDivision.builder().id(divisionId).bankId(bankId).build()));
+        when(auditLogWriter.submit(any(AuditEntry.class))).thenReturn(Mono.empty());
+        ArgumentCaptor<AuditEntry> entry = ArgumentCaptor.forClass(AuditEntry.class);
+
+        // Act
+        StepVerifier.create(auditRecorder.deleted(AuditedEntities.BANK_REGION, region))
+                .verifyComplete();
+
+        // Assert
+        verify(auditLogWriter).submit(entry.capture());
+        assertEquals(AuditScope.BANK, entry.getValue().scope());
+        assertEquals(bankId, entry.getValue().scopeId());
+        assertEquals(AuditAction.DELETED, entry.getValue().action());
+    }
+
+    @Test
+    void created_ShouldSubmitEntryOnlyOnceTheChangeCommits() {
+        // Arrange
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+        when(auditLogWriter.submit(any(AuditEntry.class))).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(transactionalOperator.transactional(auditRecorder.created(AuditedEntities.BANK, bank(true))
+                        .doOnSuccess(unused -> verify(auditLogWriter, never()).submit(any(AuditEntry.class)))))
+                .verifyComplete();
+
+        // Assert
+        verify(auditLogWriter).submit(any(AuditEntry.class));
+    }
+
+    @Test
+    void created_WhenChangeRollsBack_ShouldNotSubmitEntry() {
+        // Arrange
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+
+        // Act
+        StepVerifier.create(transactionalOperator.transactional(auditRecorder.created(AuditedEntities.BANK, bank(true))
+                        .then(Mono.error(new RuntimeException("Constraint violated")))))
+                .expectErrorMessage("Constraint violated")
+                .verify();
+
+        // Assert
+        verify(auditLogWriter, never()).submit(any(AuditEntry.class));
+    }
+
+    @Test
+    void action_ShouldDistinguishActivation() {
+        // Act & Assert
+        assertEquals(AuditAction.ACTIVATED, AuditRecorder.action(false, true));
+        assertEquals(AuditAction.ACTIVATED, AuditRecorder.action(null, true));
+        assertEquals(AuditAction.DEACTIVATED, AuditRecorder.action(true, null));
+        assertEquals(AuditAction.UPDATED, AuditRecorder.action(true, true));
+    }
+
+    private Bank bank(boolean active) {
+        return Bank.builder()
+                .id(bankId)
+                .code("TEST")
+                .name("Test Bank")
+                .isActive(active)
+                .createdBy(userId)
+                .build();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.core.config.AuditSpoolProperties;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import io.r2dbc.postgresql.codec.Json;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditSpoolTest {
+
+    @Mock
+    private AuditCopyLoader auditCopyLoader;
+
+    @Spy
+    private AuditSpoolProperties properties = new AuditSpoolProperties();
+
+    @InjectMocks
+    private AuditSpool auditSpool;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        properties.setDirectory(directory);
+        properties.setSegmentSize(DataSize.ofBytes(512));
+        properties.setReplayBatchSize(2);
+    }
+
+    @Test
+    void append_ShouldRollSegmentsAndSurviveRestart() throws IOException {
+        // Act
+        auditSpool.append(entries(6));
+        auditSpool.force();
+
+        // Assert
+        assertEquals(6, auditSpool.depth());
+        assertTrue(segments().size() > 1);
+        assertEquals(6, restarted().depth());
+    }
+
+    @Test
+    void append_WithCorruptRecord_ShouldIgnoreTheRestOfItsSegment() throws IOException {
+        // Arrange
+        auditSpool.append(entries(1));
+        auditSpool.force();
+        Path segment = segments().get(0);
+        byte[] content = Files.readAllBytes(segment);
+        content[Integer.BYTES * 2 + Long.BYTES + 4] ^= 1;
+        Files.write(segment, content);
+
+        // Act & Assert
+        assertEquals(0, restarted().depth());
+    }
+
+    @Test
+    void replay_ShouldLoadEntriesInOrderAndDeleteSegments() throws IOException {
+        // Arrange
+        List<AuditEntry> entries = entries(5);
+        auditSpool.append(entries);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditEntry>> loaded = ArgumentCaptor.forClass(List.class);
+        when(auditCopyLoader.load(eq(AuditScope.BANK), loaded.capture()))
+                .thenAnswer(invocation -> Mono.just(invocation.<List<AuditEntry>>getArgument(1).size()));
+
+        // Act & Assert
+        StepVerifier.create(auditSpool.replay())
+                .expectNext(5L)
+                .verifyComplete();
+
+        assertEquals(entries.stream().map(AuditEntry::id).toList(),
+                loaded.getAllValues().stream().flatMap(List::stream).map(AuditEntry::id).toList());
+        assertEquals(0, auditSpool.depth());
+        assertEquals(Duration.ZERO, auditSpool.lag());
+        assertTrue(segments().isEmpty());
+    }
+
+    @Test
+    void replay_WhenLoadFails_ShouldKeepTheSegment() throws IOException {
+        // Arrange
+        auditSpool.append(entries(1));
+        when(auditCopyLoader.load(eq(AuditScope.BANK), anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("database unavailable")));
+
+        // Act & Assert
+        StepVerifier.create(auditSpool.replay())
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(1, auditSpool.depth());
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    void replay_AfterFailurePartwayThroughSegment_ShouldResumeAfterTheLoadedBatches() {
+        // Arrange
+        List<AuditEntry> entries = entries(5);
+        auditSpool.append(entries);
+        List<UUID> loaded = new ArrayList<>();
+        AtomicBoolean available = new AtomicBoolean(true);
+        when(auditCopyLoader.load(eq(AuditScope.BANK), anyList())).thenAnswer(invocation -> {
+            if (!available.getAndSet(false)) {
+                return Mono.error(new IllegalStateException("database unavailable"));
+            }
+            List<AuditEntry> batch = invocation.getArgument(1);
+            batch.forEach(entry -> loaded.add(entry.id()));
+            return Mono.just(batch.size());
+        });
+
+        // Act & Assert
+        StepVerifier.create(auditSpool.replay())
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(3, auditSpool.depth());
+
+        when(auditCopyLoader.load(eq(AuditScope.BANK), anyList())).thenAnswer(invocation -> {
+            List<AuditEntry> batch = invocation.getArgument(1);
+            batch.forEach(entry -> loaded.add(entry.id()));
+            return Mono.just(batch.size());
+        });
+        StepVerifier.create(auditSpool.replay())
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertEquals(entries.stream().map(AuditEntry::id).toList(), loaded);
+        assertEquals(0, auditSpool.depth());
+        assertEquals(0, auditSpool.size());
+    }
+
+    @Test
+    void replay_WhenEntryIsRejected_ShouldMoveItToTheDeadLetterFileAndLoadTheRest() throws IOException {
+        // Arrange
+        List<AuditEntry> entries = entries(3);
+        UUID rejected = entries.get(1).id();
+        auditSpool.append(entries);
+        List<UUID> loaded = new ArrayList<>();
+        when(auditCopyLoader.load(eq(AuditScope.BANK), anyList())).thenAnswer(invocation -> {
+            List<AuditEntry> batch = invocation.getArgument(1);
+            if (batch.stream().anyMatch(entry -> entry.id().equals(rejected))) {
+                return Mono.error(new DataIntegrityViolationException("value too long"));
+            }
+            batch.forEach(entry -> loaded.add(entry.id()));
+            return Mono.just(batch.size());
+        });
+
+        // Act & Assert
+        StepVerifier.create(auditSpool.replay())
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertEquals(List.of(entries.get(0).id(), entries.get(2).id()), loaded);
+        assertEquals(0, auditSpool.depth());
+        assertEquals(1, auditSpool.deadLettered());
+        assertEquals(List.of(directory.resolve("dead-letter.spool")), segments());
+    }
+
+    private AuditSpool restarted() {
+        AuditSpool spool = new AuditSpool();
+        ReflectionTestUtils.setField(spool, "properties", properties);
+        ReflectionTestUtils.setField(spool, "auditCopyLoader", auditCopyLoader);
+        spool.recover();
+        return spool;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static List<AuditEntry> entries(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new AuditEntry(AuditScope.BANK, UUID.randomUUID(), UUID.randomUUID(),
+                        AuditAction.UPDATED, "Bank", String.valueOf(i), Json.of("{\"name\":{\"new\":\"Bank " + i + "\"}}"),
+                        "10.0.0." + i, null, LocalDateTime.of(2025, 1, 1, 9, 0).plusSeconds(i)))
+                .toList();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.audit;
+
+import com.firefly.core.organization.models.entities.Bank;
+import com.firefly.core.organization.models.entities.Branch;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class EntityDifferTest {
+
+    private static final UUID BANK_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    @Test
+    void diff_ShouldListOnlyChangedFields() {
+        // Arrange
+        Bank before = bank("Test Bank", true);
+        Bank after = bank("Renamed Bank", true);
+        after.setUpdatedAt(LocalDateTime.now());
+
+        // Act & Assert
+        assertEquals("{\"name\":{\"old\":\"Test Bank\",\"new\":\"Renamed Bank\"}}",
+                AuditedEntities.BANK.diff(before, after));
+    }
+
+    @Test
+    void diff_WhenNothingChanged_ShouldReturnNull() {
+        // Act & Assert
+        assertNull(AuditedEntities.BANK.diff(bank("Test Bank", true), bank("Test Bank", true)));
+    }
+
+    @Test
+    void diff_OnCreation_ShouldListNonNullFields() {
+        // Act & Assert
+        assertEquals("{\"code\":{\"old\":null,\"new\":\"TEST\"},"
+                        + "\"name\":{\"old\":null,\"new\":\"Test Bank\"},"
+                        + "\"isActive\":{\"old\":null,\"new\":true}}",
+                AuditedEntities.BANK.diff(null, bank("Test Bank", true)));
+    }
+
+    @Test
+    void diff_ShouldEscapeStringsAndWriteNumbers() {
+        // Arrange
+        Branch before = Branch.builder().id(BANK_ID).name("Main").latitude(40.4f).build();
+        Branch after = Branch.builder().id(BANK_ID).name("Main \"Plaza\"\n").latitude(41.5f).build();
+
+        // Act & Assert
+        assertEquals("{\"name\":{\"old\":\"Main\",\"new\":\"Main \\\"Plaza\\\"\\n\"},"
+                        + "\"latitude\":{\"old\":40.4,\"new\":41.5}}",
+                AuditedEntities.BRANCH.diff(before, after));
+    }
+
+    @Test
+    void actor_ShouldPreferLastModifier() {
+        // Arrange
+        UUID creator = UUID.randomUUID();
+        UUID modifier = UUID.randomUUID();
+        Bank bank = bank("Test Bank", true);
+        bank.setCreatedBy(creator);
+
+        // Act & Assert
+        assertEquals(creator, AuditedEntities.BANK.actor(bank));
+        bank.setUpdatedBy(modifier);
+        assertEquals(modifier, AuditedEntities.BANK.actor(bank));
+    }
+
+    private static Bank bank(String name, boolean active) {
+        return Bank.builder()
+                .id(BANK_ID)
+                .code("TEST")
+                .name(name)
+                .isActive(active)
+                .build();
+    }
+}
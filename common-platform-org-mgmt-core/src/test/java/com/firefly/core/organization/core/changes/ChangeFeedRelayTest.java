@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.changes;
+
+import com.firefly.core.organization.core.mappers.ChangeEventMapper;
+import com.firefly.core.organization.interfaces.dtos.ChangeEventDTO;
+import com.firefly.core.organization.models.entities.ChangeOutboxEntry;
+import com.firefly.core.organization.models.repositories.ChangeOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeFeedRelayTest {
+
+    @Mock
+    private ChangeOutboxRepository repository;
+
+    @Mock
+    private ChangeEventMapper mapper;
+
+    @InjectMocks
+    private ChangeFeedRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        lenient().when(mapper.toDTO(any(ChangeOutboxEntry.class))).thenAnswer(invocation -> {
+            ChangeOutboxEntry entry = invocation.getArgument(0);
+            return ChangeEventDTO.builder().position(entry.getPosition()).build();
+        });
+    }
+
+    @Test
+    void publishPending_ShouldPublishUntilOutboxDrained() {
+        // Arrange
+        when(repository.publish(2)).thenReturn(Mono.just(2), Mono.just(2), Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(relay.publishPending())
+                .expectNext(5)
+                .verifyComplete();
+
+        verify(repository, times(3)).publish(2);
+    }
+
+    @Test
+    void readTail_ShouldStartAtHeadThenEmitNewChanges() {
+        // Arrange
+        when(repository.findHead()).thenReturn(Mono.just(4L));
+        when(repository.findPublishedAfter(4L, 2)).thenReturn(Flux.just(entry(5), entry(6)));
+        when(repository.findPublishedAfter(6L, 2)).thenReturn(Flux.just(entry(7)));
+
+        // Act & Assert
+        StepVerifier.create(relay.readTail())
+                .expectNext(0)
+                .verifyComplete();
+
+        StepVerifier.create(relay.published().take(2).map(List::size))
+                .then(() -> relay.readTail().subscribe())
+                .expectNext(2, 1)
+                .verifyComplete();
+    }
+
+    private static ChangeOutboxEntry entry(long position) {
+        return ChangeOutboxEntry.builder().id(position).position(position).build();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.changes;
+
+import com.firefly.core.organization.core.audit.AuditTarget;
+import com.firefly.core.organization.core.audit.AuditTargetResolver;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.Bank;
+import com.firefly.core.organization.models.entities.BankRegion;
+import com.firefly.core.organization.models.entities.ChangeOutboxEntry;
+import com.firefly.core.organization.models.repositories.ChangeOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeOutboxTest {
+
+    @Mock
+    private ChangeOutboxRepository repository;
+
+    @Mock
+    private AuditTargetResolver targetResolver;
+
+    @InjectMocks
+    private ChangeOutbox changeOutbox;
+
+    private UUID bankId;
+
+    @BeforeEach
+    void setUp() {
+        bankId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        ReflectionTestUtils.setField(changeOutbox, "enabled", true);
+    }
+
+    @Test
+    void created_ShouldWriteChangeOfBank() {
+        // Arrange
+        when(repository.save(any(ChangeOutboxEntry.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        ArgumentCaptor<ChangeOutboxEntry> entry = ArgumentCaptor.forClass(ChangeOutboxEntry.class);
+
+        // Act & Assert
+        StepVerifier.create(changeOutbox.created(AuditedEntities.BANK, bank(true, "Test Bank")))
+                .verifyComplete();
+
+        verify(repository).save(entry.capture());
+        assertEquals("Bank", entry.getValue().getEntity());
+        assertEquals(bankId, entry.getValue().getEntityId());
+        assertEquals(AuditAction.CREATED, entry.getValue().getAction());
+        assertEquals(bankId, entry.getValue().getBankId());
+        assertNull(entry.getValue().getBranchId());
+        assertNull(entry.getValue().getPosition());
+        assertTrue(entry.getValue().getChanges().asString().contains("\"name\":{\"old\":null,\"new\":\"Test Bank\"}"));
+    }
+
+    @Test
+    void updated_WhenDeactivated_ShouldWriteDeactivation() {
+        // Arrange
+        when(repository.save(any(ChangeOutboxEntry.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        ArgumentCaptor<ChangeOutboxEntry> entry = ArgumentCaptor.forClass(ChangeOutboxEntry.class);
+
+        // Act & Assert
+        StepVerifier.create(changeOutbox.updated(AuditedEntities.BANK, bank(true, "Test Bank"), bank(false, "Test Bank")))
+                .verifyComplete();
+
+        verify(repository).save(entry.capture());
+        assertEquals(AuditAction.DEACTIVATED, entry.getValue().getAction());
+    }
+
+    @Test
+    void updated_WhenNothingChanged_ShouldWriteNothing() {
+        // Act & Assert
+        StepVerifier.create(changeOutbox.updated(AuditedEntities.BANK, bank(true, "Test Bank"), bank(true, "Test Bank")))
+                .verifyComplete();
+
+        verify(repository, never()).save(any(ChangeOutboxEntry.class));
+    }
+
+    @Test
+    void deleted_ShouldResolveBankOfEntity() {
+        // Arrange
+        UUID divisionId = UUID.randomUUID();
+        BankRegion region = BankRegion.builder().id(UUID.randomUUID()).divisionId(divisionId).name("North").build();
+        when(targetResolver.bankOfDivision(divisionId)).thenReturn(Mono.just(AuditTarget.bank(bankId)));
+        when(repository.save(any(ChangeOutboxEntry.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        ArgumentCaptor<ChangeOutboxEntry> entry = ArgumentCaptor.forClass(ChangeOutboxEntry.class);
+
+        // Act & Assert
+        StepVerifier.create(changeOutbox.deleted(AuditedEntities.BANK_REGION, region))
+                .verifyComplete();
+
+        verify(repository).save(entry.capture());
+        assertEquals(AuditAction.DELETED, entry.getValue().getAction());
+        assertEquals(bankId, entry.getValue().getBankId());
+    }
+
+    @Test
+    void created_WhenSaveFails_ShouldFail() {
+        // Arrange
+        when(repository.save(any(ChangeOutboxEntry.class))).thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+        // Act & Assert
+        StepVerifier.create(changeOutbox.created(AuditedEntities.BANK, bank(true, "Test Bank")))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    void created_WhenDisabled_ShouldWriteNothing() {
+        // Arrange
+        ReflectionTestUtils.setField(changeOutbox, "enabled", false);
+
+        // Act & Assert
+        StepVerifier.create(changeOutbox.created(AuditedEntities.BANK, bank(true, "Test Bank")))
+                .verifyComplete();
+
+        verify(repository, never()).save(any(ChangeOutboxEntry.class));
+    }
+
+    private Bank bank(boolean active, String name) {
+        return Bank.builder()
+                .id(bankId)
+                .code("TEST")
+                .name(name)
+                .isActive(active)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.filters;
+
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationRequest;
+import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.models.entities.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+public class CachedFilterTest {
+
+    private CachedFilter<Bank, BankDTO> filter;
+
+    @BeforeEach
+    void setUp() {
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(mock(DatabaseClient.class), PostgresDialect.INSTANCE);
+        filter = new CachedFilter<>(Bank.class, BankDTO.class, () -> template, bank -> new BankDTO());
+    }
+
+    @Test
+    void query_ShouldCompileFiltersAndSortOfTheRequestToSql() {
+        // Arrange
+        UUID countryId = UUID.randomUUID();
+        BankDTO filters = BankDTO.builder().code("BN_1").countryId(countryId).isActive(true).build();
+
+        // Act
+        CachedFilter.Query query = filter.query(request(filters, "name", "DESC", 2, 20));
+
+        // Assert
+        assertEquals("SELECT * FROM bank WHERE code ILIKE $1 AND country_id = $2 AND is_active = $3"
+                + " ORDER BY name DESC, id LIMIT $4 OFFSET $5", query.statement().select());
+        assertEquals("SELECT COUNT(*) FROM bank WHERE code ILIKE $1 AND country_id = $2 AND is_active = $3",
+                query.statement().count());
+        assertEquals(List.of("%BN\\_1%", countryId, true), query.values());
+        assertEquals(2, query.pageNumber());
+        assertEquals(20, query.pageSize());
+    }
+
+    @Test
+    void query_ShouldCompileEachShapeOnceAndOnlyBindItsValues() {
+        // Act
+        CachedFilter.Query first = filter.query(request(BankDTO.builder().code("A").build(), "name", "ASC", 0, 10));
+        CachedFilter.Query second = filter.query(request(BankDTO.builder().code("B").build(), "name", "ASC", 3, 50));
+        CachedFilter.Query otherSort = filter.query(request(BankDTO.builder().code("B").build(), "code", "ASC", 0, 10));
+
+        // Assert
+        assertSame(first.statement(), second.statement());
+        assertEquals(List.of("%A%"), first.values());
+        assertEquals(List.of("%B%"), second.values());
+        assertEquals("SELECT * FROM bank WHERE code ILIKE $1 ORDER BY code ASC, id LIMIT $2 OFFSET $3",
+                otherSort.statement().select());
+        assertEquals(2, filter.shapes());
+    }
+
+    @Test
+    void query_WhenIdFieldIsNotFilterable_ShouldIgnoreIt() {
+        // Arrange
+        BankDTO filters = BankDTO.builder().createdBy(UUID.randomUUID()).build();
+
+        // Act
+        CachedFilter.Query query = filter.query(request(filters, null, null, 0, 10));
+
+        // Assert
+        assertEquals("SELECT * FROM bank ORDER BY id LIMIT $1 OFFSET $2", query.statement().select());
+        assertEquals(List.of(), query.values());
+    }
+
+    @Test
+    void query_WhenSortFieldIsUnknown_ShouldThrowAndCompileNothing() {
+        // Arrange
+        FilterRequest<BankDTO> request = request(new BankDTO(), "unknown", "ASC", 0, 10);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> filter.query(request));
+        assertEquals(0, filter.shapes());
+    }
+
+    private static FilterRequest<BankDTO> request(BankDTO filters, String sortBy, String sortDirection,
+                                                  int pageNumber, int pageSize) {
+        PaginationRequest pagination = new PaginationRequest();
+        pagination.setPageNumber(pageNumber);
+        pagination.setPageSize(pageSize);
+        pagination.setSortBy(sortBy);
+        pagination.setSortDirection(sortDirection);
+        FilterRequest<BankDTO> request = new FilterRequest<>();
+        request.setFilters(filters);
+        request.setPagination(pagination);
+        return request;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.filters;
+
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.config.FilterCacheProperties;
+import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.models.entities.Bank;
+import com.firefly.core.organization.models.entities.BankRegion;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchHierarchy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FilterResultCacheTest {
+
+    private FilterResultCache cache;
+
+    private FilterCacheProperties properties;
+
+    private final AtomicInteger filterCalls = new AtomicInteger();
+
+    private final Function<FilterRequest<BankDTO>, Mono<PaginationResponse<BankDTO>>> filter = request -> {
+        filterCalls.incrementAndGet();
+        return Mono.just(new PaginationResponse<>());
+    };
+
+    @BeforeEach
+    void setUp() {
+        properties = new FilterCacheProperties();
+        cache = new FilterResultCache();
+        ReflectionTestUtils.setField(cache, "properties", properties);
+        cache.following(true);
+    }
+
+    @Test
+    void get_ShouldServeEqualRequestsFromCache() {
+        // Act
+        PaginationResponse<BankDTO> first = cache.get(Bank.class, request("BNK"), filter).block();
+        PaginationResponse<BankDTO> second = cache.get(Bank.class, request("BNK"), filter).block();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, filterCalls.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void invalidate_ShouldOnlyOutdateResultsOfThatTable() {
+        // Arrange
+        PaginationResponse<BankDTO> first = cache.get(Bank.class, request("BNK"), filter).block();
+
+        // Act
+        cache.invalidate(Branch.class);
+        PaginationResponse<BankDTO> afterOtherChange = cache.get(Bank.class, request("BNK"), filter).block();
+        cache.invalidate(Bank.class);
+        PaginationResponse<BankDTO> afterChange = cache.get(Bank.class, request("BNK"), filter).block();
+
+        // Assert
+        assertSame(first, afterOtherChange);
+        assertNotSame(first, afterChange);
+        assertEquals(2, filterCalls.get());
+    }
+
+    @Test
+    void get_ShouldOutdateResultsReadFromSeveralTablesOnWriteToAnyOfThem() {
+        // Arrange
+        List<Class<?>> tables = List.of(Branch.class, BankRegion.class);
+        PaginationResponse<BankDTO> first = cache.get(BranchHierarchy.class, tables, request("BNK"), filter).block();
+
+        // Act
+        PaginationResponse<BankDTO> cached = cache.get(BranchHierarchy.class, tables, request("BNK"), filter).block();
+        cache.invalidate(BankRegion.class);
+        PaginationResponse<BankDTO> afterChange = cache.get(BranchHierarchy.class, tables, request("BNK"), filter).block();
+
+        // Assert
+        assertSame(first, cached);
+        assertNotSame(first, afterChange);
+        assertEquals(2, filterCalls.get());
+    }
+
+    @Test
+    void invalidateTable_ShouldOutdateResultsOfThatTableByItsName() {
+        // Arrange
+        PaginationResponse<BankDTO> first = cache.get(Bank.class, request("BNK"), filter).block();
+
+        // Act
+        cache.invalidateTable("branch");
+        PaginationResponse<BankDTO> afterOtherChange = cache.get(Bank.class, request("BNK"), filter).block();
+        cache.invalidateTable("bank");
+        PaginationResponse<BankDTO> afterChange = cache.get(Bank.class, request("BNK"), filter).block();
+
+        // Assert
+        assertSame(first, afterOtherChange);
+        assertNotSame(first, afterChange);
+        assertEquals(2, filterCalls.get());
+    }
+
+    @Test
+    void get_WhenTableChangesAreNotFollowed_ShouldNotCache() {
+        // Arrange
+        cache.get(Bank.class, request("BNK"), filter).block();
+
+        // Act
+        cache.following(false);
+        cache.get(Bank.class, request("BNK"), filter).block();
+        cache.get(Bank.class, request("BNK"), filter).block();
+
+        // Assert
+        assertEquals(3, filterCalls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsedResultsOverMaxWeight() {
+        // Arrange
+        cache.get(Bank.class, request("A"), filter).block();
+        long entryWeight = cache.weight();
+        properties.setMaxWeight(DataSize.ofBytes(entryWeight * 5 / 2));
+        cache.get(Bank.class, request("B"), filter).block();
+        cache.get(Bank.class, request("A"), filter).block();
+
+        // Act
+        cache.get(Bank.class, request("C"), filter).block();
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictions());
+        assertEquals(2 * entryWeight, cache.weight());
+        cache.get(Bank.class, request("A"), filter).block();
+        assertEquals(3, filterCalls.get());
+    }
+
+    private static FilterRequest<BankDTO> request(String code) {
+        FilterRequest<BankDTO> request = new FilterRequest<>();
+        request.setFilters(BankDTO.builder().code(code).isActive(true).build());
+        return request;
+    }
+}
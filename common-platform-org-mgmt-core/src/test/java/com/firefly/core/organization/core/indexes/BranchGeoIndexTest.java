@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.models.entities.Branch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BranchGeoIndexTest {
+
+    private static final UUID BANK_ID = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+    private static final UUID OTHER_BANK_ID = UUID.fromString("233e4567-e89b-12d3-a456-426614174000");
+
+    private BranchGeoIndex geoIndex;
+    private Branch madrid;
+    private Branch getafe;
+    private Branch toledo;
+    private Branch barcelona;
+    private Branch lisbon;
+    private Branch suva;
+    private Branch taveuni;
+
+    @BeforeEach
+    void setUp() {
+        geoIndex = new BranchGeoIndex();
+        madrid = branch("Madrid", BANK_ID, true, 40.4168f, -3.7038f);
+        getafe = branch("Getafe", BANK_ID, false, 40.3083f, -3.7327f);
+        toledo = branch("Toledo", BANK_ID, true, 39.8628f, -4.0273f);
+        barcelona = branch("Barcelona", BANK_ID, true, 41.3874f, 2.1686f);
+        lisbon = branch("Lisbon", OTHER_BANK_ID, true, 38.7223f, -9.1393f);
+        suva = branch("Suva", OTHER_BANK_ID, true, -18.1248f, 178.4501f);
+        taveuni = branch("Taveuni", OTHER_BANK_ID, true, -16.8000f, -179.9500f);
+        Branch withoutLocation = branch("Online", BANK_ID, true, null, null);
+
+        geoIndex.reset(List.of(madrid, getafe, toledo, barcelona, lisbon, suva, taveuni, withoutLocation));
+    }
+
+    @Test
+    void nearest_ShouldReturnClosestMatchingBranchesInOrder() {
+        List<BranchGeoIndex.Hit> hits = geoIndex.nearest(40.4200, -3.7000, 2, BANK_ID, true);
+
+        assertEquals(List.of("Madrid", "Toledo"), names(hits));
+        assertEquals(0.5, hits.get(0).distanceKm(), 0.5);
+    }
+
+    @Test
+    void nearest_WhenFewerBranchesThanLimit_ShouldReturnAllLocatedBranches() {
+        List<BranchGeoIndex.Hit> hits = geoIndex.nearest(40.4200, -3.7000, 10, null, null);
+
+        assertEquals(List.of("Madrid", "Getafe", "Toledo", "Lisbon", "Barcelona", "Taveuni", "Suva"), names(hits));
+    }
+
+    @Test
+    void nearest_ShouldAgreeWithExhaustiveSearch() {
+        Random random = new Random(42);
+        List<Branch> branches = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            float latitude = (float) (random.nextGaussian() * 4 + 45);
+            float longitude = (float) (random.nextGaussian() * 6 + 5);
+            branches.add(branch("B" + i, i % 2 == 0 ? BANK_ID : OTHER_BANK_ID, true, latitude, longitude));
+        }
+        geoIndex.reset(branches);
+
+        for (int q = 0; q < 50; q++) {
+            double latitude = random.nextGaussian() * 6 + 45;
+            double longitude = random.nextGaussian() * 9 + 5;
+            List<String> expected = branches.stream()
+                    .filter(branch -> branch.getBankId().equals(BANK_ID))
+                    .sorted(Comparator.comparingDouble(branch -> BranchGeoIndex.distanceKm(
+                            latitude, longitude, branch.getLatitude(), branch.getLongitude())))
+                    .limit(5)
+                    .map(Branch::getName)
+                    .toList();
+
+            assertEquals(expected, names(geoIndex.nearest(latitude, longitude, 5, BANK_ID, null)));
+        }
+    }
+
+    @Test
+    void withinRadius_ShouldReturnBranchesInsideTheCircle() {
+        List<BranchGeoIndex.Hit> hits = geoIndex.withinRadius(40.4200, -3.7000, 100, null, null);
+
+        assertEquals(List.of("Madrid", "Getafe", "Toledo"), names(hits));
+    }
+
+    @Test
+    void withinBox_WhenBoxCrossesAntimeridian_ShouldReturnBranchesOnBothSides() {
+        List<BranchGeoIndex.Hit> hits = geoIndex.withinBox(-19, 178, -16, -179, null, null);
+
+        assertEquals(2, hits.size());
+        assertEquals(List.of("Madrid", "Getafe"), names(geoIndex.withinBox(40, -4, 41, -3.5, BANK_ID, null)));
+    }
+
+    @Test
+    void putBranch_ShouldMoveAndRemoveBranches() {
+        geoIndex.putBranch(branch(madrid.getId(), "Madrid", BANK_ID, true, 41.3800f, 2.1700f));
+        geoIndex.removeBranch(toledo.getId());
+
+        assertEquals(List.of("Barcelona", "Madrid"), names(geoIndex.nearest(41.3874, 2.1686, 2, BANK_ID, true)));
+        assertEquals(List.of(), names(geoIndex.withinRadius(39.8628, -4.0273, 10, null, null)));
+    }
+
+    private static List<String> names(List<BranchGeoIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.branch().getName()).toList();
+    }
+
+    private static Branch branch(String name, UUID bankId, boolean active, Float latitude, Float longitude) {
+        return branch(UUID.randomUUID(), name, bankId, active, latitude, longitude);
+    }
+
+    private static Branch branch(UUID id, String name, UUID bankId, boolean active, Float latitude, Float longitude) {
+        return Branch.builder()
+                .id(id)
+                .bankId(bankId)
+                .name(name)
+                .isActive(active)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.core.config.TimeZoneProperties;
+import com.firefly.core.organization.interfaces.enums.DayOfWeek;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchHours;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BranchScheduleIndexTest {
+
+    private static final UUID BANK_ID = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+    private static final UUID REGION_ID = UUID.fromString("323e4567-e89b-12d3-a456-426614174000");
+    private static final UUID MADRID_ZONE_ID = UUID.fromString("523e4567-e89b-12d3-a456-426614174000");
+    private static final UUID MADRID_BRANCH_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private static final UUID UTC_BRANCH_ID = UUID.fromString("133e4567-e89b-12d3-a456-426614174000");
+    private static final UUID NIGHT_BRANCH_ID = UUID.fromString("143e4567-e89b-12d3-a456-426614174000");
+
+    private BranchScheduleIndex scheduleIndex;
+    private BranchHours madridSaturday;
+
+    @BeforeEach
+    void setUp() {
+        TimeZoneProperties timeZones = new TimeZoneProperties();
+        timeZones.setZones(Map.of(MADRID_ZONE_ID, "Europe/Madrid"));
+        scheduleIndex = new BranchScheduleIndex(timeZones);
+
+        Branch madrid = Branch.builder().id(MADRID_BRANCH_ID).bankId(BANK_ID).regionId(REGION_ID)
+                .timeZoneId(MADRID_ZONE_ID).isActive(true).build();
+        Branch utc = Branch.builder().id(UTC_BRANCH_ID).bankId(BANK_ID).isActive(true).build();
+
+        madridSaturday = hours(MADRID_BRANCH_ID, DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(17, 0));
+        scheduleIndex.reset(List.of(madrid, utc), List.of(
+                madridSaturday,
+                hours(UTC_BRANCH_ID, DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(15, 0)),
+                hours(UTC_BRANCH_ID, DayOfWeek.FRIDAY, LocalTime.of(22, 0), LocalTime.of(2, 0))));
+    }
+
+    @Test
+    void findOpen_ShouldRequireTheWholeWindowToBeOpen() {
+        assertEquals(List.of(MADRID_BRANCH_ID),
+                scheduleIndex.findOpen(DayOfWeek.SATURDAY, LocalTime.of(14, 0), LocalTime.of(16, 0), null, null));
+        assertEquals(List.of(MADRID_BRANCH_ID, UTC_BRANCH_ID),
+                scheduleIndex.findOpen(DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(15, 0), BANK_ID, null));
+        assertEquals(List.of(MADRID_BRANCH_ID),
+                scheduleIndex.findOpen(DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(15, 0), null, REGION_ID));
+    }
+
+    @Test
+    void findOpen_ShouldCarryOvernightHoursIntoTheNextDay() {
+        assertEquals(List.of(UTC_BRANCH_ID),
+                scheduleIndex.findOpen(DayOfWeek.SATURDAY, LocalTime.of(0, 0), LocalTime.of(2, 0), null, null));
+    }
+
+    @Test
+    void findOpen_WhenWindowEndsAtOrAfterMidnight_ShouldWrapIntoTheNextDay() {
+        // Arrange
+        Branch nightOwl = Branch.builder().id(NIGHT_BRANCH_ID).bankId(BANK_ID).isActive(true).build();
+        scheduleIndex.putBranch(nightOwl);
+        scheduleIndex.putHours(hours(NIGHT_BRANCH_ID, DayOfWeek.SUNDAY, LocalTime.of(20, 0), LocalTime.of(1, 0)));
+
+        // Act & Assert
+        assertEquals(List.of(UTC_BRANCH_ID),
+                scheduleIndex.findOpen(DayOfWeek.FRIDAY, LocalTime.of(22, 0), LocalTime.MIDNIGHT, null, null));
+        assertEquals(List.of(UTC_BRANCH_ID),
+                scheduleIndex.findOpen(DayOfWeek.FRIDAY, LocalTime.of(23, 0), LocalTime.of(1, 0), null, null));
+        assertEquals(List.of(),
+                scheduleIndex.findOpen(DayOfWeek.FRIDAY, LocalTime.of(23, 0), LocalTime.of(3, 0), null, null));
+        assertEquals(List.of(NIGHT_BRANCH_ID),
+                scheduleIndex.findOpen(DayOfWeek.SUNDAY, LocalTime.of(23, 0), LocalTime.of(0, 30), null, null));
+        assertEquals(List.of(),
+                scheduleIndex.findOpen(DayOfWeek.SUNDAY, LocalTime.of(23, 0), LocalTime.of(2, 0), null, null));
+    }
+
+    @Test
+    void findOpenAt_ShouldApplyBranchTimeZones() {
+        // Saturday 15:30 UTC is 16:30 or 17:30 in Madrid depending on daylight saving time
+        Instant winter = Instant.parse("2025-01-04T15:30:00Z");
+        Instant winterLate = Instant.parse("2025-01-04T16:30:00Z");
+
+        assertEquals(List.of(MADRID_BRANCH_ID), scheduleIndex.findOpenAt(winter, BANK_ID, null));
+        assertEquals(List.of(), scheduleIndex.findOpenAt(winterLate, BANK_ID, null));
+    }
+
+    @Test
+    void putHours_ShouldUpdateScheduleAndIgnoreInactiveBranches() {
+        // Arrange
+        BranchHours closed = hours(MADRID_BRANCH_ID, DayOfWeek.SATURDAY, null, null);
+        closed.setId(madridSaturday.getId());
+        closed.setIsClosed(true);
+
+        // Act
+        scheduleIndex.putHours(closed);
+        scheduleIndex.putBranch(Branch.builder().id(UTC_BRANCH_ID).bankId(BANK_ID).isActive(false).build());
+
+        // Assert
+        assertEquals(List.of(),
+                scheduleIndex.findOpen(DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), null, null));
+        assertFalse(scheduleIndex.isOpenAt(MADRID_BRANCH_ID, Instant.parse("2025-01-04T09:30:00Z")));
+        assertFalse(scheduleIndex.isOpenAt(UTC_BRANCH_ID, Instant.parse("2025-01-04T09:30:00Z")));
+    }
+
+    @Test
+    void removeBranch_ShouldKeepOtherBranchesAddressable() {
+        // Act
+        scheduleIndex.removeBranch(MADRID_BRANCH_ID);
+
+        // Assert
+        assertTrue(scheduleIndex.isOpenAt(UTC_BRANCH_ID, Instant.parse("2025-01-04T09:30:00Z")));
+        assertEquals(List.of(UTC_BRANCH_ID),
+                scheduleIndex.findOpen(DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), null, null));
+    }
+
+    private static BranchHours hours(UUID branchId, DayOfWeek day, LocalTime open, LocalTime close) {
+        return BranchHours.builder()
+                .id(UUID.randomUUID())
+                .branchId(branchId)
+                .dayOfWeek(day)
+                .openTime(open)
+                .closeTime(close)
+                .isClosed(false)
+                .build();
+    }
+}
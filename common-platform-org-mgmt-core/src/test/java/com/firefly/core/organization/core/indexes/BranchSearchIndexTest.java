@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.models.entities.Branch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BranchSearchIndexTest {
+
+    private static final UUID BANK_ID = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+    private static final UUID OTHER_BANK_ID = UUID.fromString("233e4567-e89b-12d3-a456-426614174000");
+
+    private BranchSearchIndex searchIndex;
+    private Branch castellana;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BranchSearchIndex();
+        castellana = branch(BANK_ID, "MAD-001", "Paseo de la Castellana", "Madrid", "28046");
+        searchIndex.reset(List.of(
+                castellana,
+                branch(BANK_ID, "MAD-002", "Gran Vía", "Madrid", "28013"),
+                branch(BANK_ID, "BCN-001", "Passeig de Gràcia", "Barcelona", "08007"),
+                branch(BANK_ID, "TOL-001", "Zocodover", "Toledo", "45001"),
+                branch(OTHER_BANK_ID, "MAD-001", "Castellana Norte", "Madrid", "28046")));
+    }
+
+    @Test
+    void search_ShouldMatchWordPrefixesAndIgnoreAccentsAndCase() {
+        assertEquals(List.of("Gran Vía"), names(searchIndex.search(BANK_ID, "gran via", 10)));
+        assertEquals(List.of("Passeig de Gràcia"), names(searchIndex.search(BANK_ID, "GRAC", 10)));
+        assertEquals(List.of("Gran Vía", "Paseo de la Castellana"), names(searchIndex.search(BANK_ID, "ma", 10)));
+    }
+
+    @Test
+    void search_ShouldMatchInsideWordsForLongerTerms() {
+        assertEquals(List.of("Paseo de la Castellana"), names(searchIndex.search(BANK_ID, "tellan", 10)));
+        assertEquals(List.of("Paseo de la Castellana"), names(searchIndex.search(BANK_ID, "046", 10)));
+    }
+
+    @Test
+    void search_ShouldRankCodesAboveNamesAndRequireEveryTerm() {
+        assertEquals(List.of("Zocodover"), names(searchIndex.search(BANK_ID, "tol", 10)));
+        assertEquals(List.of("Paseo de la Castellana"), names(searchIndex.search(BANK_ID, "mad-001", 10)));
+        assertEquals(List.of("Gran Vía"), names(searchIndex.search(BANK_ID, "madrid 28013", 10)));
+        assertEquals(List.of(), names(searchIndex.search(BANK_ID, "madrid barcelona", 10)));
+    }
+
+    @Test
+    void search_ShouldBeScopedByBankAndLimited() {
+        assertEquals(List.of("Castellana Norte"), names(searchIndex.search(OTHER_BANK_ID, "cast", 10)));
+        assertEquals(1, searchIndex.search(BANK_ID, "madrid", 1).size());
+        assertEquals(List.of(), names(searchIndex.search(UUID.randomUUID(), "madrid", 10)));
+    }
+
+    @Test
+    void putBranch_ShouldReindexRenamedBranchesAndRemoveDeletedOnes() {
+        castellana.setName("Plaza de Colón");
+        searchIndex.putBranch(castellana);
+        searchIndex.removeBranch(castellana.getId());
+        searchIndex.putBranch(castellana);
+
+        assertEquals(List.of(), names(searchIndex.search(BANK_ID, "castellana", 10)));
+        assertEquals(List.of("Plaza de Colón"), names(searchIndex.search(BANK_ID, "colon", 10)));
+
+        searchIndex.removeBranch(castellana.getId());
+        assertTrue(searchIndex.search(BANK_ID, "colon", 10).isEmpty());
+    }
+
+    private static List<String> names(List<Branch> branches) {
+        return branches.stream().map(Branch::getName).toList();
+    }
+
+    private static Branch branch(UUID bankId, String code, String name, String city, String postalCode) {
+        return Branch.builder()
+                .id(UUID.randomUUID())
+                .bankId(bankId)
+                .code(code)
+                .name(name)
+                .city(city)
+                .postalCode(postalCode)
+                .build();
+    }
+}
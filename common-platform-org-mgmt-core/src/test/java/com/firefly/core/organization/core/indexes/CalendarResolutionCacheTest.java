@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache.Resolution;
+import com.firefly.core.organization.interfaces.enums.CalendarTarget;
+import com.firefly.core.organization.models.entities.BankHoliday;
+import com.firefly.core.organization.models.entities.CalendarAssignment;
+import com.firefly.core.organization.models.entities.WorkingCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CalendarResolutionCacheTest {
+
+    private static final UUID BANK_ID = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+    private static final UUID COUNTRY_ID = UUID.fromString("423e4567-e89b-12d3-a456-426614174000");
+    private static final UUID BRANCH_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private static final UUID OTHER_BRANCH_ID = UUID.fromString("133e4567-e89b-12d3-a456-426614174000");
+    private static final UUID DEPARTMENT_ID = UUID.fromString("523e4567-e89b-12d3-a456-426614174000");
+    private static final UUID POSITION_ID = UUID.fromString("623e4567-e89b-12d3-a456-426614174000");
+    private static final UUID OTHER_POSITION_ID = UUID.fromString("633e4567-e89b-12d3-a456-426614174000");
+    private static final UUID CALENDAR_ID = UUID.fromString("723e4567-e89b-12d3-a456-426614174000");
+    private static final UUID ASSIGNMENT_ID = UUID.fromString("823e4567-e89b-12d3-a456-426614174000");
+    private static final YearMonth JUNE = YearMonth.of(2025, 6);
+    private static final YearMonth JULY = YearMonth.of(2025, 7);
+
+    private CalendarResolutionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CalendarResolutionCache();
+        put(POSITION_ID, JUNE, ASSIGNMENT_ID, BRANCH_ID);
+        put(POSITION_ID, JULY, ASSIGNMENT_ID, BRANCH_ID);
+        put(OTHER_POSITION_ID, JUNE, null, BRANCH_ID);
+        put(UUID.randomUUID(), JUNE, null, OTHER_BRANCH_ID);
+    }
+
+    @Test
+    void put_WhenInvalidatedWhileResolving_ShouldNotCache() {
+        // Arrange
+        UUID positionId = UUID.randomUUID();
+        long startedAt = cache.generation();
+        cache.invalidateBranch(OTHER_BRANCH_ID);
+
+        // Act
+        cache.put(CalendarTarget.POSITION, positionId, resolution(positionId, JUNE, null, BRANCH_ID), startedAt);
+
+        // Assert
+        assertNull(cache.get(CalendarTarget.POSITION, positionId, JUNE));
+    }
+
+    @Test
+    void invalidateAssignment_ShouldEvictOnlyTargetInEffectiveMonths() {
+        // Act
+        cache.invalidateAssignment(CalendarAssignment.builder()
+                .positionId(POSITION_ID)
+                .effectiveFrom(JULY.atDay(10).atStartOfDay())
+                .build());
+
+        // Assert
+        assertNotNull(cache.get(CalendarTarget.POSITION, POSITION_ID, JUNE));
+        assertNull(cache.get(CalendarTarget.POSITION, POSITION_ID, JULY));
+        assertNotNull(cache.get(CalendarTarget.POSITION, OTHER_POSITION_ID, JUNE));
+    }
+
+    @Test
+    void invalidateAssignment_ForBranch_ShouldEvictEveryEntryOfBranch() {
+        // Act
+        cache.invalidateAssignment(CalendarAssignment.builder().branchId(BRANCH_ID).build());
+
+        // Assert
+        assertNull(cache.get(CalendarTarget.POSITION, POSITION_ID, JUNE));
+        assertNull(cache.get(CalendarTarget.POSITION, OTHER_POSITION_ID, JUNE));
+        assertNotNull(otherBranchEntry());
+    }
+
+    @Test
+    void invalidateCalendar_ShouldEvictEntriesOfCalendarAndDefaultsOfBank() {
+        // Arrange
+        UUID otherBankPosition = UUID.randomUUID();
+        cache.put(CalendarTarget.POSITION, otherBankPosition, new Resolution(JUNE, otherBankPosition, DEPARTMENT_ID,
+                OTHER_BRANCH_ID, UUID.randomUUID(), null, null, UUID.randomUUID(), 0), cache.generation());
+
+        // Act
+        cache.invalidateCalendar(WorkingCalendar.builder().id(CALENDAR_ID).bankId(BANK_ID).build());
+
+        // Assert
+        assertNull(cache.get(CalendarTarget.POSITION, POSITION_ID, JUNE));
+        assertNull(cache.get(CalendarTarget.POSITION, OTHER_POSITION_ID, JUNE));
+        assertNotNull(cache.get(CalendarTarget.POSITION, otherBankPosition, JUNE));
+    }
+
+    @Test
+    void invalidateHoliday_ShouldEvictOnlyScopeAndMonthOfHoliday() {
+        // Act
+        cache.invalidateHoliday(BankHoliday.builder()
+                .bankId(BANK_ID)
+                .branchId(BRANCH_ID)
+                .date(LocalDate.of(2025, 7, 4))
+                .isRecurring(false)
+                .build());
+
+        // Assert
+        assertNotNull(cache.get(CalendarTarget.POSITION, POSITION_ID, JUNE));
+        assertNull(cache.get(CalendarTarget.POSITION, POSITION_ID, JULY));
+        assertNotNull(otherBranchEntry());
+    }
+
+    @Test
+    void invalidateHoliday_WhenRecurringForCountry_ShouldEvictThatMonthOfEveryYear() {
+        // Arrange
+        put(POSITION_ID, YearMonth.of(2026, 6), ASSIGNMENT_ID, BRANCH_ID);
+
+        // Act
+        cache.invalidateHoliday(BankHoliday.builder()
+                .bankId(BANK_ID)
+                .countryId(COUNTRY_ID)
+                .date(LocalDate.of(2020, 6, 24))
+                .isRecurring(true)
+                .build());
+
+        // Assert
+        assertNull(cache.get(CalendarTarget.POSITION, POSITION_ID, JUNE));
+        assertNull(cache.get(CalendarTarget.POSITION, POSITION_ID, YearMonth.of(2026, 6)));
+        assertNotNull(cache.get(CalendarTarget.POSITION, POSITION_ID, JULY));
+        assertNotNull(otherBranchEntry());
+    }
+
+    private Resolution otherBranchEntry() {
+        return cache.get(CalendarTarget.BRANCH, OTHER_BRANCH_ID, JUNE);
+    }
+
+    private void put(UUID positionId, YearMonth month, UUID assignmentId, UUID branchId) {
+        cache.put(CalendarTarget.POSITION, positionId, resolution(positionId, month, assignmentId, branchId), cache.generation());
+        if (branchId.equals(OTHER_BRANCH_ID)) {
+            cache.put(CalendarTarget.BRANCH, branchId, new Resolution(month, null, null, branchId, BANK_ID, null,
+                    ASSIGNMENT_ID, UUID.randomUUID(), 0), cache.generation());
+        }
+    }
+
+    private static Resolution resolution(UUID positionId, YearMonth month, UUID assignmentId, UUID branchId) {
+        UUID countryId = branchId.equals(BRANCH_ID) ? COUNTRY_ID : null;
+        return new Resolution(month, positionId, DEPARTMENT_ID, branchId, BANK_ID, countryId, assignmentId, CALENDAR_ID, 0);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.indexes;
+
+import com.firefly.core.organization.models.entities.BankHoliday;
+import com.firefly.core.organization.models.entities.Branch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HolidayIndexTest {
+
+    private static final UUID BANK_ID = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+    private static final UUID BRANCH_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private static final UUID OTHER_BRANCH_ID = UUID.fromString("133e4567-e89b-12d3-a456-426614174000");
+    private static final UUID COUNTRY_ID = UUID.fromString("423e4567-e89b-12d3-a456-426614174000");
+
+    private HolidayIndex holidayIndex;
+
+    @BeforeEach
+    void setUp() {
+        holidayIndex = new HolidayIndex();
+
+        Branch branch = Branch.builder().id(BRANCH_ID).bankId(BANK_ID).countryId(COUNTRY_ID).build();
+        Branch otherBranch = Branch.builder().id(OTHER_BRANCH_ID).bankId(BANK_ID).build();
+
+        BankHoliday christmas = BankHoliday.builder()
+                .id(UUID.randomUUID())
+                .bankId(BANK_ID)
+                .date(LocalDate.of(2020, 12, 25))
+                .isRecurring(true)
+                .build();
+
+        BankHoliday nationalDay = BankHoliday.builder()
+                .id(UUID.randomUUID())
+                .bankId(BANK_ID)
+                .countryId(COUNTRY_ID)
+                .date(LocalDate.of(2024, 10, 12))
+                .isRecurring(false)
+                .build();
+
+        holidayIndex.reset(List.of(christmas, nationalDay), List.of(branch, otherBranch));
+    }
+
+    @Test
+    void isBranchHoliday_ShouldMatchRecurringHolidaysInEveryYear() {
+        assertTrue(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2023, 12, 25)));
+        assertTrue(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2024, 12, 25)));
+        assertFalse(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2024, 12, 24)));
+    }
+
+    @Test
+    void isBranchHoliday_ShouldApplyCountryHolidaysOnlyToBranchesInThatCountry() {
+        assertTrue(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2024, 10, 12)));
+        assertFalse(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2025, 10, 12)));
+        assertFalse(holidayIndex.isBranchHoliday(OTHER_BRANCH_ID, LocalDate.of(2024, 10, 12)));
+    }
+
+    @Test
+    void reset_ShouldReplayWritesAppliedWhileTheSnapshotWasLoaded() {
+        // Arrange
+        BankHoliday staleSnapshotHoliday = BankHoliday.builder()
+                .id(UUID.randomUUID())
+                .bankId(BANK_ID)
+                .date(LocalDate.of(2024, 5, 1))
+                .isRecurring(false)
+                .build();
+        BankHoliday newHoliday = BankHoliday.builder()
+                .id(UUID.randomUUID())
+                .bankId(BANK_ID)
+                .date(LocalDate.of(2024, 8, 15))
+                .isRecurring(false)
+                .build();
+        Branch branch = Branch.builder().id(BRANCH_ID).bankId(BANK_ID).countryId(COUNTRY_ID).build();
+
+        // Act
+        holidayIndex.beginLoad();
+        holidayIndex.putHoliday(newHoliday);
+        holidayIndex.removeHoliday(staleSnapshotHoliday.getId());
+        holidayIndex.reset(List.of(staleSnapshotHoliday), List.of(branch));
+
+        // Assert
+        assertTrue(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2024, 8, 15)));
+        assertFalse(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2024, 5, 1)));
+
+        // Act
+        holidayIndex.reset(List.of(staleSnapshotHoliday), List.of(branch));
+
+        // Assert
+        assertTrue(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2024, 5, 1)));
+        assertFalse(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2024, 8, 15)));
+    }
+
+    @Test
+    void putHoliday_ShouldAddBranchOverrideAndMoveItOnUpdate() {
+        // Arrange
+        BankHoliday localFestival = BankHoliday.builder()
+                .id(UUID.randomUUID())
+                .bankId(BANK_ID)
+                .branchId(OTHER_BRANCH_ID)
+                .date(LocalDate.of(2024, 6, 24))
+                .isRecurring(false)
+                .build();
+
+        // Act
+        holidayIndex.putHoliday(localFestival);
+
+        // Assert
+        assertTrue(holidayIndex.isBranchHoliday(OTHER_BRANCH_ID, LocalDate.of(2024, 6, 24)));
+        assertFalse(holidayIndex.isBranchHoliday(BRANCH_ID, LocalDate.of(2024, 6, 24)));
+
+        // Act
+        localFestival.setDate(LocalDate.of(2024, 6, 25));
+        holidayIndex.putHoliday(localFestival);
+
+        // Assert
+        assertFalse(holidayIndex.isBranchHoliday(OTHER_BRANCH_ID, LocalDate.of(2024, 6, 24)));
+        assertTrue(holidayIndex.isBranchHoliday(OTHER_BRANCH_ID, LocalDate.of(2024, 6, 25)));
+
+        // Act
+        holidayIndex.removeHoliday(localFestival.getId());
+
+        // Assert
+        assertFalse(holidayIndex.isBranchHoliday(OTHER_BRANCH_ID, LocalDate.of(2024, 6, 25)));
+    }
+
+    @Test
+    void putHoliday_ShouldOnlyMatchRecurringLeapDayInLeapYears() {
+        // Arrange
+        holidayIndex.putHoliday(BankHoliday.builder()
+                .id(UUID.randomUUID())
+                .bankId(BANK_ID)
+                .date(LocalDate.of(2024, 2, 29))
+                .isRecurring(true)
+                .build());
+
+        // Act & Assert
+        assertTrue(holidayIndex.isBankHoliday(BANK_ID, null, LocalDate.of(2028, 2, 29)));
+        assertFalse(holidayIndex.isBankHoliday(BANK_ID, null, LocalDate.of(2025, 2, 28)));
+        assertFalse(holidayIndex.isBankHoliday(BANK_ID, null, LocalDate.of(2025, 3, 1)));
+    }
+
+    @Test
+    void branchHolidays_ShouldListHolidaysAcrossYearBoundaries() {
+        // Act
+        List<LocalDate> holidays = holidayIndex.branchHolidays(BRANCH_ID, LocalDate.of(2024, 10, 1), LocalDate.of(2025, 12, 25));
+
+        // Assert
+        assertEquals(List.of(
+                LocalDate.of(2024, 10, 12),
+                LocalDate.of(2024, 12, 25),
+                LocalDate.of(2025, 12, 25)), holidays);
+    }
+}
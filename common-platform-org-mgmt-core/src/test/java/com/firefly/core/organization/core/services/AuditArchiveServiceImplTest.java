@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.BankAuditLog;
+import com.firefly.core.organization.models.repositories.BankAuditLogRepository;
+import com.firefly.core.organization.models.repositories.BranchAuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditArchiveServiceImplTest {
+
+    @Mock
+    private BankAuditLogRepository bankAuditLogRepository;
+
+    @Mock
+    private BranchAuditLogRepository branchAuditLogRepository;
+
+    @InjectMocks
+    private AuditArchiveServiceImpl auditArchiveService;
+
+    @TempDir
+    private Path directory;
+
+    private final LocalDate cutoff = LocalDate.of(2023, 5, 1);
+    private final LocalDate march = LocalDate.of(2023, 3, 1);
+    private final UUID bankId = UUID.randomUUID();
+    private final UUID otherBankId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auditArchiveService, "enabled", true);
+        ReflectionTestUtils.setField(auditArchiveService, "directory", directory);
+        ReflectionTestUtils.setField(auditArchiveService, "rowGroupSize", 2);
+    }
+
+    @Test
+    void archiveBefore_ShouldWriteOneFilePerMonthWithEntries() throws IOException {
+        // Arrange
+        when(bankAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.just(march, march.plusMonths(1)));
+        when(bankAuditLogRepository.findByTimestampRange(march.atStartOfDay(), march.plusMonths(1).atStartOfDay()))
+                .thenReturn(Flux.just(log(bankId, 1), log(otherBankId, 2), log(bankId, 3)));
+        when(bankAuditLogRepository.findByTimestampRange(march.plusMonths(1).atStartOfDay(), march.plusMonths(2).atStartOfDay()))
+                .thenReturn(Flux.empty());
+        when(branchAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(auditArchiveService.archiveBefore(cutoff))
+                .expectNext(1)
+                .verifyComplete();
+
+        try (Stream<Path> files = Files.list(directory.resolve("bank_audit_log"))) {
+            assertEquals(1, files.count());
+        }
+        assertTrue(Files.exists(directory.resolve("bank_audit_log").resolve("2023-03.aca")));
+    }
+
+    @Test
+    void archiveBefore_WhenArchivedMonthReceivesLateEntries_ShouldWriteThemToANewPart() throws IOException {
+        // Arrange
+        BankAuditLog first = log(bankId, 1);
+        BankAuditLog late = log(bankId, 2);
+        BankAuditLog last = log(bankId, 3);
+        when(bankAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.just(march));
+        when(bankAuditLogRepository.findByTimestampRange(march.atStartOfDay(), march.plusMonths(1).atStartOfDay()))
+                .thenReturn(Flux.just(first, last), Flux.just(first, late, last));
+        when(branchAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.empty());
+        auditArchiveService.archiveBefore(cutoff).block();
+
+        // Act & Assert
+        StepVerifier.create(auditArchiveService.archiveBefore(cutoff))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertTrue(Files.exists(directory.resolve("bank_audit_log").resolve("2023-03.1.aca")));
+        StepVerifier.create(auditArchiveService.readBankArchive(bankId, march.atStartOfDay(), cutoff.atStartOfDay())
+                        .map(AuditActivityDTO::getEntityId))
+                .expectNext("entity-1", "entity-2", "entity-3")
+                .verifyComplete();
+    }
+
+    @Test
+    void archiveBefore_WhenArchivedMonthHasNoNewEntries_ShouldWriteNoPart() throws IOException {
+        // Arrange
+        when(bankAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.just(march));
+        when(bankAuditLogRepository.findByTimestampRange(march.atStartOfDay(), march.plusMonths(1).atStartOfDay()))
+                .thenReturn(Flux.just(log(bankId, 1), log(bankId, 2)));
+        when(branchAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.empty());
+        auditArchiveService.archiveBefore(cutoff).block();
+
+        // Act & Assert
+        StepVerifier.create(auditArchiveService.archiveBefore(cutoff))
+                .expectNext(0)
+                .verifyComplete();
+
+        try (Stream<Path> files = Files.list(directory.resolve("bank_audit_log"))) {
+            assertEquals(List.of("2023-03.aca"), files.map(file -> file.getFileName().toString()).toList());
+        }
+    }
+
+    @Test
+    void archiveBefore_WhenReadFails_ShouldLeaveNoFile() throws IOException {
+        // Arrange
+        when(bankAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.just(march));
+        when(bankAuditLogRepository.findByTimestampRange(march.atStartOfDay(), march.plusMonths(1).atStartOfDay()))
+                .thenReturn(Flux.concat(Flux.just(log(bankId, 1), log(bankId, 2), log(bankId, 3)),
+                        Flux.error(new IllegalStateException("connection lost"))));
+        when(branchAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(auditArchiveService.archiveBefore(cutoff))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        try (Stream<Path> files = Files.list(directory.resolve("bank_audit_log"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void archiveBefore_WhenDisabled_ShouldArchiveNothing() {
+        // Arrange
+        ReflectionTestUtils.setField(auditArchiveService, "enabled", false);
+
+        // Act & Assert
+        StepVerifier.create(auditArchiveService.archiveBefore(cutoff))
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(bankAuditLogRepository, never()).findPartitionMonthsBefore(any());
+    }
+
+    @Test
+    void readBankArchive_ShouldReturnEntriesOfBankWithinRange() {
+        // Arrange
+        when(bankAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.just(march));
+        when(bankAuditLogRepository.findByTimestampRange(march.atStartOfDay(), march.plusMonths(1).atStartOfDay()))
+                .thenReturn(Flux.just(log(bankId, 1), log(otherBankId, 2), log(bankId, 3), log(bankId, 4)));
+        when(branchAuditLogRepository.findPartitionMonthsBefore(cutoff)).thenReturn(Flux.empty());
+        auditArchiveService.archiveBefore(cutoff).block();
+
+        // Act & Assert
+        StepVerifier.create(auditArchiveService.readBankArchive(bankId, march.atTime(1, 0), march.atTime(4, 0))
+                        .map(AuditActivityDTO::getEntityId))
+                .expectNext("entity-1", "entity-3")
+                .verifyComplete();
+    }
+
+    @Test
+    void readBranchArchive_WhenNothingArchived_ShouldReturnEmpty() {
+        // Act & Assert
+        StepVerifier.create(auditArchiveService.readBranchArchive(UUID.randomUUID(), march.atStartOfDay(), cutoff.atStartOfDay()))
+                .verifyComplete();
+    }
+
+    @Test
+    void readBankArchive_WhenRangeEmpty_ShouldFail() {
+        // Act & Assert
+        StepVerifier.create(auditArchiveService.readBankArchive(bankId, march.atStartOfDay(), march.atStartOfDay()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private BankAuditLog log(UUID bankId, int hour) {
+        return BankAuditLog.builder()
+                .id(UUID.randomUUID())
+                .bankId(bankId)
+                .action(AuditAction.UPDATED)
+                .entity("Bank")
+                .entityId("entity-" + hour)
+                .timestamp(march.atTime(hour, 0))
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.audit.AuditCopyLoader;
+import com.firefly.core.organization.core.audit.AuditEntry;
+import com.firefly.core.organization.core.audit.AuditScope;
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditIngestServiceImplTest {
+
+    @Mock
+    private AuditCopyLoader auditCopyLoader;
+
+    @InjectMocks
+    private AuditIngestServiceImpl auditIngestService;
+
+    private UUID bankId;
+    private UUID branchId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auditIngestService, "batchSize", 2);
+        bankId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        branchId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+    }
+
+    @Test
+    void ingest_ShouldLoadEachBatchByScopeAndReportIt() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditEntry>> bankEntries = ArgumentCaptor.forClass(List.class);
+        when(auditCopyLoader.load(eq(AuditScope.BANK), bankEntries.capture())).thenReturn(Mono.just(1));
+        when(auditCopyLoader.load(eq(AuditScope.BRANCH), anyList())).thenReturn(Mono.just(1), Mono.just(0));
+        AuditActivityDTO bankEvent = event().bankId(bankId).metadata("{\"name\":\"Main\"}").build();
+
+        // Act & Assert
+        StepVerifier.create(auditIngestService.ingest(Flux.just(
+                        bankEvent,
+                        event().branchId(branchId).build(),
+                        event().branchId(branchId).build())))
+                .assertNext(result -> {
+                    assertEquals(1, result.getBatch());
+                    assertEquals(2, result.getReceived());
+                    assertEquals(2, result.getInserted());
+                    assertEquals(0, result.getDuplicates());
+                    assertNull(result.getFailure());
+                })
+                .assertNext(result -> {
+                    assertEquals(2, result.getBatch());
+                    assertEquals(0, result.getInserted());
+                    assertEquals(1, result.getDuplicates());
+                })
+                .verifyComplete();
+
+        AuditEntry entry = bankEntries.getValue().get(0);
+        assertEquals(bankId, entry.scopeId());
+        assertEquals("{\"name\":\"Main\"}", entry.metadata().asString());
+        assertNotNull(entry.id());
+        assertNotNull(entry.timestamp());
+    }
+
+    @Test
+    void ingest_WithInvalidEvents_ShouldRejectThemWithTheirLines() {
+        // Arrange
+        when(auditCopyLoader.load(eq(AuditScope.BANK), anyList())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(auditIngestService.ingest(Flux.just(
+                        event().bankId(bankId).branchId(branchId).build(),
+                        event().bankId(bankId).build(),
+                        event().bankId(bankId).metadata("{not json").build())))
+                .assertNext(result -> {
+                    assertEquals(1, result.getRejected());
+                    assertEquals(1, result.getErrors().get(0).getLine());
+                    assertEquals(1, result.getInserted());
+                })
+                .assertNext(result -> {
+                    assertEquals(1, result.getRejected());
+                    assertEquals(3, result.getErrors().get(0).getLine());
+                    assertEquals(0, result.getInserted());
+                })
+                .verifyComplete();
+
+        verify(auditCopyLoader, never()).load(eq(AuditScope.BRANCH), anyList());
+    }
+
+    @Test
+    void ingest_WhenLoadFails_ShouldReportFailureAndContinue() {
+        // Arrange
+        ReflectionTestUtils.setField(auditIngestService, "batchSize", 1);
+        when(auditCopyLoader.load(eq(AuditScope.BANK), anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("connection lost")), Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(auditIngestService.ingest(Flux.just(event().bankId(bankId).build(), event().bankId(bankId).build())))
+                .assertNext(result -> assertEquals("connection lost", result.getFailure()))
+                .assertNext(result -> {
+                    assertNull(result.getFailure());
+                    assertEquals(1, result.getInserted());
+                })
+                .verifyComplete();
+    }
+
+    private static AuditActivityDTO.AuditActivityDTOBuilder event() {
+        return AuditActivityDTO.builder()
+                .action(AuditAction.UPDATED)
+                .entity("Branch")
+                .entityId("42")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 9, 30));
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.audit.AuditCursor;
+import com.firefly.core.organization.core.mappers.BankAuditLogMapper;
+import com.firefly.core.organization.core.mappers.BranchAuditLogMapper;
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditLogQueryDTO;
+import com.firefly.core.organization.interfaces.dtos.BankAuditLogDTO;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.BankAuditLog;
+import com.firefly.core.organization.models.entities.BranchAuditLog;
+import com.firefly.core.organization.models.repositories.BankAuditLogRepository;
+import com.firefly.core.organization.models.repositories.BranchAuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditLogSearchServiceImplTest {
+
+    @Mock
+    private BankAuditLogRepository bankAuditLogRepository;
+
+    @Mock
+    private BranchAuditLogRepository branchAuditLogRepository;
+
+    @Mock
+    private BankAuditLogMapper bankAuditLogMapper;
+
+    @Mock
+    private BranchAuditLogMapper branchAuditLogMapper;
+
+    @InjectMocks
+    private AuditLogSearchServiceImpl auditLogSearchService;
+
+    private UUID bankId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private AuditLogQueryDTO query;
+
+    @BeforeEach
+    void setUp() {
+        bankId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        to = LocalDateTime.of(2026, 1, 1, 0, 0);
+        query = AuditLogQueryDTO.builder()
+                .entity("Branch")
+                .action(AuditAction.UPDATED)
+                .from(from)
+                .to(to)
+                .build();
+    }
+
+    @Test
+    void searchBankAuditLogs_WhenMoreEntriesExist_ShouldReturnCursorOfLastEntry() {
+        // Arrange
+        List<BankAuditLog> rows = entries(3);
+        when(bankAuditLogRepository.findPage(bankId, from, new UUID(0L, 0L), from, to,
+                "Branch", null, "UPDATED", null, null, null, 3)).thenReturn(Flux.fromIterable(rows));
+        when(bankAuditLogMapper.toDTO(any(BankAuditLog.class))).thenReturn(new BankAuditLogDTO());
+
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.searchBankAuditLogs(bankId, query, null, 2))
+                .assertNext(page -> {
+                    assertEquals(2, page.getItems().size());
+                    assertEquals(new AuditCursor(rows.get(1).getTimestamp(), rows.get(1).getId()),
+                            AuditCursor.decode(page.getNextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchBankAuditLogs_WithCursor_ShouldContinueAfterIt() {
+        // Arrange
+        AuditCursor cursor = new AuditCursor(from.plusDays(3), UUID.randomUUID());
+        when(bankAuditLogRepository.findPage(bankId, cursor.timestamp(), cursor.id(), from, to,
+                "Branch", null, "UPDATED", null, null, null, 11)).thenReturn(Flux.fromIterable(entries(1)));
+        when(bankAuditLogMapper.toDTO(any(BankAuditLog.class))).thenReturn(new BankAuditLogDTO());
+
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.searchBankAuditLogs(bankId, query, cursor.encode(), 10))
+                .assertNext(page -> {
+                    assertEquals(1, page.getItems().size());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchBankAuditLogs_WithMalformedCursor_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.searchBankAuditLogs(bankId, query, "not-a-cursor", 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void searchBankAuditLogs_WithInvalidTimeWindow_ShouldReturnError() {
+        // Arrange
+        query.setFrom(to);
+        query.setTo(from);
+
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.searchBankAuditLogs(bankId, query, null, 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void streamBankAuditLogs_ShouldReadPageByPage() {
+        // Arrange
+        List<BankAuditLog> firstPage = entries(1_000);
+        BankAuditLog last = firstPage.get(firstPage.size() - 1);
+        when(bankAuditLogRepository.findPage(eq(bankId), eq(from), eq(new UUID(0L, 0L)), eq(from), eq(to),
+                eq("Branch"), isNull(), eq("UPDATED"), isNull(), isNull(), isNull(), anyInt())).thenReturn(Flux.fromIterable(firstPage));
+        when(bankAuditLogRepository.findPage(eq(bankId), eq(last.getTimestamp()), eq(last.getId()), eq(from), eq(to),
+                eq("Branch"), isNull(), eq("UPDATED"), isNull(), isNull(), isNull(), anyInt())).thenReturn(Flux.fromIterable(entries(5)));
+        when(bankAuditLogMapper.toDTO(any(BankAuditLog.class))).thenReturn(new BankAuditLogDTO());
+
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.streamBankAuditLogs(bankId, query))
+                .expectNextCount(1_005)
+                .verifyComplete();
+
+        verify(bankAuditLogRepository).findPage(eq(bankId), eq(last.getTimestamp()), eq(last.getId()), eq(from), eq(to),
+                eq("Branch"), isNull(), eq("UPDATED"), isNull(), isNull(), isNull(), anyInt());
+    }
+
+    @Test
+    void searchBankAuditLogs_WithChangedField_ShouldFilterOnMetadataKey() {
+        // Arrange
+        query.setChangedField("name");
+        when(bankAuditLogRepository.findPage(bankId, from, new UUID(0L, 0L), from, to,
+                "Branch", null, "UPDATED", null, null, "name", 11)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.searchBankAuditLogs(bankId, query, null, 10))
+                .assertNext(page -> assertEquals(0, page.getItems().size()))
+                .verifyComplete();
+    }
+
+    @Test
+    void searchBankAuditLogs_WithNonObjectMetadataFilter_ShouldReturnError() {
+        // Arrange
+        query.setMetadataContains("[1, 2]");
+
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.searchBankAuditLogs(bankId, query, null, 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void metadataFilter_ShouldMergeChangedValueIntoContainment() {
+        // Arrange
+        AuditLogQueryDTO changedToText = AuditLogQueryDTO.builder().changedField("city").changedTo("Madrid").build();
+        AuditLogQueryDTO changedToNumber = AuditLogQueryDTO.builder().changedField("latitude").changedTo("40.4").build();
+        AuditLogQueryDTO merged = AuditLogQueryDTO.builder()
+                .metadataContains("{\"city\":{\"old\":\"Sevilla\"}}")
+                .changedField("city")
+                .changedTo("false")
+                .build();
+
+        // Act & Assert
+        assertEquals("{\"city\":{\"new\":\"Madrid\"}}", AuditLogSearchServiceImpl.metadataFilter(changedToText));
+        assertEquals("{\"latitude\":{\"new\":40.4}}", AuditLogSearchServiceImpl.metadataFilter(changedToNumber));
+        assertEquals("{\"city\":{\"old\":\"Sevilla\",\"new\":false}}", AuditLogSearchServiceImpl.metadataFilter(merged));
+        assertNull(AuditLogSearchServiceImpl.metadataFilter(query));
+    }
+
+    @Test
+    void searchUserActivity_ShouldMergeBothLogsInChronologicalOrder() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        List<BankAuditLog> bankRows = List.of(bankEntry(0), bankEntry(2), bankEntry(4));
+        List<BranchAuditLog> branchRows = List.of(branchEntry(1), branchEntry(3));
+        when(bankAuditLogRepository.findUserPage(userId, from, new UUID(0L, 0L), from, to,
+                "Branch", null, "UPDATED", null, null, 4)).thenReturn(Flux.fromIterable(bankRows));
+        when(branchAuditLogRepository.findUserPage(userId, from, new UUID(0L, 0L), from, to,
+                "Branch", null, "UPDATED", null, null, 4)).thenReturn(Flux.fromIterable(branchRows));
+        mapActivities();
+
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.searchUserActivity(userId, query, null, 3))
+                .assertNext(page -> {
+                    assertEquals(List.of(from, from.plusMinutes(1), from.plusMinutes(2)),
+                            page.getItems().stream().map(AuditActivityDTO::getTimestamp).toList());
+                    assertEquals(bankId, page.getItems().get(0).getBankId());
+                    assertNull(page.getItems().get(1).getBankId());
+                    assertEquals(new AuditCursor(from.plusMinutes(2), bankRows.get(1).getId()),
+                            AuditCursor.decode(page.getNextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void streamBankActivity_ShouldMergeBankAndBranchLogs() {
+        // Arrange
+        when(bankAuditLogRepository.findPage(eq(bankId), eq(from), eq(new UUID(0L, 0L)), eq(from), eq(to),
+                eq("Branch"), isNull(), eq("UPDATED"), isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(Flux.just(bankEntry(1), bankEntry(5)));
+        when(branchAuditLogRepository.findBankPage(eq(bankId), eq(from), eq(new UUID(0L, 0L)), eq(from), eq(to),
+                eq("Branch"), isNull(), eq("UPDATED"), isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(Flux.just(branchEntry(0), branchEntry(2), branchEntry(3)));
+        mapActivities();
+
+        // Act & Assert
+        StepVerifier.create(auditLogSearchService.streamBankActivity(bankId, query).map(AuditActivityDTO::getTimestamp))
+                .expectNext(from, from.plusMinutes(1), from.plusMinutes(2), from.plusMinutes(3), from.plusMinutes(5))
+                .verifyComplete();
+    }
+
+    @Test
+    void activityOrder_ShouldCompareIdsAsUnsigned() {
+        // Arrange
+        AuditCursor low = new AuditCursor(from, UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff"));
+        AuditCursor high = new AuditCursor(from, UUID.fromString("80000000-0000-0000-0000-000000000000"));
+
+        // Act & Assert
+        assertEquals(-1, Integer.signum(AuditCursor.ORDER.compare(low, high)));
+        assertEquals(1, Integer.signum(AuditCursor.ORDER.compare(high, new AuditCursor(from.minusNanos(1000), high.id()))));
+    }
+
+    private void mapActivities() {
+        when(bankAuditLogMapper.toActivityDTO(any(BankAuditLog.class))).thenAnswer(invocation -> {
+            BankAuditLog log = invocation.getArgument(0);
+            return AuditActivityDTO.builder().id(log.getId()).bankId(log.getBankId()).timestamp(log.getTimestamp()).build();
+        });
+        when(branchAuditLogMapper.toActivityDTO(any(BranchAuditLog.class))).thenAnswer(invocation -> {
+            BranchAuditLog log = invocation.getArgument(0);
+            return AuditActivityDTO.builder().id(log.getId()).branchId(log.getBranchId()).timestamp(log.getTimestamp()).build();
+        });
+    }
+
+    private BankAuditLog bankEntry(int minute) {
+        return BankAuditLog.builder()
+                .id(UUID.randomUUID())
+                .bankId(bankId)
+                .action(AuditAction.UPDATED)
+                .entity("Branch")
+                .timestamp(from.plusMinutes(minute))
+                .build();
+    }
+
+    private BranchAuditLog branchEntry(int minute) {
+        return BranchAuditLog.builder()
+                .id(UUID.randomUUID())
+                .branchId(UUID.randomUUID())
+                .action(AuditAction.UPDATED)
+                .entity("Branch")
+                .timestamp(from.plusMinutes(minute))
+                .build();
+    }
+
+    private List<BankAuditLog> entries(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> BankAuditLog.builder()
+                        .id(UUID.randomUUID())
+                        .bankId(bankId)
+                        .action(AuditAction.UPDATED)
+                        .entity("Branch")
+                        .entityId(String.valueOf(i))
+                        .timestamp(from.plusMinutes(i))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.models.repositories.BankAuditLogRepository;
+import com.firefly.core.organization.models.repositories.BranchAuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditRetentionServiceImplTest {
+
+    @Mock
+    private BankAuditLogRepository bankAuditLogRepository;
+
+    @Mock
+    private BranchAuditLogRepository branchAuditLogRepository;
+
+    @Mock
+    private AuditArchiveService auditArchiveService;
+
+    @InjectMocks
+    private AuditRetentionServiceImpl auditRetentionService;
+
+    private LocalDate currentMonth;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auditRetentionService, "retentionMonths", 24);
+        ReflectionTestUtils.setField(auditRetentionService, "detachOnly", false);
+        ReflectionTestUtils.setField(auditRetentionService, "monthsAhead", 3);
+        currentMonth = LocalDate.now().withDayOfMonth(1);
+    }
+
+    @Test
+    void createPartitions_ShouldCoverCurrentAndUpcomingMonths() {
+        // Arrange
+        when(bankAuditLogRepository.createPartitions(currentMonth, currentMonth.plusMonths(3))).thenReturn(Mono.just(1));
+        when(branchAuditLogRepository.createPartitions(currentMonth, currentMonth.plusMonths(3))).thenReturn(Mono.just(2));
+
+        // Act & Assert
+        StepVerifier.create(auditRetentionService.createPartitions())
+                .expectNext(3)
+                .verifyComplete();
+    }
+
+    @Test
+    void applyRetention_ShouldDropPartitionsBeforeCutoff() {
+        // Arrange
+        LocalDate cutoff = currentMonth.minusMonths(24);
+        when(auditArchiveService.archiveBefore(cutoff)).thenReturn(Mono.just(2));
+        when(bankAuditLogRepository.dropPartitionsBefore(cutoff, false)).thenReturn(Mono.just(1));
+        when(branchAuditLogRepository.dropPartitionsBefore(cutoff, false)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(auditRetentionService.applyRetention())
+                .expectNext(2)
+                .verifyComplete();
+
+        verify(bankAuditLogRepository).dropPartitionsBefore(cutoff, false);
+        verify(branchAuditLogRepository).dropPartitionsBefore(cutoff, false);
+    }
+
+    @Test
+    void applyRetention_WhenArchivingFails_ShouldKeepPartitions() {
+        // Arrange
+        LocalDate cutoff = currentMonth.minusMonths(24);
+        when(auditArchiveService.archiveBefore(cutoff)).thenReturn(Mono.error(new IllegalStateException("disk full")));
+
+        // Act & Assert
+        StepVerifier.create(auditRetentionService.applyRetention())
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(bankAuditLogRepository, never()).dropPartitionsBefore(any(), anyBoolean());
+        verify(branchAuditLogRepository, never()).dropPartitionsBefore(any(), anyBoolean());
+    }
+
+    @Test
+    void applyRetention_WhenDisabled_ShouldKeepEverything() {
+        // Arrange
+        ReflectionTestUtils.setField(auditRetentionService, "retentionMonths", 0);
+
+        // Act & Assert
+        StepVerifier.create(auditRetentionService.applyRetention())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(bankAuditLogRepository, never()).dropPartitionsBefore(any(), anyBoolean());
+        verify(branchAuditLogRepository, never()).dropPartitionsBefore(any(), anyBoolean());
+    }
+}
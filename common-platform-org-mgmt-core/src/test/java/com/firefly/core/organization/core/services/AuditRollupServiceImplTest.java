@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.mappers.AuditDailyCountMapper;
+import com.firefly.core.organization.interfaces.dtos.AuditDailyCountDTO;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.organization.models.entities.BankAuditDailyCount;
+import com.firefly.core.organization.models.repositories.BankAuditDailyCountRepository;
+import com.firefly.core.organization.models.repositories.BranchAuditDailyCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditRollupServiceImplTest {
+
+    @Mock
+    private BankAuditDailyCountRepository bankAuditDailyCountRepository;
+
+    @Mock
+    private BranchAuditDailyCountRepository branchAuditDailyCountRepository;
+
+    @Mock
+    private AuditDailyCountMapper mapper;
+
+    @InjectMocks
+    private AuditRollupServiceImpl auditRollupService;
+
+    private UUID bankId;
+    private LocalDate from;
+    private LocalDate to;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auditRollupService, "lag", Duration.ofMinutes(5));
+        bankId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        from = LocalDate.of(2025, 1, 1);
+        to = LocalDate.of(2025, 1, 31);
+    }
+
+    @Test
+    void rollUp_ShouldCountBothLogsUpToTheLag() {
+        // Arrange
+        ArgumentCaptor<LocalDateTime> bankUpTo = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> branchUpTo = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(bankAuditDailyCountRepository.rollUp(bankUpTo.capture())).thenReturn(Mono.just(3));
+        when(branchAuditDailyCountRepository.rollUp(branchUpTo.capture())).thenReturn(Mono.just(4));
+        LocalDateTime before = LocalDateTime.now().minusMinutes(5);
+
+        // Act & Assert
+        StepVerifier.create(auditRollupService.rollUp())
+                .expectNext(7)
+                .verifyComplete();
+
+        assertEquals(bankUpTo.getValue(), branchUpTo.getValue());
+        assertTrue(!bankUpTo.getValue().isBefore(before));
+        assertTrue(bankUpTo.getValue().isBefore(LocalDateTime.now().minusMinutes(4)));
+    }
+
+    @Test
+    void getBankDailyCounts_ShouldReturnCountsInRange() {
+        // Arrange
+        BankAuditDailyCount count = BankAuditDailyCount.builder()
+                .bankId(bankId)
+                .day(from)
+                .entity("Branch")
+                .action(AuditAction.CREATED)
+                .count(12L)
+                .build();
+        AuditDailyCountDTO dto = AuditDailyCountDTO.builder()
+                .day(from)
+                .entity("Branch")
+                .action(AuditAction.CREATED)
+                .count(12L)
+                .build();
+        when(bankAuditDailyCountRepository.findCounts(bankId, from, to, "Branch", "CREATED")).thenReturn(Flux.just(count));
+        when(mapper.toDTO(count)).thenReturn(dto);
+
+        // Act & Assert
+        StepVerifier.create(auditRollupService.getBankDailyCounts(bankId, from, to, "Branch", AuditAction.CREATED))
+                .expectNext(dto)
+                .verifyComplete();
+
+        verify(bankAuditDailyCountRepository).findCounts(bankId, from, to, "Branch", "CREATED");
+    }
+
+    @Test
+    void getBranchDailyCounts_WithInvalidRange_ShouldReturnError() {
+        // Arrange
+        UUID branchId = UUID.randomUUID();
+        when(branchAuditDailyCountRepository.findCounts(branchId, to, from, null, null)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(auditRollupService.getBranchDailyCounts(branchId, to, from, null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(mapper);
+    }
+}
@@ -20,11 +20,13 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditLogWriter;
 import com.firefly.core.organization.core.mappers.BankAuditLogMapper;
 import com.firefly.core.organization.interfaces.dtos.BankAuditLogDTO;
 import com.firefly.core.organization.interfaces.enums.AuditAction;
 import com.firefly.core.organization.models.entities.BankAuditLog;
 import com.firefly.core.organization.models.repositories.BankAuditLogRepository;
+import io.r2dbc.postgresql.codec.Json;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,6 +44,7 @@ import java.util.function.Function;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.UUID;
@@ -55,6 +58,9 @@ public class BankAuditLogServiceImplTest {
     @Mock
     private BankAuditLogMapper bankAuditLogMapper;
 
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
     @InjectMocks
     private BankAuditLogServiceImpl bankAuditLogService;
 
@@ -88,7 +94,7 @@ public class BankAuditLogServiceImplTest {
                 .action(AuditAction.CREATED)
                 .entity("Bank")
                 .entityId("1")
-                .metadata("{\"name\":\"Test Bank\",\"code\":\"TEST\"}")
+                .metadata(Json.of("{\"name\":\"Test Bank\",\"code\":\"TEST\"}"))
                 .ipAddress("192.168.1.1")
                 .userId(testUserId)
                 .timestamp(now)
@@ -113,6 +119,23 @@ public class BankAuditLogServiceImplTest {
         verify(bankAuditLogMapper).toDTO(bankAuditLog);
     }
 
+    @Test
+    void createBankAuditLog_WhenWriterEnabled_ShouldQueueInsteadOfSaving() {
+        // Arrange
+        when(auditLogWriter.isEnabled()).thenReturn(true);
+        when(bankAuditLogMapper.toEntity(bankAuditLogDTO)).thenReturn(bankAuditLog);
+        when(auditLogWriter.submit(bankAuditLog)).thenReturn(Mono.just(bankAuditLog));
+        when(bankAuditLogMapper.toDTO(bankAuditLog)).thenReturn(bankAuditLogDTO);
+
+        // Act & Assert
+        StepVerifier.create(bankAuditLogService.createBankAuditLog(bankAuditLogDTO))
+                .expectNext(bankAuditLogDTO)
+                .verifyComplete();
+
+        verify(auditLogWriter).submit(bankAuditLog);
+        verify(bankAuditLogRepository, never()).save(any(BankAuditLog.class));
+    }
+
     @Test
     void updateBankAuditLog_WhenBankAuditLogExists_ShouldUpdateAndReturnBankAuditLog() {
         // Arrange
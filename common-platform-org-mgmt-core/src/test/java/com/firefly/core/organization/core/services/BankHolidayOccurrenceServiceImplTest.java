@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.mappers.BankHolidayOccurrenceMapper;
+import com.firefly.core.organization.interfaces.dtos.BankHolidayOccurrenceDTO;
+import com.firefly.core.organization.models.entities.BankHolidayOccurrence;
+import com.firefly.core.organization.models.repositories.BankHolidayOccurrenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BankHolidayOccurrenceServiceImplTest {
+
+    @Mock
+    private BankHolidayOccurrenceRepository repository;
+
+    @Mock
+    private BankHolidayOccurrenceMapper mapper;
+
+    @InjectMocks
+    private BankHolidayOccurrenceServiceImpl occurrenceService;
+
+    private int currentYear;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(occurrenceService, "yearsBack", 1);
+        ReflectionTestUtils.setField(occurrenceService, "yearsAhead", 5);
+        currentYear = Year.now().getValue();
+    }
+
+    @Test
+    void refreshOccurrences_ShouldReplaceOccurrencesWithinWindow() {
+        // Arrange
+        UUID holidayId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        when(repository.deleteByHolidayId(holidayId)).thenReturn(Mono.just(7));
+        when(repository.expandHoliday(holidayId, currentYear - 1, currentYear + 5)).thenReturn(Mono.just(7));
+
+        // Act & Assert
+        StepVerifier.create(occurrenceService.refreshOccurrences(holidayId))
+                .verifyComplete();
+
+        verify(repository).deleteByHolidayId(holidayId);
+        verify(repository).expandHoliday(holidayId, currentYear - 1, currentYear + 5);
+    }
+
+    @Test
+    void expandAll_ShouldPruneAndExpandWindow() {
+        // Arrange
+        LocalDate from = LocalDate.of(currentYear - 1, 1, 1);
+        LocalDate to = LocalDate.of(currentYear + 5, 12, 31);
+        when(repository.deleteOutsideWindow(from, to)).thenReturn(Mono.just(3));
+        when(repository.expandAll(currentYear - 1, currentYear + 5)).thenReturn(Mono.just(42));
+
+        // Act & Assert
+        StepVerifier.create(occurrenceService.expandAll())
+                .expectNext(42)
+                .verifyComplete();
+
+        verify(repository).deleteOutsideWindow(from, to);
+    }
+
+    @Test
+    void getBankOccurrences_ShouldReturnOccurrencesInRange() {
+        // Arrange
+        UUID bankId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        BankHolidayOccurrence occurrence = BankHolidayOccurrence.builder()
+                .bankId(bankId)
+                .name("New Year")
+                .date(LocalDate.of(2025, 1, 1))
+                .build();
+        BankHolidayOccurrenceDTO occurrenceDTO = BankHolidayOccurrenceDTO.builder()
+                .bankId(bankId)
+                .name("New Year")
+                .date(LocalDate.of(2025, 1, 1))
+                .build();
+        when(repository.findByBankIdAndDateBetweenOrderByDate(bankId, from, to)).thenReturn(Flux.just(occurrence));
+        when(mapper.toDTO(occurrence)).thenReturn(occurrenceDTO);
+
+        // Act & Assert
+        StepVerifier.create(occurrenceService.getBankOccurrences(bankId, from, to))
+                .expectNext(occurrenceDTO)
+                .verifyComplete();
+    }
+}
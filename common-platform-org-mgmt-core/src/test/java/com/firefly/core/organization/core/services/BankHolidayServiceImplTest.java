@@ -20,18 +20,26 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
+import com.firefly.core.organization.core.indexes.HolidayIndex;
 import com.firefly.core.organization.core.mappers.BankHolidayMapper;
+import com.firefly.core.organization.core.transactions.NoOpTransactionManager;
 import com.firefly.core.organization.interfaces.dtos.BankHolidayDTO;
 import com.firefly.core.organization.models.entities.BankHoliday;
 import com.firefly.core.organization.models.repositories.BankHolidayRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -41,7 +49,10 @@ import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.UUID;
@@ -55,6 +66,27 @@ public class BankHolidayServiceImplTest {
     @Mock
     private BankHolidayMapper bankHolidayMapper;
 
+    @Mock
+    private AuditRecorder auditRecorder;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private FilterResultCache filterResultCache;
+
+    @Mock
+    private CalendarResolutionCache resolutionCache;
+
+    @Mock
+    private HolidayIndex holidayIndex;
+
+    @Mock
+    private BankHolidayOccurrenceService occurrenceService;
+
+    @Mock
+    private BranchStatusService statusService;
+
     @InjectMocks
     private BankHolidayServiceImpl bankHolidayService;
 
@@ -63,6 +95,13 @@ public class BankHolidayServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(changeOutbox.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.deleted(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.deleted(any(), any())).thenReturn(Mono.empty());
+
         // Setup test data
         LocalDate holidayDate = LocalDate.of(2023, 12, 25);
         LocalDateTime now = LocalDateTime.now();
@@ -97,6 +136,7 @@ public class BankHolidayServiceImplTest {
         // Arrange
         when(bankHolidayMapper.toEntity(bankHolidayDTO)).thenReturn(bankHoliday);
         when(bankHolidayRepository.save(bankHoliday)).thenReturn(Mono.just(bankHoliday));
+        when(occurrenceService.refreshOccurrences(bankHoliday.getId())).thenReturn(Mono.empty());
         when(bankHolidayMapper.toDTO(bankHoliday)).thenReturn(bankHolidayDTO);
 
         // Act & Assert
@@ -107,6 +147,30 @@ public class BankHolidayServiceImplTest {
         verify(bankHolidayMapper).toEntity(bankHolidayDTO);
         verify(bankHolidayRepository).save(bankHoliday);
         verify(bankHolidayMapper).toDTO(bankHoliday);
+        verify(occurrenceService).refreshOccurrences(bankHoliday.getId());
+        verify(holidayIndex).putHoliday(bankHoliday);
+        verify(resolutionCache).invalidateHoliday(bankHoliday);
+    }
+
+    @Test
+    void createBankHoliday_ShouldInvalidateResolutionsOnlyOnceTheHolidayIsCommittedAndIndexed() {
+        // Arrange
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+        when(bankHolidayMapper.toEntity(bankHolidayDTO)).thenReturn(bankHoliday);
+        when(bankHolidayRepository.save(bankHoliday)).thenReturn(Mono.just(bankHoliday));
+        when(occurrenceService.refreshOccurrences(bankHoliday.getId())).thenReturn(Mono.empty());
+        when(bankHolidayMapper.toDTO(bankHoliday)).thenReturn(bankHolidayDTO);
+
+        // Act
+        StepVerifier.create(transactionalOperator.transactional(bankHolidayService.createBankHoliday(bankHolidayDTO)
+                        .doOnNext(created -> verify(resolutionCache, never()).invalidateHoliday(any()))))
+                .expectNext(bankHolidayDTO)
+                .verifyComplete();
+
+        // Assert
+        InOrder inOrder = inOrder(holidayIndex, resolutionCache);
+        inOrder.verify(holidayIndex).putHoliday(bankHoliday);
+        inOrder.verify(resolutionCache).invalidateHoliday(bankHoliday);
     }
 
     @Test
@@ -116,6 +180,7 @@ public class BankHolidayServiceImplTest {
         when(bankHolidayRepository.findById(bankHolidayId)).thenReturn(Mono.just(bankHoliday));
         when(bankHolidayMapper.toEntity(bankHolidayDTO)).thenReturn(bankHoliday);
         when(bankHolidayRepository.save(bankHoliday)).thenReturn(Mono.just(bankHoliday));
+        when(occurrenceService.refreshOccurrences(bankHoliday.getId())).thenReturn(Mono.empty());
         when(bankHolidayMapper.toDTO(bankHoliday)).thenReturn(bankHolidayDTO);
 
         // Act & Assert
@@ -129,6 +194,34 @@ public class BankHolidayServiceImplTest {
         verify(bankHolidayMapper).toDTO(bankHoliday);
     }
 
+    @Test
+    void updateBankHoliday_WhenHolidayMovesToAnotherBank_ShouldRefreshBothBanks() {
+        // Arrange
+        UUID bankHolidayId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID newBankId = UUID.fromString("233e4567-e89b-12d3-a456-426614174000");
+        BankHoliday moved = BankHoliday.builder()
+                .id(bankHolidayId)
+                .bankId(newBankId)
+                .name(bankHoliday.getName())
+                .date(bankHoliday.getDate())
+                .isRecurring(true)
+                .build();
+        when(bankHolidayRepository.findById(bankHolidayId)).thenReturn(Mono.just(bankHoliday));
+        when(bankHolidayMapper.toEntity(bankHolidayDTO)).thenReturn(moved);
+        when(bankHolidayRepository.save(moved)).thenReturn(Mono.just(moved));
+        when(occurrenceService.refreshOccurrences(bankHolidayId)).thenReturn(Mono.empty());
+        when(bankHolidayMapper.toDTO(moved)).thenReturn(bankHolidayDTO);
+
+        // Act & Assert
+        StepVerifier.create(bankHolidayService.updateBankHoliday(bankHolidayId, bankHolidayDTO))
+                .expectNext(bankHolidayDTO)
+                .verifyComplete();
+
+        verify(holidayIndex).putHoliday(moved);
+        verify(statusService).refreshBank(newBankId);
+        verify(statusService).refreshBank(bankHoliday.getBankId());
+    }
+
     @Test
     void updateBankHoliday_WhenBankHolidayDoesNotExist_ShouldReturnError() {
         // Arrange
@@ -157,6 +250,9 @@ public class BankHolidayServiceImplTest {
 
         verify(bankHolidayRepository).findById(bankHolidayId);
         verify(bankHolidayRepository).deleteById(bankHolidayId);
+        verify(holidayIndex).removeHoliday(bankHolidayId);
+        verify(resolutionCache).invalidateHoliday(bankHoliday);
+        verify(statusService).refreshBank(bankHoliday.getBankId());
     }
 
     @Test
@@ -20,6 +20,9 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.FilterResultCache;
 import com.firefly.core.organization.core.mappers.BankRegionMapper;
 import com.firefly.core.organization.interfaces.dtos.BankRegionDTO;
 import com.firefly.core.organization.models.entities.BankRegion;
@@ -40,6 +43,7 @@ import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +58,15 @@ public class BankRegionServiceImplTest {
     @Mock
     private BankRegionMapper bankRegionMapper;
 
+    @Mock
+    private AuditRecorder auditRecorder;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private FilterResultCache filterResultCache;
+
     @InjectMocks
     private BankRegionServiceImpl bankRegionService;
 
@@ -62,6 +75,13 @@ public class BankRegionServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(changeOutbox.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.deleted(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.deleted(any(), any())).thenReturn(Mono.empty());
+
         // Setup test data
         UUID testId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         UUID testDivisionId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
@@ -20,6 +20,10 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.audit.AuditedEntities;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.FilterResultCache;
 import com.firefly.core.organization.core.mappers.BankMapper;
 import com.firefly.core.organization.interfaces.dtos.BankDTO;
 import com.firefly.core.organization.models.entities.Bank;
@@ -41,6 +45,7 @@ import java.util.function.Function;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,6 +60,15 @@ public class BankServiceImplTest {
     @Mock
     private BankMapper bankMapper;
 
+    @Mock
+    private AuditRecorder auditRecorder;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private FilterResultCache filterResultCache;
+
     @InjectMocks
     private BankServiceImpl bankService;
 
@@ -63,6 +77,13 @@ public class BankServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(changeOutbox.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.deleted(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.deleted(any(), any())).thenReturn(Mono.empty());
+
         // Setup test data
         UUID testId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         bankDTO = BankDTO.builder()
@@ -100,6 +121,8 @@ public class BankServiceImplTest {
         verify(bankMapper).toEntity(bankDTO);
         verify(bankRepository).save(bank);
         verify(bankMapper).toDTO(bank);
+        verify(auditRecorder).created(AuditedEntities.BANK, bank);
+        verify(changeOutbox).created(AuditedEntities.BANK, bank);
     }
 
     @Test
@@ -120,6 +143,8 @@ public class BankServiceImplTest {
         verify(bankMapper).toEntity(bankDTO);
         verify(bankRepository).save(bank);
         verify(bankMapper).toDTO(bank);
+        verify(auditRecorder).updated(AuditedEntities.BANK, bank, bank);
+        verify(changeOutbox).updated(AuditedEntities.BANK, bank, bank);
     }
 
     @Test
@@ -150,6 +175,8 @@ public class BankServiceImplTest {
 
         verify(bankRepository).findById(bankId);
         verify(bankRepository).deleteById(bankId);
+        verify(auditRecorder).deleted(AuditedEntities.BANK, bank);
+        verify(changeOutbox).deleted(AuditedEntities.BANK, bank);
     }
 
     @Test
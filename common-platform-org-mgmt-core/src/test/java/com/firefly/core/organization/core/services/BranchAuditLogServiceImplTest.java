@@ -20,11 +20,13 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditLogWriter;
 import com.firefly.core.organization.core.mappers.BranchAuditLogMapper;
 import com.firefly.core.organization.interfaces.dtos.BranchAuditLogDTO;
 import com.firefly.core.organization.interfaces.enums.AuditAction;
 import com.firefly.core.organization.models.entities.BranchAuditLog;
 import com.firefly.core.organization.models.repositories.BranchAuditLogRepository;
+import io.r2dbc.postgresql.codec.Json;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,6 +44,7 @@ import java.util.function.Function;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.UUID;
@@ -55,6 +58,9 @@ public class BranchAuditLogServiceImplTest {
     @Mock
     private BranchAuditLogMapper branchAuditLogMapper;
 
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
     @InjectMocks
     private BranchAuditLogServiceImpl branchAuditLogService;
 
@@ -88,7 +94,7 @@ public class BranchAuditLogServiceImplTest {
                 .action(AuditAction.CREATED)
                 .entity("Branch")
                 .entityId("1")
-                .metadata("{\"name\":\"Main Branch\",\"code\":\"BR001\"}")
+                .metadata(Json.of("{\"name\":\"Main Branch\",\"code\":\"BR001\"}"))
                 .ipAddress("192.168.1.1")
                 .userId(testUserId)
                 .timestamp(now)
@@ -113,6 +119,23 @@ public class BranchAuditLogServiceImplTest {
         verify(branchAuditLogMapper).toDTO(branchAuditLog);
     }
 
+    @Test
+    void createBranchAuditLog_WhenWriterEnabled_ShouldQueueInsteadOfSaving() {
+        // Arrange
+        when(auditLogWriter.isEnabled()).thenReturn(true);
+        when(branchAuditLogMapper.toEntity(branchAuditLogDTO)).thenReturn(branchAuditLog);
+        when(auditLogWriter.submit(branchAuditLog)).thenReturn(Mono.just(branchAuditLog));
+        when(branchAuditLogMapper.toDTO(branchAuditLog)).thenReturn(branchAuditLogDTO);
+
+        // Act & Assert
+        StepVerifier.create(branchAuditLogService.createBranchAuditLog(branchAuditLogDTO))
+                .expectNext(branchAuditLogDTO)
+                .verifyComplete();
+
+        verify(auditLogWriter).submit(branchAuditLog);
+        verify(branchAuditLogRepository, never()).save(any(BranchAuditLog.class));
+    }
+
     @Test
     void updateBranchAuditLog_WhenBranchAuditLogExists_ShouldUpdateAndReturnBranchAuditLog() {
         // Arrange
@@ -20,6 +20,10 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
 import com.firefly.core.organization.core.mappers.BranchDepartmentMapper;
 import com.firefly.core.organization.interfaces.dtos.BranchDepartmentDTO;
 import com.firefly.core.organization.models.entities.BranchDepartment;
@@ -40,6 +44,7 @@ import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +59,18 @@ public class BranchDepartmentServiceImplTest {
     @Mock
     private BranchDepartmentMapper branchDepartmentMapper;
 
+    @Mock
+    private AuditRecorder auditRecorder;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private FilterResultCache filterResultCache;
+
+    @Mock
+    private CalendarResolutionCache resolutionCache;
+
     @InjectMocks
     private BranchDepartmentServiceImpl branchDepartmentService;
 
@@ -62,6 +79,13 @@ public class BranchDepartmentServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(changeOutbox.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.deleted(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.deleted(any(), any())).thenReturn(Mono.empty());
+
         // Setup test data
         LocalDateTime now = LocalDateTime.now();
         
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.BranchGeoIndex;
+import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BranchFinderServiceImplTest {
+
+    @Mock
+    private BranchGeoIndex geoIndex;
+
+    @Mock
+    private BranchRepository branchRepository;
+
+    @Mock
+    private BranchMapper mapper;
+
+    @InjectMocks
+    private BranchFinderServiceImpl branchFinderService;
+
+    private final UUID branchId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private final UUID bankId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+
+    @Test
+    void findNearest_ShouldLoadIndexAndReturnBranchesWithDistance() {
+        // Arrange
+        Branch branch = Branch.builder().id(branchId).bankId(bankId).latitude(40.4168f).longitude(-3.7038f).build();
+        BranchDTO branchDTO = BranchDTO.builder().id(branchId).bankId(bankId).build();
+        when(branchRepository.findAll()).thenReturn(Flux.just(branch));
+        when(geoIndex.nearest(40.42, -3.70, 5, bankId, true)).thenReturn(List.of(new BranchGeoIndex.Hit(branch, 0.5)));
+        when(mapper.toDTO(branch)).thenReturn(branchDTO);
+
+        // Act & Assert
+        StepVerifier.create(branchFinderService.findNearest(40.42, -3.70, 5, bankId, true))
+                .expectNextMatches(nearby -> nearby.getBranch().equals(branchDTO) && nearby.getDistanceKm() == 0.5)
+                .verifyComplete();
+
+        verify(geoIndex).reset(List.of(branch));
+    }
+
+    @Test
+    void findNearest_WhenLimitIsOutOfRange_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(branchFinderService.findNearest(40.42, -3.70, 0, null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void findWithinRadius_WhenCoordinatesAreInvalid_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(branchFinderService.findWithinRadius(95, -3.70, 10, null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void findWithinBox_ShouldReturnBranchesInsideBox() {
+        // Arrange
+        Branch branch = Branch.builder().id(branchId).bankId(bankId).latitude(40.4168f).longitude(-3.7038f).build();
+        BranchDTO branchDTO = BranchDTO.builder().id(branchId).bankId(bankId).build();
+        when(branchRepository.findAll()).thenReturn(Flux.just(branch));
+        when(geoIndex.withinBox(40, -4, 41, -3, null, null)).thenReturn(List.of(new BranchGeoIndex.Hit(branch, 12.0)));
+        when(mapper.toDTO(branch)).thenReturn(branchDTO);
+
+        // Act & Assert
+        StepVerifier.create(branchFinderService.findWithinBox(40, -4, 41, -3, null, null))
+                .expectNextMatches(nearby -> nearby.getBranch().equals(branchDTO))
+                .verifyComplete();
+    }
+}
@@ -20,6 +20,11 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
 import com.firefly.core.organization.core.mappers.BranchHoursMapper;
 import com.firefly.core.organization.interfaces.dtos.BranchHoursDTO;
 import com.firefly.core.organization.interfaces.enums.DayOfWeek;
@@ -42,6 +47,7 @@ import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,6 +62,24 @@ public class BranchHoursServiceImplTest {
     @Mock
     private BranchHoursMapper branchHoursMapper;
 
+    @Mock
+    private AuditRecorder auditRecorder;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private FilterResultCache filterResultCache;
+
+    @Mock
+    private BranchScheduleIndex scheduleIndex;
+
+    @Mock
+    private BranchStatusService statusService;
+
+    @Mock
+    private CalendarResolutionCache resolutionCache;
+
     @InjectMocks
     private BranchHoursServiceImpl branchHoursService;
 
@@ -64,6 +88,13 @@ public class BranchHoursServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(changeOutbox.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.deleted(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.deleted(any(), any())).thenReturn(Mono.empty());
+
         // Setup test data
         LocalDateTime now = LocalDateTime.now();
         LocalTime openTime = LocalTime.of(9, 0); // 9:00 AM
@@ -160,6 +191,8 @@ public class BranchHoursServiceImplTest {
 
         verify(branchHoursRepository).findById(branchHoursId);
         verify(branchHoursRepository).deleteById(branchHoursId);
+        verify(statusService).refreshBranch(branchHours.getBranchId());
+        verify(resolutionCache).invalidateBranch(branchHours.getBranchId());
     }
 
     @Test
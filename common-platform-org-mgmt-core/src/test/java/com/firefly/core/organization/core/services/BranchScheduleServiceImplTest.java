@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex;
+import com.firefly.core.organization.interfaces.enums.DayOfWeek;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchHours;
+import com.firefly.core.organization.models.repositories.BranchHoursRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BranchScheduleServiceImplTest {
+
+    @Mock
+    private BranchScheduleIndex scheduleIndex;
+
+    @Mock
+    private BranchRepository branchRepository;
+
+    @Mock
+    private BranchHoursRepository branchHoursRepository;
+
+    @InjectMocks
+    private BranchScheduleServiceImpl branchScheduleService;
+
+    private final UUID branchId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private final UUID regionId = UUID.fromString("323e4567-e89b-12d3-a456-426614174000");
+
+    @Test
+    void findBranchesOpen_ShouldLoadIndexAndReturnMatches() {
+        // Arrange
+        Branch branch = Branch.builder().id(branchId).regionId(regionId).build();
+        BranchHours hours = BranchHours.builder().branchId(branchId).dayOfWeek(DayOfWeek.SATURDAY).build();
+        when(branchRepository.findAll()).thenReturn(Flux.just(branch));
+        when(branchHoursRepository.findAll()).thenReturn(Flux.just(hours));
+        when(scheduleIndex.findOpen(DayOfWeek.SATURDAY, LocalTime.of(14, 0), LocalTime.of(16, 0), null, regionId))
+                .thenReturn(List.of(branchId));
+
+        // Act & Assert
+        StepVerifier.create(branchScheduleService.findBranchesOpen(
+                        DayOfWeek.SATURDAY, LocalTime.of(14, 0), LocalTime.of(16, 0), null, regionId))
+                .expectNext(branchId)
+                .verifyComplete();
+
+        verify(scheduleIndex).reset(List.of(branch), List.of(hours));
+    }
+
+    @Test
+    void findBranchesOpen_WhenWindowCrossesMidnight_ShouldPassItToTheIndex() {
+        // Arrange
+        when(branchRepository.findAll()).thenReturn(Flux.empty());
+        when(branchHoursRepository.findAll()).thenReturn(Flux.empty());
+        when(scheduleIndex.findOpen(DayOfWeek.SATURDAY, LocalTime.of(23, 0), LocalTime.of(1, 0), null, null))
+                .thenReturn(List.of(branchId));
+
+        // Act & Assert
+        StepVerifier.create(branchScheduleService.findBranchesOpen(
+                        DayOfWeek.SATURDAY, LocalTime.of(23, 0), LocalTime.of(1, 0), null, null))
+                .expectNext(branchId)
+                .verifyComplete();
+    }
+
+    @Test
+    void findBranchesOpenAt_ShouldReturnBranchesOpenAtInstant() {
+        // Arrange
+        Instant instant = Instant.parse("2025-01-04T15:30:00Z");
+        when(branchRepository.findAll()).thenReturn(Flux.empty());
+        when(branchHoursRepository.findAll()).thenReturn(Flux.empty());
+        when(scheduleIndex.findOpenAt(instant, null, null)).thenReturn(List.of(branchId));
+
+        // Act & Assert
+        StepVerifier.create(branchScheduleService.findBranchesOpenAt(instant, null, null))
+                .expectNext(branchId)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.BranchSearchIndex;
+import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BranchSearchServiceImplTest {
+
+    @Mock
+    private BranchSearchIndex searchIndex;
+
+    @Mock
+    private BranchRepository repository;
+
+    @Mock
+    private BranchMapper mapper;
+
+    @InjectMocks
+    private BranchSearchServiceImpl branchSearchService;
+
+    private final UUID bankId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+    private Branch branch;
+    private BranchDTO branchDTO;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(branchSearchService, "inMemory", true);
+        branch = Branch.builder().id(UUID.randomUUID()).bankId(bankId).name("Gran Via").build();
+        branchDTO = BranchDTO.builder().id(branch.getId()).bankId(bankId).name("Gran Via").build();
+    }
+
+    @Test
+    void searchBranches_WhenIndexIsLoaded_ShouldSearchInMemory() {
+        // Arrange
+        when(searchIndex.isLoaded()).thenReturn(true);
+        when(searchIndex.search(bankId, "gran", 10)).thenReturn(List.of(branch));
+        when(mapper.toDTO(branch)).thenReturn(branchDTO);
+
+        // Act & Assert
+        StepVerifier.create(branchSearchService.searchBranches(bankId, " gran ", 10))
+                .expectNext(branchDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void searchBranches_WhenIndexIsNotLoaded_ShouldFallBackToDatabase() {
+        // Arrange
+        when(searchIndex.isLoaded()).thenReturn(false);
+        when(repository.searchByText(bankId, "50%_off", "%50\\%\\_off%", 10)).thenReturn(Flux.just(branch));
+        when(mapper.toDTO(branch)).thenReturn(branchDTO);
+
+        // Act & Assert
+        StepVerifier.create(branchSearchService.searchBranches(bankId, "50%_off", 10))
+                .expectNext(branchDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void searchBranches_WhenQueryIsBlank_ShouldReturnEmpty() {
+        // Act & Assert
+        StepVerifier.create(branchSearchService.searchBranches(bankId, "  ", 10))
+                .verifyComplete();
+    }
+
+    @Test
+    void searchBranches_WhenLimitIsOutOfRange_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(branchSearchService.searchBranches(bankId, "gran", 500))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+}
@@ -20,6 +20,14 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.BranchGeoIndex;
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex;
+import com.firefly.core.organization.core.indexes.BranchSearchIndex;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
+import com.firefly.core.organization.core.indexes.HolidayIndex;
 import com.firefly.core.organization.core.mappers.BranchMapper;
 import com.firefly.core.organization.interfaces.dtos.BankDTO;
 import com.firefly.core.organization.interfaces.dtos.BranchDTO;
@@ -43,6 +51,7 @@ import java.util.function.Function;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -58,9 +67,36 @@ public class BranchServiceImplTest {
     @Mock
     private BranchMapper branchMapper;
 
+    @Mock
+    private AuditRecorder auditRecorder;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private FilterResultCache filterResultCache;
+
+    @Mock
+    private CalendarResolutionCache resolutionCache;
+
     @Mock
     private BankService bankService;
 
+    @Mock
+    private HolidayIndex holidayIndex;
+
+    @Mock
+    private BranchScheduleIndex scheduleIndex;
+
+    @Mock
+    private BranchGeoIndex geoIndex;
+
+    @Mock
+    private BranchSearchIndex searchIndex;
+
+    @Mock
+    private BranchStatusService statusService;
+
     @InjectMocks
     private BranchServiceImpl branchService;
 
@@ -69,6 +105,13 @@ public class BranchServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(changeOutbox.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.deleted(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.deleted(any(), any())).thenReturn(Mono.empty());
+
         // Setup test data
         LocalDateTime now = LocalDateTime.now();
 
@@ -182,6 +225,9 @@ public class BranchServiceImplTest {
 
         verify(branchRepository).findById(branchId);
         verify(branchRepository).deleteById(branchId);
+        verify(statusService).refreshBranch(branchId);
+        verify(geoIndex).removeBranch(branchId);
+        verify(searchIndex).removeBranch(branchId);
     }
 
     @Test
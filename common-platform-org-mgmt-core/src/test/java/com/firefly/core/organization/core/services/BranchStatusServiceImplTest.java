@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex;
+import com.firefly.core.organization.core.indexes.BranchScheduleIndex.BranchWeek;
+import com.firefly.core.organization.core.indexes.HolidayIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BranchStatusServiceImplTest {
+
+    private static final Instant MONDAY_10_00 = Instant.parse("2025-01-06T10:00:00Z");
+    private static final Instant MONDAY_17_00 = Instant.parse("2025-01-06T17:00:00Z");
+    private static final Instant TUESDAY_09_00 = Instant.parse("2025-01-07T09:00:00Z");
+
+    @Mock
+    private BranchScheduleIndex scheduleIndex;
+
+    @Mock
+    private HolidayIndex holidayIndex;
+
+    @Mock
+    private BranchScheduleService branchScheduleService;
+
+    @Mock
+    private HolidayCalendarService holidayCalendarService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @InjectMocks
+    private BranchStatusServiceImpl branchStatusService;
+
+    private UUID branchId;
+    private UUID bankId;
+    private BranchWeek week;
+
+    @BeforeEach
+    void setUp() {
+        branchId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        bankId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+
+        // Monday to Friday, 09:00 to 17:00 UTC
+        long[] mask = new long[(BranchScheduleIndex.SLOTS_PER_WEEK + Long.SIZE - 1) / Long.SIZE];
+        for (int day = 0; day < 5; day++) {
+            for (int slot = day * BranchScheduleIndex.SLOTS_PER_DAY + 36; slot < day * BranchScheduleIndex.SLOTS_PER_DAY + 68; slot++) {
+                mask[slot / Long.SIZE] |= 1L << (slot % Long.SIZE);
+            }
+        }
+        week = new BranchWeek(branchId, bankId, ZoneOffset.UTC, true, mask);
+
+        ReflectionTestUtils.setField(branchStatusService, "clock", Clock.fixed(MONDAY_10_00, ZoneOffset.UTC));
+        when(branchScheduleService.ready()).thenReturn(Mono.empty());
+        when(holidayCalendarService.ready()).thenReturn(Mono.empty());
+        when(scheduleIndex.branchIds(null)).thenReturn(List.of(branchId));
+    }
+
+    @Test
+    void getBankStatuses_WhenBranchIsWithinOpeningHours_ShouldReturnOpenUntilClosingTime() {
+        // Arrange
+        when(scheduleIndex.weekOf(branchId)).thenReturn(week);
+        when(holidayIndex.isBranchHoliday(eq(branchId), any(LocalDate.class))).thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(branchStatusService.getBankStatuses(bankId))
+                .expectNextMatches(status -> status.getBranchId().equals(branchId)
+                        && status.getIsOpen()
+                        && status.getNextChangeAt().equals(MONDAY_17_00))
+                .verifyComplete();
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(MONDAY_17_00));
+    }
+
+    @Test
+    void getBankStatuses_WhenBranchHasHoliday_ShouldReturnClosedUntilNextOpening() {
+        // Arrange
+        when(scheduleIndex.weekOf(branchId)).thenReturn(week);
+        when(holidayIndex.isBranchHoliday(eq(branchId), any(LocalDate.class))).thenReturn(false);
+        when(holidayIndex.isBranchHoliday(branchId, LocalDate.of(2025, 1, 6))).thenReturn(true);
+
+        // Act & Assert
+        StepVerifier.create(branchStatusService.getBankStatuses(bankId))
+                .expectNextMatches(status -> !status.getIsOpen() && status.getNextChangeAt().equals(TUESDAY_09_00))
+                .verifyComplete();
+    }
+
+    @Test
+    void getBankStatuses_WhenBankHasNoBranches_ShouldReturnEmpty() {
+        // Arrange
+        when(scheduleIndex.weekOf(branchId)).thenReturn(week);
+        when(holidayIndex.isBranchHoliday(eq(branchId), any(LocalDate.class))).thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(branchStatusService.getBankStatuses(UUID.randomUUID()))
+                .verifyComplete();
+    }
+
+    @Test
+    void streamBankStatuses_WhenTransitionIsDue_ShouldEmitChange() {
+        // Arrange
+        when(scheduleIndex.weekOf(branchId)).thenReturn(week);
+        when(holidayIndex.isBranchHoliday(eq(branchId), any(LocalDate.class))).thenReturn(false);
+        ArgumentCaptor<Runnable> timer = ArgumentCaptor.forClass(Runnable.class);
+
+        // Act & Assert
+        StepVerifier.create(branchStatusService.streamBankStatuses(bankId))
+                .expectNextMatches(status -> status.getIsOpen())
+                .then(() -> {
+                    verify(taskScheduler).schedule(timer.capture(), eq(MONDAY_17_00));
+                    ReflectionTestUtils.setField(branchStatusService, "clock", Clock.fixed(MONDAY_17_00, ZoneOffset.UTC));
+                    timer.getValue().run();
+                })
+                .expectNextMatches(status -> !status.getIsOpen() && status.getNextChangeAt().equals(TUESDAY_09_00))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void streamBankStatuses_WhenTransitionHappensBeforeClientRequestsIt_ShouldBufferIt() {
+        // Arrange
+        when(scheduleIndex.weekOf(branchId)).thenReturn(week);
+        when(holidayIndex.isBranchHoliday(eq(branchId), any(LocalDate.class))).thenReturn(false);
+        ArgumentCaptor<Runnable> timer = ArgumentCaptor.forClass(Runnable.class);
+
+        // Act & Assert
+        StepVerifier.create(branchStatusService.streamBankStatuses(bankId), 0)
+                .then(() -> {
+                    verify(taskScheduler).schedule(timer.capture(), eq(MONDAY_17_00));
+                    ReflectionTestUtils.setField(branchStatusService, "clock", Clock.fixed(MONDAY_17_00, ZoneOffset.UTC));
+                    timer.getValue().run();
+                })
+                .thenRequest(2)
+                .expectNextMatches(status -> status.getIsOpen())
+                .expectNextMatches(status -> !status.getIsOpen())
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void refreshBranch_WhenBranchWasRemoved_ShouldDropItFromBoard() {
+        // Arrange
+        when(scheduleIndex.weekOf(branchId)).thenReturn(week, (BranchWeek) null);
+        when(holidayIndex.isBranchHoliday(eq(branchId), any(LocalDate.class))).thenReturn(false);
+        StepVerifier.create(branchStatusService.getBankStatuses(bankId))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Act
+        branchStatusService.refreshBranch(branchId);
+
+        // Assert
+        StepVerifier.create(branchStatusService.getBankStatuses(bankId))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
+import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.interfaces.dtos.BusinessDayMatrixRowDTO;
+import com.firefly.core.organization.interfaces.enums.CalendarTarget;
+import com.firefly.core.organization.models.entities.BankHoliday;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.entities.BranchDepartment;
+import com.firefly.core.organization.models.entities.BranchHours;
+import com.firefly.core.organization.models.entities.BranchPosition;
+import com.firefly.core.organization.models.entities.CalendarAssignment;
+import com.firefly.core.organization.models.entities.WorkingCalendar;
+import com.firefly.core.organization.models.repositories.BranchDepartmentRepository;
+import com.firefly.core.organization.models.repositories.BranchHoursRepository;
+import com.firefly.core.organization.models.repositories.BranchPositionRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import com.firefly.core.organization.models.repositories.CalendarAssignmentRepository;
+import com.firefly.core.organization.models.repositories.WorkingCalendarRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CalendarResolutionServiceImplTest {
+
+    private static final YearMonth JUNE = YearMonth.of(2025, 6);
+
+    @Spy
+    private CalendarResolutionCache cache = new CalendarResolutionCache();
+
+    @Mock
+    private BranchPositionRepository branchPositionRepository;
+
+    @Mock
+    private BranchDepartmentRepository branchDepartmentRepository;
+
+    @Mock
+    private BranchRepository branchRepository;
+
+    @Mock
+    private BranchHoursRepository branchHoursRepository;
+
+    @Mock
+    private CalendarAssignmentRepository calendarAssignmentRepository;
+
+    @Mock
+    private WorkingCalendarRepository workingCalendarRepository;
+
+    @Mock
+    private HolidayCalendarService holidayCalendarService;
+
+    @Mock
+    private BankService bankService;
+
+    @InjectMocks
+    private CalendarResolutionServiceImpl calendarResolutionService;
+
+    private final UUID bankId = UUID.randomUUID();
+    private final UUID branchId = UUID.randomUUID();
+    private final UUID departmentId = UUID.randomUUID();
+    private final UUID positionId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(calendarResolutionService, "weekendDays", Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+        lenient().when(branchPositionRepository.findById(positionId))
+                .thenReturn(Mono.just(BranchPosition.builder().id(positionId).departmentId(departmentId).build()));
+        lenient().when(branchDepartmentRepository.findById(departmentId))
+                .thenReturn(Mono.just(BranchDepartment.builder().id(departmentId).branchId(branchId).build()));
+        lenient().when(branchRepository.findById(branchId))
+                .thenReturn(Mono.just(Branch.builder().id(branchId).bankId(bankId).build()));
+        lenient().when(calendarAssignmentRepository.findByPositionId(positionId)).thenReturn(Flux.empty());
+        lenient().when(calendarAssignmentRepository.findByDepartmentId(departmentId)).thenReturn(Flux.empty());
+        lenient().when(calendarAssignmentRepository.findByBranchIdAndIsActiveTrue(branchId)).thenReturn(Flux.empty());
+        lenient().when(holidayCalendarService.getBranchHolidays(branchId, JUNE.atDay(1), JUNE.atEndOfMonth()))
+                .thenReturn(Flux.just(LocalDate.of(2025, 6, 9)));
+        lenient().when(branchHoursRepository.findByBranchId(branchId)).thenReturn(Flux.empty());
+        lenient().when(branchHoursRepository.findByBankId(bankId)).thenReturn(Flux.empty());
+        lenient().when(bankService.getBankById(bankId)).thenReturn(Mono.just(BankDTO.builder().id(bankId).build()));
+    }
+
+    @Test
+    void resolve_ShouldPreferPositionAssignmentAndComputeBusinessDays() {
+        // Arrange
+        UUID calendarId = UUID.randomUUID();
+        CalendarAssignment positionAssignment = assignment(calendarId, null, positionId, JUNE.minusMonths(3).atDay(1));
+        CalendarAssignment departmentAssignment = assignment(UUID.randomUUID(), departmentId, null, JUNE.atDay(1));
+        when(calendarAssignmentRepository.findByPositionId(positionId)).thenReturn(Flux.just(positionAssignment));
+        when(calendarAssignmentRepository.findByDepartmentId(departmentId)).thenReturn(Flux.just(departmentAssignment));
+
+        // Act & Assert
+        StepVerifier.create(calendarResolutionService.resolve(CalendarTarget.POSITION, positionId, JUNE))
+                .assertNext(resolution -> {
+                    assertEquals(calendarId, resolution.getCalendarId());
+                    assertEquals(positionAssignment.getId(), resolution.getAssignmentId());
+                    assertEquals(branchId, resolution.getBranchId());
+                    // June 2025 has 21 weekdays, and the 9th is a holiday.
+                    assertEquals(20, resolution.getBusinessDays().size());
+                    assertEquals(LocalDate.of(2025, 6, 2), resolution.getBusinessDays().get(0));
+                    assertEquals(0, resolution.getBusinessDayMask() & (1 << 8));
+                })
+                .verifyComplete();
+        verify(workingCalendarRepository, never()).findByBankIdAndIsDefaultTrue(any());
+    }
+
+    @Test
+    void resolve_WithoutAssignment_ShouldUseDefaultCalendarOfBank() {
+        // Arrange
+        UUID calendarId = UUID.randomUUID();
+        CalendarAssignment expired = assignment(UUID.randomUUID(), null, null, JUNE.minusYears(1).atDay(1));
+        expired.setBranchId(branchId);
+        expired.setEffectiveTo(JUNE.minusMonths(1).atEndOfMonth().atStartOfDay());
+        when(calendarAssignmentRepository.findByBranchIdAndIsActiveTrue(branchId)).thenReturn(Flux.just(expired));
+        when(workingCalendarRepository.findByBankIdAndIsDefaultTrue(bankId))
+                .thenReturn(Mono.just(WorkingCalendar.builder().id(calendarId).bankId(bankId).isDefault(true).build()));
+
+        // Act & Assert
+        StepVerifier.create(calendarResolutionService.resolve(CalendarTarget.BRANCH, branchId, JUNE))
+                .assertNext(resolution -> {
+                    assertEquals(calendarId, resolution.getCalendarId());
+                    assertNull(resolution.getAssignmentId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void resolve_ShouldServeRepeatedCallsFromCacheUntilInvalidated() {
+        // Arrange
+        when(workingCalendarRepository.findByBankIdAndIsDefaultTrue(bankId)).thenReturn(Mono.empty());
+
+        // Act
+        calendarResolutionService.resolve(CalendarTarget.POSITION, positionId, JUNE).block();
+        calendarResolutionService.resolve(CalendarTarget.POSITION, positionId, JUNE).block();
+        cache.invalidateHoliday(BankHoliday.builder().bankId(bankId).date(LocalDate.of(2025, 6, 24)).isRecurring(true).build());
+        calendarResolutionService.resolve(CalendarTarget.POSITION, positionId, JUNE).block();
+
+        // Assert
+        verify(branchPositionRepository, times(2)).findById(positionId);
+        verify(holidayCalendarService, times(2)).getBranchHolidays(branchId, JUNE.atDay(1), JUNE.atEndOfMonth());
+    }
+
+    @Test
+    void resolve_WhenPositionNotFound_ShouldFail() {
+        // Arrange
+        UUID missing = UUID.randomUUID();
+        when(branchPositionRepository.findById(missing)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(calendarResolutionService.resolve(CalendarTarget.POSITION, missing, JUNE))
+                .expectErrorMatches(error -> error instanceof RuntimeException
+                        && error.getMessage().equals("Branch position not found with ID: " + missing))
+                .verify();
+    }
+
+    @Test
+    void getBankMatrix_ShouldResolveEachPositionAndShareBranchDays() {
+        // Arrange
+        UUID otherPositionId = UUID.randomUUID();
+        UUID positionCalendarId = UUID.randomUUID();
+        UUID branchCalendarId = UUID.randomUUID();
+        CalendarAssignment positionAssignment = assignment(positionCalendarId, null, positionId, JUNE.minusMonths(3).atDay(1));
+        CalendarAssignment branchAssignment = assignment(branchCalendarId, null, null, JUNE.minusYears(1).atDay(1));
+        branchAssignment.setBranchId(branchId);
+        when(branchRepository.findByBankId(bankId)).thenReturn(Flux.just(Branch.builder().id(branchId).bankId(bankId).build()));
+        when(branchDepartmentRepository.findByBankId(bankId))
+                .thenReturn(Flux.just(BranchDepartment.builder().id(departmentId).branchId(branchId).build()));
+        when(calendarAssignmentRepository.findByBankId(bankId)).thenReturn(Flux.just(positionAssignment, branchAssignment));
+        when(workingCalendarRepository.findByBankIdAndIsDefaultTrue(bankId)).thenReturn(Mono.empty());
+        when(branchPositionRepository.findByBankId(bankId)).thenReturn(Flux.just(
+                BranchPosition.builder().id(positionId).departmentId(departmentId).build(),
+                BranchPosition.builder().id(otherPositionId).departmentId(departmentId).build()));
+
+        // Act
+        List<BusinessDayMatrixRowDTO> rows = calendarResolutionService.getBankMatrix(bankId, JUNE).collectList().block();
+
+        // Assert
+        assertEquals(2, rows.size());
+        BusinessDayMatrixRowDTO first = rows.get(0);
+        assertEquals(positionCalendarId, first.getCalendarId());
+        assertEquals(positionAssignment.getId(), first.getAssignmentId());
+        assertEquals(branchId, first.getBranchId());
+        // June 2025 starts on a Sunday, and the 9th is a holiday.
+        assertEquals("CWWWWWCCHWWWWCCWWWWWCCWWWWWCCW", first.getDays());
+        assertEquals(20, Integer.bitCount(first.getWorkingDays()));
+        assertEquals(1 << 8, first.getHolidays());
+        assertEquals(9, Integer.bitCount(first.getClosedDays()));
+        BusinessDayMatrixRowDTO second = rows.get(1);
+        assertEquals(branchCalendarId, second.getCalendarId());
+        assertEquals(branchAssignment.getId(), second.getAssignmentId());
+        assertSame(first.getDays(), second.getDays());
+        verify(holidayCalendarService, times(1)).getBranchHolidays(branchId, JUNE.atDay(1), JUNE.atEndOfMonth());
+        verify(branchPositionRepository, never()).findById(any());
+    }
+
+    @Test
+    void getBankMatrix_ShouldMarkDaysClosedByTheBranchHoursLikeResolve() {
+        // Arrange
+        List<BranchHours> hours = List.of(
+                hours(DayOfWeek.MONDAY, true),
+                hours(DayOfWeek.TUESDAY, false),
+                hours(DayOfWeek.WEDNESDAY, false),
+                hours(DayOfWeek.THURSDAY, false),
+                hours(DayOfWeek.FRIDAY, false),
+                hours(DayOfWeek.SATURDAY, false));
+        when(branchHoursRepository.findByBankId(bankId)).thenReturn(Flux.fromIterable(hours));
+        when(branchHoursRepository.findByBranchId(branchId)).thenReturn(Flux.fromIterable(hours));
+        when(branchRepository.findByBankId(bankId)).thenReturn(Flux.just(Branch.builder().id(branchId).bankId(bankId).build()));
+        when(branchDepartmentRepository.findByBankId(bankId))
+                .thenReturn(Flux.just(BranchDepartment.builder().id(departmentId).branchId(branchId).build()));
+        when(calendarAssignmentRepository.findByBankId(bankId)).thenReturn(Flux.empty());
+        when(workingCalendarRepository.findByBankIdAndIsDefaultTrue(bankId)).thenReturn(Mono.empty());
+        when(branchPositionRepository.findByBankId(bankId))
+                .thenReturn(Flux.just(BranchPosition.builder().id(positionId).departmentId(departmentId).build()));
+
+        // Act
+        List<BusinessDayMatrixRowDTO> rows = calendarResolutionService.getBankMatrix(bankId, JUNE).collectList().block();
+        Integer businessDays = calendarResolutionService.resolve(CalendarTarget.POSITION, positionId, JUNE)
+                .map(resolution -> resolution.getBusinessDayMask())
+                .block();
+
+        // Assert
+        // Open Tuesday to Saturday: closed on Sundays and Mondays, and the 9th, a Monday, is a holiday.
+        assertEquals(1, rows.size());
+        assertEquals("CCWWWWWCHWWWWWCCWWWWWCCWWWWWCC", rows.get(0).getDays());
+        assertEquals(rows.get(0).getWorkingDays(), businessDays);
+    }
+
+    @Test
+    void getBankMatrix_WhenBankNotFound_ShouldFail() {
+        // Arrange
+        UUID missing = UUID.randomUUID();
+        when(bankService.getBankById(missing)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(calendarResolutionService.getBankMatrix(missing, JUNE))
+                .expectErrorMatches(error -> error instanceof RuntimeException
+                        && error.getMessage().equals("Bank not found with ID: " + missing))
+                .verify();
+        verify(branchPositionRepository, never()).findByBankId(any());
+    }
+
+    private BranchHours hours(DayOfWeek day, boolean closed) {
+        return BranchHours.builder()
+                .id(UUID.randomUUID())
+                .branchId(branchId)
+                .dayOfWeek(com.firefly.core.organization.interfaces.enums.DayOfWeek.valueOf(day.name()))
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(17, 0))
+                .isClosed(closed)
+                .build();
+    }
+
+    private static CalendarAssignment assignment(UUID calendarId, UUID departmentId, UUID positionId, LocalDate from) {
+        return CalendarAssignment.builder()
+                .id(UUID.randomUUID())
+                .calendarId(calendarId)
+                .departmentId(departmentId)
+                .positionId(positionId)
+                .effectiveFrom(from.atStartOfDay())
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.changes.ChangeFeedRelay;
+import com.firefly.core.organization.core.mappers.ChangeEventMapper;
+import com.firefly.core.organization.interfaces.dtos.ChangeEventDTO;
+import com.firefly.core.organization.models.entities.ChangeOutboxEntry;
+import com.firefly.core.organization.models.repositories.ChangeOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeFeedServiceImplTest {
+
+    @Mock
+    private ChangeOutboxRepository repository;
+
+    @Mock
+    private ChangeEventMapper mapper;
+
+    @Mock
+    private ChangeFeedRelay relay;
+
+    @InjectMocks
+    private ChangeFeedServiceImpl changeFeedService;
+
+    private Sinks.Many<List<ChangeEventDTO>> published;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(changeFeedService, "retention", Duration.ofDays(7));
+        published = Sinks.many().multicast().directBestEffort();
+        lenient().when(relay.published()).thenReturn(published.asFlux());
+        lenient().when(mapper.toDTO(any(ChangeOutboxEntry.class))).thenAnswer(invocation -> {
+            ChangeOutboxEntry entry = invocation.getArgument(0);
+            return ChangeEventDTO.builder().position(entry.getPosition()).entity(entry.getEntity()).build();
+        });
+    }
+
+    @Test
+    void getChanges_ShouldReturnChangesAfterPosition() {
+        // Arrange
+        when(repository.findPublishedAfter(10L, 2)).thenReturn(Flux.just(entry(11), entry(12)));
+
+        // Act & Assert
+        StepVerifier.create(changeFeedService.getChanges(10, 2).map(ChangeEventDTO::getPosition))
+                .expectNext(11L, 12L)
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_WhenLimitTooLarge_ShouldFail() {
+        // Act & Assert
+        StepVerifier.create(changeFeedService.getChanges(0, ChangeFeedServiceImpl.MAX_PAGE_SIZE + 1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).findPublishedAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void streamChanges_ShouldCatchUpThenFollowLiveBatches() {
+        // Arrange
+        when(repository.findPublishedAfter(5L, ChangeFeedServiceImpl.MAX_PAGE_SIZE)).thenReturn(Flux.just(entry(6), entry(7)));
+
+        // Act & Assert
+        StepVerifier.create(changeFeedService.streamChanges(5).map(ChangeEventDTO::getPosition))
+                .expectNext(6L, 7L)
+                .then(() -> published.tryEmitNext(List.of(event(7), event(8), event(9))))
+                .expectNext(8L, 9L)
+                .then(() -> published.tryEmitNext(List.of(event(10))))
+                .expectNext(10L)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void streamChanges_WhenBatchMissed_ShouldReadGapFromOutbox() {
+        // Arrange
+        when(repository.findPublishedAfter(0L, ChangeFeedServiceImpl.MAX_PAGE_SIZE)).thenReturn(Flux.empty());
+        when(repository.findPublishedAfter(2L, ChangeFeedServiceImpl.MAX_PAGE_SIZE))
+                .thenReturn(Flux.just(entry(3), entry(4), entry(5)));
+
+        // Act & Assert
+        StepVerifier.create(changeFeedService.streamChanges(0).map(ChangeEventDTO::getPosition))
+                .then(() -> published.tryEmitNext(List.of(event(1), event(2))))
+                .expectNext(1L, 2L)
+                .then(() -> published.tryEmitNext(List.of(event(5))))
+                .expectNext(3L, 4L, 5L)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void streamChanges_WhenNegativePosition_ShouldFail() {
+        // Act & Assert
+        StepVerifier.create(changeFeedService.streamChanges(-1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void purgePublished_ShouldDeleteChangesOlderThanRetention() {
+        // Arrange
+        when(repository.deletePublishedBefore(any(LocalDateTime.class))).thenReturn(Mono.just(3));
+
+        // Act & Assert
+        StepVerifier.create(changeFeedService.purgePublished())
+                .expectNext(3)
+                .verifyComplete();
+    }
+
+    private static ChangeOutboxEntry entry(long position) {
+        return ChangeOutboxEntry.builder().id(position + 100).position(position).entity("Bank").build();
+    }
+
+    private static ChangeEventDTO event(long position) {
+        return ChangeEventDTO.builder().position(position).entity("Bank").build();
+    }
+}
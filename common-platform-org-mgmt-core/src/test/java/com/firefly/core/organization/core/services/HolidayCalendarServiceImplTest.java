@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.indexes.HolidayIndex;
+import com.firefly.core.organization.models.entities.BankHoliday;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.repositories.BankHolidayRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class HolidayCalendarServiceImplTest {
+
+    @Mock
+    private HolidayIndex holidayIndex;
+
+    @Mock
+    private BankHolidayRepository bankHolidayRepository;
+
+    @Mock
+    private BranchRepository branchRepository;
+
+    @InjectMocks
+    private HolidayCalendarServiceImpl holidayCalendarService;
+
+    private UUID branchId;
+    private BankHoliday bankHoliday;
+    private Branch branch;
+
+    @BeforeEach
+    void setUp() {
+        branchId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID bankId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+
+        branch = Branch.builder().id(branchId).bankId(bankId).build();
+        bankHoliday = BankHoliday.builder()
+                .id(UUID.randomUUID())
+                .bankId(bankId)
+                .date(LocalDate.of(2023, 12, 25))
+                .isRecurring(true)
+                .build();
+
+        when(bankHolidayRepository.findAll()).thenReturn(Flux.just(bankHoliday));
+        when(branchRepository.findAll()).thenReturn(Flux.just(branch));
+    }
+
+    @Test
+    void isBranchHoliday_WhenBranchIsKnown_ShouldAnswerFromIndex() {
+        // Arrange
+        LocalDate date = LocalDate.of(2024, 12, 25);
+        when(holidayIndex.containsBranch(branchId)).thenReturn(true);
+        when(holidayIndex.isBranchHoliday(branchId, date)).thenReturn(true);
+
+        // Act & Assert
+        StepVerifier.create(holidayCalendarService.isBranchHoliday(branchId, date))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(holidayIndex).reset(List.of(bankHoliday), List.of(branch));
+    }
+
+    @Test
+    void isBranchHoliday_WhenBranchIsUnknown_ShouldReturnError() {
+        // Arrange
+        when(holidayIndex.containsBranch(branchId)).thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(holidayCalendarService.isBranchHoliday(branchId, LocalDate.of(2024, 12, 25)))
+                .expectErrorMatches(throwable -> throwable instanceof RuntimeException &&
+                        throwable.getMessage().equals("Branch not found with ID: " + branchId))
+                .verify();
+    }
+
+    @Test
+    void getBranchHolidays_ShouldLoadIndexOnlyOnce() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(holidayIndex.containsBranch(branchId)).thenReturn(true);
+        when(holidayIndex.branchHolidays(branchId, from, to)).thenReturn(List.of(LocalDate.of(2024, 12, 25)));
+
+        // Act & Assert
+        StepVerifier.create(holidayCalendarService.getBranchHolidays(branchId, from, to))
+                .expectNext(LocalDate.of(2024, 12, 25))
+                .verifyComplete();
+        StepVerifier.create(holidayCalendarService.getBranchHolidays(branchId, from, to))
+                .expectNext(LocalDate.of(2024, 12, 25))
+                .verifyComplete();
+
+        verify(holidayIndex, times(1)).reset(List.of(bankHoliday), List.of(branch));
+    }
+}
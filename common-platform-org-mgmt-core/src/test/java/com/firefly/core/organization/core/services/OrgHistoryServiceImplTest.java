@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.mappers.BankDivisionMapper;
+import com.firefly.core.organization.core.mappers.BankMapper;
+import com.firefly.core.organization.core.mappers.BankRegionMapper;
+import com.firefly.core.organization.core.mappers.BranchHoursMapper;
+import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.interfaces.dtos.BankDivisionDTO;
+import com.firefly.core.organization.interfaces.dtos.BankRegionDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.models.entities.Bank;
+import com.firefly.core.organization.models.entities.BankDivision;
+import com.firefly.core.organization.models.entities.BankRegion;
+import com.firefly.core.organization.models.entities.Branch;
+import com.firefly.core.organization.models.repositories.BankDivisionRepository;
+import com.firefly.core.organization.models.repositories.BankRegionRepository;
+import com.firefly.core.organization.models.repositories.BankRepository;
+import com.firefly.core.organization.models.repositories.BranchHoursRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OrgHistoryServiceImplTest {
+
+    private static final OffsetDateTime AS_OF = OffsetDateTime.of(2024, 3, 31, 23, 59, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private BankRepository bankRepository;
+
+    @Mock
+    private BankDivisionRepository bankDivisionRepository;
+
+    @Mock
+    private BankRegionRepository bankRegionRepository;
+
+    @Mock
+    private BranchRepository branchRepository;
+
+    @Mock
+    private BranchHoursRepository branchHoursRepository;
+
+    @Mock
+    private BankMapper bankMapper;
+
+    @Mock
+    private BankDivisionMapper bankDivisionMapper;
+
+    @Mock
+    private BankRegionMapper bankRegionMapper;
+
+    @Mock
+    private BranchMapper branchMapper;
+
+    @Mock
+    private BranchHoursMapper branchHoursMapper;
+
+    @InjectMocks
+    private OrgHistoryServiceImpl orgHistoryService;
+
+    private final UUID bankId = UUID.randomUUID();
+    private final UUID divisionId = UUID.randomUUID();
+    private final UUID regionId = UUID.randomUUID();
+    private final UUID branchId = UUID.randomUUID();
+
+    @Test
+    void getBranchForBankAsOf_ShouldReturnVersionCurrentAtInstant() {
+        // Arrange
+        Branch branch = Branch.builder().id(branchId).bankId(bankId).regionId(regionId).build();
+        BranchDTO branchDTO = BranchDTO.builder().id(branchId).bankId(bankId).regionId(regionId).build();
+        when(branchRepository.findAsOf(branchId, AS_OF)).thenReturn(Mono.just(branch));
+        when(branchMapper.toDTO(branch)).thenReturn(branchDTO);
+
+        // Act & Assert
+        StepVerifier.create(orgHistoryService.getBranchForBankAsOf(bankId, branchId, AS_OF))
+                .expectNext(branchDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void getBranchForBankAsOf_WhenBranchBelongedToAnotherBank_ShouldFail() {
+        // Arrange
+        Branch branch = Branch.builder().id(branchId).bankId(UUID.randomUUID()).build();
+        when(branchRepository.findAsOf(branchId, AS_OF)).thenReturn(Mono.just(branch));
+
+        // Act & Assert
+        StepVerifier.create(orgHistoryService.getBranchForBankAsOf(bankId, branchId, AS_OF))
+                .expectErrorMatches(error -> error instanceof RuntimeException
+                        && error.getMessage().startsWith("Branch not found for bank with ID: " + bankId))
+                .verify();
+        verify(branchMapper, never()).toDTO(any(Branch.class));
+    }
+
+    @Test
+    void getBankAsOf_WhenBankDidNotExist_ShouldFail() {
+        // Arrange
+        when(bankRepository.findAsOf(bankId, AS_OF)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(orgHistoryService.getBankAsOf(bankId, AS_OF))
+                .expectErrorMatches(error -> error instanceof RuntimeException
+                        && error.getMessage().startsWith("Bank not found with ID: " + bankId))
+                .verify();
+    }
+
+    @Test
+    void getRegionAsOf_WhenRegionBelongedToAnotherDivision_ShouldFail() {
+        // Arrange
+        BankDivision division = BankDivision.builder().id(divisionId).bankId(bankId).build();
+        BankRegion region = BankRegion.builder().id(regionId).divisionId(UUID.randomUUID()).build();
+        when(bankDivisionRepository.findAsOf(divisionId, AS_OF)).thenReturn(Mono.just(division));
+        when(bankDivisionMapper.toDTO(division)).thenReturn(BankDivisionDTO.builder().id(divisionId).bankId(bankId).build());
+        when(bankRegionRepository.findAsOf(regionId, AS_OF)).thenReturn(Mono.just(region));
+
+        // Act & Assert
+        StepVerifier.create(orgHistoryService.getRegionAsOf(bankId, divisionId, regionId, AS_OF))
+                .expectErrorMatches(error -> error instanceof RuntimeException
+                        && error.getMessage().startsWith("Region not found for division with ID: " + divisionId))
+                .verify();
+    }
+
+    @Test
+    void getTreeAsOf_ShouldReturnEveryLevelAsOfInstant() {
+        // Arrange
+        Bank bank = Bank.builder().id(bankId).build();
+        BankDTO bankDTO = BankDTO.builder().id(bankId).build();
+        BankDivision division = BankDivision.builder().id(divisionId).bankId(bankId).build();
+        BankDivisionDTO divisionDTO = BankDivisionDTO.builder().id(divisionId).bankId(bankId).build();
+        BankRegion region = BankRegion.builder().id(regionId).divisionId(divisionId).build();
+        BankRegionDTO regionDTO = BankRegionDTO.builder().id(regionId).divisionId(divisionId).build();
+        Branch branch = Branch.builder().id(branchId).bankId(bankId).regionId(regionId).build();
+        BranchDTO branchDTO = BranchDTO.builder().id(branchId).bankId(bankId).regionId(regionId).build();
+        when(bankRepository.findAsOf(bankId, AS_OF)).thenReturn(Mono.just(bank));
+        when(bankMapper.toDTO(bank)).thenReturn(bankDTO);
+        when(bankDivisionRepository.findByBankIdAsOf(bankId, AS_OF)).thenReturn(Flux.just(division));
+        when(bankDivisionMapper.toDTO(division)).thenReturn(divisionDTO);
+        when(bankRegionRepository.findByBankIdAsOf(bankId, AS_OF)).thenReturn(Flux.just(region));
+        when(bankRegionMapper.toDTO(region)).thenReturn(regionDTO);
+        when(branchRepository.findByBankIdAsOf(bankId, null, AS_OF)).thenReturn(Flux.just(branch));
+        when(branchMapper.toDTO(branch)).thenReturn(branchDTO);
+        when(branchHoursRepository.findByBankIdAsOf(bankId, AS_OF)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(orgHistoryService.getTreeAsOf(bankId, AS_OF))
+                .assertNext(tree -> {
+                    assertEquals(AS_OF, tree.getAsOf());
+                    assertEquals(bankDTO, tree.getBank());
+                    assertEquals(List.of(divisionDTO), tree.getDivisions());
+                    assertEquals(List.of(regionDTO), tree.getRegions());
+                    assertEquals(List.of(branchDTO), tree.getBranches());
+                    assertTrue(tree.getHours().isEmpty());
+                })
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.core.services;
+
+import com.firefly.core.organization.core.mappers.BankDivisionMapper;
+import com.firefly.core.organization.core.mappers.BankHolidayMapper;
+import com.firefly.core.organization.core.mappers.BankMapper;
+import com.firefly.core.organization.core.mappers.BankRegionMapper;
+import com.firefly.core.organization.core.mappers.BranchDepartmentMapper;
+import com.firefly.core.organization.core.mappers.BranchHoursMapper;
+import com.firefly.core.organization.core.mappers.BranchMapper;
+import com.firefly.core.organization.core.mappers.BranchPositionMapper;
+import com.firefly.core.organization.core.mappers.CalendarAssignmentMapper;
+import com.firefly.core.organization.core.mappers.OrgTombstoneMapper;
+import com.firefly.core.organization.core.mappers.WorkingCalendarMapper;
+import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.interfaces.dtos.BankDivisionDTO;
+import com.firefly.core.organization.interfaces.dtos.OrgTombstoneDTO;
+import com.firefly.core.organization.models.entities.Bank;
+import com.firefly.core.organization.models.entities.BankDivision;
+import com.firefly.core.organization.models.entities.OrgTombstone;
+import com.firefly.core.organization.models.repositories.BankDivisionRepository;
+import com.firefly.core.organization.models.repositories.BankHolidayRepository;
+import com.firefly.core.organization.models.repositories.BankRegionRepository;
+import com.firefly.core.organization.models.repositories.BankRepository;
+import com.firefly.core.organization.models.repositories.BranchDepartmentRepository;
+import com.firefly.core.organization.models.repositories.BranchHoursRepository;
+import com.firefly.core.organization.models.repositories.BranchPositionRepository;
+import com.firefly.core.organization.models.repositories.BranchRepository;
+import com.firefly.core.organization.models.repositories.CalendarAssignmentRepository;
+import com.firefly.core.organization.models.repositories.OrgTombstoneRepository;
+import com.firefly.core.organization.models.repositories.WorkingCalendarRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OrgSyncServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0, 0, 123456000);
+
+    @Mock
+    private BankRepository bankRepository;
+
+    @Mock
+    private BankDivisionRepository bankDivisionRepository;
+
+    @Mock
+    private BankRegionRepository bankRegionRepository;
+
+    @Mock
+    private BranchRepository branchRepository;
+
+    @Mock
+    private BranchDepartmentRepository branchDepartmentRepository;
+
+    @Mock
+    private BranchPositionRepository branchPositionRepository;
+
+    @Mock
+    private BranchHoursRepository branchHoursRepository;
+
+    @Mock
+    private BankHolidayRepository bankHolidayRepository;
+
+    @Mock
+    private WorkingCalendarRepository workingCalendarRepository;
+
+    @Mock
+    private CalendarAssignmentRepository calendarAssignmentRepository;
+
+    @Mock
+    private OrgTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private BankMapper bankMapper;
+
+    @Mock
+    private BankDivisionMapper bankDivisionMapper;
+
+    @Mock
+    private BankRegionMapper bankRegionMapper;
+
+    @Mock
+    private BranchMapper branchMapper;
+
+    @Mock
+    private BranchDepartmentMapper branchDepartmentMapper;
+
+    @Mock
+    private BranchPositionMapper branchPositionMapper;
+
+    @Mock
+    private BranchHoursMapper branchHoursMapper;
+
+    @Mock
+    private BankHolidayMapper bankHolidayMapper;
+
+    @Mock
+    private WorkingCalendarMapper workingCalendarMapper;
+
+    @Mock
+    private CalendarAssignmentMapper calendarAssignmentMapper;
+
+    @Mock
+    private OrgTombstoneMapper tombstoneMapper;
+
+    @InjectMocks
+    private OrgSyncServiceImpl orgSyncService;
+
+    private final UUID bankId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orgSyncService, "settleLag", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(orgSyncService, "tombstoneRetention", Duration.ofDays(90));
+        lenient().when(tombstoneRepository.now()).thenReturn(Mono.just(NOW));
+        lenient().when(bankRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(bankDivisionRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(bankRegionRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(branchRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(branchDepartmentRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(branchPositionRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(branchHoursRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(bankHolidayRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(workingCalendarRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(calendarAssignmentRepository.findChangedSince(eq(bankId), any())).thenReturn(Flux.empty());
+        lenient().when(tombstoneRepository.findDeletedSince(eq(bankId), any())).thenReturn(Flux.empty());
+    }
+
+    @Test
+    void sync_WithoutToken_ShouldReturnEveryEntityWithoutTombstones() {
+        // Arrange
+        Bank bank = Bank.builder().id(bankId).build();
+        BankDTO bankDTO = BankDTO.builder().id(bankId).build();
+        when(bankRepository.findChangedSince(eq(bankId), isNull())).thenReturn(Flux.just(bank));
+        when(bankMapper.toDTO(bank)).thenReturn(bankDTO);
+
+        // Act & Assert
+        StepVerifier.create(orgSyncService.sync(bankId, null))
+                .assertNext(result -> {
+                    assertFalse(result.isReset());
+                    assertEquals(List.of(bankDTO), result.getBanks());
+                    assertTrue(result.getDivisions().isEmpty());
+                    assertTrue(result.getDeleted().isEmpty());
+                    assertEquals(NOW.minusSeconds(30), OrgSyncServiceImpl.decodeToken(result.getToken()));
+                })
+                .verifyComplete();
+        verify(tombstoneRepository, never()).findDeletedSince(any(), any());
+    }
+
+    @Test
+    void sync_WithToken_ShouldReturnChangesAndTombstonesSinceToken() {
+        // Arrange
+        LocalDateTime since = NOW.minusHours(1);
+        BankDivision division = BankDivision.builder().id(UUID.randomUUID()).bankId(bankId).build();
+        BankDivisionDTO divisionDTO = BankDivisionDTO.builder().id(division.getId()).bankId(bankId).build();
+        OrgTombstone tombstone = OrgTombstone.builder().id(1L).bankId(bankId).entity("Branch")
+                .entityId(UUID.randomUUID()).deletedAt(NOW.minusMinutes(5)).build();
+        OrgTombstoneDTO tombstoneDTO = OrgTombstoneDTO.builder().entity("Branch").entityId(tombstone.getEntityId()).build();
+        when(bankDivisionRepository.findChangedSince(bankId, since)).thenReturn(Flux.just(division));
+        when(bankDivisionMapper.toDTO(division)).thenReturn(divisionDTO);
+        when(tombstoneRepository.findDeletedSince(bankId, since)).thenReturn(Flux.just(tombstone));
+        when(tombstoneMapper.toDTO(tombstone)).thenReturn(tombstoneDTO);
+
+        // Act & Assert
+        StepVerifier.create(orgSyncService.sync(bankId, OrgSyncServiceImpl.encodeToken(since)))
+                .assertNext(result -> {
+                    assertFalse(result.isReset());
+                    assertTrue(result.getBanks().isEmpty());
+                    assertEquals(List.of(divisionDTO), result.getDivisions());
+                    assertEquals(List.of(tombstoneDTO), result.getDeleted());
+                    assertEquals(NOW.minusSeconds(30), OrgSyncServiceImpl.decodeToken(result.getToken()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void sync_WhenTokenOlderThanRetention_ShouldReset() {
+        // Arrange
+        String token = OrgSyncServiceImpl.encodeToken(NOW.minusDays(91));
+
+        // Act & Assert
+        StepVerifier.create(orgSyncService.sync(bankId, token))
+                .assertNext(result -> {
+                    assertTrue(result.isReset());
+                    assertTrue(result.getDeleted().isEmpty());
+                })
+                .verifyComplete();
+        verify(bankRepository).findChangedSince(eq(bankId), isNull());
+        verify(tombstoneRepository, never()).findDeletedSince(any(), any());
+    }
+
+    @Test
+    void sync_WhenTokenWithinSettleLag_ShouldNotMoveTokenBack() {
+        // Arrange
+        LocalDateTime since = NOW.minusSeconds(5);
+
+        // Act & Assert
+        StepVerifier.create(orgSyncService.sync(bankId, OrgSyncServiceImpl.encodeToken(since)))
+                .assertNext(result -> assertEquals(since, OrgSyncServiceImpl.decodeToken(result.getToken())))
+                .verifyComplete();
+    }
+
+    @Test
+    void sync_WithInvalidToken_ShouldFail() {
+        // Act & Assert
+        StepVerifier.create(orgSyncService.sync(bankId, "not-a-token"))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(tombstoneRepository, never()).now();
+    }
+
+    @Test
+    void decodeToken_ShouldRoundTripEncodedToken() {
+        // Act & Assert
+        assertEquals(NOW, OrgSyncServiceImpl.decodeToken(OrgSyncServiceImpl.encodeToken(NOW)));
+        assertNull(OrgSyncServiceImpl.decodeToken(" "));
+    }
+
+    @Test
+    void purgeTombstones_ShouldDeleteTombstonesOlderThanRetention() {
+        // Arrange
+        when(tombstoneRepository.deleteRecordedBefore(NOW.minusDays(90))).thenReturn(Mono.just(3));
+
+        // Act & Assert
+        StepVerifier.create(orgSyncService.purgeTombstones())
+                .expectNext(3)
+                .verifyComplete();
+    }
+}
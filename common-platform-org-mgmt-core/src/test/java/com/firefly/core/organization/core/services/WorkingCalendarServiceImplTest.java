@@ -20,7 +20,12 @@ package com.firefly.core.organization.core.services;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.audit.AuditRecorder;
+import com.firefly.core.organization.core.changes.ChangeOutbox;
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import com.firefly.core.organization.core.indexes.CalendarResolutionCache;
 import com.firefly.core.organization.core.mappers.WorkingCalendarMapper;
+import com.firefly.core.organization.core.transactions.NoOpTransactionManager;
 import com.firefly.core.organization.interfaces.dtos.WorkingCalendarDTO;
 import com.firefly.core.organization.models.entities.WorkingCalendar;
 import com.firefly.core.organization.models.repositories.WorkingCalendarRepository;
@@ -28,10 +33,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -40,7 +47,10 @@ import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.UUID;
@@ -54,6 +64,18 @@ public class WorkingCalendarServiceImplTest {
     @Mock
     private WorkingCalendarMapper workingCalendarMapper;
 
+    @Mock
+    private AuditRecorder auditRecorder;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private FilterResultCache filterResultCache;
+
+    @Mock
+    private CalendarResolutionCache resolutionCache;
+
     @InjectMocks
     private WorkingCalendarServiceImpl workingCalendarService;
 
@@ -62,6 +84,13 @@ public class WorkingCalendarServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(changeOutbox.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(changeOutbox.deleted(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.created(any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.updated(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(auditRecorder.deleted(any(), any())).thenReturn(Mono.empty());
+
         // Setup test data
         LocalDateTime now = LocalDateTime.now();
         
@@ -110,6 +139,26 @@ public class WorkingCalendarServiceImplTest {
         verify(workingCalendarMapper).toDTO(workingCalendar);
     }
 
+    @Test
+    void createWorkingCalendar_ShouldInvalidateResolutionsOnlyOnceTheCalendarIsCommitted() {
+        // Arrange
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+        when(workingCalendarMapper.toEntity(workingCalendarDTO)).thenReturn(workingCalendar);
+        when(workingCalendarRepository.save(workingCalendar)).thenReturn(Mono.just(workingCalendar));
+        when(workingCalendarMapper.toDTO(workingCalendar)).thenReturn(workingCalendarDTO);
+
+        // Act
+        StepVerifier.create(transactionalOperator.transactional(workingCalendarService.createWorkingCalendar(workingCalendarDTO)
+                        .doOnNext(created -> verify(resolutionCache, never()).invalidateCalendar(any()))))
+                .expectNext(workingCalendarDTO)
+                .verifyComplete();
+
+        // Assert
+        InOrder inOrder = inOrder(filterResultCache, resolutionCache);
+        inOrder.verify(filterResultCache).invalidate(WorkingCalendar.class);
+        inOrder.verify(resolutionCache).invalidateCalendar(workingCalendar);
+    }
+
     @Test
     void updateWorkingCalendar_WhenWorkingCalendarExists_ShouldUpdateAndReturnWorkingCalendar() {
         // Arrange
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.organization.core.transactions;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AfterCommitTest {
+
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+
+    @Test
+    void run_ShouldDeferTheActionUntilCommit() {
+        // Arrange
+        AtomicBoolean applied = new AtomicBoolean();
+        Mono<Boolean> change = AfterCommit.run(() -> applied.set(true))
+                .then(Mono.fromCallable(applied::get));
+
+        // Act & Assert
+        StepVerifier.create(transactionalOperator.transactional(change))
+                .expectNext(false)
+                .verifyComplete();
+        assertTrue(applied.get());
+    }
+
+    @Test
+    void run_WhenTransactionRollsBack_ShouldDropTheAction() {
+        // Arrange
+        AtomicBoolean applied = new AtomicBoolean();
+        Mono<Void> change = AfterCommit.run(() -> applied.set(true))
+                .then(Mono.error(new RuntimeException("Constraint violated")));
+
+        // Act & Assert
+        StepVerifier.create(transactionalOperator.transactional(change))
+                .expectErrorMessage("Constraint violated")
+                .verify();
+        assertFalse(applied.get());
+    }
+
+    @Test
+    void run_WithoutTransaction_ShouldApplyTheActionAtOnce() {
+        // Arrange
+        AtomicBoolean applied = new AtomicBoolean();
+
+        // Act & Assert
+        StepVerifier.create(AfterCommit.run(() -> applied.set(true)))
+                .verifyComplete();
+        assertTrue(applied.get());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO reporting the outcome of one batch of a bulk audit ingest.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditIngestResultDTO {
+
+    /**
+     * Position of the batch in the ingest, starting at 1.
+     */
+    private long batch;
+
+    private int received;
+    private int inserted;
+
+    /**
+     * Valid events skipped because an entry with the same ID and timestamp was already present.
+     */
+    private int duplicates;
+
+    private int rejected;
+    private List<AuditIngestErrorDTO> errors;
+
+    /**
+     * Reason the batch, or part of it, could not be loaded, or null if it was. Events already inserted
+     * are skipped when loaded again, so a failed batch may simply be sent again.
+     */
+    private String failure;
+}
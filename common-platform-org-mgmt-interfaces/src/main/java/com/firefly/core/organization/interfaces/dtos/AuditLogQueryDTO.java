@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.interfaces.dtos;
+
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO holding the optional criteria of an audit log search. Null criteria match every entry.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogQueryDTO {
+
+    private String entity;
+    private String entityId;
+    private AuditAction action;
+    private UUID userId;
+
+    /**
+     * Start of the time window, inclusive.
+     */
+    private LocalDateTime from;
+
+    /**
+     * End of the time window, exclusive.
+     */
+    private LocalDateTime to;
+
+    /**
+     * JSON object the metadata must contain, e.g. {@code {"name": {"new": "Main"}}}.
+     */
+    private String metadataContains;
+
+    /**
+     * Field the entry must have changed, as recorded in the metadata.
+     */
+    private String changedField;
+
+    /**
+     * Value {@code changedField} must have changed to: a JSON literal, or plain text for a string.
+     */
+    private String changedTo;
+}
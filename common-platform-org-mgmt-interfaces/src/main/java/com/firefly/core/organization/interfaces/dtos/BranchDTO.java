@@ -29,6 +29,7 @@ import java.util.UUID;
 
 /**
  * DTO representing a branch of a bank.
+ * The division is not stored on the branch: it is only set on the results of filters by division.
  */
 @Data
 @Builder
@@ -45,6 +46,9 @@ public class BranchDTO {
     @FilterableId
     private UUID regionId;
 
+    @FilterableId
+    private UUID divisionId;
+
     private String code;
     private String name;
     private String description;
@@ -29,6 +29,8 @@ import java.util.UUID;
 
 /**
  * DTO representing a department within a branch.
+ * The bank, region and division are not stored on the department: they are only set on the results of
+ * filters by one of them.
  */
 @Data
 @Builder
@@ -42,6 +44,15 @@ public class BranchDepartmentDTO {
     @FilterableId
     private UUID branchId;
 
+    @FilterableId
+    private UUID bankId;
+
+    @FilterableId
+    private UUID regionId;
+
+    @FilterableId
+    private UUID divisionId;
+
     private String name;
     private String description;
     private Boolean isActive;
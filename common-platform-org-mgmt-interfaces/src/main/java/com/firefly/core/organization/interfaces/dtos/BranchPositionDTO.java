@@ -29,6 +29,8 @@ import java.util.UUID;
 
 /**
  * DTO representing a position within a branch department.
+ * The branch, bank, region and division are not stored on the position: they are only set on the results
+ * of filters by one of them.
  */
 @Data
 @Builder
@@ -42,6 +44,18 @@ public class BranchPositionDTO {
     @FilterableId
     private UUID departmentId;
 
+    @FilterableId
+    private UUID branchId;
+
+    @FilterableId
+    private UUID bankId;
+
+    @FilterableId
+    private UUID regionId;
+
+    @FilterableId
+    private UUID divisionId;
+
     private String title;
     private String description;
     private Boolean isActive;
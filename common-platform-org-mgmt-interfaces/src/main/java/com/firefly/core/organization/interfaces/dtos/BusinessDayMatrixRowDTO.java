@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.interfaces.dtos;
+
+import com.firefly.core.utils.annotations.FilterableId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO representing one position's row of a monthly business-day matrix. Each day of the month is in
+ * exactly one of the three bitmaps, bit {@code n} standing for day {@code n + 1}: working days, holidays of
+ * the branch, and days the branch is closed. {@code days} spells the same out with one character per day:
+ * {@code W} working, {@code H} holiday, {@code C} closed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessDayMatrixRowDTO {
+
+    @FilterableId
+    private UUID positionId;
+
+    @FilterableId
+    private UUID departmentId;
+
+    @FilterableId
+    private UUID branchId;
+
+    @FilterableId
+    private UUID calendarId;
+
+    @FilterableId
+    private UUID assignmentId;
+
+    private Integer workingDays;
+    private Integer holidays;
+    private Integer closedDays;
+    private String days;
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.interfaces.dtos;
+
+import com.firefly.core.organization.interfaces.enums.CalendarTarget;
+import com.firefly.core.utils.annotations.FilterableId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO representing the working calendar that applies to a branch, department or position in a month,
+ * and the business days of that month. {@code assignmentId} is empty when no assignment applies and the
+ * bank's default calendar is used. Bit {@code n} of {@code businessDayMask} stands for day {@code n + 1}
+ * of the month.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarResolutionDTO {
+
+    private CalendarTarget target;
+
+    @FilterableId
+    private UUID targetId;
+
+    private YearMonth month;
+
+    @FilterableId
+    private UUID calendarId;
+
+    @FilterableId
+    private UUID assignmentId;
+
+    @FilterableId
+    private UUID branchId;
+
+    private Integer businessDayMask;
+    private List<LocalDate> businessDays;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.interfaces.dtos;
+
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import com.firefly.core.utils.annotations.FilterableId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A change to a bank, a branch or one of their related entities in the change feed. The position orders
+ * the feed and is the offset consumers resume from. {@code bankId} or {@code branchId} tells which bank
+ * or branch the entity belongs to, when it belongs to one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventDTO {
+
+    private Long position;
+    private String entity;
+
+    @FilterableId
+    private UUID entityId;
+
+    private AuditAction action;
+
+    @FilterableId
+    private UUID bankId;
+
+    @FilterableId
+    private UUID branchId;
+
+    private String changes;
+
+    @FilterableId
+    private UUID userId;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The entities of a bank that changed since a sync token. Clients apply the changed entities and the
+ * deletions to their copy and pass {@code token} on the next sync. When {@code reset} is set the token
+ * was too old to compute a delta, so every entity of the bank is returned and the client must replace
+ * its copy rather than merge into it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgSyncDTO {
+
+    private String token;
+    private boolean reset;
+
+    private List<BankDTO> banks;
+    private List<BankDivisionDTO> divisions;
+    private List<BankRegionDTO> regions;
+    private List<BranchDTO> branches;
+    private List<BranchDepartmentDTO> departments;
+    private List<BranchPositionDTO> positions;
+    private List<BranchHoursDTO> hours;
+    private List<BankHolidayDTO> holidays;
+    private List<WorkingCalendarDTO> calendars;
+    private List<CalendarAssignmentDTO> calendarAssignments;
+    private List<OrgTombstoneDTO> deleted;
+}
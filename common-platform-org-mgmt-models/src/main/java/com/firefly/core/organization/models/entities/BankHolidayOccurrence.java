@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Entity representing a concrete dated occurrence of a bank holiday.
+ * Recurring holidays are expanded into one row per year of the rolling occurrence window.
+ * Maps to the 'bank_holiday_occurrence' table in the database.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("bank_holiday_occurrence")
+public class BankHolidayOccurrence {
+
+    @Id
+    private UUID id;
+
+    @Column("holiday_id")
+    private UUID holidayId;
+
+    @Column("bank_id")
+    private UUID bankId;
+
+    @Column("branch_id")
+    private UUID branchId;
+
+    @Column("country_id")
+    private UUID countryId;
+
+    @Column("name")
+    private String name;
+
+    @Column("date")
+    private LocalDate date;
+}
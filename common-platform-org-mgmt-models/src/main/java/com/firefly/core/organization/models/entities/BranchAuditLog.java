@@ -18,6 +18,7 @@
 package com.firefly.core.organization.models.entities;
 
 import com.firefly.core.organization.interfaces.enums.AuditAction;
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -56,7 +57,7 @@ public class BranchAuditLog {
     private String entityId;
     
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
     
     @Column("ip_address")
     private String ipAddress;
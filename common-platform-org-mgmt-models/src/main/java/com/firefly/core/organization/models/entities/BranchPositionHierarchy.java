@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only entity representing a branch position with the branch, bank, region and division above it.
+ * Maps to the 'branch_position_hierarchy' view in the database.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("branch_position_hierarchy")
+public class BranchPositionHierarchy {
+    
+    @Id
+    private UUID id;
+    
+    @Column("department_id")
+    private UUID departmentId;
+    
+    @Column("title")
+    private String title;
+    
+    @Column("description")
+    private String description;
+    
+    @Column("is_active")
+    private Boolean isActive;
+    
+    @Column("created_at")
+    private LocalDateTime createdAt;
+    
+    @Column("created_by")
+    private UUID createdBy;
+    
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column("updated_by")
+    private UUID updatedBy;
+    
+    @Column("branch_id")
+    private UUID branchId;
+    
+    @Column("bank_id")
+    private UUID bankId;
+    
+    @Column("region_id")
+    private UUID regionId;
+    
+    @Column("division_id")
+    private UUID divisionId;
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.models.entities;
+
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import io.r2dbc.postgresql.codec.Json;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a change to an organization entity waiting in, or published from, the change outbox.
+ * Maps to the 'org_change_outbox' table in the database.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("org_change_outbox")
+public class ChangeOutboxEntry {
+
+    @Id
+    private Long id;
+
+    @Column("position")
+    private Long position;
+
+    @Column("entity")
+    private String entity;
+
+    @Column("entity_id")
+    private UUID entityId;
+
+    @Column("action")
+    private AuditAction action;
+
+    @Column("bank_id")
+    private UUID bankId;
+
+    @Column("branch_id")
+    private UUID branchId;
+
+    @Column("changes")
+    private Json changes;
+
+    @Column("user_id")
+    private UUID userId;
+
+    @Column("occurred_at")
+    private LocalDateTime occurredAt;
+
+    @Column("published_at")
+    private LocalDateTime publishedAt;
+}
@@ -19,9 +19,12 @@ package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.interfaces.enums.AuditAction;
 import com.firefly.core.organization.models.entities.BankAuditLog;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -73,8 +76,9 @@ public interface BankAuditLogRepository extends BaseRepository<BankAuditLog, UUI
      * @param bankId the bank ID
      * @param startTime the start time
      * @param endTime the end time
-     * @return a Flux emitting all audit logs for the specified bank within the time range
+     * @return a Flux emitting all audit logs for the specified bank within the time range, in chronological order
      */
+    @Query("SELECT * FROM bank_audit_log WHERE bank_id = :bankId AND timestamp BETWEEN :startTime AND :endTime ORDER BY timestamp, id")
     Flux<BankAuditLog> findByBankIdAndTimestampBetween(UUID bankId, LocalDateTime startTime, LocalDateTime endTime);
     
     /**
@@ -84,4 +88,114 @@ public interface BankAuditLogRepository extends BaseRepository<BankAuditLog, UUI
      * @return a Flux emitting all audit logs for the specified user
      */
     Flux<BankAuditLog> findByUserId(UUID userId);
-}
\ No newline at end of file
+
+    /**
+     * Create the missing monthly partitions covering a range of months.
+     *
+     * @param fromMonth a date in the first month to cover
+     * @param toMonth a date in the last month to cover
+     * @return a Mono emitting the number of partitions created
+     */
+    @Query("SELECT audit_log_create_partitions('bank_audit_log', :fromMonth, :toMonth)")
+    Mono<Integer> createPartitions(LocalDate fromMonth, LocalDate toMonth);
+
+    /**
+     * Drop, or detach, the monthly partitions holding only entries older than a date.
+     *
+     * @param cutoff the first date to keep
+     * @param detachOnly whether to detach the partitions instead of dropping them
+     * @return a Mono emitting the number of partitions dropped or detached
+     */
+    @Query("SELECT audit_log_drop_partitions('bank_audit_log', :cutoff, :detachOnly)")
+    Mono<Integer> dropPartitionsBefore(LocalDate cutoff, boolean detachOnly);
+
+    /**
+     * Find the months holding only entries older than a date, i.e. the months {@link #dropPartitionsBefore}
+     * removes for that date.
+     *
+     * @param cutoff the first date to keep
+     * @return a Flux emitting the first day of each month, in order
+     */
+    @Query("SELECT audit_log_partition_months('bank_audit_log', :cutoff)")
+    Flux<LocalDate> findPartitionMonthsBefore(LocalDate cutoff);
+
+    /**
+     * Find all audit logs within a time range, across all banks.
+     *
+     * @param from the start of the time range, inclusive
+     * @param to the end of the time range, exclusive
+     * @return a Flux emitting the audit logs in (timestamp, id) order
+     */
+    @Query("SELECT * FROM bank_audit_log WHERE timestamp >= :from AND timestamp < :to ORDER BY timestamp, id")
+    Flux<BankAuditLog> findByTimestampRange(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Find one page of the audit logs of a bank in (timestamp, id) order, starting strictly after
+     * a given entry. Runs as a range scan of the (bank_id, timestamp, id) index.
+     *
+     * @param bankId the bank ID
+     * @param afterTimestamp the timestamp of the entry to start after
+     * @param afterId the ID of the entry to start after
+     * @param from the start of the time window, inclusive
+     * @param to the end of the time window, exclusive
+     * @param entity the entity name, or null for any
+     * @param entityId the entity ID, or null for any
+     * @param action the audit action name, or null for any
+     * @param userId the user ID, or null for any
+     * @param metadata a JSON document the metadata must contain, or null for any
+     * @param metadataKey a top-level key the metadata must have, or null for any
+     * @param limit the maximum number of entries to return
+     * @return a Flux emitting the page in chronological order
+     */
+    @Query("""
+            SELECT * FROM bank_audit_log
+            WHERE bank_id = :bankId
+              AND (timestamp, id) > (:afterTimestamp, :afterId)
+              AND timestamp >= :from AND timestamp < :to
+              AND (:entity IS NULL OR entity = :entity)
+              AND (:entityId IS NULL OR entity_id = :entityId)
+              AND (:action IS NULL OR action = CAST(:action AS audit_action_enum))
+              AND (:userId IS NULL OR user_id = :userId)
+              AND (CAST(:metadata AS JSONB) IS NULL OR metadata @> CAST(:metadata AS JSONB))
+              AND (CAST(:metadataKey AS TEXT) IS NULL OR metadata ?| ARRAY[CAST(:metadataKey AS TEXT)])
+            ORDER BY timestamp, id
+            LIMIT :limit
+            """)
+    Flux<BankAuditLog> findPage(UUID bankId, LocalDateTime afterTimestamp, UUID afterId,
+                                 LocalDateTime from, LocalDateTime to, String entity, String entityId,
+                                 String action, UUID userId, String metadata, String metadataKey, int limit);
+
+    /**
+     * Find one page of the audit logs of a user in (timestamp, id) order, starting strictly after
+     * a given entry. Runs as a range scan of the (user_id, timestamp, id) index.
+     *
+     * @param userId the user ID
+     * @param afterTimestamp the timestamp of the entry to start after
+     * @param afterId the ID of the entry to start after
+     * @param from the start of the time window, inclusive
+     * @param to the end of the time window, exclusive
+     * @param entity the entity name, or null for any
+     * @param entityId the entity ID, or null for any
+     * @param action the audit action name, or null for any
+     * @param metadata a JSON document the metadata must contain, or null for any
+     * @param metadataKey a top-level key the metadata must have, or null for any
+     * @param limit the maximum number of entries to return
+     * @return a Flux emitting the page in chronological order
+     */
+    @Query("""
+            SELECT * FROM bank_audit_log
+            WHERE user_id = :userId
+              AND (timestamp, id) > (:afterTimestamp, :afterId)
+              AND timestamp >= :from AND timestamp < :to
+              AND (:entity IS NULL OR entity = :entity)
+              AND (:entityId IS NULL OR entity_id = :entityId)
+              AND (:action IS NULL OR action = CAST(:action AS audit_action_enum))
+              AND (CAST(:metadata AS JSONB) IS NULL OR metadata @> CAST(:metadata AS JSONB))
+              AND (CAST(:metadataKey AS TEXT) IS NULL OR metadata ?| ARRAY[CAST(:metadataKey AS TEXT)])
+            ORDER BY timestamp, id
+            LIMIT :limit
+            """)
+    Flux<BankAuditLog> findUserPage(UUID userId, LocalDateTime afterTimestamp, UUID afterId,
+                                   LocalDateTime from, LocalDateTime to, String entity, String entityId,
+                                   String action, String metadata, String metadataKey, int limit);
+}
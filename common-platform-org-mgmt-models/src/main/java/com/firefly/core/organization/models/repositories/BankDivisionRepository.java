@@ -18,9 +18,12 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.BankDivision;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -61,4 +64,34 @@ public interface BankDivisionRepository extends BaseRepository<BankDivision, UUI
      * @return a Mono emitting the division if found, or empty if not found
      */
     Mono<BankDivision> findByName(String name);
+
+    /**
+     * Find the divisions of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT * FROM bank_division WHERE bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR updated_at > :since)")
+    Flux<BankDivision> findChangedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Find a division as it was at an instant.
+     *
+     * @param divisionId the division ID
+     * @param asOf the instant
+     * @return a Mono emitting the version of the division current at the instant, or empty if it did not exist
+     */
+    @Query("SELECT * FROM bank_division_history WHERE id = :divisionId AND valid @> CAST(:asOf AS TIMESTAMPTZ)")
+    Mono<BankDivision> findAsOf(UUID divisionId, OffsetDateTime asOf);
+
+    /**
+     * Find the divisions of a bank as they were at an instant.
+     *
+     * @param bankId the bank ID
+     * @param asOf the instant
+     * @return a Flux emitting the versions of the divisions current at the instant
+     */
+    @Query("SELECT * FROM bank_division_history WHERE bank_id = :bankId AND valid @> CAST(:asOf AS TIMESTAMPTZ) ORDER BY name")
+    Flux<BankDivision> findByBankIdAsOf(UUID bankId, OffsetDateTime asOf);
 }
\ No newline at end of file
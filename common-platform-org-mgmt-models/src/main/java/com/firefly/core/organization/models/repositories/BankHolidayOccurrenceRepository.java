@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.models.repositories;
+
+import com.firefly.core.organization.models.entities.BankHolidayOccurrence;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Repository for managing {@link BankHolidayOccurrence} entities.
+ */
+@Repository
+public interface BankHolidayOccurrenceRepository extends BaseRepository<BankHolidayOccurrence, UUID> {
+
+    /**
+     * Find all holiday occurrences of a bank within a date range, ordered by date.
+     *
+     * @param bankId the bank ID
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return a Flux emitting the occurrences within the range
+     */
+    Flux<BankHolidayOccurrence> findByBankIdAndDateBetweenOrderByDate(UUID bankId, LocalDate from, LocalDate to);
+
+    /**
+     * Find all holiday occurrences of a branch within a date range, ordered by date.
+     *
+     * @param branchId the branch ID
+     * @param from the first date of the range
+     * @param to the last date of the range
+     * @return a Flux emitting the occurrences within the range
+     */
+    Flux<BankHolidayOccurrence> findByBranchIdAndDateBetweenOrderByDate(UUID branchId, LocalDate from, LocalDate to);
+
+    /**
+     * Delete all occurrences of a holiday.
+     *
+     * @param holidayId the holiday ID
+     * @return a Mono emitting the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM bank_holiday_occurrence WHERE holiday_id = :holidayId")
+    Mono<Integer> deleteByHolidayId(UUID holidayId);
+
+    /**
+     * Delete all occurrences falling outside a date window.
+     *
+     * @param from the first date of the window
+     * @param to the last date of the window
+     * @return a Mono emitting the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM bank_holiday_occurrence WHERE date < :from OR date > :to")
+    Mono<Integer> deleteOutsideWindow(LocalDate from, LocalDate to);
+
+    /**
+     * Expand every holiday into its occurrences for the given years.
+     * Recurring holidays produce one row per year (February 29 only in leap years),
+     * one-off holidays produce a single row when their date lies within the years.
+     *
+     * @param fromYear the first year to expand
+     * @param toYear the last year to expand
+     * @return a Mono emitting the number of inserted rows
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO bank_holiday_occurrence (holiday_id, bank_id, branch_id, country_id, name, date)
+            SELECT h.id, h.bank_id, h.branch_id, h.country_id, h.name,
+                   make_date(y, EXTRACT(MONTH FROM h.date)::INT, EXTRACT(DAY FROM h.date)::INT)
+            FROM bank_holiday h
+            CROSS JOIN generate_series(:fromYear, :toYear) AS y
+            WHERE h.is_recurring
+              AND (EXTRACT(MONTH FROM h.date) <> 2 OR EXTRACT(DAY FROM h.date) <> 29
+                   OR (y % 4 = 0 AND (y % 100 <> 0 OR y % 400 = 0)))
+            UNION ALL
+            SELECT h.id, h.bank_id, h.branch_id, h.country_id, h.name, h.date
+            FROM bank_holiday h
+            WHERE NOT COALESCE(h.is_recurring, FALSE)
+              AND EXTRACT(YEAR FROM h.date) BETWEEN :fromYear AND :toYear
+            ON CONFLICT (holiday_id, date) DO NOTHING
+            """)
+    Mono<Integer> expandAll(int fromYear, int toYear);
+
+    /**
+     * Expand a single holiday into its occurrences for the given years.
+     *
+     * @param holidayId the holiday ID
+     * @param fromYear the first year to expand
+     * @param toYear the last year to expand
+     * @return a Mono emitting the number of inserted rows
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO bank_holiday_occurrence (holiday_id, bank_id, branch_id, country_id, name, date)
+            SELECT h.id, h.bank_id, h.branch_id, h.country_id, h.name,
+                   make_date(y, EXTRACT(MONTH FROM h.date)::INT, EXTRACT(DAY FROM h.date)::INT)
+            FROM bank_holiday h
+            CROSS JOIN generate_series(:fromYear, :toYear) AS y
+            WHERE h.is_recurring AND h.id = :holidayId
+              AND (EXTRACT(MONTH FROM h.date) <> 2 OR EXTRACT(DAY FROM h.date) <> 29
+                   OR (y % 4 = 0 AND (y % 100 <> 0 OR y % 400 = 0)))
+            UNION ALL
+            SELECT h.id, h.bank_id, h.branch_id, h.country_id, h.name, h.date
+            FROM bank_holiday h
+            WHERE NOT COALESCE(h.is_recurring, FALSE) AND h.id = :holidayId
+              AND EXTRACT(YEAR FROM h.date) BETWEEN :fromYear AND :toYear
+            ON CONFLICT (holiday_id, date) DO NOTHING
+            """)
+    Mono<Integer> expandHoliday(UUID holidayId, int fromYear, int toYear);
+}
@@ -18,11 +18,13 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.BankHoliday;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -80,4 +82,14 @@ public interface BankHolidayRepository extends BaseRepository<BankHoliday, UUID>
      * @return a Flux emitting all holidays for the specified branch and date
      */
     Flux<BankHoliday> findByBranchIdAndDate(UUID branchId, LocalDate date);
+
+    /**
+     * Find the holidays of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT * FROM bank_holiday WHERE bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR updated_at > :since)")
+    Flux<BankHoliday> findChangedSince(UUID bankId, LocalDateTime since);
 }
\ No newline at end of file
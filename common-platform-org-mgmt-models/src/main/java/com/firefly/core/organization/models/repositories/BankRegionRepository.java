@@ -18,9 +18,12 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.BankRegion;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -61,4 +64,46 @@ public interface BankRegionRepository extends BaseRepository<BankRegion, UUID> {
      * @return a Mono emitting the region if found, or empty if not found
      */
     Mono<BankRegion> findByName(String name);
+
+    /**
+     * Find the regions of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT r.* FROM bank_region r JOIN bank_division d ON d.id = r.division_id " +
+            "WHERE d.bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR r.updated_at > :since)")
+    Flux<BankRegion> findChangedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Find a region as it was at an instant.
+     *
+     * @param regionId the region ID
+     * @param asOf the instant
+     * @return a Mono emitting the version of the region current at the instant, or empty if it did not exist
+     */
+    @Query("SELECT * FROM bank_region_history WHERE id = :regionId AND valid @> CAST(:asOf AS TIMESTAMPTZ)")
+    Mono<BankRegion> findAsOf(UUID regionId, OffsetDateTime asOf);
+
+    /**
+     * Find the regions of a division as they were at an instant.
+     *
+     * @param divisionId the division ID
+     * @param asOf the instant
+     * @return a Flux emitting the versions of the regions current at the instant
+     */
+    @Query("SELECT * FROM bank_region_history WHERE division_id = :divisionId AND valid @> CAST(:asOf AS TIMESTAMPTZ) ORDER BY name")
+    Flux<BankRegion> findByDivisionIdAsOf(UUID divisionId, OffsetDateTime asOf);
+
+    /**
+     * Find the regions of a bank as they were at an instant, through the divisions they belonged to then.
+     *
+     * @param bankId the bank ID
+     * @param asOf the instant
+     * @return a Flux emitting the versions of the regions current at the instant
+     */
+    @Query("SELECT r.* FROM bank_region_history r JOIN bank_division_history d ON d.id = r.division_id " +
+            "WHERE d.bank_id = :bankId AND d.valid @> CAST(:asOf AS TIMESTAMPTZ) AND r.valid @> CAST(:asOf AS TIMESTAMPTZ) ORDER BY r.name")
+    Flux<BankRegion> findByBankIdAsOf(UUID bankId, OffsetDateTime asOf);
 }
\ No newline at end of file
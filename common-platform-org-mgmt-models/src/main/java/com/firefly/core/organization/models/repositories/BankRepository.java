@@ -18,9 +18,12 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.Bank;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -51,4 +54,24 @@ public interface BankRepository extends BaseRepository<Bank, UUID> {
      * @return a Mono emitting the bank if found, or empty if not found
      */
     Mono<Bank> findByName(String name);
+
+    /**
+     * Find a bank if it was created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the bank changed since the time
+     */
+    @Query("SELECT * FROM bank WHERE id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR updated_at > :since)")
+    Flux<Bank> findChangedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Find a bank as it was at an instant.
+     *
+     * @param bankId the bank ID
+     * @param asOf the instant
+     * @return a Mono emitting the version of the bank current at the instant, or empty if it did not exist
+     */
+    @Query("SELECT * FROM bank_history WHERE id = :bankId AND valid @> CAST(:asOf AS TIMESTAMPTZ)")
+    Mono<Bank> findAsOf(UUID bankId, OffsetDateTime asOf);
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.models.repositories;
+
+import com.firefly.core.organization.models.entities.BranchAuditDailyCount;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repository for managing {@link BranchAuditDailyCount} entities.
+ */
+@Repository
+public interface BranchAuditDailyCountRepository extends BaseRepository<BranchAuditDailyCount, UUID> {
+
+    /**
+     * Find the daily audit counts of a branch within a date range, ordered by day.
+     *
+     * @param branchId the branch ID
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param entity the entity name, or null for any
+     * @param action the audit action name, or null for any
+     * @return a Flux emitting the daily counts within the range
+     */
+    @Query("""
+            SELECT * FROM branch_audit_daily_count
+            WHERE branch_id = :branchId
+              AND day BETWEEN :from AND :to
+              AND (:entity IS NULL OR entity = :entity)
+              AND (:action IS NULL OR action = CAST(:action AS audit_action_enum))
+            ORDER BY day, entity, action
+            """)
+    Flux<BranchAuditDailyCount> findCounts(UUID branchId, LocalDate from, LocalDate to, String entity, String action);
+
+    /**
+     * Add the branch audit log entries recorded since the last roll-up, and up to a given time, to the daily counts.
+     *
+     * @param upTo the time up to which entries are counted
+     * @return a Mono emitting the number of daily counts inserted or updated
+     */
+    @Query("SELECT audit_log_roll_up('branch_audit_log', 'branch_id', :upTo)")
+    Mono<Integer> rollUp(LocalDateTime upTo);
+}
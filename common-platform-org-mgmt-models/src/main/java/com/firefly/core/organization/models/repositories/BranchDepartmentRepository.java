@@ -18,9 +18,11 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.BranchDepartment;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -61,4 +63,24 @@ public interface BranchDepartmentRepository extends BaseRepository<BranchDepartm
      * @return a Mono emitting the department if found, or empty if not found
      */
     Mono<BranchDepartment> findByName(String name);
+
+    /**
+     * Find the branch departments of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT d.* FROM branch_department d JOIN branch b ON b.id = d.branch_id " +
+            "WHERE b.bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR d.updated_at > :since)")
+    Flux<BranchDepartment> findChangedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Find all departments of the branches of a bank.
+     *
+     * @param bankId the bank ID
+     * @return a Flux emitting all departments of the bank
+     */
+    @Query("SELECT d.* FROM branch_department d JOIN branch b ON b.id = d.branch_id WHERE b.bank_id = :bankId")
+    Flux<BranchDepartment> findByBankId(UUID bankId);
 }
\ No newline at end of file
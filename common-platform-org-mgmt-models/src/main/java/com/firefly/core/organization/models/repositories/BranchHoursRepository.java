@@ -19,9 +19,12 @@ package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.interfaces.enums.DayOfWeek;
 import com.firefly.core.organization.models.entities.BranchHours;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -70,4 +73,56 @@ public interface BranchHoursRepository extends BaseRepository<BranchHours, UUID>
      * @return a Flux emitting all hours for the specified day of week
      */
     Flux<BranchHours> findByDayOfWeek(DayOfWeek dayOfWeek);
+
+    /**
+     * Find the hours of all branches of a bank.
+     *
+     * @param bankId the bank ID
+     * @return a Flux emitting the hours of the bank's branches
+     */
+    @Query("SELECT h.* FROM branch_hours h JOIN branch b ON b.id = h.branch_id WHERE b.bank_id = :bankId")
+    Flux<BranchHours> findByBankId(UUID bankId);
+
+    /**
+     * Find the branch hours of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT h.* FROM branch_hours h JOIN branch b ON b.id = h.branch_id " +
+            "WHERE b.bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR h.updated_at > :since)")
+    Flux<BranchHours> findChangedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Find branch hours as they were at an instant.
+     *
+     * @param hoursId the hours ID
+     * @param asOf the instant
+     * @return a Mono emitting the version of the hours current at the instant, or empty if they did not exist
+     */
+    @Query("SELECT * FROM branch_hours_history WHERE id = :hoursId AND valid @> CAST(:asOf AS TIMESTAMPTZ)")
+    Mono<BranchHours> findAsOf(UUID hoursId, OffsetDateTime asOf);
+
+    /**
+     * Find the hours of a branch as they were at an instant.
+     *
+     * @param branchId the branch ID
+     * @param asOf the instant
+     * @return a Flux emitting the versions of the hours current at the instant
+     */
+    @Query("SELECT * FROM branch_hours_history WHERE branch_id = :branchId AND valid @> CAST(:asOf AS TIMESTAMPTZ)")
+    Flux<BranchHours> findByBranchIdAsOf(UUID branchId, OffsetDateTime asOf);
+
+    /**
+     * Find the hours of the branches of a bank as they were at an instant, through the branches they
+     * belonged to then.
+     *
+     * @param bankId the bank ID
+     * @param asOf the instant
+     * @return a Flux emitting the versions of the hours current at the instant
+     */
+    @Query("SELECT h.* FROM branch_hours_history h JOIN branch_history b ON b.id = h.branch_id " +
+            "WHERE b.bank_id = :bankId AND b.valid @> CAST(:asOf AS TIMESTAMPTZ) AND h.valid @> CAST(:asOf AS TIMESTAMPTZ)")
+    Flux<BranchHours> findByBankIdAsOf(UUID bankId, OffsetDateTime asOf);
 }
\ No newline at end of file
@@ -18,9 +18,11 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.BranchPosition;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -61,4 +63,25 @@ public interface BranchPositionRepository extends BaseRepository<BranchPosition,
      * @return a Mono emitting the position if found, or empty if not found
      */
     Mono<BranchPosition> findByTitle(String title);
+
+    /**
+     * Find the branch positions of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT p.* FROM branch_position p JOIN branch_department d ON d.id = p.department_id " +
+            "JOIN branch b ON b.id = d.branch_id WHERE b.bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR p.updated_at > :since)")
+    Flux<BranchPosition> findChangedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Find all positions of the branches of a bank.
+     *
+     * @param bankId the bank ID
+     * @return a Flux emitting all positions of the bank
+     */
+    @Query("SELECT p.* FROM branch_position p JOIN branch_department d ON d.id = p.department_id " +
+            "JOIN branch b ON b.id = d.branch_id WHERE b.bank_id = :bankId")
+    Flux<BranchPosition> findByBankId(UUID bankId);
 }
\ No newline at end of file
@@ -18,9 +18,12 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.Branch;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -77,4 +80,53 @@ public interface BranchRepository extends BaseRepository<Branch, UUID> {
      * @return a Mono emitting the branch if found, or empty if not found
      */
     Mono<Branch> findByName(String name);
+
+    /**
+     * Search the branches of a bank by partial code, postal code, name or city, best matches first.
+     * Served by the trigram indexes on those columns.
+     *
+     * @param bankId the bank ID
+     * @param query the search text, used to rank matches by similarity
+     * @param pattern the ILIKE pattern, with LIKE wildcards in the search text escaped
+     * @param limit the maximum number of branches to return
+     * @return a Flux emitting the matching branches
+     */
+    @Query("SELECT * FROM branch WHERE bank_id = :bankId " +
+            "AND (code ILIKE :pattern OR postal_code ILIKE :pattern OR name ILIKE :pattern OR city ILIKE :pattern) " +
+            "ORDER BY GREATEST(similarity(code, :query), similarity(postal_code, :query), " +
+            "similarity(name, :query), similarity(city, :query)) DESC, name " +
+            "LIMIT :limit")
+    Flux<Branch> searchByText(UUID bankId, String query, String pattern, int limit);
+
+    /**
+     * Find the branches of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT * FROM branch WHERE bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR updated_at > :since)")
+    Flux<Branch> findChangedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Find a branch as it was at an instant.
+     *
+     * @param branchId the branch ID
+     * @param asOf the instant
+     * @return a Mono emitting the version of the branch current at the instant, or empty if it did not exist
+     */
+    @Query("SELECT * FROM branch_history WHERE id = :branchId AND valid @> CAST(:asOf AS TIMESTAMPTZ)")
+    Mono<Branch> findAsOf(UUID branchId, OffsetDateTime asOf);
+
+    /**
+     * Find the branches of a bank as they were at an instant, optionally only those assigned to a region then.
+     *
+     * @param bankId the bank ID
+     * @param regionId the region ID, or null for every region
+     * @param asOf the instant
+     * @return a Flux emitting the versions of the branches current at the instant
+     */
+    @Query("SELECT * FROM branch_history WHERE bank_id = :bankId AND (CAST(:regionId AS UUID) IS NULL OR region_id = :regionId) " +
+            "AND valid @> CAST(:asOf AS TIMESTAMPTZ) ORDER BY name")
+    Flux<Branch> findByBankIdAsOf(UUID bankId, UUID regionId, OffsetDateTime asOf);
 }
\ No newline at end of file
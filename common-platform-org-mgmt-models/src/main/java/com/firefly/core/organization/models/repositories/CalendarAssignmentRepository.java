@@ -18,6 +18,7 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.CalendarAssignment;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -87,4 +88,32 @@ public interface CalendarAssignmentRepository extends BaseRepository<CalendarAss
      */
     Flux<CalendarAssignment> findByEffectiveFromBeforeAndEffectiveToAfterOrEffectiveToIsNull(
             LocalDateTime date, LocalDateTime sameDate);
+
+    /**
+     * Find the calendar assignments of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT a.* FROM calendar_assignment a JOIN working_calendar c ON c.id = a.calendar_id " +
+            "WHERE c.bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR a.updated_at > :since)")
+    Flux<CalendarAssignment> findChangedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Find all assignments targeting the positions, departments and branches of a bank, whatever bank their
+     * calendar belongs to. Each assignment is taken at its most specific target, as the calendar resolution
+     * does: its position if set, else its department, else its branch.
+     *
+     * @param bankId the bank ID
+     * @return a Flux emitting all assignments of the bank
+     */
+    @Query("SELECT a.* FROM calendar_assignment a WHERE " +
+            "a.position_id IN (SELECT p.id FROM branch_position p JOIN branch_department d ON d.id = p.department_id " +
+            "JOIN branch b ON b.id = d.branch_id WHERE b.bank_id = :bankId) " +
+            "OR (a.position_id IS NULL AND a.department_id IN (SELECT d.id FROM branch_department d " +
+            "JOIN branch b ON b.id = d.branch_id WHERE b.bank_id = :bankId)) " +
+            "OR (a.position_id IS NULL AND a.department_id IS NULL " +
+            "AND a.branch_id IN (SELECT id FROM branch WHERE bank_id = :bankId))")
+    Flux<CalendarAssignment> findByBankId(UUID bankId);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.models.repositories;
+
+import com.firefly.core.organization.models.entities.ChangeOutboxEntry;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for managing {@link ChangeOutboxEntry} entities.
+ */
+@Repository
+public interface ChangeOutboxRepository extends BaseRepository<ChangeOutboxEntry, Long> {
+
+    /**
+     * Assign feed positions to the next committed, unpublished changes, in insert order.
+     *
+     * @param batchSize the maximum number of changes to publish
+     * @return a Mono emitting the number of changes published, 0 if none are pending or another relay is publishing
+     */
+    @Query("SELECT org_change_outbox_publish(:batchSize)")
+    Mono<Integer> publish(int batchSize);
+
+    /**
+     * Find the published changes after a feed position.
+     *
+     * @param after the position to start after
+     * @param limit the maximum number of changes to return
+     * @return a Flux emitting the changes in feed order
+     */
+    @Query("SELECT * FROM org_change_outbox WHERE position > :after ORDER BY position LIMIT :limit")
+    Flux<ChangeOutboxEntry> findPublishedAfter(long after, int limit);
+
+    /**
+     * Find the position of the last published change.
+     *
+     * @return a Mono emitting the position, 0 if nothing was published yet
+     */
+    @Query("SELECT position FROM org_change_feed_head")
+    Mono<Long> findHead();
+
+    /**
+     * Delete the changes published before a time. Consumers can no longer replay the feed from before them.
+     *
+     * @param before the publication time to keep changes from
+     * @return a Mono emitting the number of changes deleted
+     */
+    @Modifying
+    @Query("DELETE FROM org_change_outbox WHERE published_at < :before")
+    Mono<Integer> deletePublishedBefore(LocalDateTime before);
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.models.repositories;
+
+import com.firefly.core.organization.models.entities.OrgTombstone;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repository for managing {@link OrgTombstone} entities.
+ */
+@Repository
+public interface OrgTombstoneRepository extends BaseRepository<OrgTombstone, Long> {
+
+    /**
+     * Find the deletions recorded for a bank after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after
+     * @return a Flux emitting the tombstones in deletion order
+     */
+    @Query("SELECT * FROM org_tombstone WHERE bank_id = :bankId AND deleted_at > :since ORDER BY deleted_at, id")
+    Flux<OrgTombstone> findDeletedSince(UUID bankId, LocalDateTime since);
+
+    /**
+     * Read the database clock that updated_at and tombstones are stamped with.
+     *
+     * @return a Mono emitting the current database time
+     */
+    @Query("SELECT clock_timestamp()::TIMESTAMP")
+    Mono<LocalDateTime> now();
+
+    /**
+     * Delete the tombstones recorded before a time.
+     *
+     * @param before the deletion time to keep tombstones from
+     * @return a Mono emitting the number of tombstones deleted
+     */
+    @Modifying
+    @Query("DELETE FROM org_tombstone WHERE deleted_at < :before")
+    Mono<Integer> deleteRecordedBefore(LocalDateTime before);
+}
@@ -18,9 +18,11 @@
 package com.firefly.core.organization.models.repositories;
 
 import com.firefly.core.organization.models.entities.WorkingCalendar;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -61,4 +63,14 @@ public interface WorkingCalendarRepository extends BaseRepository<WorkingCalenda
      * @return a Flux emitting all calendars for the specified time zone
      */
     Flux<WorkingCalendar> findByTimeZoneId(UUID timeZoneId);
+
+    /**
+     * Find the working calendars of a bank created or updated after a time.
+     *
+     * @param bankId the bank ID
+     * @param since the time to start after, or null for all
+     * @return a Flux emitting the entities changed since the time
+     */
+    @Query("SELECT * FROM working_calendar WHERE bank_id = :bankId AND (CAST(:since AS TIMESTAMP) IS NULL OR updated_at > :since)")
+    Flux<WorkingCalendar> findChangedSince(UUID bankId, LocalDateTime since);
 }
\ No newline at end of file
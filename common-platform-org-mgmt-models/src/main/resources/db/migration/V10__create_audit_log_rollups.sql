@@ -0,0 +1,56 @@
+-- Daily counts of audit log entries per bank or branch, entity and action, kept up to date incrementally
+-- from the audit logs so that dashboards read one row per day instead of every entry
+CREATE TABLE IF NOT EXISTS bank_audit_daily_count (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    bank_id UUID NOT NULL,
+    day DATE NOT NULL,
+    entity VARCHAR(100) NOT NULL,
+    action audit_action_enum NOT NULL,
+    count BIGINT NOT NULL,
+    UNIQUE(bank_id, day, entity, action)
+);
+
+CREATE TABLE IF NOT EXISTS branch_audit_daily_count (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    branch_id UUID NOT NULL,
+    day DATE NOT NULL,
+    entity VARCHAR(100) NOT NULL,
+    action audit_action_enum NOT NULL,
+    count BIGINT NOT NULL,
+    UNIQUE(branch_id, day, entity, action)
+);
+
+-- High-water mark of each audit log: every entry at or before it has been counted
+CREATE TABLE IF NOT EXISTS audit_log_rollup_watermark (
+    log_table VARCHAR(63) PRIMARY KEY,
+    rolled_up_to TIMESTAMP NOT NULL
+);
+
+INSERT INTO audit_log_rollup_watermark (log_table, rolled_up_to)
+VALUES ('bank_audit_log', '-infinity'), ('branch_audit_log', '-infinity');
+
+-- Add the entries of an audit log after its high-water mark and up to the given time to its daily counts,
+-- then advance the mark. The mark is locked for the whole call, so concurrent calls never count an entry twice.
+CREATE OR REPLACE FUNCTION audit_log_roll_up(parent TEXT, scope_column TEXT, up_to TIMESTAMP)
+RETURNS INTEGER AS $$
+DECLARE
+    rollup TEXT := replace(parent, '_log', '_daily_count');
+    watermark TIMESTAMP;
+    updated INTEGER;
+BEGIN
+    SELECT rolled_up_to INTO watermark FROM audit_log_rollup_watermark WHERE log_table = parent FOR UPDATE;
+    IF watermark IS NULL OR up_to <= watermark THEN
+        RETURN 0;
+    END IF;
+    EXECUTE format('INSERT INTO %I (%I, day, entity, action, count) '
+                   'SELECT %I, CAST(timestamp AS DATE), entity, action, COUNT(*) FROM %I '
+                   'WHERE timestamp > $1 AND timestamp <= $2 '
+                   'GROUP BY 1, 2, 3, 4 '
+                   'ON CONFLICT (%I, day, entity, action) DO UPDATE SET count = %I.count + EXCLUDED.count',
+                   rollup, scope_column, scope_column, parent, scope_column, rollup)
+        USING watermark, up_to;
+    GET DIAGNOSTICS updated = ROW_COUNT;
+    UPDATE audit_log_rollup_watermark SET rolled_up_to = up_to WHERE log_table = parent;
+    RETURN updated;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,28 @@
+-- Move bulk-loaded audit log entries from a staging table into an audit log.
+-- Entries already present are skipped, so a batch can be loaded again after a failure. Entries at or before
+-- the roll-up high-water mark, typically backfills, are added to the daily counts here since the roll-up
+-- has already passed them; the mark is locked meanwhile so the two never count an entry twice.
+CREATE OR REPLACE FUNCTION audit_log_merge_ingest(parent TEXT, scope_column TEXT, staging TEXT)
+RETURNS INTEGER AS $$
+DECLARE
+    rollup TEXT := replace(parent, '_log', '_daily_count');
+    watermark TIMESTAMP;
+    inserted INTEGER;
+BEGIN
+    SELECT rolled_up_to INTO watermark FROM audit_log_rollup_watermark WHERE log_table = parent FOR UPDATE;
+    EXECUTE format('WITH inserted AS ('
+                   '    INSERT INTO %I SELECT * FROM %I ON CONFLICT DO NOTHING '
+                   '    RETURNING %I AS scope_id, timestamp, entity, action'
+                   '), counted AS ('
+                   '    INSERT INTO %I (%I, day, entity, action, count) '
+                   '    SELECT scope_id, CAST(timestamp AS DATE), entity, action, COUNT(*) FROM inserted '
+                   '    WHERE timestamp <= $1 GROUP BY 1, 2, 3, 4 '
+                   '    ON CONFLICT (%I, day, entity, action) DO UPDATE SET count = %I.count + EXCLUDED.count'
+                   ') '
+                   'SELECT COUNT(*) FROM inserted',
+                   parent, staging, scope_column, rollup, scope_column, scope_column, rollup)
+        INTO inserted
+        USING COALESCE(watermark, '-infinity');
+    RETURN inserted;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,18 @@
+-- List the first day of every month of an audit log that ends on or before the given date: the months of
+-- its monthly partitions plus the months of the rows before that date left in the default partition.
+-- These are the months audit_log_drop_partitions removes, so they are archived first.
+CREATE OR REPLACE FUNCTION audit_log_partition_months(parent TEXT, cutoff DATE)
+RETURNS SETOF DATE AS $$
+BEGIN
+    RETURN QUERY EXECUTE format(
+        'SELECT to_date(right(c.relname, 6), ''YYYYMM'') '
+        'FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid '
+        'WHERE i.inhparent = %L::regclass '
+        '  AND c.relname ~ %L '
+        '  AND to_date(right(c.relname, 6), ''YYYYMM'') + INTERVAL ''1 month'' <= %L '
+        'UNION '
+        'SELECT DISTINCT date_trunc(''month'', timestamp)::DATE FROM %I WHERE timestamp < %L '
+        'ORDER BY 1',
+        parent, '^' || parent || '_p[0-9]{6}$', cutoff, parent || '_default', cutoff);
+END;
+$$ LANGUAGE plpgsql;
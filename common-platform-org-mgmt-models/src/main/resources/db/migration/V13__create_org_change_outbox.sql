@@ -0,0 +1,68 @@
+-- Outbox of the changes made to banks, branches and their related entities, written in the same transaction
+-- as each change. Rows get their position in the change feed when the relay publishes them, after they are
+-- committed, so the feed is ordered by commit and has no gaps; the row IDs, assigned at insert time, are not.
+CREATE TABLE org_change_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    position BIGINT,
+    entity VARCHAR(100) NOT NULL,
+    entity_id UUID NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    bank_id UUID,
+    branch_id UUID,
+    changes JSONB,
+    user_id UUID,
+    occurred_at TIMESTAMP NOT NULL DEFAULT now(),
+    published_at TIMESTAMP
+);
+
+CREATE UNIQUE INDEX idx_org_change_outbox_position ON org_change_outbox (position);
+CREATE INDEX idx_org_change_outbox_pending ON org_change_outbox (id) WHERE position IS NULL;
+
+-- Position of the last published change. Publishing locks this row, so only one relay publishes at a time.
+CREATE TABLE org_change_feed_head (
+    position BIGINT NOT NULL
+);
+
+INSERT INTO org_change_feed_head VALUES (0);
+
+-- Wake the relays once changes are committed. Notifications are only delivered on commit.
+CREATE OR REPLACE FUNCTION org_change_outbox_notify()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('org_change_outbox', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER org_change_outbox_notify
+AFTER INSERT ON org_change_outbox
+FOR EACH STATEMENT EXECUTE FUNCTION org_change_outbox_notify();
+
+-- Assign the next feed positions to up to batch_size committed changes in insert order, and notify the feed
+-- readers of the new head. Returns 0 without waiting when another relay is publishing.
+CREATE OR REPLACE FUNCTION org_change_outbox_publish(batch_size INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    head BIGINT;
+    published INTEGER;
+BEGIN
+    SELECT position INTO head FROM org_change_feed_head FOR UPDATE SKIP LOCKED;
+    IF NOT FOUND THEN
+        RETURN 0;
+    END IF;
+    WITH pending AS (
+        SELECT id, head + row_number() OVER (ORDER BY id) AS position
+        FROM (SELECT id FROM org_change_outbox WHERE position IS NULL ORDER BY id LIMIT batch_size) batch
+    )
+    UPDATE org_change_outbox o
+    SET position = pending.position, published_at = now()
+    FROM pending
+    WHERE o.id = pending.id;
+    GET DIAGNOSTICS published = ROW_COUNT;
+    IF published > 0 THEN
+        UPDATE org_change_feed_head SET position = head + published;
+        PERFORM pg_notify('org_change_feed', (head + published)::TEXT);
+    END IF;
+    RETURN published;
+END;
+$$ LANGUAGE plpgsql;
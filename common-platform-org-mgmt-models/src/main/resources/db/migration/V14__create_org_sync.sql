@@ -0,0 +1,91 @@
+-- Delta sync support: every organization table keeps updated_at current itself, indexed under the owning
+-- bank, and deletions leave a tombstone, so that a client can fetch what changed in a bank since its last sync.
+
+-- Set updated_at on every insert and update from the database clock, whatever the client sent, so that
+-- sync watermarks are compared against a single clock.
+CREATE OR REPLACE FUNCTION org_touch_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := clock_timestamp()::TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Deletions, for the bank each deleted row belonged to. Rows are removed after the tombstone retention;
+-- sync tokens older than that get a full snapshot instead of a delta.
+CREATE TABLE org_tombstone (
+    id BIGSERIAL PRIMARY KEY,
+    bank_id UUID NOT NULL,
+    entity VARCHAR(100) NOT NULL,
+    entity_id UUID NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT clock_timestamp()::TIMESTAMP
+);
+
+CREATE INDEX idx_org_tombstone_bank_deleted_at ON org_tombstone (bank_id, deleted_at);
+CREATE INDEX idx_org_tombstone_deleted_at ON org_tombstone (deleted_at);
+
+-- Record a tombstone for a deleted row under its bank. The entity name is the trigger argument.
+CREATE OR REPLACE FUNCTION org_record_tombstone()
+RETURNS TRIGGER AS $$
+DECLARE
+    owner UUID;
+BEGIN
+    IF TG_TABLE_NAME = 'bank' THEN
+        owner := OLD.id;
+    ELSIF TG_TABLE_NAME IN ('bank_division', 'branch', 'working_calendar', 'bank_holiday') THEN
+        owner := OLD.bank_id;
+    ELSIF TG_TABLE_NAME = 'bank_region' THEN
+        SELECT bank_id INTO owner FROM bank_division WHERE id = OLD.division_id;
+    ELSIF TG_TABLE_NAME IN ('branch_department', 'branch_hours') THEN
+        SELECT bank_id INTO owner FROM branch WHERE id = OLD.branch_id;
+    ELSIF TG_TABLE_NAME = 'branch_position' THEN
+        SELECT b.bank_id INTO owner
+        FROM branch_department d JOIN branch b ON b.id = d.branch_id
+        WHERE d.id = OLD.department_id;
+    ELSIF TG_TABLE_NAME = 'calendar_assignment' THEN
+        SELECT bank_id INTO owner FROM working_calendar WHERE id = OLD.calendar_id;
+    END IF;
+    IF owner IS NOT NULL THEN
+        INSERT INTO org_tombstone (bank_id, entity, entity_id) VALUES (owner, TG_ARGV[0], OLD.id);
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    t RECORD;
+BEGIN
+    FOR t IN
+        SELECT * FROM (VALUES
+            ('bank', 'Bank'),
+            ('bank_division', 'BankDivision'),
+            ('bank_region', 'BankRegion'),
+            ('branch', 'Branch'),
+            ('branch_department', 'BranchDepartment'),
+            ('branch_position', 'BranchPosition'),
+            ('branch_hours', 'BranchHours'),
+            ('bank_holiday', 'BankHoliday'),
+            ('working_calendar', 'WorkingCalendar'),
+            ('calendar_assignment', 'CalendarAssignment')
+        ) AS tables (name, entity)
+    LOOP
+        EXECUTE format('UPDATE %I SET updated_at = created_at WHERE updated_at IS NULL', t.name);
+        EXECUTE format('CREATE TRIGGER %I BEFORE INSERT OR UPDATE ON %I '
+                       'FOR EACH ROW EXECUTE FUNCTION org_touch_updated_at()', t.name || '_touch_updated_at', t.name);
+        EXECUTE format('CREATE TRIGGER %I AFTER DELETE ON %I '
+                       'FOR EACH ROW EXECUTE FUNCTION org_record_tombstone(%L)', t.name || '_tombstone', t.name, t.entity);
+    END LOOP;
+END;
+$$;
+
+-- Range scans of the rows changed since a watermark, under the bank or the parent the sync queries join through.
+CREATE INDEX idx_bank_division_bank_updated_at ON bank_division (bank_id, updated_at);
+CREATE INDEX idx_bank_region_division_updated_at ON bank_region (division_id, updated_at);
+CREATE INDEX idx_branch_bank_updated_at ON branch (bank_id, updated_at);
+CREATE INDEX idx_branch_department_branch_updated_at ON branch_department (branch_id, updated_at);
+CREATE INDEX idx_branch_position_department_updated_at ON branch_position (department_id, updated_at);
+CREATE INDEX idx_branch_hours_branch_updated_at ON branch_hours (branch_id, updated_at);
+CREATE INDEX idx_bank_holiday_bank_updated_at ON bank_holiday (bank_id, updated_at);
+CREATE INDEX idx_working_calendar_bank_updated_at ON working_calendar (bank_id, updated_at);
+CREATE INDEX idx_calendar_assignment_calendar_updated_at ON calendar_assignment (calendar_id, updated_at);
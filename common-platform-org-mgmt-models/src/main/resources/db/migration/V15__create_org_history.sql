@@ -0,0 +1,59 @@
+-- As-of history of the organization structure: every version of a bank, division, region, branch and
+-- branch hours row, with the period it was current for, so the structure can be read as it was at a past
+-- instant.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Close the current version of the changed row and open a new one. Versions are stamped with the
+-- database clock rather than the transaction start, so that versions of a row written by transactions
+-- that overlap in time still follow each other. A version opened and closed at the same instant is
+-- dropped instead of being kept as an empty period.
+CREATE OR REPLACE FUNCTION org_record_history()
+RETURNS TRIGGER AS $$
+DECLARE
+    history TEXT := TG_TABLE_NAME || '_history';
+    changed_at TIMESTAMPTZ := clock_timestamp();
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        EXECUTE format('DELETE FROM %I WHERE id = $1 AND upper_inf(valid) AND lower(valid) >= $2', history)
+            USING OLD.id, changed_at;
+        EXECUTE format('UPDATE %I SET valid = tstzrange(lower(valid), $2) WHERE id = $1 AND upper_inf(valid)', history)
+            USING OLD.id, changed_at;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        EXECUTE format('INSERT INTO %I SELECT tstzrange($2, NULL), ($1).*', history)
+            USING NEW, changed_at;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Each history table has the validity period followed by the columns of its table, in the same order, so
+-- a column added to a table later must be added to its history table too. Periods of the same row cannot
+-- overlap, and the exclusion constraint's GiST index serves the lookups of a row as of an instant. The
+-- current version of each row is seeded from the row as it is now.
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['bank', 'bank_division', 'bank_region', 'branch', 'branch_hours']
+    LOOP
+        EXECUTE format('CREATE TABLE %I (valid TSTZRANGE NOT NULL, LIKE %I)', t || '_history', t);
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist (id WITH =, valid WITH &&)',
+                       t || '_history', t || '_history_no_overlap');
+        EXECUTE format('CREATE UNIQUE INDEX %I ON %I (id) WHERE upper_inf(valid)',
+                       'idx_' || t || '_history_current', t || '_history');
+        EXECUTE format('INSERT INTO %I SELECT tstzrange(COALESCE(updated_at, created_at, now()), NULL), * FROM %I',
+                       t || '_history', t);
+        EXECUTE format('CREATE TRIGGER %I AFTER INSERT OR UPDATE OR DELETE ON %I '
+                       'FOR EACH ROW EXECUTE FUNCTION org_record_history()', t || '_record_history', t);
+    END LOOP;
+END;
+$$;
+
+-- Lookups of the children of a parent as of an instant.
+CREATE INDEX idx_bank_division_history_bank_valid ON bank_division_history USING gist (bank_id, valid);
+CREATE INDEX idx_bank_region_history_division_valid ON bank_region_history USING gist (division_id, valid);
+CREATE INDEX idx_branch_history_bank_valid ON branch_history USING gist (bank_id, valid);
+CREATE INDEX idx_branch_history_region_valid ON branch_history USING gist (region_id, valid);
+CREATE INDEX idx_branch_hours_history_branch_valid ON branch_hours_history USING gist (branch_id, valid);
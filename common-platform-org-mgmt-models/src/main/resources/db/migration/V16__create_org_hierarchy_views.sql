@@ -0,0 +1,23 @@
+-- Branches, departments and positions with the IDs of every level above them, so the filter endpoints can
+-- filter them by an ancestor (branches by division, departments by bank or region, positions by branch,
+-- bank, region or division) in one query. The planner inlines the views into a join along the foreign
+-- keys, each of which is indexed. Columns added to the base tables later only appear in the views once
+-- they are recreated.
+
+CREATE VIEW branch_hierarchy AS
+SELECT b.*, r.division_id
+FROM branch b
+LEFT JOIN bank_region r ON r.id = b.region_id;
+
+CREATE VIEW branch_department_hierarchy AS
+SELECT d.*, b.bank_id, b.region_id, r.division_id
+FROM branch_department d
+JOIN branch b ON b.id = d.branch_id
+LEFT JOIN bank_region r ON r.id = b.region_id;
+
+CREATE VIEW branch_position_hierarchy AS
+SELECT p.*, d.branch_id, b.bank_id, b.region_id, r.division_id
+FROM branch_position p
+JOIN branch_department d ON d.id = p.department_id
+JOIN branch b ON b.id = d.branch_id
+LEFT JOIN bank_region r ON r.id = b.region_id;
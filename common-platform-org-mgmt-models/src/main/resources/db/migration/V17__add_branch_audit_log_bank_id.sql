@@ -0,0 +1,48 @@
+-- The bank each branch audit entry belongs to, stored on the entry when it is written, so that the activity
+-- feed of a bank keeps the history of branches since deleted or moved to another bank, and is read as a single
+-- (bank_id, timestamp, id) index range scan.
+ALTER TABLE branch_audit_log ADD COLUMN bank_id UUID;
+
+-- The bank of an entry's branch at the time of writing. The deletion of a branch is recorded once the branch is
+-- gone, so its bank is taken from the old bankId in the entry's metadata instead.
+CREATE OR REPLACE FUNCTION branch_audit_log_set_bank_id()
+RETURNS TRIGGER AS $$
+DECLARE
+    recorded TEXT;
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        NEW.bank_id := NULL;
+    END IF;
+    IF NEW.bank_id IS NULL THEN
+        SELECT bank_id INTO NEW.bank_id FROM branch WHERE id = NEW.branch_id;
+    END IF;
+    IF NEW.bank_id IS NULL AND NEW.entity = 'Branch' THEN
+        recorded := NEW.metadata -> 'bankId' ->> 'old';
+        IF recorded ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$' THEN
+            NEW.bank_id := recorded::UUID;
+        END IF;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Existing entries: the current bank of their branch, or for deleted branches the bank their deletion recorded.
+UPDATE branch_audit_log l SET bank_id = b.bank_id
+FROM branch b
+WHERE b.id = l.branch_id;
+
+UPDATE branch_audit_log l SET bank_id = d.bank_id
+FROM (
+    SELECT DISTINCT ON (branch_id) branch_id, CAST(metadata -> 'bankId' ->> 'old' AS UUID) AS bank_id
+    FROM branch_audit_log
+    WHERE entity = 'Branch' AND action = 'DELETED'
+      AND metadata -> 'bankId' ->> 'old' ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$'
+    ORDER BY branch_id, timestamp DESC
+) d
+WHERE l.bank_id IS NULL AND d.branch_id = l.branch_id;
+
+CREATE TRIGGER trg_branch_audit_log_set_bank_id
+BEFORE INSERT OR UPDATE OF branch_id ON branch_audit_log
+FOR EACH ROW EXECUTE FUNCTION branch_audit_log_set_bank_id();
+
+CREATE INDEX idx_branch_audit_log_bank_id_timestamp_id ON branch_audit_log (bank_id, timestamp, id);
@@ -0,0 +1,72 @@
+-- Keep the daily counts exact whatever writes an audit log: entries inserted, updated or deleted at or before
+-- the roll-up high-water mark, which the roll-up has already passed, are applied to the counts by the statement
+-- that writes them. The mark is share-locked meanwhile, so a concurrent roll-up either sees the statement's
+-- entries or waits for it and advances the mark after them; an entry is never counted twice or missed.
+CREATE OR REPLACE FUNCTION audit_log_count_late_changes()
+RETURNS TRIGGER AS $$
+DECLARE
+    scope_column TEXT := TG_ARGV[0];
+    rollup TEXT := replace(TG_TABLE_NAME, '_log', '_daily_count');
+    watermark TIMESTAMP;
+    changes TEXT;
+BEGIN
+    SELECT rolled_up_to INTO watermark FROM audit_log_rollup_watermark WHERE log_table = TG_TABLE_NAME FOR SHARE;
+    IF watermark IS NULL THEN
+        RETURN NULL;
+    END IF;
+    changes := CASE TG_OP
+        WHEN 'INSERT' THEN format('SELECT %I, timestamp, entity, action, 1 FROM added', scope_column)
+        WHEN 'DELETE' THEN format('SELECT %I, timestamp, entity, action, -1 FROM removed', scope_column)
+        ELSE format('SELECT %I, timestamp, entity, action, 1 FROM added '
+                    'UNION ALL SELECT %I, timestamp, entity, action, -1 FROM removed', scope_column, scope_column)
+    END;
+    EXECUTE format('INSERT INTO %I (%I, day, entity, action, count) '
+                   'SELECT scope_id, CAST(timestamp AS DATE), entity, action, SUM(delta) '
+                   'FROM (%s) AS changes (scope_id, timestamp, entity, action, delta) '
+                   'WHERE timestamp <= $1 '
+                   'GROUP BY 1, 2, 3, 4 HAVING SUM(delta) <> 0 '
+                   'ORDER BY 1, 2, 3, 4 '
+                   'ON CONFLICT (%I, day, entity, action) DO UPDATE SET count = %I.count + EXCLUDED.count',
+                   rollup, scope_column, changes, scope_column, rollup)
+        USING watermark;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement triggers on the partitioned tables fire for statements naming the audit log itself: the writer,
+-- the ingest and the audit log endpoints. Retention deletes from the partitions directly and leaves the counts.
+CREATE TRIGGER trg_bank_audit_log_count_inserted
+AFTER INSERT ON bank_audit_log REFERENCING NEW TABLE AS added
+FOR EACH STATEMENT EXECUTE FUNCTION audit_log_count_late_changes('bank_id');
+
+CREATE TRIGGER trg_bank_audit_log_count_updated
+AFTER UPDATE ON bank_audit_log REFERENCING OLD TABLE AS removed NEW TABLE AS added
+FOR EACH STATEMENT EXECUTE FUNCTION audit_log_count_late_changes('bank_id');
+
+CREATE TRIGGER trg_bank_audit_log_count_deleted
+AFTER DELETE ON bank_audit_log REFERENCING OLD TABLE AS removed
+FOR EACH STATEMENT EXECUTE FUNCTION audit_log_count_late_changes('bank_id');
+
+CREATE TRIGGER trg_branch_audit_log_count_inserted
+AFTER INSERT ON branch_audit_log REFERENCING NEW TABLE AS added
+FOR EACH STATEMENT EXECUTE FUNCTION audit_log_count_late_changes('branch_id');
+
+CREATE TRIGGER trg_branch_audit_log_count_updated
+AFTER UPDATE ON branch_audit_log REFERENCING OLD TABLE AS removed NEW TABLE AS added
+FOR EACH STATEMENT EXECUTE FUNCTION audit_log_count_late_changes('branch_id');
+
+CREATE TRIGGER trg_branch_audit_log_count_deleted
+AFTER DELETE ON branch_audit_log REFERENCING OLD TABLE AS removed
+FOR EACH STATEMENT EXECUTE FUNCTION audit_log_count_late_changes('branch_id');
+
+-- The ingest no longer counts the entries it merges itself; the insert trigger does.
+CREATE OR REPLACE FUNCTION audit_log_merge_ingest(parent TEXT, scope_column TEXT, staging TEXT)
+RETURNS INTEGER AS $$
+DECLARE
+    inserted INTEGER;
+BEGIN
+    EXECUTE format('INSERT INTO %I SELECT * FROM %I ON CONFLICT DO NOTHING', parent, staging);
+    GET DIAGNOSTICS inserted = ROW_COUNT;
+    RETURN inserted;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,91 @@
+-- Delta sync of rows moved to another bank: a row whose owning key changes so that it belongs to another bank
+-- leaves a tombstone under the old bank, for itself and for every row under it, and the rows under it are
+-- touched so that the new bank's delta picks them up even though they did not change themselves.
+
+-- Record the move of a row between banks. The entity name is the trigger argument. Runs only when the owning
+-- key changed, but the row may still belong to the same bank, for a branch moved to another region of it.
+CREATE OR REPLACE FUNCTION org_record_move()
+RETURNS TRIGGER AS $$
+DECLARE
+    old_owner UUID;
+    new_owner UUID;
+BEGIN
+    IF TG_TABLE_NAME IN ('bank_division', 'branch', 'working_calendar', 'bank_holiday') THEN
+        old_owner := OLD.bank_id;
+        new_owner := NEW.bank_id;
+    ELSIF TG_TABLE_NAME = 'bank_region' THEN
+        SELECT bank_id INTO old_owner FROM bank_division WHERE id = OLD.division_id;
+        SELECT bank_id INTO new_owner FROM bank_division WHERE id = NEW.division_id;
+    ELSIF TG_TABLE_NAME IN ('branch_department', 'branch_hours') THEN
+        SELECT bank_id INTO old_owner FROM branch WHERE id = OLD.branch_id;
+        SELECT bank_id INTO new_owner FROM branch WHERE id = NEW.branch_id;
+    ELSIF TG_TABLE_NAME = 'branch_position' THEN
+        SELECT b.bank_id INTO old_owner
+        FROM branch_department d JOIN branch b ON b.id = d.branch_id
+        WHERE d.id = OLD.department_id;
+        SELECT b.bank_id INTO new_owner
+        FROM branch_department d JOIN branch b ON b.id = d.branch_id
+        WHERE d.id = NEW.department_id;
+    ELSIF TG_TABLE_NAME = 'calendar_assignment' THEN
+        SELECT bank_id INTO old_owner FROM working_calendar WHERE id = OLD.calendar_id;
+        SELECT bank_id INTO new_owner FROM working_calendar WHERE id = NEW.calendar_id;
+    END IF;
+    IF old_owner IS NULL OR old_owner IS NOT DISTINCT FROM new_owner THEN
+        RETURN NULL;
+    END IF;
+
+    INSERT INTO org_tombstone (bank_id, entity, entity_id) VALUES (old_owner, TG_ARGV[0], NEW.id);
+    IF TG_TABLE_NAME = 'bank_division' THEN
+        INSERT INTO org_tombstone (bank_id, entity, entity_id)
+        SELECT old_owner, 'BankRegion', id FROM bank_region WHERE division_id = NEW.id;
+        UPDATE bank_region SET updated_at = clock_timestamp()::TIMESTAMP WHERE division_id = NEW.id;
+    ELSIF TG_TABLE_NAME = 'branch' THEN
+        INSERT INTO org_tombstone (bank_id, entity, entity_id)
+        SELECT old_owner, 'BranchDepartment', id FROM branch_department WHERE branch_id = NEW.id
+        UNION ALL
+        SELECT old_owner, 'BranchPosition', p.id
+        FROM branch_position p JOIN branch_department d ON d.id = p.department_id
+        WHERE d.branch_id = NEW.id
+        UNION ALL
+        SELECT old_owner, 'BranchHours', id FROM branch_hours WHERE branch_id = NEW.id;
+        UPDATE branch_department SET updated_at = clock_timestamp()::TIMESTAMP WHERE branch_id = NEW.id;
+        UPDATE branch_position SET updated_at = clock_timestamp()::TIMESTAMP
+        WHERE department_id IN (SELECT id FROM branch_department WHERE branch_id = NEW.id);
+        UPDATE branch_hours SET updated_at = clock_timestamp()::TIMESTAMP WHERE branch_id = NEW.id;
+    ELSIF TG_TABLE_NAME = 'branch_department' THEN
+        INSERT INTO org_tombstone (bank_id, entity, entity_id)
+        SELECT old_owner, 'BranchPosition', id FROM branch_position WHERE department_id = NEW.id;
+        UPDATE branch_position SET updated_at = clock_timestamp()::TIMESTAMP WHERE department_id = NEW.id;
+    ELSIF TG_TABLE_NAME = 'working_calendar' THEN
+        INSERT INTO org_tombstone (bank_id, entity, entity_id)
+        SELECT old_owner, 'CalendarAssignment', id FROM calendar_assignment WHERE calendar_id = NEW.id;
+        UPDATE calendar_assignment SET updated_at = clock_timestamp()::TIMESTAMP WHERE calendar_id = NEW.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The touches above set only updated_at, so they never fire these triggers on the rows under a moved one.
+DO $$
+DECLARE
+    t RECORD;
+BEGIN
+    FOR t IN
+        SELECT * FROM (VALUES
+            ('bank_division', 'bank_id', 'BankDivision'),
+            ('bank_region', 'division_id', 'BankRegion'),
+            ('branch', 'bank_id', 'Branch'),
+            ('branch_department', 'branch_id', 'BranchDepartment'),
+            ('branch_position', 'department_id', 'BranchPosition'),
+            ('branch_hours', 'branch_id', 'BranchHours'),
+            ('bank_holiday', 'bank_id', 'BankHoliday'),
+            ('working_calendar', 'bank_id', 'WorkingCalendar'),
+            ('calendar_assignment', 'calendar_id', 'CalendarAssignment')
+        ) AS tables (name, owning_key, entity)
+    LOOP
+        EXECUTE format('CREATE TRIGGER %I AFTER UPDATE OF %I ON %I FOR EACH ROW '
+                       'WHEN (OLD.%I IS DISTINCT FROM NEW.%I) EXECUTE FUNCTION org_record_move(%L)',
+                       t.name || '_move', t.owning_key, t.name, t.owning_key, t.owning_key, t.entity);
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,25 @@
+-- Tell every instance which organization tables a transaction wrote, whatever wrote them: another instance, a
+-- trigger or plain SQL. Notifications are delivered on commit only, so a listener never sees an uncommitted or
+-- rolled back change, and Postgres folds identical notifications of a transaction into one.
+CREATE OR REPLACE FUNCTION org_notify_table_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('org_table_change', TG_TABLE_NAME);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['bank', 'bank_division', 'bank_region', 'branch', 'branch_department',
+                             'branch_position', 'branch_hours', 'bank_holiday', 'working_calendar',
+                             'calendar_assignment']
+    LOOP
+        EXECUTE format('CREATE TRIGGER %I AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON %I '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION org_notify_table_change()',
+                       t || '_notify_change', t);
+    END LOOP;
+END;
+$$;
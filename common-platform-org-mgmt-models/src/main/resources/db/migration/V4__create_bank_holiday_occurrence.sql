@@ -0,0 +1,16 @@
+-- Create bank_holiday_occurrence table holding concrete dated occurrences of bank holidays
+CREATE TABLE IF NOT EXISTS bank_holiday_occurrence (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    holiday_id UUID NOT NULL REFERENCES bank_holiday(id) ON DELETE CASCADE,
+    bank_id UUID NOT NULL REFERENCES bank(id),
+    branch_id UUID REFERENCES branch(id),
+    country_id UUID,
+    name VARCHAR(255) NOT NULL,
+    date DATE NOT NULL,
+    UNIQUE(holiday_id, date)
+);
+
+-- Add indexes for range scans by bank and by branch
+CREATE INDEX idx_bank_holiday_occurrence_bank_id_date ON bank_holiday_occurrence(bank_id, date);
+CREATE INDEX idx_bank_holiday_occurrence_branch_id_date ON bank_holiday_occurrence(branch_id, date);
+CREATE INDEX idx_bank_holiday_occurrence_date ON bank_holiday_occurrence(date);
@@ -0,0 +1,4 @@
+-- Entity changes, deletions included, are now recorded in the audit logs. An audit trail has to outlive
+-- the bank or branch it records, so the logs no longer reference them.
+ALTER TABLE bank_audit_log DROP CONSTRAINT IF EXISTS bank_audit_log_bank_id_fkey;
+ALTER TABLE branch_audit_log DROP CONSTRAINT IF EXISTS branch_audit_log_branch_id_fkey;
\ No newline at end of file
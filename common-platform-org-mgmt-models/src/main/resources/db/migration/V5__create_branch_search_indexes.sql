@@ -0,0 +1,7 @@
+-- Trigram indexes backing partial-text branch search (ILIKE '%...%' and similarity ranking)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_branch_code_trgm ON branch USING gin (code gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_branch_postal_code_trgm ON branch USING gin (postal_code gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_branch_name_trgm ON branch USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_branch_city_trgm ON branch USING gin (city gin_trgm_ops);
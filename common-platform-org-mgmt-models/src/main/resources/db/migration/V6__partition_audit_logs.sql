@@ -0,0 +1,118 @@
+-- Monthly range partitioning of the audit logs on timestamp.
+-- Partitions are named <table>_pYYYYMM; rows outside every monthly partition land in <table>_default.
+
+-- Create the monthly partitions of an audit log covering from_month through to_month.
+-- Rows of a new month already sitting in the default partition are moved into it.
+CREATE OR REPLACE FUNCTION audit_log_create_partitions(parent TEXT, from_month DATE, to_month DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    next_month DATE;
+    part TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        next_month := (month_start + INTERVAL '1 month')::DATE;
+        part := parent || '_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(part) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', part, parent);
+            EXECUTE format('WITH moved AS (DELETE FROM %I WHERE timestamp >= %L AND timestamp < %L RETURNING *) '
+                           'INSERT INTO %I SELECT * FROM moved',
+                           parent || '_default', month_start, next_month, part);
+            EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           parent, part, month_start, next_month);
+            created := created + 1;
+        END IF;
+        month_start := next_month;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drop, or detach when detach_only is true, every monthly partition of an audit log ending on or before the
+-- given date, and delete the rows before that date left in the default partition.
+CREATE OR REPLACE FUNCTION audit_log_drop_partitions(parent TEXT, cutoff DATE, detach_only BOOLEAN)
+RETURNS INTEGER AS $$
+DECLARE
+    part RECORD;
+    dropped INTEGER := 0;
+BEGIN
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent::regclass
+          AND c.relname ~ ('^' || parent || '_p[0-9]{6}$')
+          AND to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month' <= cutoff
+        ORDER BY c.relname
+    LOOP
+        IF detach_only THEN
+            EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, part.relname);
+        ELSE
+            EXECUTE format('DROP TABLE %I', part.relname);
+        END IF;
+        dropped := dropped + 1;
+    END LOOP;
+    EXECUTE format('DELETE FROM %I WHERE timestamp < %L', parent || '_default', cutoff);
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Move the existing audit logs aside. The new tables have no foreign keys to bank and branch:
+-- an audit trail has to outlive the rows it records, including their deletion.
+ALTER TABLE bank_audit_log RENAME TO bank_audit_log_legacy;
+ALTER TABLE bank_audit_log_legacy RENAME CONSTRAINT bank_audit_log_pkey TO bank_audit_log_legacy_pkey;
+ALTER TABLE branch_audit_log RENAME TO branch_audit_log_legacy;
+ALTER TABLE branch_audit_log_legacy RENAME CONSTRAINT branch_audit_log_pkey TO branch_audit_log_legacy_pkey;
+
+CREATE TABLE bank_audit_log (
+    id UUID NOT NULL,
+    bank_id UUID NOT NULL,
+    action audit_action_enum NOT NULL,
+    entity VARCHAR(100) NOT NULL,
+    entity_id VARCHAR(50) NOT NULL,
+    metadata JSONB,
+    ip_address VARCHAR(45),
+    user_id UUID,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE branch_audit_log (
+    id UUID NOT NULL,
+    branch_id UUID NOT NULL,
+    action audit_action_enum NOT NULL,
+    entity VARCHAR(100) NOT NULL,
+    entity_id VARCHAR(50) NOT NULL,
+    metadata JSONB,
+    ip_address VARCHAR(45),
+    user_id UUID,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE bank_audit_log_default PARTITION OF bank_audit_log DEFAULT;
+CREATE TABLE branch_audit_log_default PARTITION OF branch_audit_log DEFAULT;
+
+-- Create partitions from the oldest existing entry up to three months ahead, then copy the entries over
+SELECT audit_log_create_partitions('bank_audit_log',
+        LEAST(COALESCE((SELECT MIN(timestamp) FROM bank_audit_log_legacy)::DATE, CURRENT_DATE), CURRENT_DATE),
+        (CURRENT_DATE + INTERVAL '3 months')::DATE);
+SELECT audit_log_create_partitions('branch_audit_log',
+        LEAST(COALESCE((SELECT MIN(timestamp) FROM branch_audit_log_legacy)::DATE, CURRENT_DATE), CURRENT_DATE),
+        (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO bank_audit_log (id, bank_id, action, entity, entity_id, metadata, ip_address, user_id, timestamp)
+SELECT id, bank_id, action, entity, entity_id, metadata, ip_address, user_id, timestamp FROM bank_audit_log_legacy;
+INSERT INTO branch_audit_log (id, branch_id, action, entity, entity_id, metadata, ip_address, user_id, timestamp)
+SELECT id, branch_id, action, entity, entity_id, metadata, ip_address, user_id, timestamp FROM branch_audit_log_legacy;
+
+DROP TABLE bank_audit_log_legacy;
+DROP TABLE branch_audit_log_legacy;
+
+-- BRIN indexes for time-range scans (entries arrive in timestamp order) and composite indexes
+-- for time ranges within one bank or branch; both cascade to every partition
+CREATE INDEX idx_bank_audit_log_timestamp ON bank_audit_log USING brin (timestamp);
+CREATE INDEX idx_branch_audit_log_timestamp ON branch_audit_log USING brin (timestamp);
+CREATE INDEX idx_bank_audit_log_bank_id_timestamp ON bank_audit_log (bank_id, timestamp);
+CREATE INDEX idx_branch_audit_log_branch_id_timestamp ON branch_audit_log (branch_id, timestamp);
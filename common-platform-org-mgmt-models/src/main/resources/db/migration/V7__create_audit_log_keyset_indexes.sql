@@ -0,0 +1,7 @@
+-- Extend the scope/time indexes of the audit logs with id, so keyset pages ordered by (timestamp, id)
+-- are read as a single index range scan without a sort
+DROP INDEX IF EXISTS idx_bank_audit_log_bank_id_timestamp;
+DROP INDEX IF EXISTS idx_branch_audit_log_branch_id_timestamp;
+
+CREATE INDEX idx_bank_audit_log_bank_id_timestamp_id ON bank_audit_log (bank_id, timestamp, id);
+CREATE INDEX idx_branch_audit_log_branch_id_timestamp_id ON branch_audit_log (branch_id, timestamp, id);
@@ -0,0 +1,3 @@
+-- GIN indexes on the audit metadata, backing containment (@>) and key existence (?|) filters
+CREATE INDEX idx_bank_audit_log_metadata ON bank_audit_log USING gin (metadata);
+CREATE INDEX idx_branch_audit_log_metadata ON branch_audit_log USING gin (metadata);
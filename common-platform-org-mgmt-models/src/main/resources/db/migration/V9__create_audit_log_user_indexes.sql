@@ -0,0 +1,4 @@
+-- Index the audit logs by user in keyset order, so a user's activity is read from both logs as two
+-- index range scans that merge by (timestamp, id) without a sort
+CREATE INDEX idx_bank_audit_log_user_id_timestamp_id ON bank_audit_log (user_id, timestamp, id);
+CREATE INDEX idx_branch_audit_log_user_id_timestamp_id ON branch_audit_log (user_id, timestamp, id);
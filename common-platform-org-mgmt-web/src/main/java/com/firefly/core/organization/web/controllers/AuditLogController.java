@@ -0,0 +1,445 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.AuditArchiveService;
+import com.firefly.core.organization.core.services.AuditIngestService;
+import com.firefly.core.organization.core.services.AuditLogSearchService;
+import com.firefly.core.organization.core.services.AuditRollupService;
+import com.firefly.core.organization.interfaces.dtos.AuditActivityDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditDailyCountDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditIngestResultDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditLogPageDTO;
+import com.firefly.core.organization.interfaces.dtos.AuditLogQueryDTO;
+import com.firefly.core.organization.interfaces.dtos.BankAuditLogDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchAuditLogDTO;
+import com.firefly.core.organization.interfaces.enums.AuditAction;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/audit-logs")
+@Tag(name = "Audit Logs", description = "APIs for searching and exporting the bank and branch audit logs")
+public class AuditLogController {
+
+    @Autowired
+    private AuditLogSearchService auditLogSearchService;
+
+    @Autowired
+    private AuditRollupService auditRollupService;
+
+    @Autowired
+    private AuditIngestService auditIngestService;
+
+    @Autowired
+    private AuditArchiveService auditArchiveService;
+
+    @Operation(summary = "Search the audit log of a bank", description = "Returns one page of the matching audit log entries of a bank in chronological order, with a cursor for the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved audit log entries"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit, time window or metadata filter supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<AuditLogPageDTO<BankAuditLogDTO>> searchBankAuditLogs(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "ID of the audited entity")
+            @RequestParam(required = false) String entityId,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action,
+            @Parameter(description = "ID of the acting user")
+            @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "JSON object the metadata must contain")
+            @RequestParam(required = false) String metadataContains,
+            @Parameter(description = "Field the entry must have changed")
+            @RequestParam(required = false) String changedField,
+            @Parameter(description = "Value the changed field must have changed to (JSON literal or plain text)")
+            @RequestParam(required = false) String changedTo,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of entries to return (1-1000)")
+            @RequestParam(defaultValue = "100") int limit) {
+        return auditLogSearchService.searchBankAuditLogs(bankId,
+                query(entity, entityId, action, userId, from, to, metadataContains, changedField, changedTo), cursor, limit);
+    }
+
+    @Operation(summary = "Export the audit log of a bank", description = "Streams every matching audit log entry of a bank in chronological order as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed audit log entries",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BankAuditLogDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window or metadata filter supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BankAuditLogDTO> streamBankAuditLogs(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "ID of the audited entity")
+            @RequestParam(required = false) String entityId,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action,
+            @Parameter(description = "ID of the acting user")
+            @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "JSON object the metadata must contain")
+            @RequestParam(required = false) String metadataContains,
+            @Parameter(description = "Field the entry must have changed")
+            @RequestParam(required = false) String changedField,
+            @Parameter(description = "Value the changed field must have changed to (JSON literal or plain text)")
+            @RequestParam(required = false) String changedTo) {
+        return auditLogSearchService.streamBankAuditLogs(bankId, query(entity, entityId, action, userId, from, to, metadataContains, changedField, changedTo));
+    }
+
+    @Operation(summary = "Search the audit log of a branch", description = "Returns one page of the matching audit log entries of a branch in chronological order, with a cursor for the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved audit log entries"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit, time window or metadata filter supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/branches/{branchId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<AuditLogPageDTO<BranchAuditLogDTO>> searchBranchAuditLogs(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "ID of the audited entity")
+            @RequestParam(required = false) String entityId,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action,
+            @Parameter(description = "ID of the acting user")
+            @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "JSON object the metadata must contain")
+            @RequestParam(required = false) String metadataContains,
+            @Parameter(description = "Field the entry must have changed")
+            @RequestParam(required = false) String changedField,
+            @Parameter(description = "Value the changed field must have changed to (JSON literal or plain text)")
+            @RequestParam(required = false) String changedTo,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of entries to return (1-1000)")
+            @RequestParam(defaultValue = "100") int limit) {
+        return auditLogSearchService.searchBranchAuditLogs(branchId,
+                query(entity, entityId, action, userId, from, to, metadataContains, changedField, changedTo), cursor, limit);
+    }
+
+    @Operation(summary = "Export the audit log of a branch", description = "Streams every matching audit log entry of a branch in chronological order as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed audit log entries",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BranchAuditLogDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window or metadata filter supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/branches/{branchId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BranchAuditLogDTO> streamBranchAuditLogs(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "ID of the audited entity")
+            @RequestParam(required = false) String entityId,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action,
+            @Parameter(description = "ID of the acting user")
+            @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "JSON object the metadata must contain")
+            @RequestParam(required = false) String metadataContains,
+            @Parameter(description = "Field the entry must have changed")
+            @RequestParam(required = false) String changedField,
+            @Parameter(description = "Value the changed field must have changed to (JSON literal or plain text)")
+            @RequestParam(required = false) String changedTo) {
+        return auditLogSearchService.streamBranchAuditLogs(branchId, query(entity, entityId, action, userId, from, to, metadataContains, changedField, changedTo));
+    }
+
+    @Operation(summary = "Search the activity of a user", description = "Returns one page of the matching entries of the bank and branch audit logs recorded for a user, merged in chronological order, with a cursor for the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved audit log entries"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit, time window or metadata filter supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/users/{userId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<AuditLogPageDTO<AuditActivityDTO>> searchUserActivity(
+            @Parameter(description = "ID of the user", required = true)
+            @PathVariable UUID userId,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "ID of the audited entity")
+            @RequestParam(required = false) String entityId,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "JSON object the metadata must contain")
+            @RequestParam(required = false) String metadataContains,
+            @Parameter(description = "Field the entry must have changed")
+            @RequestParam(required = false) String changedField,
+            @Parameter(description = "Value the changed field must have changed to (JSON literal or plain text)")
+            @RequestParam(required = false) String changedTo,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of entries to return (1-1000)")
+            @RequestParam(defaultValue = "100") int limit) {
+        return auditLogSearchService.searchUserActivity(userId,
+                query(entity, entityId, action, null, from, to, metadataContains, changedField, changedTo), cursor, limit);
+    }
+
+    @Operation(summary = "Export the activity of a user", description = "Streams every matching entry of the bank and branch audit logs recorded for a user, merged in chronological order, as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed audit log entries",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AuditActivityDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window or metadata filter supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/users/{userId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AuditActivityDTO> streamUserActivity(
+            @Parameter(description = "ID of the user", required = true)
+            @PathVariable UUID userId,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "ID of the audited entity")
+            @RequestParam(required = false) String entityId,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "JSON object the metadata must contain")
+            @RequestParam(required = false) String metadataContains,
+            @Parameter(description = "Field the entry must have changed")
+            @RequestParam(required = false) String changedField,
+            @Parameter(description = "Value the changed field must have changed to (JSON literal or plain text)")
+            @RequestParam(required = false) String changedTo) {
+        return auditLogSearchService.streamUserActivity(userId, query(entity, entityId, action, null, from, to, metadataContains, changedField, changedTo));
+    }
+
+    @Operation(summary = "Search the activity under a bank", description = "Returns one page of the matching entries of the audit logs of a bank and its branches, merged in chronological order, with a cursor for the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved audit log entries"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit, time window or metadata filter supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/activity", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<AuditLogPageDTO<AuditActivityDTO>> searchBankActivity(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "ID of the audited entity")
+            @RequestParam(required = false) String entityId,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action,
+            @Parameter(description = "ID of the acting user")
+            @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "JSON object the metadata must contain")
+            @RequestParam(required = false) String metadataContains,
+            @Parameter(description = "Field the entry must have changed")
+            @RequestParam(required = false) String changedField,
+            @Parameter(description = "Value the changed field must have changed to (JSON literal or plain text)")
+            @RequestParam(required = false) String changedTo,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of entries to return (1-1000)")
+            @RequestParam(defaultValue = "100") int limit) {
+        return auditLogSearchService.searchBankActivity(bankId,
+                query(entity, entityId, action, userId, from, to, metadataContains, changedField, changedTo), cursor, limit);
+    }
+
+    @Operation(summary = "Export the activity under a bank", description = "Streams every matching entry of the audit logs of a bank and its branches, merged in chronological order, as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed audit log entries",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AuditActivityDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window or metadata filter supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/activity/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AuditActivityDTO> streamBankActivity(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "ID of the audited entity")
+            @RequestParam(required = false) String entityId,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action,
+            @Parameter(description = "ID of the acting user")
+            @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "JSON object the metadata must contain")
+            @RequestParam(required = false) String metadataContains,
+            @Parameter(description = "Field the entry must have changed")
+            @RequestParam(required = false) String changedField,
+            @Parameter(description = "Value the changed field must have changed to (JSON literal or plain text)")
+            @RequestParam(required = false) String changedTo) {
+        return auditLogSearchService.streamBankActivity(bankId, query(entity, entityId, action, userId, from, to, metadataContains, changedField, changedTo));
+    }
+
+    @Operation(summary = "Get the daily audit counts of a bank", description = "Returns the number of audit log entries of a bank per day, entity and action between two dates, both inclusive. Counts trail the audit log by the configured roll-up lag")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved daily audit counts",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AuditDailyCountDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/daily-counts", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<AuditDailyCountDTO> getBankDailyCounts(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "First day of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action) {
+        return auditRollupService.getBankDailyCounts(bankId, from, to, entity, action);
+    }
+
+    @Operation(summary = "Get the daily audit counts of a branch", description = "Returns the number of audit log entries of a branch per day, entity and action between two dates, both inclusive. Counts trail the audit log by the configured roll-up lag")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved daily audit counts",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AuditDailyCountDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/branches/{branchId}/daily-counts", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<AuditDailyCountDTO> getBranchDailyCounts(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "First day of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Name of the audited entity")
+            @RequestParam(required = false) String entity,
+            @Parameter(description = "Audited action")
+            @RequestParam(required = false) AuditAction action) {
+        return auditRollupService.getBranchDailyCounts(branchId, from, to, entity, action);
+    }
+
+    @Operation(summary = "Bulk-load audit events", description = "Loads a newline-delimited JSON stream of audit events into the bank and branch audit logs in batches, and streams back the outcome of each batch. Each event needs either a bankId or a branchId; invalid events are reported and skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully processed the audit events",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AuditIngestResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed event stream supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/ingest", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AuditIngestResultDTO> ingestAuditEvents(
+            @Parameter(description = "Audit events, one JSON object per line", required = true)
+            @RequestBody Flux<AuditActivityDTO> events) {
+        return auditIngestService.ingest(events);
+    }
+
+    @Operation(summary = "Stream the archived audit logs of a bank", description = "Streams the entries of a bank archived from expired audit log partitions within a time window, in chronological order, as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed archived audit log entries",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AuditActivityDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/archive/banks/{bankId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AuditActivityDTO> readBankArchive(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return auditArchiveService.readBankArchive(bankId, from, to);
+    }
+
+    @Operation(summary = "Stream the archived audit logs of a branch", description = "Streams the entries of a branch archived from expired audit log partitions within a time window, in chronological order, as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed archived audit log entries",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AuditActivityDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time window supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/archive/branches/{branchId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AuditActivityDTO> readBranchArchive(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "Start of the time window, inclusive (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the time window, exclusive (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return auditArchiveService.readBranchArchive(branchId, from, to);
+    }
+
+    private static AuditLogQueryDTO query(String entity, String entityId, AuditAction action, UUID userId,
+                                          LocalDateTime from, LocalDateTime to, String metadataContains,
+                                          String changedField, String changedTo) {
+        return AuditLogQueryDTO.builder()
+                .entity(entity)
+                .entityId(entityId)
+                .action(action)
+                .userId(userId)
+                .from(from)
+                .to(to)
+                .metadataContains(metadataContains)
+                .changedField(changedField)
+                .changedTo(changedTo)
+                .build();
+    }
+}
@@ -20,7 +20,9 @@ package com.firefly.core.organization.web.controllers;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.organization.core.services.BranchService;
+import com.firefly.core.organization.core.services.OrgHistoryService;
 import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.web.filters.FilterQueries;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,12 +31,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @RestController
@@ -45,6 +51,12 @@ public class BankBranchController {
     @Autowired
     private BranchService branchService;
 
+    @Autowired
+    private OrgHistoryService orgHistoryService;
+
+    @Autowired
+    private FilterQueries filterQueries;
+
     @Operation(summary = "Get all branches for a bank with filtering", description = "Returns a paginated list of branches for a specific bank based on filter criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved branches",
@@ -62,6 +74,25 @@ public class BankBranchController {
         return branchService.filterBranchesForBank(bankId, filterRequest);
     }
 
+    @Operation(summary = "Get all branches for a bank with filtering (cacheable)", description = "Returns a paginated list of branches for a specific bank based on filter criteria, with the filter criteria as query parameters. The page carries an ETag, and 304 is returned when it matches If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branches",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria supplied"),
+            @ApiResponse(responseCode = "404", description = "Bank not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PaginationResponse<BranchDTO>> filterBranchesForBankByQuery(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Filter criteria named after the fields of the filter request, nested with dots (e.g. filters.isActive=true)")
+            @RequestParam MultiValueMap<String, String> params,
+            ServerWebExchange exchange) {
+        return filterQueries.filter(params, BranchDTO.class, exchange, filterRequest -> filterBranchesForBank(bankId, filterRequest));
+    }
+
     @Operation(summary = "Create a new branch for a bank", description = "Creates a new branch for a specific bank with the provided details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Branch successfully created",
@@ -80,7 +111,7 @@ public class BankBranchController {
         return branchService.createBranchForBank(bankId, branchDTO);
     }
 
-    @Operation(summary = "Get branch by ID for a bank", description = "Returns a branch of a specific bank based on its ID")
+    @Operation(summary = "Get branch by ID for a bank", description = "Returns a branch of a specific bank based on its ID, or as it was at an instant when asOf is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved branch",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = BranchDTO.class))),
@@ -92,7 +123,12 @@ public class BankBranchController {
             @Parameter(description = "ID of the bank", required = true)
             @PathVariable UUID bankId,
             @Parameter(description = "ID of the branch to retrieve", required = true)
-            @PathVariable UUID branchId) {
+            @PathVariable UUID branchId,
+            @Parameter(description = "Instant to read the branch as of (ISO-8601), defaults to its current state")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        if (asOf != null) {
+            return orgHistoryService.getBranchForBankAsOf(bankId, branchId, asOf);
+        }
         return branchService.getBranchByIdForBank(bankId, branchId);
     }
 
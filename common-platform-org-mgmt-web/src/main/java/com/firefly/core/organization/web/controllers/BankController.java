@@ -20,7 +20,9 @@ package com.firefly.core.organization.web.controllers;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.organization.core.services.BankService;
+import com.firefly.core.organization.core.services.OrgHistoryService;
 import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.web.filters.FilterQueries;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,12 +31,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @RestController
@@ -45,6 +51,12 @@ public class BankController {
     @Autowired
     private BankService bankService;
 
+    @Autowired
+    private OrgHistoryService orgHistoryService;
+
+    @Autowired
+    private FilterQueries filterQueries;
+
     @Operation(summary = "Get all banks with filtering", description = "Returns a paginated list of banks based on filter criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved banks",
@@ -59,6 +71,22 @@ public class BankController {
         return bankService.filterBanks(filterRequest);
     }
 
+    @Operation(summary = "Get all banks with filtering (cacheable)", description = "Returns a paginated list of banks based on filter criteria, with the filter criteria as query parameters. The page carries an ETag, and 304 is returned when it matches If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved banks",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PaginationResponse<BankDTO>> filterBanksByQuery(
+            @Parameter(description = "Filter criteria named after the fields of the filter request, nested with dots (e.g. filters.isActive=true)")
+            @RequestParam MultiValueMap<String, String> params,
+            ServerWebExchange exchange) {
+        return filterQueries.filter(params, BankDTO.class, exchange, this::filterBanks);
+    }
+
     @Operation(summary = "Create a new bank", description = "Creates a new bank with the provided details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Bank successfully created",
@@ -74,7 +102,7 @@ public class BankController {
         return bankService.createBank(bankDTO);
     }
 
-    @Operation(summary = "Get bank by ID", description = "Returns a bank based on its ID")
+    @Operation(summary = "Get bank by ID", description = "Returns a bank based on its ID, or as it was at an instant when asOf is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved bank",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = BankDTO.class))),
@@ -84,7 +112,12 @@ public class BankController {
     @GetMapping(value = "/{bankId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<BankDTO> getBankById(
             @Parameter(description = "ID of the bank to retrieve", required = true)
-            @PathVariable UUID bankId) {
+            @PathVariable UUID bankId,
+            @Parameter(description = "Instant to read the bank as of (ISO-8601), defaults to its current state")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        if (asOf != null) {
+            return orgHistoryService.getBankAsOf(bankId, asOf);
+        }
         return bankService.getBankById(bankId);
     }
 
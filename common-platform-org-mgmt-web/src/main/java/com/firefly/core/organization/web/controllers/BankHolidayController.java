@@ -21,6 +21,7 @@ import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.organization.core.services.BankHolidayService;
 import com.firefly.core.organization.interfaces.dtos.BankHolidayDTO;
+import com.firefly.core.organization.web.filters.FilterQueries;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,7 +32,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
@@ -45,6 +48,9 @@ public class BankHolidayController {
     @Autowired
     private BankHolidayService bankHolidayService;
 
+    @Autowired
+    private FilterQueries filterQueries;
+
     @Operation(summary = "Get all bank holidays with filtering", description = "Returns a paginated list of bank holidays based on filter criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved bank holidays",
@@ -59,6 +65,22 @@ public class BankHolidayController {
         return bankHolidayService.filterBankHolidays(filterRequest);
     }
 
+    @Operation(summary = "Get all bank holidays with filtering (cacheable)", description = "Returns a paginated list of bank holidays based on filter criteria, with the filter criteria as query parameters. The page carries an ETag, and 304 is returned when it matches If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved bank holidays",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PaginationResponse<BankHolidayDTO>> filterBankHolidaysByQuery(
+            @Parameter(description = "Filter criteria named after the fields of the filter request, nested with dots (e.g. filters.isActive=true)")
+            @RequestParam MultiValueMap<String, String> params,
+            ServerWebExchange exchange) {
+        return filterQueries.filter(params, BankHolidayDTO.class, exchange, this::filterBankHolidays);
+    }
+
     @Operation(summary = "Create a new bank holiday", description = "Creates a new bank holiday with the provided details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Bank holiday successfully created",
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.BankHolidayOccurrenceService;
+import com.firefly.core.organization.interfaces.dtos.BankHolidayOccurrenceDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/holiday-occurrences")
+@Tag(name = "Bank Holiday Occurrences", description = "APIs for querying dated occurrences of bank holidays")
+public class BankHolidayOccurrenceController {
+
+    @Autowired
+    private BankHolidayOccurrenceService occurrenceService;
+
+    @Operation(summary = "List holiday occurrences of a bank", description = "Returns every holiday occurrence of a bank between two dates, both inclusive, ordered by date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved holiday occurrences",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BankHolidayOccurrenceDTO.class)))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BankHolidayOccurrenceDTO> getBankOccurrences(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "First date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return occurrenceService.getBankOccurrences(bankId, from, to);
+    }
+
+    @Operation(summary = "List holiday occurrences of a branch", description = "Returns the branch-specific holiday occurrences between two dates, both inclusive, ordered by date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved holiday occurrences",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BankHolidayOccurrenceDTO.class)))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/branches/{branchId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BankHolidayOccurrenceDTO> getBranchOccurrences(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "First date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return occurrenceService.getBranchOccurrences(branchId, from, to);
+    }
+}
@@ -20,7 +20,9 @@ package com.firefly.core.organization.web.controllers;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.organization.core.services.BankRegionService;
+import com.firefly.core.organization.core.services.OrgHistoryService;
 import com.firefly.core.organization.interfaces.dtos.BankRegionDTO;
+import com.firefly.core.organization.web.filters.FilterQueries;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,12 +31,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @RestController
@@ -45,6 +51,12 @@ public class BankRegionController {
     @Autowired
     private BankRegionService bankRegionService;
 
+    @Autowired
+    private OrgHistoryService orgHistoryService;
+
+    @Autowired
+    private FilterQueries filterQueries;
+
     @Operation(summary = "Get all regions for a bank division with filtering", description = "Returns a paginated list of regions for a specific bank division based on filter criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved bank regions",
@@ -64,6 +76,27 @@ public class BankRegionController {
         return bankRegionService.filterBankRegionsForDivision(bankId, divisionId, filterRequest);
     }
 
+    @Operation(summary = "Get all regions for a bank division with filtering (cacheable)", description = "Returns a paginated list of regions for a specific bank division based on filter criteria, with the filter criteria as query parameters. The page carries an ETag, and 304 is returned when it matches If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved bank regions",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria supplied"),
+            @ApiResponse(responseCode = "404", description = "Bank or division not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PaginationResponse<BankRegionDTO>> filterBankRegionsByQuery(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "ID of the division", required = true)
+            @PathVariable UUID divisionId,
+            @Parameter(description = "Filter criteria named after the fields of the filter request, nested with dots (e.g. filters.isActive=true)")
+            @RequestParam MultiValueMap<String, String> params,
+            ServerWebExchange exchange) {
+        return filterQueries.filter(params, BankRegionDTO.class, exchange, filterRequest -> filterBankRegions(bankId, divisionId, filterRequest));
+    }
+
     @Operation(summary = "Create a new region for a bank division", description = "Creates a new region for a specific bank division with the provided details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Bank region successfully created",
@@ -84,7 +117,7 @@ public class BankRegionController {
         return bankRegionService.createBankRegionForDivision(bankId, divisionId, bankRegionDTO);
     }
 
-    @Operation(summary = "Get bank region by ID", description = "Returns a region of a specific bank division based on its ID")
+    @Operation(summary = "Get bank region by ID", description = "Returns a region of a specific bank division based on its ID, or as it was at an instant when asOf is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved bank region",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = BankRegionDTO.class))),
@@ -98,7 +131,12 @@ public class BankRegionController {
             @Parameter(description = "ID of the division", required = true)
             @PathVariable UUID divisionId,
             @Parameter(description = "ID of the region to retrieve", required = true)
-            @PathVariable UUID regionId) {
+            @PathVariable UUID regionId,
+            @Parameter(description = "Instant to read the region as of (ISO-8601), defaults to its current state")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        if (asOf != null) {
+            return orgHistoryService.getRegionAsOf(bankId, divisionId, regionId, asOf);
+        }
         return bankRegionService.getBankRegionByIdForDivision(bankId, divisionId, regionId);
     }
 
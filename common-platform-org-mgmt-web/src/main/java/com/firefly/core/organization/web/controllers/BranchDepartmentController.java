@@ -21,6 +21,7 @@ import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.organization.core.services.BranchDepartmentService;
 import com.firefly.core.organization.interfaces.dtos.BranchDepartmentDTO;
+import com.firefly.core.organization.web.filters.FilterQueries;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,7 +32,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
@@ -45,6 +48,9 @@ public class BranchDepartmentController {
     @Autowired
     private BranchDepartmentService branchDepartmentService;
 
+    @Autowired
+    private FilterQueries filterQueries;
+
     @Operation(summary = "Get all departments for a branch with filtering", description = "Returns a paginated list of departments for a specific branch based on filter criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved branch departments",
@@ -62,6 +68,25 @@ public class BranchDepartmentController {
         return branchDepartmentService.filterBranchDepartmentsForBranch(branchId, filterRequest);
     }
 
+    @Operation(summary = "Get all departments for a branch with filtering (cacheable)", description = "Returns a paginated list of departments for a specific branch based on filter criteria, with the filter criteria as query parameters. The page carries an ETag, and 304 is returned when it matches If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branch departments",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria supplied"),
+            @ApiResponse(responseCode = "404", description = "Branch not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PaginationResponse<BranchDepartmentDTO>> filterBranchDepartmentsByQuery(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "Filter criteria named after the fields of the filter request, nested with dots (e.g. filters.isActive=true)")
+            @RequestParam MultiValueMap<String, String> params,
+            ServerWebExchange exchange) {
+        return filterQueries.filter(params, BranchDepartmentDTO.class, exchange, filterRequest -> filterBranchDepartments(branchId, filterRequest));
+    }
+
     @Operation(summary = "Create a new department for a branch", description = "Creates a new department for a specific branch with the provided details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Branch department successfully created",
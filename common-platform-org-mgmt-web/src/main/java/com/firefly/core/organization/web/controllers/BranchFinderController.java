@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.BranchFinderService;
+import com.firefly.core.organization.interfaces.dtos.NearbyBranchDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/branch-finder")
+@Tag(name = "Branch Finder", description = "APIs for finding branches by location")
+public class BranchFinderController {
+
+    @Autowired
+    private BranchFinderService branchFinderService;
+
+    @Operation(summary = "Find the nearest branches", description = "Returns the branches closest to a point, nearest first, with their great-circle distance in kilometres")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved nearest branches",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = NearbyBranchDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinates or limit supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/nearest", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<NearbyBranchDTO> findNearest(
+            @Parameter(description = "Latitude of the point", required = true)
+            @RequestParam double latitude,
+            @Parameter(description = "Longitude of the point", required = true)
+            @RequestParam double longitude,
+            @Parameter(description = "Maximum number of branches to return (1-100)")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "ID of the bank to restrict the search to")
+            @RequestParam(required = false) UUID bankId,
+            @Parameter(description = "Restrict the search to active or inactive branches")
+            @RequestParam(required = false) Boolean isActive) {
+        return branchFinderService.findNearest(latitude, longitude, limit, bankId, isActive);
+    }
+
+    @Operation(summary = "Find branches within a radius", description = "Returns the branches within a distance of a point, nearest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branches",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = NearbyBranchDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinates or radius supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/within-radius", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<NearbyBranchDTO> findWithinRadius(
+            @Parameter(description = "Latitude of the point", required = true)
+            @RequestParam double latitude,
+            @Parameter(description = "Longitude of the point", required = true)
+            @RequestParam double longitude,
+            @Parameter(description = "Search radius in kilometres", required = true)
+            @RequestParam double radiusKm,
+            @Parameter(description = "ID of the bank to restrict the search to")
+            @RequestParam(required = false) UUID bankId,
+            @Parameter(description = "Restrict the search to active or inactive branches")
+            @RequestParam(required = false) Boolean isActive) {
+        return branchFinderService.findWithinRadius(latitude, longitude, radiusKm, bankId, isActive);
+    }
+
+    @Operation(summary = "Find branches within a bounding box", description = "Returns the branches inside a box, closest to its centre first. A box whose minimum longitude is greater than its maximum longitude crosses the antimeridian")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branches",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = NearbyBranchDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid bounding box supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/within-box", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<NearbyBranchDTO> findWithinBox(
+            @Parameter(description = "Southern edge of the box", required = true)
+            @RequestParam double minLatitude,
+            @Parameter(description = "Western edge of the box", required = true)
+            @RequestParam double minLongitude,
+            @Parameter(description = "Northern edge of the box", required = true)
+            @RequestParam double maxLatitude,
+            @Parameter(description = "Eastern edge of the box", required = true)
+            @RequestParam double maxLongitude,
+            @Parameter(description = "ID of the bank to restrict the search to")
+            @RequestParam(required = false) UUID bankId,
+            @Parameter(description = "Restrict the search to active or inactive branches")
+            @RequestParam(required = false) Boolean isActive) {
+        return branchFinderService.findWithinBox(minLatitude, minLongitude, maxLatitude, maxLongitude, bankId, isActive);
+    }
+}
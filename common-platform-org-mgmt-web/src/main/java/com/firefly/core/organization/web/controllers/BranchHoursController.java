@@ -20,7 +20,9 @@ package com.firefly.core.organization.web.controllers;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.organization.core.services.BranchHoursService;
+import com.firefly.core.organization.core.services.OrgHistoryService;
 import com.firefly.core.organization.interfaces.dtos.BranchHoursDTO;
+import com.firefly.core.organization.web.filters.FilterQueries;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,12 +31,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @RestController
@@ -45,6 +51,12 @@ public class BranchHoursController {
     @Autowired
     private BranchHoursService branchHoursService;
 
+    @Autowired
+    private OrgHistoryService orgHistoryService;
+
+    @Autowired
+    private FilterQueries filterQueries;
+
     @Operation(summary = "Get all hours for a branch with filtering", description = "Returns a paginated list of operating hours for a specific branch based on filter criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved branch hours",
@@ -62,6 +74,25 @@ public class BranchHoursController {
         return branchHoursService.filterBranchHoursForBranch(branchId, filterRequest);
     }
 
+    @Operation(summary = "Get all hours for a branch with filtering (cacheable)", description = "Returns a paginated list of operating hours for a specific branch based on filter criteria, with the filter criteria as query parameters. The page carries an ETag, and 304 is returned when it matches If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branch hours",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria supplied"),
+            @ApiResponse(responseCode = "404", description = "Branch not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PaginationResponse<BranchHoursDTO>> filterBranchHoursByQuery(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "Filter criteria named after the fields of the filter request, nested with dots (e.g. filters.isActive=true)")
+            @RequestParam MultiValueMap<String, String> params,
+            ServerWebExchange exchange) {
+        return filterQueries.filter(params, BranchHoursDTO.class, exchange, filterRequest -> filterBranchHours(branchId, filterRequest));
+    }
+
     @Operation(summary = "Create new operating hours for a branch", description = "Creates new operating hours for a specific branch with the provided details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Branch hours successfully created",
@@ -80,7 +111,7 @@ public class BranchHoursController {
         return branchHoursService.createBranchHoursForBranch(branchId, branchHoursDTO);
     }
 
-    @Operation(summary = "Get branch hours by ID", description = "Returns operating hours of a specific branch based on its ID")
+    @Operation(summary = "Get branch hours by ID", description = "Returns operating hours of a specific branch based on its ID, or as they were at an instant when asOf is given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved branch hours",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = BranchHoursDTO.class))),
@@ -92,7 +123,12 @@ public class BranchHoursController {
             @Parameter(description = "ID of the branch", required = true)
             @PathVariable UUID branchId,
             @Parameter(description = "ID of the hours to retrieve", required = true)
-            @PathVariable UUID hoursId) {
+            @PathVariable UUID hoursId,
+            @Parameter(description = "Instant to read the hours as of (ISO-8601), defaults to its current state")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        if (asOf != null) {
+            return orgHistoryService.getBranchHoursAsOf(branchId, hoursId, asOf);
+        }
         return branchHoursService.getBranchHoursByIdForBranch(branchId, hoursId);
     }
 
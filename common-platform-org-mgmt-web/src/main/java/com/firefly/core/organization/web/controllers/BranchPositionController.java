@@ -21,6 +21,7 @@ import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.organization.core.services.BranchPositionService;
 import com.firefly.core.organization.interfaces.dtos.BranchPositionDTO;
+import com.firefly.core.organization.web.filters.FilterQueries;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,7 +32,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
@@ -45,6 +48,9 @@ public class BranchPositionController {
     @Autowired
     private BranchPositionService branchPositionService;
 
+    @Autowired
+    private FilterQueries filterQueries;
+
     @Operation(summary = "Get all positions for a branch department with filtering", description = "Returns a paginated list of positions for a specific branch department based on filter criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved branch positions",
@@ -64,6 +70,27 @@ public class BranchPositionController {
         return branchPositionService.filterBranchPositionsForDepartment(branchId, departmentId, filterRequest);
     }
 
+    @Operation(summary = "Get all positions for a branch department with filtering (cacheable)", description = "Returns a paginated list of positions for a specific branch department based on filter criteria, with the filter criteria as query parameters. The page carries an ETag, and 304 is returned when it matches If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branch positions",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria supplied"),
+            @ApiResponse(responseCode = "404", description = "Branch or department not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PaginationResponse<BranchPositionDTO>> filterBranchPositionsByQuery(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "ID of the department", required = true)
+            @PathVariable UUID departmentId,
+            @Parameter(description = "Filter criteria named after the fields of the filter request, nested with dots (e.g. filters.isActive=true)")
+            @RequestParam MultiValueMap<String, String> params,
+            ServerWebExchange exchange) {
+        return filterQueries.filter(params, BranchPositionDTO.class, exchange, filterRequest -> filterBranchPositions(branchId, departmentId, filterRequest));
+    }
+
     @Operation(summary = "Create a new position for a branch department", description = "Creates a new position for a specific branch department with the provided details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Branch position successfully created",
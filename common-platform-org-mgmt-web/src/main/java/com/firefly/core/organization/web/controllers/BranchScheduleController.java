@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.BranchScheduleService;
+import com.firefly.core.organization.interfaces.enums.DayOfWeek;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/branch-schedule")
+@Tag(name = "Branch Schedule", description = "APIs for finding branches open at a given time")
+public class BranchScheduleController {
+
+    @Autowired
+    private BranchScheduleService branchScheduleService;
+
+    @Operation(summary = "Find branches open during a time window", description = "Returns the IDs of active branches open for the whole window on the given day, in each branch's local time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved open branches"),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/open", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<UUID> findBranchesOpen(
+            @Parameter(description = "Day of the week", required = true)
+            @RequestParam DayOfWeek dayOfWeek,
+            @Parameter(description = "Start of the window (HH:mm)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @Parameter(description = "End of the window (HH:mm); at or before the start, the window ends on the next day", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to,
+            @Parameter(description = "ID of the bank to restrict the search to")
+            @RequestParam(required = false) UUID bankId,
+            @Parameter(description = "ID of the region to restrict the search to")
+            @RequestParam(required = false) UUID regionId) {
+        return branchScheduleService.findBranchesOpen(dayOfWeek, from, to, bankId, regionId);
+    }
+
+    @Operation(summary = "Find branches open at an instant", description = "Returns the IDs of active branches open at the given instant (now by default), applying each branch's time zone")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved open branches"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/open-now", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<UUID> findBranchesOpenNow(
+            @Parameter(description = "Instant to check (ISO-8601), defaults to now")
+            @RequestParam(required = false) Instant at,
+            @Parameter(description = "ID of the bank to restrict the search to")
+            @RequestParam(required = false) UUID bankId,
+            @Parameter(description = "ID of the region to restrict the search to")
+            @RequestParam(required = false) UUID regionId) {
+        return branchScheduleService.findBranchesOpenAt(at != null ? at : Instant.now(), bankId, regionId);
+    }
+}
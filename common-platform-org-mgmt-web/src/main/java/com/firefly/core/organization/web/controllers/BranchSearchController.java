@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.BranchSearchService;
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/banks/{bankId}/branch-search")
+@Tag(name = "Branch Search", description = "APIs for typeahead search over the branches of a bank")
+public class BranchSearchController {
+
+    @Autowired
+    private BranchSearchService branchSearchService;
+
+    @Operation(summary = "Search branches", description = "Returns the branches of a bank whose code, postal code, name or city match the text typed so far, best match first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved matching branches",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BranchDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BranchDTO> searchBranches(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Text typed so far", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of branches to return (1-50)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return branchSearchService.searchBranches(bankId, q, limit);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.BranchStatusService;
+import com.firefly.core.organization.interfaces.dtos.BranchStatusDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/branch-status")
+@Tag(name = "Branch Status", description = "APIs for the live open/closed status of branches")
+public class BranchStatusController {
+
+    @Autowired
+    private BranchStatusService branchStatusService;
+
+    @Operation(summary = "Get the status board of a bank", description = "Returns whether each branch of the bank is open right now and when that changes next")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branch statuses",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BranchStatusDTO.class)))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BranchStatusDTO> getBankStatuses(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId) {
+        return branchStatusService.getBankStatuses(bankId);
+    }
+
+    @Operation(summary = "Stream the status board of a bank", description = "Server-sent events with the current status of every branch of the bank, followed by each status change as it happens")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully opened the status stream",
+                    content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = BranchStatusDTO.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<BranchStatusDTO> streamBankStatuses(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId) {
+        return branchStatusService.streamBankStatuses(bankId);
+    }
+}
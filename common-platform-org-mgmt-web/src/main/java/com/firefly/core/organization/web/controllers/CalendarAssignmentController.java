@@ -21,6 +21,7 @@ import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.organization.core.services.CalendarAssignmentService;
 import com.firefly.core.organization.interfaces.dtos.CalendarAssignmentDTO;
+import com.firefly.core.organization.web.filters.FilterQueries;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,7 +32,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
@@ -45,6 +48,9 @@ public class CalendarAssignmentController {
     @Autowired
     private CalendarAssignmentService calendarAssignmentService;
 
+    @Autowired
+    private FilterQueries filterQueries;
+
     @Operation(summary = "Get all assignments for a calendar with filtering", description = "Returns a paginated list of assignments for a specific working calendar based on filter criteria")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved calendar assignments",
@@ -64,6 +70,27 @@ public class CalendarAssignmentController {
         return calendarAssignmentService.filterCalendarAssignmentsForCalendar(bankId, calendarId, filterRequest);
     }
 
+    @Operation(summary = "Get all assignments for a calendar with filtering (cacheable)", description = "Returns a paginated list of assignments for a specific working calendar based on filter criteria, with the filter criteria as query parameters. The page carries an ETag, and 304 is returned when it matches If-None-Match")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved calendar assignments",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter criteria supplied"),
+            @ApiResponse(responseCode = "404", description = "Bank or calendar not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PaginationResponse<CalendarAssignmentDTO>> filterCalendarAssignmentsByQuery(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "ID of the calendar", required = true)
+            @PathVariable UUID calendarId,
+            @Parameter(description = "Filter criteria named after the fields of the filter request, nested with dots (e.g. filters.isActive=true)")
+            @RequestParam MultiValueMap<String, String> params,
+            ServerWebExchange exchange) {
+        return filterQueries.filter(params, CalendarAssignmentDTO.class, exchange, filterRequest -> filterCalendarAssignments(bankId, calendarId, filterRequest));
+    }
+
     @Operation(summary = "Create a new assignment for a calendar", description = "Creates a new assignment for a specific working calendar with the provided details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Calendar assignment successfully created",
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.CalendarResolutionService;
+import com.firefly.core.organization.interfaces.dtos.BusinessDayMatrixRowDTO;
+import com.firefly.core.organization.interfaces.dtos.CalendarResolutionDTO;
+import com.firefly.core.organization.interfaces.enums.CalendarTarget;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/calendar-resolution")
+@Tag(name = "Calendar Resolution", description = "APIs for resolving the working calendar and business days that apply in a month")
+public class CalendarResolutionController {
+
+    @Autowired
+    private CalendarResolutionService calendarResolutionService;
+
+    @Operation(summary = "Resolve the calendar of a position", description = "Returns the working calendar and business days that apply to a position in a month, through the assignments of the position, its department and its branch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved calendar",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CalendarResolutionDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Position not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/positions/{positionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CalendarResolutionDTO> resolvePosition(
+            @Parameter(description = "ID of the position", required = true)
+            @PathVariable UUID positionId,
+            @Parameter(description = "Month to resolve (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return calendarResolutionService.resolve(CalendarTarget.POSITION, positionId, month);
+    }
+
+    @Operation(summary = "Resolve the calendar of a department", description = "Returns the working calendar and business days that apply to a department in a month, through the assignments of the department and its branch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved calendar",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CalendarResolutionDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Department not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/departments/{departmentId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CalendarResolutionDTO> resolveDepartment(
+            @Parameter(description = "ID of the department", required = true)
+            @PathVariable UUID departmentId,
+            @Parameter(description = "Month to resolve (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return calendarResolutionService.resolve(CalendarTarget.DEPARTMENT, departmentId, month);
+    }
+
+    @Operation(summary = "Resolve the calendar of a branch", description = "Returns the working calendar and business days that apply to a branch in a month, through the assignments of the branch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved calendar",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CalendarResolutionDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Branch not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/branches/{branchId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CalendarResolutionDTO> resolveBranch(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "Month to resolve (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return calendarResolutionService.resolve(CalendarTarget.BRANCH, branchId, month);
+    }
+
+    @Operation(summary = "Export the business-day matrix of a bank", description = "Streams one row per position of the bank with its resolved calendar and each day of the month marked as working (W), holiday (H) or closed (C), also given as day bitmaps")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed business-day matrix",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BusinessDayMatrixRowDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Bank not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/matrix", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BusinessDayMatrixRowDTO> getBankMatrix(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Month to export (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return calendarResolutionService.getBankMatrix(bankId, month);
+    }
+}
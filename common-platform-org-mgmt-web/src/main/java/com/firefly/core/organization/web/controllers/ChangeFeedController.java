@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.ChangeFeedService;
+import com.firefly.core.organization.interfaces.dtos.ChangeEventDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@Tag(name = "Change Feed", description = "APIs for following the changes made to banks, branches and their related entities")
+public class ChangeFeedController {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Operation(summary = "Get a page of the change feed", description = "Returns the changes published after the given position, in feed order. Pass the position of the last change received to get the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved changes",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ChangeEventDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid position or limit supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<ChangeEventDTO> getChanges(
+            @Parameter(description = "Position to start after, 0 for the start of the retained feed")
+            @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "Maximum number of changes to return (1-1000)")
+            @RequestParam(defaultValue = "100") int limit) {
+        return changeFeedService.getChanges(after, limit);
+    }
+
+    @Operation(summary = "Stream the change feed", description = "Streams the changes published after the given position as server-sent events, then every change as it is published. Each event's ID is its position, so reconnecting clients resume through the Last-Event-ID header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed changes",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = ChangeEventDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid position supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChangeEventDTO>> streamChanges(
+            @Parameter(description = "Position to start after, 0 for the start of the retained feed")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Position of the last event received, sent by reconnecting clients; takes precedence over after")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        long from = lastEventId != null ? lastEventId : after != null ? after : 0;
+        return changeFeedService.streamChanges(from)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(String.valueOf(change.getPosition()))
+                        .event(change.getEntity())
+                        .build());
+    }
+}
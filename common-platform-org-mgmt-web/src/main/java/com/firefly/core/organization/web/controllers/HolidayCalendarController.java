@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.HolidayCalendarService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/holiday-calendar")
+@Tag(name = "Holiday Calendar", description = "APIs for resolving holidays of banks and branches")
+public class HolidayCalendarController {
+
+    @Autowired
+    private HolidayCalendarService holidayCalendarService;
+
+    @Operation(summary = "Check if a date is a branch holiday", description = "Returns true if the date is a holiday for the branch, including bank-wide and country holidays")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved the date"),
+            @ApiResponse(responseCode = "404", description = "Branch not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/branches/{branchId}/check", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Boolean> isBranchHoliday(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "Date to check (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return holidayCalendarService.isBranchHoliday(branchId, date);
+    }
+
+    @Operation(summary = "List branch holidays in a range", description = "Returns the holiday dates of a branch between two dates, both inclusive")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved holiday dates"),
+            @ApiResponse(responseCode = "404", description = "Branch not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/branches/{branchId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<LocalDate> getBranchHolidays(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "First date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return holidayCalendarService.getBranchHolidays(branchId, from, to);
+    }
+
+    @Operation(summary = "List bank holidays in a range", description = "Returns the bank-wide holiday dates between two dates, optionally including the holidays of one country")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved holiday dates"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<LocalDate> getBankHolidays(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "ID of the country whose holidays should be included")
+            @RequestParam(required = false) UUID countryId,
+            @Parameter(description = "First date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date of the range (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return holidayCalendarService.getBankHolidays(bankId, countryId, from, to);
+    }
+}
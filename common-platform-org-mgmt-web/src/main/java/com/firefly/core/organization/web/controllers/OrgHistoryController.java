@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.OrgHistoryService;
+import com.firefly.core.organization.interfaces.dtos.BankDivisionDTO;
+import com.firefly.core.organization.interfaces.dtos.BankRegionDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchDTO;
+import com.firefly.core.organization.interfaces.dtos.BranchHoursDTO;
+import com.firefly.core.organization.interfaces.dtos.OrgTreeDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/history")
+@Tag(name = "Organization History", description = "APIs for reading the organization structure as it was at a past instant")
+public class OrgHistoryController {
+
+    @Autowired
+    private OrgHistoryService orgHistoryService;
+
+    @Operation(summary = "Get the organization tree of a bank as of an instant", description = "Returns the bank with its divisions, regions, branches and branch hours as they were at the given instant")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved organization tree",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrgTreeDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Bank did not exist at the instant"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/tree", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<OrgTreeDTO> getTreeAsOf(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Instant to read the tree as of (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return orgHistoryService.getTreeAsOf(bankId, asOf);
+    }
+
+    @Operation(summary = "List the divisions of a bank as of an instant", description = "Returns the divisions of a bank as they were at the given instant, ordered by name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved divisions",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BankDivisionDTO.class)))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/divisions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BankDivisionDTO> getDivisionsAsOf(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Instant to read the divisions as of (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return orgHistoryService.getDivisionsAsOf(bankId, asOf);
+    }
+
+    @Operation(summary = "List the regions of a division as of an instant", description = "Returns the regions of a bank division as they were at the given instant, ordered by name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved regions",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BankRegionDTO.class)))),
+            @ApiResponse(responseCode = "404", description = "Division did not belong to the bank at the instant"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/divisions/{divisionId}/regions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BankRegionDTO> getRegionsAsOf(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "ID of the division", required = true)
+            @PathVariable UUID divisionId,
+            @Parameter(description = "Instant to read the regions as of (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return orgHistoryService.getRegionsAsOf(bankId, divisionId, asOf);
+    }
+
+    @Operation(summary = "List the branches of a bank as of an instant", description = "Returns the branches of a bank as they were at the given instant, optionally only those assigned to a region then, ordered by name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branches",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BranchDTO.class)))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}/branches", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BranchDTO> getBranchesAsOf(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "ID of the region the branches were assigned to")
+            @RequestParam(required = false) UUID regionId,
+            @Parameter(description = "Instant to read the branches as of (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return orgHistoryService.getBranchesAsOf(bankId, regionId, asOf);
+    }
+
+    @Operation(summary = "List the hours of a branch as of an instant", description = "Returns the operating hours of a branch as they were at the given instant")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved branch hours",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BranchHoursDTO.class)))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/branches/{branchId}/hours", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BranchHoursDTO> getBranchHoursAsOf(
+            @Parameter(description = "ID of the branch", required = true)
+            @PathVariable UUID branchId,
+            @Parameter(description = "Instant to read the hours as of (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return orgHistoryService.getBranchHoursListAsOf(branchId, asOf);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.controllers;
+
+import com.firefly.core.organization.core.services.OrgSyncService;
+import com.firefly.core.organization.interfaces.dtos.OrgSyncDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@Tag(name = "Organization Sync", description = "APIs for synchronising copies of a bank's organization structure by delta")
+public class OrgSyncController {
+
+    @Autowired
+    private OrgSyncService orgSyncService;
+
+    @Operation(summary = "Sync the organization structure of a bank", description = "Returns the entities of a bank created, updated or deleted since the sync token, or every entity when no token is given, together with the token for the next sync")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved changes",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrgSyncDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid sync token supplied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/banks/{bankId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<OrgSyncDTO> syncBank(
+            @Parameter(description = "ID of the bank", required = true)
+            @PathVariable UUID bankId,
+            @Parameter(description = "Token returned by the previous sync, omit for a full sync")
+            @RequestParam(required = false) String token) {
+        return orgSyncService.sync(bankId, token);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.filters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Serves the GET form of the filter endpoints, which HTTP caches can store and revalidate.
+ * <p>
+ * The filter request is read from query parameters named after the fields of the JSON body, nested
+ * with dots (e.g. {@code filters.bankId=...&filters.isActive=true}); a repeated parameter is a list.
+ * Each page carries an ETag computed from the page as serialized, so it changes with the row count,
+ * with any update of a listed row and with the order of the rows. A request whose {@code If-None-Match}
+ * matches is answered with 304 and no body.
+ */
+@Component
+public class FilterQueries {
+
+    /**
+     * Version of the page representation, part of every ETag. Bump it when the DTOs change shape, so
+     * that pages cached in the old shape are not revalidated.
+     */
+    private static final String ETAG_VERSION = "1";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${organization.filters.http.max-age:0s}")
+    private Duration maxAge;
+
+    @Value("${organization.filters.http.shared:false}")
+    private boolean shared;
+
+    /**
+     * Runs a filter request given as query parameters and answers it conditionally.
+     *
+     * @param params the query parameters
+     * @param dtoClass the DTO the request filters
+     * @param exchange the exchange, for the conditional headers
+     * @param filter runs the filter request
+     * @return a Mono emitting the page, or completing empty once the response is set to 304
+     */
+    public <D> Mono<PaginationResponse<D>> filter(MultiValueMap<String, String> params, Class<D> dtoClass,
+                                                  ServerWebExchange exchange,
+                                                  Function<FilterRequest<D>, Mono<PaginationResponse<D>>> filter) {
+        return Mono.fromCallable(() -> toFilterRequest(params, dtoClass))
+                .flatMap(filter)
+                .flatMap(page -> {
+                    exchange.getResponse().getHeaders().setCacheControl(cacheControl());
+                    return exchange.checkNotModified(etag(page)) ? Mono.empty() : Mono.just(page);
+                });
+    }
+
+    /**
+     * Builds a filter request from query parameters.
+     *
+     * @throws ServerWebInputException if the parameters do not map onto a filter request
+     */
+    public <D> FilterRequest<D> toFilterRequest(MultiValueMap<String, String> params, Class<D> dtoClass) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        params.forEach((name, values) -> put(body, name, values.size() == 1 ? values.get(0) : values));
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(FilterRequest.class, dtoClass);
+        try {
+            return objectMapper.readerFor(type)
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(objectMapper.valueToTree(body));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ServerWebInputException("Invalid filter parameters: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Computes the ETag of a page.
+     */
+    public String etag(PaginationResponse<?> page) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(page));
+            return "W/\"" + ETAG_VERSION + "-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot compute ETag of filter result", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> body, String name, Object value) {
+        String[] path = name.split("\\.");
+        Map<String, Object> node = body;
+        for (int i = 0; i < path.length - 1; i++) {
+            Object child = node.computeIfAbsent(path[i], key -> new LinkedHashMap<String, Object>());
+            if (!(child instanceof Map)) {
+                throw new ServerWebInputException("Conflicting filter parameter: " + name);
+            }
+            node = (Map<String, Object>) child;
+        }
+        if (node.putIfAbsent(path[path.length - 1], value) != null) {
+            throw new ServerWebInputException("Conflicting filter parameter: " + name);
+        }
+    }
+
+    private CacheControl cacheControl() {
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).mustRevalidate();
+        return shared ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.metrics;
+
+import com.firefly.core.organization.core.audit.AuditLogWriter;
+import com.firefly.core.organization.core.audit.AuditSpool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of the audit write pipeline: the writer queue and the local spool.
+ */
+@Component
+public class AuditPipelineMetrics implements MeterBinder {
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private AuditSpool auditSpool;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("audit.writer.pending", auditLogWriter, AuditLogWriter::pending)
+                .description("Audit log entries queued for writing")
+                .register(registry);
+        Gauge.builder("audit.writer.overflows", auditLogWriter, AuditLogWriter::overflows)
+                .description("Audit log entries spooled or written by their caller because the queue was full")
+                .register(registry);
+        Gauge.builder("audit.spool.depth", auditSpool, AuditSpool::depth)
+                .description("Spooled audit log entries waiting to be replayed")
+                .register(registry);
+        Gauge.builder("audit.spool.size", auditSpool, AuditSpool::size)
+                .description("Size of the spooled audit log entries waiting to be replayed")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("audit.spool.lag", auditSpool, spool -> spool.lag().toMillis() / 1_000.0)
+                .description("Time the oldest spooled audit log entry has been waiting to be replayed")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.metrics;
+
+import com.firefly.core.organization.core.filters.FilterResultCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of the filter result cache: hits, misses, evictions and its weight.
+ */
+@Component
+public class FilterCacheMetrics implements MeterBinder {
+
+    @Autowired
+    private FilterResultCache filterResultCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("filter.cache.hits", filterResultCache, FilterResultCache::hits)
+                .description("Filter requests served from the result cache")
+                .register(registry);
+        FunctionCounter.builder("filter.cache.misses", filterResultCache, FilterResultCache::misses)
+                .description("Filter requests run against the database")
+                .register(registry);
+        FunctionCounter.builder("filter.cache.evictions", filterResultCache, FilterResultCache::evictions)
+                .description("Cached filter results dropped to stay within the maximum weight")
+                .register(registry);
+        Gauge.builder("filter.cache.hit.ratio", filterResultCache, FilterCacheMetrics::hitRatio)
+                .description("Share of filter requests served from the result cache since startup")
+                .register(registry);
+        Gauge.builder("filter.cache.entries", filterResultCache, FilterResultCache::size)
+                .description("Filter results held in the cache")
+                .register(registry);
+        Gauge.builder("filter.cache.weight", filterResultCache, FilterResultCache::weight)
+                .description("Estimated size of the filter results held in the cache")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static double hitRatio(FilterResultCache cache) {
+        long hits = cache.hits();
+        long total = hits + cache.misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
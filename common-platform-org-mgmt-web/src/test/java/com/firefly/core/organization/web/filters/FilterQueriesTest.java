@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.organization.web.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.organization.core.services.BankService;
+import com.firefly.core.organization.core.services.OrgHistoryService;
+import com.firefly.core.organization.interfaces.dtos.BankDTO;
+import com.firefly.core.organization.web.controllers.BankController;
+import lombok.Data;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FilterQueriesTest {
+
+    @Mock
+    private BankService bankService;
+
+    @Mock
+    private OrgHistoryService orgHistoryService;
+
+    private FilterQueries filterQueries;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        filterQueries = new FilterQueries();
+        ReflectionTestUtils.setField(filterQueries, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(filterQueries, "maxAge", Duration.ZERO);
+        ReflectionTestUtils.setField(filterQueries, "shared", false);
+    }
+
+    @Test
+    void toFilterRequest_ShouldNestParametersByDots() {
+        // Arrange
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("filters.code", "BNK");
+        params.add("filters.isActive", "true");
+
+        // Act
+        FilterRequest<BankDTO> request = filterQueries.toFilterRequest(params, BankDTO.class);
+
+        // Assert
+        assertEquals("BNK", request.getFilters().getCode());
+        assertEquals(Boolean.TRUE, request.getFilters().getIsActive());
+    }
+
+    @Test
+    void toFilterRequest_ShouldReadRepeatedParametersAsLists() {
+        // Arrange
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("filters.codes", "A");
+        params.add("filters.codes", "B");
+        params.add("filters.name", "single");
+
+        // Act
+        FilterRequest<Criteria> request = filterQueries.toFilterRequest(params, Criteria.class);
+
+        // Assert
+        assertEquals(List.of("A", "B"), request.getFilters().getCodes());
+        assertEquals("single", request.getFilters().getName());
+    }
+
+    @Test
+    void toFilterRequest_WhenParameterIsBothValueAndObject_ShouldThrow() {
+        // Arrange
+        MultiValueMap<String, String> valueFirst = new LinkedMultiValueMap<>();
+        valueFirst.add("filters", "BNK");
+        valueFirst.add("filters.code", "BNK");
+        MultiValueMap<String, String> objectFirst = new LinkedMultiValueMap<>();
+        objectFirst.add("filters.code", "BNK");
+        objectFirst.add("filters.code.value", "BNK");
+
+        // Act & Assert
+        assertThrows(ServerWebInputException.class, () -> filterQueries.toFilterRequest(valueFirst, BankDTO.class));
+        assertThrows(ServerWebInputException.class, () -> filterQueries.toFilterRequest(objectFirst, BankDTO.class));
+    }
+
+    @Test
+    void toFilterRequest_WhenFieldIsUnknown_ShouldThrow() {
+        // Arrange
+        MultiValueMap<String, String> unknownFilter = new LinkedMultiValueMap<>();
+        unknownFilter.add("filters.unknown", "x");
+        MultiValueMap<String, String> unknownField = new LinkedMultiValueMap<>();
+        unknownField.add("unknown", "x");
+
+        // Act & Assert
+        assertThrows(ServerWebInputException.class, () -> filterQueries.toFilterRequest(unknownFilter, BankDTO.class));
+        assertThrows(ServerWebInputException.class, () -> filterQueries.toFilterRequest(unknownField, BankDTO.class));
+    }
+
+    @Test
+    void toFilterRequest_WhenValueDoesNotParse_ShouldThrow() {
+        // Arrange
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("filters.isActive", "maybe");
+
+        // Act & Assert
+        assertThrows(ServerWebInputException.class, () -> filterQueries.toFilterRequest(params, BankDTO.class));
+    }
+
+    @Test
+    void etag_ShouldBeStableForEqualPagesAndChangeWithThePage() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        String first = filterQueries.etag(page(id, "Bank"));
+        String again = filterQueries.etag(page(id, "Bank"));
+        String renamed = filterQueries.etag(page(id, "Renamed"));
+
+        // Assert
+        assertEquals(first, again);
+        assertNotEquals(first, renamed);
+        assertTrue(first.startsWith("W/\"1-"));
+    }
+
+    @Test
+    void filter_WhenIfNoneMatchMatches_ShouldAnswerNotModifiedWithoutBody() {
+        // Arrange
+        BankController controller = new BankController();
+        ReflectionTestUtils.setField(controller, "bankService", bankService);
+        ReflectionTestUtils.setField(controller, "orgHistoryService", orgHistoryService);
+        ReflectionTestUtils.setField(controller, "filterQueries", filterQueries);
+        WebTestClient client = WebTestClient.bindToController(controller).build();
+        UUID id = UUID.randomUUID();
+        when(bankService.filterBanks(any())).thenAnswer(invocation -> Mono.just(page(id, "Bank")));
+
+        // Act
+        String etag = client.get().uri("/api/v1/banks/filter?filters.code=BNK")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult()
+                .getResponseHeaders().getETag();
+
+        // Assert
+        assertNotNull(etag);
+        client.get().uri("/api/v1/banks/filter?filters.code=BNK")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
+    }
+
+    private static PaginationResponse<BankDTO> page(UUID id, String name) {
+        PaginationResponse<BankDTO> page = new PaginationResponse<>();
+        page.setContent(List.of(BankDTO.builder().id(id).code("BNK").name(name).build()));
+        page.setTotalElements(1L);
+        return page;
+    }
+
+    @Data
+    static class Criteria {
+        private List<String> codes;
+        private String name;
+    }
+}